@@ -1,6 +1,7 @@
 package com.closed_sarc.app_registration_api.application.dto;
 
 import java.time.Instant;
+import java.util.UUID;
 
 import io.swagger.v3.oas.annotations.media.Schema;
 import lombok.AllArgsConstructor;
@@ -15,6 +16,9 @@ import lombok.NoArgsConstructor;
 @Schema(description = "Informações de um evento específico")
 public class EventoDTO {
 
+  @Schema(description = "ID do evento", example = "550e8400-e29b-41d4-a716-446655440000")
+  private UUID id;
+
   @Schema(description = "Título do evento", example = "Reunião de planejamento")
   private String titulo;
 
@@ -0,0 +1,65 @@
+package com.closed_sarc.app_registration_api.application.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import org.springframework.data.domain.Page;
+
+import java.util.List;
+import java.util.UUID;
+import java.util.function.Function;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+@Schema(description = "Página de uma listagem: por número de página (page/size/sort) ou por cursor (cursor/size)")
+public class PaginaDTO<T> {
+
+  @Schema(description = "Itens da página")
+  private List<T> itens;
+
+  @Schema(description = "Número da página, a partir de 0 (apenas paginação por número)", example = "0")
+  private Integer pagina;
+
+  @Schema(description = "Tamanho solicitado da página", example = "20")
+  private Integer tamanho;
+
+  @Schema(description = "Total de itens da listagem (apenas paginação por número)", example = "12345")
+  private Long totalItens;
+
+  @Schema(description = "Total de páginas (apenas paginação por número)", example = "618")
+  private Integer totalPaginas;
+
+  @Schema(description = "Cursor da próxima página; ausente na última (apenas paginação por cursor)",
+      example = "550e8400-e29b-41d4-a716-446655440000")
+  private String proximo;
+
+  public static <T> PaginaDTO<T> de(Page<T> pagina) {
+    return PaginaDTO.<T>builder()
+        .itens(pagina.getContent())
+        .pagina(pagina.getNumber())
+        .tamanho(pagina.getSize())
+        .totalItens(pagina.getTotalElements())
+        .totalPaginas(pagina.getTotalPages())
+        .build();
+  }
+
+  /**
+   * Página por cursor: {@code itens} veio de uma consulta ordenada por id e limitada a
+   * {@code tamanho}. Página cheia indica que pode haver mais itens após o último id.
+   */
+  public static <T> PaginaDTO<T> porCursor(List<T> itens, int tamanho, Function<T, UUID> id) {
+    return PaginaDTO.<T>builder()
+        .itens(itens)
+        .tamanho(tamanho)
+        .proximo(itens.size() < tamanho ? null : id.apply(itens.get(itens.size() - 1)).toString())
+        .build();
+  }
+}
@@ -0,0 +1,48 @@
+package com.closed_sarc.app_registration_api.application.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "Resultado de uma importação em lote")
+public class ResultadoImportacaoDTO {
+
+  @Schema(description = "Registros lidos do arquivo", example = "5000")
+  private int linhasLidas;
+
+  @Schema(description = "Registros gravados", example = "4998")
+  private int importadas;
+
+  @Schema(description = "Registros rejeitados por validação ou falha de gravação", example = "2")
+  private int rejeitadas;
+
+  @Schema(description = "Duração da importação em milissegundos", example = "3120")
+  private long duracaoMs;
+
+  @Schema(description = "Registros lidos por segundo", example = "1602.6")
+  private double linhasPorSegundo;
+
+  @Schema(description = "Erros por registro, limitados a importacao.maximo-erros")
+  private List<ErroLinhaDTO> erros;
+
+  @Data
+  @NoArgsConstructor
+  @AllArgsConstructor
+  @Schema(description = "Registro rejeitado")
+  public static class ErroLinhaDTO {
+
+    @Schema(description = "Posição do registro no arquivo, a partir de 1 e sem contar o cabeçalho do CSV", example = "17")
+    private int linha;
+
+    @Schema(description = "Motivo da rejeição", example = "Professor não encontrado")
+    private String mensagem;
+  }
+}
@@ -0,0 +1,52 @@
+package com.closed_sarc.app_registration_api.application.dto;
+
+import com.closed_sarc.app_registration_api.domain.entities.DiaSemana;
+import com.closed_sarc.app_registration_api.domain.entities.Horario;
+import com.closed_sarc.app_registration_api.domain.entities.Semestre;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+import java.util.UUID;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "Turma com professor e disciplina achatados, para listagens")
+public class TurmaResumoDTO {
+
+  @Schema(description = "ID da turma", example = "550e8400-e29b-41d4-a716-446655440000")
+  private UUID id;
+
+  @Schema(description = "Nome da turma", example = "33A")
+  private String nome;
+
+  @Schema(description = "Semestre da turma", example = "PRIMEIRO")
+  private Semestre semestre;
+
+  @Schema(description = "Ano da turma", example = "2025")
+  private Integer ano;
+
+  @Schema(description = "Horário da turma", example = "A")
+  private Horario horario;
+
+  @Schema(description = "Dias da semana com aula", example = "[\"SEGUNDA\", \"QUARTA\"]")
+  private List<DiaSemana> diasAula;
+
+  @Schema(description = "ID do professor", example = "550e8400-e29b-41d4-a716-446655440001")
+  private UUID professorId;
+
+  @Schema(description = "Nome do professor", example = "Prof. Maria Silva")
+  private String nomeProfessor;
+
+  @Schema(description = "ID da disciplina", example = "550e8400-e29b-41d4-a716-446655440002")
+  private UUID disciplinaId;
+
+  @Schema(description = "Nome da disciplina", example = "Programação Java")
+  private String nomeDisciplina;
+}
@@ -0,0 +1,7 @@
+package com.closed_sarc.app_registration_api.application.event;
+
+/**
+ * Publicado quando um calendário acadêmico do ano é cadastrado, alterado ou removido.
+ */
+public record CalendarioAlteradoEvent(int ano) {
+}
@@ -0,0 +1,9 @@
+package com.closed_sarc.app_registration_api.application.event;
+
+import java.util.UUID;
+
+/**
+ * Publicado quando um evento é criado ou excluído.
+ */
+public record EventoAlteradoEvent(UUID eventoId) {
+}
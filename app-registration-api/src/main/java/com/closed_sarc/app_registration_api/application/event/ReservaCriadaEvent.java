@@ -0,0 +1,9 @@
+package com.closed_sarc.app_registration_api.application.event;
+
+import com.closed_sarc.app_registration_api.infrastructure.client.dto.ReservaResponseDTO;
+
+/**
+ * Publicado quando a reservation-api confirma uma nova reserva.
+ */
+public record ReservaCriadaEvent(ReservaResponseDTO reserva) {
+}
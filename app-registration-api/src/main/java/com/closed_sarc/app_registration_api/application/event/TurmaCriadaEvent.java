@@ -0,0 +1,9 @@
+package com.closed_sarc.app_registration_api.application.event;
+
+import com.closed_sarc.app_registration_api.domain.entities.Turma;
+
+/**
+ * Publicado quando uma nova turma é cadastrada.
+ */
+public record TurmaCriadaEvent(Turma turma) {
+}
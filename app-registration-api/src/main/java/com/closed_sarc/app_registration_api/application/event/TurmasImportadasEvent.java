@@ -0,0 +1,8 @@
+package com.closed_sarc.app_registration_api.application.event;
+
+/**
+ * Publicado ao fim de uma importação em lote que gravou turmas. As turmas são inseridas
+ * via JDBC, sem entidades, então o evento leva apenas a quantidade.
+ */
+public record TurmasImportadasEvent(int quantidade) {
+}
@@ -1,7 +1,20 @@
 package com.closed_sarc.app_registration_api.application.service;
 
+import java.time.LocalDate;
+
 import com.closed_sarc.app_registration_api.application.dto.CronogramaDTO;
 
 public interface CronogramaService {
   CronogramaDTO consultarCronograma();
+
+  /**
+   * Retorna o cronograma do dia já serializado em JSON, junto com seu ETag.
+   */
+  Snapshot obterSnapshot();
+
+  /**
+   * Cronograma materializado de um dia: o DTO, seus bytes JSON e o ETag correspondente.
+   */
+  record Snapshot(LocalDate data, CronogramaDTO cronograma, byte[] json, String etag) {
+  }
 }
@@ -1,26 +1,25 @@
 package com.closed_sarc.app_registration_api.application.service;
 
-import com.closed_sarc.app_registration_api.domain.entities.DiaSemana;
+import com.closed_sarc.app_registration_api.application.event.ReservaCriadaEvent;
 import com.closed_sarc.app_registration_api.domain.entities.Horario;
-import com.closed_sarc.app_registration_api.domain.entities.Semestre;
 import com.closed_sarc.app_registration_api.domain.entities.Turma;
 import com.closed_sarc.app_registration_api.domain.repositories.TurmaRepository;
 import com.closed_sarc.app_registration_api.domain.utils.HorarioUtils;
+import com.closed_sarc.app_registration_api.infrastructure.client.dto.ReservaLoteResponseDTO;
 import com.closed_sarc.app_registration_api.infrastructure.client.dto.ReservaResponseDTO;
+import com.closed_sarc.app_registration_api.service.CalendarioAcademicoService;
 import com.closed_sarc.app_registration_api.service.ReservationService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.time.DayOfWeek;
 import java.time.Instant;
 import java.time.LocalDate;
 import java.time.ZoneId;
-import java.util.ArrayList;
 import java.util.List;
 import java.util.UUID;
-import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
@@ -29,6 +28,8 @@ public class ReservaService {
 
     private final TurmaRepository turmaRepository;
     private final ReservationService reservationService;
+    private final ApplicationEventPublisher eventPublisher;
+    private final CalendarioAcademicoService calendarioAcademicoService;
 
     @Transactional(readOnly = true)
     public ReservaResponseDTO reservarRecursoParaTurma(UUID turmaId, UUID recursoId, Integer quantidade, LocalDate data, Horario horario) {
@@ -43,11 +44,8 @@ public class ReservaService {
                             horario, turma.getHorario()));
         }
 
-        // Gerar lista dinâmica de datas de aula da turma
-        List<LocalDate> datasAula = gerarDatasAulaTurma(turma);
-
-        // Validar se a data solicitada está na lista de datas de aula
-        if (!datasAula.contains(data)) {
+        // Validar se a data solicitada é uma data de aula (período letivo, dia da semana, feriados e reposições)
+        if (!calendarioAcademicoService.ehDataDeAula(turma, data)) {
             throw new IllegalArgumentException(
                     String.format("A data %s não é uma data de aula válida para a turma %s no semestre %s/%d",
                             data, turma.getNome(), turma.getSemestre(), turma.getAno()));
@@ -57,7 +55,34 @@ public class ReservaService {
         Instant dataUso = converterParaInstant(data, horario);
 
         // Fazer a reserva na reservation-api
-        return reservationService.createReservation(turmaId, recursoId, quantidade, dataUso);
+        ReservaResponseDTO reserva = reservationService.createReservation(turmaId, recursoId, quantidade, dataUso);
+        eventPublisher.publishEvent(new ReservaCriadaEvent(reserva));
+        return reserva;
+    }
+
+    /**
+     * Reserva o recurso para todas as aulas da turma no semestre em uma única chamada à reservation-api.
+     * A operação é tudo ou nada: se alguma data não tiver disponibilidade, o retorno traz
+     * os conflitos por data e nenhuma reserva é criada.
+     */
+    @Transactional(readOnly = true)
+    public ReservaLoteResponseDTO reservarRecursoParaTodasAsAulas(UUID turmaId, UUID recursoId, Integer quantidade) {
+        Turma turma = turmaRepository.findById(turmaId)
+                .orElseThrow(() -> new IllegalArgumentException("Turma não encontrada"));
+
+        List<Instant> datasUso = calendarioAcademicoService.datasAula(turma)
+                .map(data -> converterParaInstant(data, turma.getHorario()))
+                .toList();
+
+        if (datasUso.isEmpty()) {
+            throw new IllegalArgumentException(
+                    String.format("A turma %s não tem datas de aula no semestre %s/%d",
+                            turma.getNome(), turma.getSemestre(), turma.getAno()));
+        }
+
+        ReservaLoteResponseDTO resultado = reservationService.createReservations(turmaId, recursoId, quantidade, datasUso);
+        resultado.getReservas().forEach(reserva -> eventPublisher.publishEvent(new ReservaCriadaEvent(reserva)));
+        return resultado;
     }
 
     @Transactional(readOnly = true)
@@ -81,67 +106,4 @@ public class ReservaService {
                 .atZone(ZoneId.of("UTC"))
                 .toInstant();
     }
-
-    /**
-     * Gera dinamicamente a lista de datas de aula da turma baseado em:
-     * - Ano
-     * - Semestre (PRIMEIRO: janeiro a junho, SEGUNDO: julho a dezembro)
-     * - Dias da semana que a turma tem aula
-     */
-    private List<LocalDate> gerarDatasAulaTurma(Turma turma) {
-        List<LocalDate> datasAula = new ArrayList<>();
-        
-        int ano = turma.getAno();
-        Semestre semestre = turma.getSemestre();
-        List<DiaSemana> diasAula = turma.getDiasAula();
-        
-        // Determinar o período do semestre
-        LocalDate dataInicio;
-        LocalDate dataFim;
-        
-        if (semestre == Semestre.PRIMEIRO) {
-            // Primeiro semestre: janeiro a junho
-            dataInicio = LocalDate.of(ano, 1, 1);
-            dataFim = LocalDate.of(ano, 6, 30);
-        } else {
-            // Segundo semestre: julho a dezembro
-            dataInicio = LocalDate.of(ano, 7, 1);
-            dataFim = LocalDate.of(ano, 12, 31);
-        }
-        
-        // Converter DiasSemana para DayOfWeek
-        List<DayOfWeek> diasSemanaJava = diasAula.stream()
-                .map(this::converterParaDayOfWeek)
-                .collect(Collectors.toList());
-        
-        // Gerar todas as datas dos dias da semana especificados no período
-        LocalDate dataAtual = dataInicio;
-        while (!dataAtual.isAfter(dataFim)) {
-            if (diasSemanaJava.contains(dataAtual.getDayOfWeek())) {
-                datasAula.add(dataAtual);
-            }
-            dataAtual = dataAtual.plusDays(1);
-        }
-        
-        log.debug("Geradas {} datas de aula para turma {} no semestre {}/{}", 
-                datasAula.size(), turma.getNome(), semestre, ano);
-        
-        return datasAula;
-    }
-
-    /**
-     * Converte DiaSemana para DayOfWeek
-     */
-    private DayOfWeek converterParaDayOfWeek(DiaSemana diaSemana) {
-        return switch (diaSemana) {
-            case SEGUNDA -> DayOfWeek.MONDAY;
-            case TERCA -> DayOfWeek.TUESDAY;
-            case QUARTA -> DayOfWeek.WEDNESDAY;
-            case QUINTA -> DayOfWeek.THURSDAY;
-            case SEXTA -> DayOfWeek.FRIDAY;
-            case SABADO -> DayOfWeek.SATURDAY;
-            case DOMINGO -> DayOfWeek.SUNDAY;
-        };
-    }
 }
-
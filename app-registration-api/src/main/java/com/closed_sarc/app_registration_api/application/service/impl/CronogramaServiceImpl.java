@@ -1,91 +1,308 @@
 package com.closed_sarc.app_registration_api.application.service.impl;
 
-import java.time.DayOfWeek;
+import java.time.Clock;
 import java.time.Instant;
 import java.time.LocalDate;
 import java.time.ZoneId;
+import java.util.ArrayList;
 import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.util.DigestUtils;
 
 import com.closed_sarc.app_registration_api.application.dto.AulaDTO;
 import com.closed_sarc.app_registration_api.application.dto.CronogramaDTO;
 import com.closed_sarc.app_registration_api.application.dto.EventoDTO;
 import com.closed_sarc.app_registration_api.application.dto.RecursoReservadoDTO;
+import com.closed_sarc.app_registration_api.application.event.CalendarioAlteradoEvent;
+import com.closed_sarc.app_registration_api.application.event.EventoAlteradoEvent;
+import com.closed_sarc.app_registration_api.application.event.ReservaCriadaEvent;
+import com.closed_sarc.app_registration_api.application.event.TurmaCriadaEvent;
+import com.closed_sarc.app_registration_api.application.event.TurmasImportadasEvent;
 import com.closed_sarc.app_registration_api.application.service.CronogramaService;
 import com.closed_sarc.app_registration_api.domain.entities.DiaSemana;
 import com.closed_sarc.app_registration_api.domain.entities.Evento;
+import com.closed_sarc.app_registration_api.domain.entities.Semestre;
 import com.closed_sarc.app_registration_api.domain.entities.Turma;
 import com.closed_sarc.app_registration_api.domain.repositories.EventoRepository;
 import com.closed_sarc.app_registration_api.domain.repositories.TurmaRepository;
 import com.closed_sarc.app_registration_api.domain.utils.HorarioUtils;
 import com.closed_sarc.app_registration_api.infrastructure.client.dto.ReservaResponseDTO;
-import com.closed_sarc.app_registration_api.service.ReservationService;
+import com.closed_sarc.app_registration_api.service.CalendarioAcademicoService;
+import com.closed_sarc.app_registration_api.service.ConsultaReservasEmLotes;
 
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 
+/**
+ * Mantém em memória o cronograma do dia atual (DTO, JSON serializado e ETag).
+ * O snapshot é reconstruído à meia-noite ou quando a data muda, e é atualizado
+ * incrementalmente quando turmas, eventos ou reservas são alterados por esta API.
+ * Reservas feitas direto na reservation-api (POST /api/reservas e /api/reservas/lote)
+ * não geram evento aqui: o snapshot é revalidado a cada {@code cronograma.revalidacao},
+ * então fica no máximo esse intervalo (mais o tempo da montagem) sem elas. Com a
+ * reservation-api fora do ar, a revalidação mantém as últimas reservas conhecidas.
+ * Cada fase da montagem (turmas, reservas, eventos, serialização) é medida em
+ * {@code cronograma.montagem}; a consulta em si só lê o snapshot.
+ */
 @Service
 @RequiredArgsConstructor
+@Slf4j
 public class CronogramaServiceImpl implements CronogramaService {
 
   private final TurmaRepository turmaRepository;
   private final EventoRepository eventoRepository;
-  private final ReservationService reservationService;
+  private final ConsultaReservasEmLotes consultaReservas;
+  private final ObjectMapper objectMapper;
+  private final Clock campusClock;
+  private final CalendarioAcademicoService calendarioAcademicoService;
+  private final MeterRegistry meterRegistry;
+
+  private volatile Snapshot snapshot;
+  // Serializa montagem e atualizações do snapshot. A montagem consulta o banco e a
+  // reservation-api; com synchronized, uma thread virtual ficaria presa à portadora
+  private final ReentrantLock montagem = new ReentrantLock();
 
   @Override
   public CronogramaDTO consultarCronograma() {
-    DiaSemana hoje = getDiaSemanaAtual();
+    return obterSnapshot().cronograma();
+  }
+
+  @Override
+  public Snapshot obterSnapshot() {
+    Snapshot atual = snapshot;
+    if (atual != null && atual.data().equals(hoje())) {
+      return atual;
+    }
+    montagem.lock();
+    try {
+      if (snapshot == null || !snapshot.data().equals(hoje())) {
+        snapshot = montarSnapshot(hoje(), montarCronograma());
+      }
+      return snapshot;
+    } finally {
+      montagem.unlock();
+    }
+  }
+
+  @Scheduled(cron = "0 0 0 * * *", zone = "${campus.zona-horaria:America/Sao_Paulo}")
+  public void reconstruirSnapshot() {
+    montagem.lock();
+    try {
+      log.info("Reconstruindo snapshot do cronograma do dia");
+      snapshot = montarSnapshot(hoje(), montarCronograma());
+    } finally {
+      montagem.unlock();
+    }
+  }
+
+  /**
+   * Remonta o snapshot do dia, se já houver um, para incluir o que mudou fora desta API.
+   * O ETag só muda quando o conteúdo muda.
+   */
+  @Scheduled(fixedDelayString = "${cronograma.revalidacao:1m}", initialDelayString = "${cronograma.revalidacao:1m}")
+  public void revalidarSnapshot() {
+    montagem.lock();
+    try {
+      if (snapshotAtual()) {
+        snapshot = montarSnapshot(hoje(), montarCronograma());
+      }
+    } finally {
+      montagem.unlock();
+    }
+  }
+
+  @TransactionalEventListener(fallbackExecution = true)
+  public void onTurmaCriada(TurmaCriadaEvent event) {
+    montagem.lock();
+    try {
+      Turma turma = event.turma();
+      if (!snapshotAtual() || turma.getDiasAula() == null || !calendarioAcademicoService.ehDataDeAula(turma, snapshot.data())) {
+        return;
+      }
+
+      // Turma recém-criada ainda não possui reservas
+      List<AulaDTO> aulas = new ArrayList<>(snapshot.cronograma().getAulasDeHoje());
+      aulas.add(convertToAulaDTO(turma, Collections.emptyList()));
+      atualizarSnapshot(aulas, snapshot.cronograma().getEventosDeHoje());
+    } finally {
+      montagem.unlock();
+    }
+  }
+
+  @TransactionalEventListener(fallbackExecution = true)
+  public void onEventoAlterado(EventoAlteradoEvent event) {
+    montagem.lock();
+    try {
+      if (!snapshotAtual()) {
+        return;
+      }
+      atualizarSnapshot(snapshot.cronograma().getAulasDeHoje(), buscarEventosDeHoje());
+    } finally {
+      montagem.unlock();
+    }
+  }
+
+  @TransactionalEventListener(fallbackExecution = true)
+  public void onCalendarioAlterado(CalendarioAlteradoEvent event) {
+    montagem.lock();
+    try {
+      // Feriado ou reposição cadastrado para hoje muda quais turmas têm aula
+      if (snapshotAtual() && snapshot.data().getYear() == event.ano()) {
+        snapshot = montarSnapshot(hoje(), montarCronograma());
+      }
+    } finally {
+      montagem.unlock();
+    }
+  }
+
+  @TransactionalEventListener(fallbackExecution = true)
+  public void onTurmasImportadas(TurmasImportadasEvent event) {
+    montagem.lock();
+    try {
+      // A importação grava via JDBC, sem entidades para incluir incrementalmente
+      if (snapshotAtual()) {
+        snapshot = montarSnapshot(hoje(), montarCronograma());
+      }
+    } finally {
+      montagem.unlock();
+    }
+  }
 
-    List<Turma> turmasDeHoje = turmaRepository.findByDiasAulaContaining(hoje);
+  @TransactionalEventListener(fallbackExecution = true)
+  public void onReservaCriada(ReservaCriadaEvent event) {
+    montagem.lock();
+    try {
+      ReservaResponseDTO reserva = event.reserva();
+      if (!snapshotAtual() || reserva == null || reserva.getRecurso() == null) {
+        return;
+      }
+
+      boolean alterado = false;
+      List<AulaDTO> aulas = new ArrayList<>(snapshot.cronograma().getAulasDeHoje().size());
+      for (AulaDTO aula : snapshot.cronograma().getAulasDeHoje()) {
+        if (aula.getTurmaId() != null && aula.getTurmaId().equals(reserva.getTurmaId())
+            && converterParaInstant(snapshot.data(), aula.getHorario()).equals(reserva.getDataUso())) {
+          List<RecursoReservadoDTO> recursos = new ArrayList<>(aula.getRecursosReservados());
+          recursos.add(convertToRecursoReservadoDTO(reserva));
+          aula = aula.toBuilder().recursosReservados(recursos).build();
+          alterado = true;
+        }
+        aulas.add(aula);
+      }
+
+      if (alterado) {
+        atualizarSnapshot(aulas, snapshot.cronograma().getEventosDeHoje());
+      }
+    } finally {
+      montagem.unlock();
+    }
+  }
+
+  private boolean snapshotAtual() {
+    return snapshot != null && snapshot.data().equals(hoje());
+  }
+
+  private void atualizarSnapshot(List<AulaDTO> aulas, List<EventoDTO> eventos) {
+    snapshot = montarSnapshot(snapshot.data(), CronogramaDTO.builder()
+        .aulasDeHoje(Collections.unmodifiableList(aulas))
+        .eventosDeHoje(Collections.unmodifiableList(eventos))
+        .build());
+  }
+
+  private Snapshot montarSnapshot(LocalDate data, CronogramaDTO cronograma) {
+    return medir("serializacao", () -> {
+      try {
+        byte[] json = objectMapper.writeValueAsBytes(cronograma);
+        String etag = "\"" + DigestUtils.md5DigestAsHex(json) + "\"";
+        return new Snapshot(data, cronograma, json, etag);
+      } catch (JsonProcessingException e) {
+        throw new IllegalStateException("Erro ao serializar cronograma", e);
+      }
+    });
+  }
+
+  private CronogramaDTO montarCronograma() {
+    LocalDate hoje = hoje();
+
+    // Feriados e recessos não têm grade; em reposições a grade é a de outro dia da semana.
+    // Cada semestre segue a sua: na virada, um pode estar em reposição e o outro não. De cada
+    // grade ficam só as turmas cujo semestre a segue hoje, no período letivo em curso.
+    List<Turma> turmasDeHoje = medir("turmas", () -> {
+      Map<Semestre, DiaSemana> grades = calendarioAcademicoService.gradesDoDia(hoje);
+      return grades.values().stream()
+          .distinct()
+          .flatMap(grade -> turmaRepository.findByDiasAulaContaining(grade).stream()
+              .filter(turma -> grades.get(turma.getSemestre()) == grade))
+          .filter(turma -> calendarioAcademicoService.ehDataDeAula(turma, hoje))
+          .toList();
+    });
 
     List<AulaDTO> aulas = turmasDeHoje.isEmpty() 
         ? Collections.emptyList()
-        : turmasDeHoje.stream()
-            .map(this::convertToAulaDTO)
-            .collect(Collectors.toList());
+        : convertToAulaDTOs(turmasDeHoje);
+
+    return CronogramaDTO.builder()
+        .aulasDeHoje(Collections.unmodifiableList(aulas))
+        .eventosDeHoje(Collections.unmodifiableList(buscarEventosDeHoje()))
+        .build();
+  }
 
-    // Buscar eventos do dia atual
-    List<Evento> eventosDeHoje = eventoRepository.findByData(Instant.now());
+  private List<EventoDTO> buscarEventosDeHoje() {
+    List<Evento> eventosDeHoje = medir("eventos", () -> eventoRepository.findByData(hoje(), campusClock.getZone()));
 
-    List<EventoDTO> eventos = eventosDeHoje.isEmpty()
+    return eventosDeHoje.isEmpty()
         ? Collections.emptyList()
         : eventosDeHoje.stream()
             .map(this::convertToEventoDTO)
             .collect(Collectors.toList());
-
-    return CronogramaDTO.builder()
-        .aulasDeHoje(aulas)
-        .eventosDeHoje(eventos)
-        .build();
   }
 
-  private AulaDTO convertToAulaDTO(Turma turma) {
-    LocalDate hoje = LocalDate.now();
-    
-    // Buscar reservas para esta turma no dia/horário atual
-    List<RecursoReservadoDTO> recursosReservados = Collections.emptyList();
-    try {
-      Instant dataUso = converterParaInstant(hoje, turma.getHorario());
-      List<ReservaResponseDTO> reservas = reservationService.getReservationsByTurmaAndData(
-          turma.getId(), dataUso);
-      
-      // Converter reservas para DTOs de recursos reservados
-      recursosReservados = reservas.stream()
-          .map(reserva -> RecursoReservadoDTO.builder()
-              .recursoId(reserva.getRecurso().getId())
-              .nomeRecurso(reserva.getRecurso().getNome())
-              .tipoRecurso(reserva.getRecurso().getTipo())
-              .quantidade(reserva.getQuantidade())
-              .build())
-          .collect(Collectors.toList());
-    } catch (Exception e) {
-      // Log do erro mas não interrompe a geração do cronograma
-      // Se a reservation-api estiver indisponível, simplesmente não mostra as reservas
-      System.err.println("Erro ao buscar reservas para turma " + turma.getId() + ": " + e.getMessage());
+  /**
+   * Monta as aulas do dia buscando as reservas das turmas em lotes paralelos na
+   * reservation-api e juntando o resultado em memória por turmaId. A busca tem prazo:
+   * lotes que não respondem a tempo ficam com as últimas reservas conhecidas.
+   */
+  private List<AulaDTO> convertToAulaDTOs(List<Turma> turmas) {
+    LocalDate hoje = hoje();
+
+    Map<UUID, Instant> dataUsoPorTurma = new LinkedHashMap<>();
+    for (Turma turma : turmas) {
+      dataUsoPorTurma.put(turma.getId(), converterParaInstant(hoje, turma.getHorario()));
+    }
+
+    // Falhas e atrasos da reservation-api já viram reservas conhecidas dentro de buscar
+    Map<UUID, List<ReservaResponseDTO>> reservasPorTurma =
+        medir("reservas", () -> consultaReservas.buscar(dataUsoPorTurma));
+
+    List<AulaDTO> aulas = new ArrayList<>(turmas.size());
+    for (Turma turma : turmas) {
+      List<ReservaResponseDTO> reservas = reservasPorTurma.getOrDefault(turma.getId(), Collections.emptyList());
+      aulas.add(convertToAulaDTO(turma, reservas));
     }
-    
+    return aulas;
+  }
+
+  private AulaDTO convertToAulaDTO(Turma turma, List<ReservaResponseDTO> reservas) {
+    // Converter reservas para DTOs de recursos reservados
+    List<RecursoReservadoDTO> recursosReservados = reservas.stream()
+        .map(this::convertToRecursoReservadoDTO)
+        .collect(Collectors.toList());
+
     return AulaDTO.builder()
         .turmaId(turma.getId())
         .nomeProfessor(turma.getProfessor().getNome())
@@ -96,6 +313,15 @@ public class CronogramaServiceImpl implements CronogramaService {
         .build();
   }
 
+  private RecursoReservadoDTO convertToRecursoReservadoDTO(ReservaResponseDTO reserva) {
+    return RecursoReservadoDTO.builder()
+        .recursoId(reserva.getRecurso().getId())
+        .nomeRecurso(reserva.getRecurso().getNome())
+        .tipoRecurso(reserva.getRecurso().getTipo())
+        .quantidade(reserva.getQuantidade())
+        .build();
+  }
+
   /**
    * Converte LocalDate e Horario para Instant
    */
@@ -107,6 +333,7 @@ public class CronogramaServiceImpl implements CronogramaService {
 
   private EventoDTO convertToEventoDTO(Evento evento) {
     return EventoDTO.builder()
+        .id(evento.getId())
         .titulo(evento.getTitulo())
         .descricao(evento.getDescricao())
         .dataInicio(evento.getDataInicio())
@@ -114,16 +341,15 @@ public class CronogramaServiceImpl implements CronogramaService {
         .build();
   }
 
-  private DiaSemana getDiaSemanaAtual() {
-    DayOfWeek hoje = LocalDate.now().getDayOfWeek();
-    return switch (hoje) {
-      case MONDAY -> DiaSemana.SEGUNDA;
-      case TUESDAY -> DiaSemana.TERCA;
-      case WEDNESDAY -> DiaSemana.QUARTA;
-      case THURSDAY -> DiaSemana.QUINTA;
-      case FRIDAY -> DiaSemana.SEXTA;
-      case SATURDAY -> DiaSemana.SABADO;
-      case SUNDAY -> DiaSemana.DOMINGO;
-    };
+  private <T> T medir(String fase, Supplier<T> etapa) {
+    return Timer.builder("cronograma.montagem")
+        .description("Tempo de cada fase da montagem do snapshot do cronograma")
+        .tag("fase", fase)
+        .register(meterRegistry)
+        .record(etapa);
+  }
+
+  private LocalDate hoje() {
+    return LocalDate.now(campusClock);
   }
 }
@@ -0,0 +1,20 @@
+package com.closed_sarc.app_registration_api.config;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * Exclusões do calendário letivo (prefixo {@code calendario}): feriados e recessos em que
+ * nenhuma turma tem aula, em qualquer ano, somados aos dos calendários cadastrados.
+ */
+@ConfigurationProperties(prefix = "calendario")
+public record CalendarioProperties(
+        @DefaultValue List<LocalDate> feriados,
+        @DefaultValue List<Recesso> recessos
+) {
+
+    public record Recesso(LocalDate inicio, LocalDate fim) {}
+}
@@ -0,0 +1,23 @@
+package com.closed_sarc.app_registration_api.config;
+
+import java.time.Clock;
+import java.time.ZoneId;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Relógio no fuso do campus. "Hoje" (cronograma, eventos do dia) é calculado nesse fuso,
+ * independente do fuso da JVM ou da sessão do banco.
+ */
+@Configuration
+@EnableConfigurationProperties({CalendarioProperties.class, ImportacaoProperties.class, CronogramaProperties.class})
+public class CampusConfig {
+
+    @Bean
+    public Clock campusClock(@Value("${campus.zona-horaria:America/Sao_Paulo}") ZoneId zonaHoraria) {
+        return Clock.system(zonaHoraria);
+    }
+}
@@ -0,0 +1,31 @@
+package com.closed_sarc.app_registration_api.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * Busca das reservas na montagem do cronograma (prefixo {@code cronograma.reservas}).
+ *
+ * @param tamanhoLote    turmas por chamada à consulta em lote da reservation-api
+ * @param paralelismo    chamadas simultâneas; acima de {@code reservation-api.max-concurrent-calls} o bulkhead recusa
+ * @param timeoutChamada tempo máximo de cada chamada; depois dele o lote usa as reservas já conhecidas
+ * @param prazo          tempo máximo da busca inteira; os lotes sem resposta usam as reservas já conhecidas
+ */
+@ConfigurationProperties(prefix = "cronograma.reservas")
+public record CronogramaProperties(
+        @DefaultValue("500") int tamanhoLote,
+        @DefaultValue("4") int paralelismo,
+        @DefaultValue("2s") Duration timeoutChamada,
+        @DefaultValue("3s") Duration prazo
+) {
+
+    public CronogramaProperties {
+        if (tamanhoLote < 1 || paralelismo < 1) {
+            throw new IllegalArgumentException(String.format(
+                    "cronograma.reservas.tamanho-lote (%d) e cronograma.reservas.paralelismo (%d) devem ser positivos",
+                    tamanhoLote, paralelismo));
+        }
+    }
+}
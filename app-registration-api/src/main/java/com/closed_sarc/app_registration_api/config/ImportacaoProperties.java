@@ -0,0 +1,19 @@
+package com.closed_sarc.app_registration_api.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * Importação em lote (prefixo {@code importacao}).
+ *
+ * @param tamanhoLote linhas por batch JDBC e por transação
+ * @param threadsHash threads para gerar os hashes BCrypt das senhas; 0 usa o número de processadores
+ * @param maximoErros erros de linha listados na resposta; os demais são apenas contados
+ */
+@ConfigurationProperties(prefix = "importacao")
+public record ImportacaoProperties(
+        @DefaultValue("500") int tamanhoLote,
+        @DefaultValue("0") int threadsHash,
+        @DefaultValue("1000") int maximoErros
+) {
+}
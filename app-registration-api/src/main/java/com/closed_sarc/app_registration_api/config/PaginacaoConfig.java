@@ -0,0 +1,29 @@
+package com.closed_sarc.app_registration_api.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.data.web.SpringDataWebAutoConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.web.config.PageableHandlerMethodArgumentResolverCustomizer;
+
+/**
+ * Paginação das listagens. Sem {@code page} nem {@code size} o {@link Pageable} chega
+ * "unpaged" e os endpoints mantêm a resposta antiga (lista completa); com eles a resposta
+ * é um PaginaDTO com no máximo {@code listagem.tamanho-maximo} itens.
+ *
+ * <p>Substitui o customizador de {@link SpringDataWebAutoConfiguration}, que não permite
+ * configurar o fallback.
+ */
+@Configuration
+public class PaginacaoConfig {
+
+    @Bean
+    public PageableHandlerMethodArgumentResolverCustomizer pageableCustomizer(
+            @Value("${listagem.tamanho-maximo:500}") int tamanhoMaximo) {
+        return resolver -> {
+            resolver.setFallbackPageable(Pageable.unpaged());
+            resolver.setMaxPageSize(tamanhoMaximo);
+        };
+    }
+}
@@ -0,0 +1,132 @@
+package com.closed_sarc.app_registration_api.config;
+
+import com.closed_sarc.app_registration_api.infrastructure.client.Bulkhead;
+import com.closed_sarc.app_registration_api.infrastructure.client.CircuitBreaker;
+import com.closed_sarc.app_registration_api.infrastructure.client.RecursoCache;
+import com.closed_sarc.app_registration_api.infrastructure.client.ReservasConhecidasCache;
+import com.closed_sarc.app_registration_api.infrastructure.client.ReservationApiProperties;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.httpcomponents.hc5.PoolingHttpClientConnectionManagerMetricsBinder;
+import org.apache.hc.client5.http.config.ConnectionConfig;
+import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
+import org.apache.hc.client5.http.impl.classic.HttpClients;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManager;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManagerBuilder;
+import org.apache.hc.core5.util.TimeValue;
+import org.apache.hc.core5.util.Timeout;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.web.client.RestTemplateBuilder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
+import org.springframework.web.client.RestTemplate;
+
+import java.util.Locale;
+
+@Configuration
+@EnableConfigurationProperties(ReservationApiProperties.class)
+public class ReservationApiClientConfig {
+
+    /**
+     * Pool de conexões keep-alive compartilhado por todas as chamadas à reservation-api.
+     */
+    @Bean
+    public PoolingHttpClientConnectionManager reservationApiConnectionManager(ReservationApiProperties properties) {
+        ConnectionConfig connectionConfig = ConnectionConfig.custom()
+                .setConnectTimeout(Timeout.of(properties.connectTimeout()))
+                .setSocketTimeout(Timeout.of(properties.readTimeout()))
+                .build();
+
+        return PoolingHttpClientConnectionManagerBuilder.create()
+                .setMaxConnTotal(properties.maxConnections())
+                .setMaxConnPerRoute(properties.maxConnectionsPerRoute())
+                .setDefaultConnectionConfig(connectionConfig)
+                .build();
+    }
+
+    @Bean
+    public CloseableHttpClient reservationApiHttpClient(PoolingHttpClientConnectionManager reservationApiConnectionManager) {
+        return HttpClients.custom()
+                .setConnectionManager(reservationApiConnectionManager)
+                .evictIdleConnections(TimeValue.ofSeconds(30))
+                .build();
+    }
+
+    @Bean
+    public CircuitBreaker reservationApiCircuitBreaker(ReservationApiProperties properties) {
+        return new CircuitBreaker(properties.circuitFailureThreshold(), properties.circuitOpenDuration());
+    }
+
+    @Bean
+    public Bulkhead reservationApiBulkhead(ReservationApiProperties properties) {
+        return new Bulkhead(properties.maxConcurrentCalls(), properties.bulkheadMaxWait());
+    }
+
+    /**
+     * Saturação do caminho até a reservation-api: conexões do pool HTTP (em uso, livres e
+     * aguardando), estado do circuito, chamadas em andamento no bulkhead e chamadas recusadas
+     * por cada um antes de sair da registration-api.
+     */
+    @Bean
+    public MeterBinder reservationApiMetricas(PoolingHttpClientConnectionManager reservationApiConnectionManager,
+                                              CircuitBreaker reservationApiCircuitBreaker,
+                                              Bulkhead reservationApiBulkhead) {
+        return registry -> {
+            new PoolingHttpClientConnectionManagerMetricsBinder(reservationApiConnectionManager, "reservation-api")
+                    .bindTo(registry);
+            for (CircuitBreaker.Estado estado : CircuitBreaker.Estado.values()) {
+                Gauge.builder("reservation.api.circuito", reservationApiCircuitBreaker,
+                                circuito -> circuito.getEstado() == estado ? 1 : 0)
+                        .description("Estado atual do circuit breaker da reservation-api (1 no estado corrente)")
+                        .tag("estado", estado.name().toLowerCase(Locale.ROOT))
+                        .register(registry);
+            }
+            Gauge.builder("reservation.api.bulkhead.em.andamento", reservationApiBulkhead, Bulkhead::getChamadasEmAndamento)
+                    .description("Chamadas simultâneas à reservation-api ocupando vagas do bulkhead")
+                    .register(registry);
+            FunctionCounter.builder("reservation.api.chamadas.recusadas", reservationApiCircuitBreaker,
+                            CircuitBreaker::getChamadasRecusadas)
+                    .description("Chamadas à reservation-api recusadas localmente, sem ir à rede")
+                    .tag("motivo", "circuito")
+                    .register(registry);
+            FunctionCounter.builder("reservation.api.chamadas.recusadas", reservationApiBulkhead,
+                            Bulkhead::getChamadasRecusadas)
+                    .description("Chamadas à reservation-api recusadas localmente, sem ir à rede")
+                    .tag("motivo", "bulkhead")
+                    .register(registry);
+        };
+    }
+
+    @Bean
+    public ReservasConhecidasCache reservasConhecidasCache(ReservationApiProperties properties) {
+        return new ReservasConhecidasCache(properties.staleCacheSize());
+    }
+
+    @Bean
+    public RecursoCache recursoCache(ReservationApiProperties properties) {
+        return new RecursoCache(properties.recursoCacheTtl());
+    }
+
+    /**
+     * RestTemplate da reservation-api. Construído pelo RestTemplateBuilder para que o actuator
+     * registre a latência de cada endpoint (métrica http.client.requests, tag uri).
+     * As credenciais Basic são codificadas uma única vez.
+     */
+    @Bean
+    public RestTemplate reservationApiRestTemplate(RestTemplateBuilder builder,
+                                                   ReservationApiProperties properties,
+                                                   CloseableHttpClient reservationApiHttpClient) {
+        return builder
+                .rootUri(properties.baseUrl())
+                .basicAuthentication(properties.username(), properties.password())
+                .requestFactory(() -> {
+                    HttpComponentsClientHttpRequestFactory factory =
+                            new HttpComponentsClientHttpRequestFactory(reservationApiHttpClient);
+                    factory.setConnectionRequestTimeout(properties.poolTimeout());
+                    return factory;
+                })
+                .build();
+    }
+}
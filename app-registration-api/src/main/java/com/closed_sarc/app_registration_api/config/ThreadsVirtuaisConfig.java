@@ -0,0 +1,28 @@
+package com.closed_sarc.app_registration_api.config;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Recusa subir com {@code spring.threads.virtual.enabled} (perfil "virtual") numa JVM sem
+ * threads virtuais. Abaixo do Java 21 o Spring ignora a propriedade em silêncio e o serviço
+ * rodaria com threads de plataforma sob a configuração do modo virtual.
+ */
+@Configuration
+@ConditionalOnProperty(name = "spring.threads.virtual.enabled", havingValue = "true")
+public class ThreadsVirtuaisConfig {
+
+    static final int VERSAO_MINIMA = 21;
+
+    public ThreadsVirtuaisConfig() {
+        this(Runtime.version().feature());
+    }
+
+    ThreadsVirtuaisConfig(int versaoJava) {
+        if (versaoJava < VERSAO_MINIMA) {
+            throw new IllegalStateException("spring.threads.virtual.enabled exige Java " + VERSAO_MINIMA
+                    + "+, mas a JVM é Java " + versaoJava + "; rode sem o perfil virtual ou em Java "
+                    + VERSAO_MINIMA);
+        }
+    }
+}
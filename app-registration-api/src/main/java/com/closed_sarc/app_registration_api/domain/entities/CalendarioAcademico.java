@@ -0,0 +1,67 @@
+package com.closed_sarc.app_registration_api.domain.entities;
+
+import java.time.LocalDate;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.UUID;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+
+import jakarta.persistence.CollectionTable;
+import jakarta.persistence.Column;
+import jakarta.persistence.ElementCollection;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.Id;
+import jakarta.persistence.JoinColumn;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Período letivo de um semestre: datas de início e fim, feriados sem aula e dias de
+ * reposição (datas que seguem a grade de outro dia da semana).
+ */
+@Entity
+@Table(name = "calendario_academico", uniqueConstraints = {
+        @UniqueConstraint(name = "uk_calendario_ano_semestre", columnNames = { "ano", "semestre" })
+})
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@JsonIgnoreProperties({"hibernateLazyInitializer", "handler"})
+public class CalendarioAcademico {
+    @Id
+    @GeneratedValue
+    private UUID id;
+
+    @Column(nullable = false)
+    private Integer ano;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 50)
+    private Semestre semestre;
+
+    @Column(name = "data_inicio", nullable = false)
+    private LocalDate dataInicio;
+
+    @Column(name = "data_fim", nullable = false)
+    private LocalDate dataFim;
+
+    @Builder.Default
+    @ElementCollection
+    @CollectionTable(name = "calendario_feriado", joinColumns = @JoinColumn(name = "calendario_id"))
+    @Column(name = "data", nullable = false)
+    private Set<LocalDate> feriados = new HashSet<>();
+
+    @Builder.Default
+    @ElementCollection
+    @CollectionTable(name = "calendario_reposicao", joinColumns = @JoinColumn(name = "calendario_id"))
+    private Set<Reposicao> reposicoes = new HashSet<>();
+}
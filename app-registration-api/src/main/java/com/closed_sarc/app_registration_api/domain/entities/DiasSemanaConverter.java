@@ -0,0 +1,68 @@
+package com.closed_sarc.app_registration_api.domain.entities;
+
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+
+import jakarta.persistence.AttributeConverter;
+import jakarta.persistence.Converter;
+
+/**
+ * Grava os dias de aula como uma máscara de 7 bits: o bit {@code ordinal()} de cada
+ * {@link DiaSemana} (SEGUNDA = 1, TERCA = 2, QUARTA = 4, ..., DOMINGO = 64).
+ */
+@Converter
+public class DiasSemanaConverter implements AttributeConverter<Set<DiaSemana>, Short> {
+
+    private static final int TODAS_AS_MASCARAS = 1 << DiaSemana.values().length;
+
+    @Override
+    public Short convertToDatabaseColumn(Set<DiaSemana> dias) {
+        return paraMascara(dias);
+    }
+
+    @Override
+    public Set<DiaSemana> convertToEntityAttribute(Short mascara) {
+        return deMascara(mascara == null ? 0 : mascara);
+    }
+
+    public static short paraMascara(Set<DiaSemana> dias) {
+        int mascara = 0;
+        if (dias != null) {
+            for (DiaSemana dia : dias) {
+                mascara |= bit(dia);
+            }
+        }
+        return (short) mascara;
+    }
+
+    public static Set<DiaSemana> deMascara(int mascara) {
+        EnumSet<DiaSemana> dias = EnumSet.noneOf(DiaSemana.class);
+        for (DiaSemana dia : DiaSemana.values()) {
+            if ((mascara & bit(dia)) != 0) {
+                dias.add(dia);
+            }
+        }
+        return dias;
+    }
+
+    /**
+     * Todas as máscaras com o bit de {@code dia} ligado (64 valores). Usado para filtrar
+     * "turmas com aula no dia X" com um IN sobre a coluna, que o índice atende, em vez
+     * de um AND bit a bit, que obrigaria a percorrer a tabela.
+     */
+    public static List<Short> mascarasComDia(DiaSemana dia) {
+        List<Short> mascaras = new ArrayList<>(TODAS_AS_MASCARAS / 2);
+        for (int mascara = 0; mascara < TODAS_AS_MASCARAS; mascara++) {
+            if ((mascara & bit(dia)) != 0) {
+                mascaras.add((short) mascara);
+            }
+        }
+        return mascaras;
+    }
+
+    private static int bit(DiaSemana dia) {
+        return 1 << dia.ordinal();
+    }
+}
@@ -6,7 +6,9 @@ import java.time.Instant;
 import java.util.UUID;
 
 @Entity
-@Table(name = "evento")
+@Table(name = "evento", indexes = {
+        @Index(name = "idx_evento_periodo", columnList = "data_inicio, data_fim")
+})
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
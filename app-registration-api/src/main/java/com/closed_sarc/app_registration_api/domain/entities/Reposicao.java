@@ -0,0 +1,28 @@
+package com.closed_sarc.app_registration_api.domain.entities;
+
+import java.time.LocalDate;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Embeddable;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Dia de reposição: em {@code data} têm aula as turmas de {@code diaSemana}, no lugar
+ * das turmas do dia da semana da própria data.
+ */
+@Embeddable
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class Reposicao {
+    @Column(name = "data", nullable = false)
+    private LocalDate data;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "dia_semana", nullable = false, length = 20)
+    private DiaSemana diaSemana;
+}
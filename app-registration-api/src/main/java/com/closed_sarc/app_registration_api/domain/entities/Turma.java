@@ -1,18 +1,18 @@
 package com.closed_sarc.app_registration_api.domain.entities;
 
 import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
-import java.util.List;
+import java.util.Set;
 import java.util.UUID;
 
-import jakarta.persistence.CollectionTable;
 import jakarta.persistence.Column;
-import jakarta.persistence.ElementCollection;
+import jakarta.persistence.Convert;
 import jakarta.persistence.Entity;
 import jakarta.persistence.EnumType;
 import jakarta.persistence.Enumerated;
 import jakarta.persistence.FetchType;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.Table;
@@ -22,7 +22,9 @@ import lombok.Data;
 import lombok.NoArgsConstructor;
 
 @Entity
-@Table(name = "turma")
+@Table(name = "turma", indexes = {
+        @Index(name = "idx_turma_dias_aula", columnList = "dias_aula")
+})
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
@@ -47,11 +49,10 @@ public class Turma {
     @Column(nullable = false, length = 5)
     private Horario horario;
 
-    @ElementCollection
-    @CollectionTable(name = "turma_dias_aula", joinColumns = @JoinColumn(name = "turma_id"))
-    @Column(name = "dia_semana", nullable = false)
-    @Enumerated(EnumType.STRING)
-    private List<DiaSemana> diasAula;
+    // Máscara de 7 bits na própria linha da turma (ver DiasSemanaConverter)
+    @Convert(converter = DiasSemanaConverter.class)
+    @Column(name = "dias_aula", nullable = false)
+    private Set<DiaSemana> diasAula;
 
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "professor_id", nullable = false)
@@ -0,0 +1,19 @@
+package com.closed_sarc.app_registration_api.domain.repositories;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+import org.springframework.data.jpa.repository.EntityGraph;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import com.closed_sarc.app_registration_api.domain.entities.CalendarioAcademico;
+import com.closed_sarc.app_registration_api.domain.entities.Semestre;
+
+public interface CalendarioAcademicoRepository extends JpaRepository<CalendarioAcademico, UUID> {
+
+  @EntityGraph(attributePaths = { "feriados", "reposicoes" })
+  List<CalendarioAcademico> findByAno(Integer ano);
+
+  Optional<CalendarioAcademico> findByAnoAndSemestre(Integer ano, Semestre semestre);
+}
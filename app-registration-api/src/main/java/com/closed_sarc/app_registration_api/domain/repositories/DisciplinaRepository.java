@@ -1,15 +1,37 @@
 package com.closed_sarc.app_registration_api.domain.repositories;
 
 import com.closed_sarc.app_registration_api.domain.entities.Disciplina;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
+import java.util.stream.Stream;
 
 @Repository
 public interface DisciplinaRepository extends JpaRepository<Disciplina, UUID> {
     Optional<Disciplina> findByNomeIgnoreCase(String nome);
     List<Disciplina> findByNomeContainingIgnoreCase(String nome);
+
+    @Query("SELECT d.id FROM Disciplina d")
+    Set<UUID> findAllIds();
+
+    @Query("SELECT lower(d.nome) FROM Disciplina d")
+    Set<String> findAllNomesMinusculos();
+
+    List<Disciplina> findByIdGreaterThanOrderByIdAsc(UUID apos, Limit limite);
+
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("SELECT d FROM Disciplina d")
+    Stream<Disciplina> streamAll();
 }
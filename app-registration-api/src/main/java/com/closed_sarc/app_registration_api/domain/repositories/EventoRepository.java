@@ -1,24 +1,51 @@
 package com.closed_sarc.app_registration_api.domain.repositories;
 
 import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneId;
 import java.util.List;
 import java.util.UUID;
+import java.util.stream.Stream;
 
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 
 import com.closed_sarc.app_registration_api.domain.entities.Evento;
 
+import jakarta.persistence.QueryHint;
+
 public interface EventoRepository extends JpaRepository<Evento, UUID> {
     
     @Query("SELECT e FROM Evento e WHERE e.usuario.id = :usuarioId")
     List<Evento> findByUsuarioId(@Param("usuarioId") UUID usuarioId);
 
-    @Query(value = "SELECT * FROM evento e WHERE " +
-           "(DATE(e.data_inicio) = DATE(:data) OR " +
-           "(DATE(e.data_inicio) <= DATE(:data) AND " +
-           "(e.data_fim IS NULL OR DATE(e.data_fim) >= DATE(:data))))",
-           nativeQuery = true)
-    List<Evento> findByData(@Param("data") Instant data);
+    List<Evento> findByIdGreaterThanOrderByIdAsc(UUID apos, Limit limite);
+
+    // Usuário vem na mesma linha: serializar o evento não dispara uma consulta por evento
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("SELECT e FROM Evento e LEFT JOIN FETCH e.usuario")
+    Stream<Evento> streamAll();
+
+    /**
+     * Eventos que se sobrepõem ao intervalo [inicio, fim). Eventos sem data de fim
+     * continuam valendo a partir do início. Compara as colunas diretamente para usar
+     * o índice idx_evento_periodo.
+     */
+    @Query("SELECT e FROM Evento e WHERE e.dataInicio < :fim " +
+           "AND (e.dataFim IS NULL OR e.dataFim >= :inicio)")
+    List<Evento> findByPeriodo(@Param("inicio") Instant inicio, @Param("fim") Instant fim);
+
+    /**
+     * Eventos do dia {@code data}, com o dia delimitado pela meia-noite no fuso {@code zona}.
+     */
+    default List<Evento> findByData(LocalDate data, ZoneId zona) {
+        return findByPeriodo(data.atStartOfDay(zona).toInstant(), data.plusDays(1).atStartOfDay(zona).toInstant());
+    }
 }
\ No newline at end of file
@@ -1,24 +1,61 @@
 package com.closed_sarc.app_registration_api.domain.repositories;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.UUID;
+import java.util.stream.Stream;
 
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 
 import com.closed_sarc.app_registration_api.domain.entities.DiaSemana;
+import com.closed_sarc.app_registration_api.domain.entities.DiasSemanaConverter;
 import com.closed_sarc.app_registration_api.domain.entities.Turma;
 
+import jakarta.persistence.QueryHint;
+
 public interface TurmaRepository extends JpaRepository<Turma, UUID> {
 
   @Query("SELECT t FROM Turma t " +
       "JOIN FETCH t.professor " +
       "JOIN FETCH t.disciplina " +
-      "WHERE :diaSemana MEMBER OF t.diasAula")
-  List<Turma> findByDiasAulaContaining(@Param("diaSemana") DiaSemana diaSemana);
+      "WHERE cast(t.diasAula as Short) IN :mascaras")
+  List<Turma> findByDiasAulaMascaraIn(@Param("mascaras") Collection<Short> mascaras);
+
+  default List<Turma> findByDiasAulaContaining(DiaSemana diaSemana) {
+    return findByDiasAulaMascaraIn(DiasSemanaConverter.mascarasComDia(diaSemana));
+  }
+
+  // Listagens carregam professor e disciplina na mesma consulta,
+  // evitando uma consulta por turma ao montar o TurmaResumoDTO
+  @EntityGraph(attributePaths = { "professor", "disciplina" })
+  @Query("SELECT t FROM Turma t")
+  List<Turma> findAllComRelacionamentos();
+
+  @EntityGraph(attributePaths = { "professor", "disciplina" })
+  @Query(value = "SELECT t FROM Turma t", countQuery = "SELECT count(t) FROM Turma t")
+  Page<Turma> findAllComRelacionamentos(Pageable pageable);
 
+  @EntityGraph(attributePaths = { "professor", "disciplina" })
+  List<Turma> findByIdGreaterThanOrderByIdAsc(UUID apos, Limit limite);
+
+  @QueryHints({
+      @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+      @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+  })
+  @Query("SELECT t FROM Turma t JOIN FETCH t.professor JOIN FETCH t.disciplina")
+  Stream<Turma> streamAllComRelacionamentos();
+
+  @EntityGraph(attributePaths = { "professor", "disciplina" })
   List<Turma> findByProfessorId(UUID professorId);
-  
+
+  @EntityGraph(attributePaths = { "professor", "disciplina" })
   List<Turma> findByDisciplinaId(UUID disciplinaId);
 }
@@ -1,11 +1,38 @@
 package com.closed_sarc.app_registration_api.domain.repositories;
 
+import com.closed_sarc.app_registration_api.domain.entities.TipoUsuario;
 import com.closed_sarc.app_registration_api.domain.entities.Usuario;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
+import java.util.stream.Stream;
 
 public interface UsuarioRepository extends JpaRepository<Usuario, UUID> {
     boolean existsByEmail(String email);
     Optional<Usuario> findByEmail(String email);
+
+    // Conjuntos pré-carregados pela importação em lote, para validar linhas sem uma consulta por linha
+    @Query("SELECT u.email FROM Usuario u")
+    Set<String> findAllEmails();
+
+    @Query("SELECT u.id FROM Usuario u WHERE u.tipo = :tipo")
+    Set<UUID> findIdsByTipo(@Param("tipo") TipoUsuario tipo);
+
+    // Paginação por cursor: próxima página começa após o último id, usando a chave primária
+    List<Usuario> findByIdGreaterThanOrderByIdAsc(UUID apos, Limit limite);
+
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("SELECT u FROM Usuario u")
+    Stream<Usuario> streamAll();
 }
@@ -0,0 +1,134 @@
+package com.closed_sarc.app_registration_api.domain.utils;
+
+import java.time.LocalDate;
+import java.time.Year;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import com.closed_sarc.app_registration_api.domain.entities.CalendarioAcademico;
+import com.closed_sarc.app_registration_api.domain.entities.DiaSemana;
+import com.closed_sarc.app_registration_api.domain.entities.Reposicao;
+import com.closed_sarc.app_registration_api.domain.entities.Semestre;
+
+/**
+ * Calendário letivo de um ano compilado para consulta em memória. Para cada semestre e
+ * dia do ano guarda a máscara (um bit por {@link DiaSemana}, como no DiasSemanaConverter)
+ * da grade que é seguida naquela data: o próprio dia da semana dentro do período letivo,
+ * nenhum em feriados e recessos, ou o dia indicado em uma reposição.
+ *
+ * <p>Com isso "D é data de aula da turma T" é um AND entre a máscara do dia e a da turma.
+ * Semestres sem calendário cadastrado usam o período padrão (PRIMEIRO: janeiro a junho,
+ * SEGUNDO: julho a dezembro). Instâncias são imutáveis.
+ */
+public final class AnoLetivo {
+
+    public record Periodo(LocalDate inicio, LocalDate fim) {
+
+        public Periodo {
+            if (inicio == null || fim == null || fim.isBefore(inicio)) {
+                throw new IllegalArgumentException("Período inválido: " + inicio + " a " + fim);
+            }
+        }
+
+        public boolean contem(LocalDate data) {
+            return !data.isBefore(inicio) && !data.isAfter(fim);
+        }
+    }
+
+    private final int ano;
+    private final byte[][] grade;
+
+    private AnoLetivo(int ano, byte[][] grade) {
+        this.ano = ano;
+        this.grade = grade;
+    }
+
+    /**
+     * @param calendarios      calendários cadastrados para o ano (no máximo um por semestre)
+     * @param feriadosGerais   feriados que valem para qualquer semestre, além dos do calendário
+     * @param recessos         períodos sem aula que valem para qualquer semestre
+     */
+    public static AnoLetivo compilar(int ano, Collection<CalendarioAcademico> calendarios,
+            Collection<LocalDate> feriadosGerais, Collection<Periodo> recessos) {
+        byte[][] grade = new byte[Semestre.values().length][Year.of(ano).length()];
+
+        for (Semestre semestre : Semestre.values()) {
+            CalendarioAcademico calendario = calendarios.stream()
+                    .filter(c -> c.getSemestre() == semestre)
+                    .findFirst()
+                    .orElse(null);
+            Periodo periodo = calendario != null
+                    ? new Periodo(calendario.getDataInicio(), calendario.getDataFim())
+                    : periodoPadrao(semestre, ano);
+
+            Set<LocalDate> semAula = new HashSet<>(feriadosGerais);
+            if (calendario != null) {
+                semAula.addAll(calendario.getFeriados());
+            }
+            for (Periodo recesso : recessos) {
+                recesso.inicio().datesUntil(recesso.fim().plusDays(1)).forEach(semAula::add);
+            }
+
+            byte[] dias = grade[semestre.ordinal()];
+            periodo.inicio().datesUntil(periodo.fim().plusDays(1))
+                    .filter(data -> data.getYear() == ano && !semAula.contains(data))
+                    .forEach(data -> dias[data.getDayOfYear() - 1] = (byte) bit(data));
+
+            // Reposições valem mesmo fora do período ou em feriados: foram marcadas explicitamente
+            if (calendario != null) {
+                for (Reposicao reposicao : calendario.getReposicoes()) {
+                    if (reposicao.getData().getYear() == ano) {
+                        dias[reposicao.getData().getDayOfYear() - 1] = (byte) (1 << reposicao.getDiaSemana().ordinal());
+                    }
+                }
+            }
+        }
+        return new AnoLetivo(ano, grade);
+    }
+
+    public static Periodo periodoPadrao(Semestre semestre, int ano) {
+        return semestre == Semestre.PRIMEIRO
+                ? new Periodo(LocalDate.of(ano, 1, 1), LocalDate.of(ano, 6, 30))
+                : new Periodo(LocalDate.of(ano, 7, 1), LocalDate.of(ano, 12, 31));
+    }
+
+    public int getAno() {
+        return ano;
+    }
+
+    /** Se uma turma do semestre com os dias de {@code mascaraDias} tem aula em {@code data}. */
+    public boolean ehDataDeAula(Semestre semestre, int mascaraDias, LocalDate data) {
+        return data.getYear() == ano && (grade[semestre.ordinal()][data.getDayOfYear() - 1] & mascaraDias) != 0;
+    }
+
+    /** Datas de aula de uma turma do semestre, em ordem, geradas à medida que são consumidas. */
+    public Stream<LocalDate> datasAula(Semestre semestre, int mascaraDias) {
+        byte[] dias = grade[semestre.ordinal()];
+        return IntStream.range(0, dias.length)
+                .filter(i -> (dias[i] & mascaraDias) != 0)
+                .mapToObj(i -> LocalDate.ofYearDay(ano, i + 1));
+    }
+
+    /**
+     * Dia da semana cuja grade o semestre segue em {@code data}; vazio se não há aula. Na virada
+     * os dois semestres podem seguir grades diferentes (reposição em um, dia normal no outro).
+     */
+    public Optional<DiaSemana> gradeDoDia(Semestre semestre, LocalDate data) {
+        if (data.getYear() != ano) {
+            return Optional.empty();
+        }
+        int mascara = grade[semestre.ordinal()][data.getDayOfYear() - 1];
+        return mascara == 0
+                ? Optional.empty()
+                : Optional.of(DiaSemana.values()[Integer.numberOfTrailingZeros(mascara)]);
+    }
+
+    // DayOfWeek.MONDAY = 1 e DiaSemana.SEGUNDA ocupa o bit 0, na mesma ordem até domingo
+    private static int bit(LocalDate data) {
+        return 1 << (data.getDayOfWeek().getValue() - 1);
+    }
+}
@@ -0,0 +1,295 @@
+package com.closed_sarc.app_registration_api.domain.utils;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableSet;
+import java.util.TreeSet;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Árvore de intervalos [inicio, fim] em memória: uma árvore centrada cujo esqueleto é uma
+ * treap ordenada por início e id, com um nó por intervalo. Cada intervalo fica guardado no
+ * nó mais alto cujo início ele contém, em dois conjuntos: por início crescente e por fim
+ * decrescente. Intervalos sem fim valem indefinidamente.
+ *
+ * <p>A busca por [de, ate) é uma consulta de perfuração em {@code de} (um caminho da raiz,
+ * lendo de cada nó só os intervalos que contêm {@code de}) mais uma varredura em ordem dos
+ * inícios em (de, ate): O(log n + k) no esperado para k resultados. Os intervalos que
+ * começam até {@code de} ainda são ordenados por início antes de retornar. Inserção e
+ * remoção fazem O(log n) rotações no esperado; cada rotação move para o novo pai só os
+ * intervalos guardados que contêm o início dele.
+ *
+ * <p>Cada valor é identificado por um id; inserir um id existente substitui o intervalo.
+ * Leituras concorrentes são permitidas; escritas são exclusivas.
+ */
+public class ArvoreIntervalos<V> {
+
+    private static final Comparator<No<?>> POR_INICIO = Comparator
+            .<No<?>, Instant>comparing(no -> no.inicio)
+            .thenComparing(no -> no.id);
+    private static final Comparator<No<?>> POR_FIM_DECRESCENTE = Comparator
+            .<No<?>, Instant>comparing(no -> no.fim, Comparator.reverseOrder())
+            .thenComparing(no -> no.id);
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Map<UUID, No<V>> porId = new HashMap<>();
+    private No<V> raiz;
+
+    public void inserir(UUID id, Instant inicio, Instant fim, V valor) {
+        No<V> no = new No<>(id, inicio, fim == null ? Instant.MAX : fim, valor,
+                ThreadLocalRandom.current().nextInt());
+        lock.writeLock().lock();
+        try {
+            No<V> anterior = porId.put(id, no);
+            if (anterior != null) {
+                desguardar(anterior);
+                raiz = remover(raiz, anterior);
+            }
+            raiz = inserir(raiz, no);
+            guardar(no);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void remover(UUID id) {
+        lock.writeLock().lock();
+        try {
+            No<V> no = porId.remove(id);
+            if (no != null) {
+                desguardar(no);
+                raiz = remover(raiz, no);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void limpar() {
+        lock.writeLock().lock();
+        try {
+            porId.clear();
+            raiz = null;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public int tamanho() {
+        lock.readLock().lock();
+        try {
+            return porId.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Valores cujo intervalo se sobrepõe a [de, ate): início antes de {@code ate} e fim
+     * em ou depois de {@code de}. O resultado vem ordenado por início; um período vazio
+     * ({@code ate} não posterior a {@code de}) não se sobrepõe a nada.
+     */
+    public List<V> buscar(Instant de, Instant ate) {
+        if (!de.isBefore(ate)) {
+            return new ArrayList<>();
+        }
+        List<No<V>> contemDe = new ArrayList<>();
+        List<No<V>> comecamDepois = new ArrayList<>();
+        lock.readLock().lock();
+        try {
+            perfurar(de, contemDe);
+            varrer(raiz, de, ate, comecamDepois);
+        } finally {
+            lock.readLock().unlock();
+        }
+        contemDe.sort(POR_INICIO);
+        List<V> resultado = new ArrayList<>(contemDe.size() + comecamDepois.size());
+        contemDe.forEach(no -> resultado.add(no.valor));
+        comecamDepois.forEach(no -> resultado.add(no.valor));
+        return resultado;
+    }
+
+    /** Intervalos com início em ou antes de {@code instante} e fim em ou depois dele. */
+    private void perfurar(Instant instante, List<No<V>> resultado) {
+        No<V> no = raiz;
+        while (no != null) {
+            int comparacao = instante.compareTo(no.inicio);
+            if (comparacao < 0) {
+                // Todos os guardados aqui terminam depois do instante; e a direita começa depois
+                for (No<V> guardado : no.guardadosPorInicio) {
+                    if (guardado.inicio.isAfter(instante)) {
+                        break;
+                    }
+                    resultado.add(guardado);
+                }
+                no = no.esquerda;
+            } else if (comparacao > 0) {
+                // Todos os guardados aqui começam antes do instante; e a esquerda termina antes
+                for (No<V> guardado : no.guardadosPorFim) {
+                    if (guardado.fim.isBefore(instante)) {
+                        break;
+                    }
+                    resultado.add(guardado);
+                }
+                no = no.direita;
+            } else {
+                // Nada guardado abaixo deste nó contém o início dele
+                resultado.addAll(no.guardadosPorInicio);
+                return;
+            }
+        }
+    }
+
+    /** Intervalos com início em (de, ate), em ordem; todos terminam depois de {@code de}. */
+    private void varrer(No<V> no, Instant de, Instant ate, List<No<V>> resultado) {
+        if (no == null) {
+            return;
+        }
+        boolean depoisDeDe = no.inicio.isAfter(de);
+        boolean antesDeAte = no.inicio.isBefore(ate);
+        if (depoisDeDe) {
+            varrer(no.esquerda, de, ate, resultado);
+        }
+        if (depoisDeDe && antesDeAte) {
+            resultado.add(no);
+        }
+        if (antesDeAte) {
+            varrer(no.direita, de, ate, resultado);
+        }
+    }
+
+    /** Guarda o intervalo no nó mais alto, no caminho até o seu, cujo início ele contém. */
+    private void guardar(No<V> intervalo) {
+        No<V> no = raiz;
+        while (!intervalo.contem(no.inicio)) {
+            no = POR_INICIO.compare(intervalo, no) < 0 ? no.esquerda : no.direita;
+        }
+        no.guardar(intervalo);
+    }
+
+    private void desguardar(No<V> intervalo) {
+        intervalo.casa.guardadosPorInicio.remove(intervalo);
+        intervalo.casa.guardadosPorFim.remove(intervalo);
+        intervalo.casa = null;
+    }
+
+    private No<V> inserir(No<V> no, No<V> novo) {
+        if (no == null) {
+            return novo;
+        }
+        if (POR_INICIO.compare(novo, no) < 0) {
+            no.esquerda = inserir(no.esquerda, novo);
+            return no.esquerda.prioridade > no.prioridade ? rotacionarDireita(no) : no;
+        }
+        no.direita = inserir(no.direita, novo);
+        return no.direita.prioridade > no.prioridade ? rotacionarEsquerda(no) : no;
+    }
+
+    private No<V> remover(No<V> no, No<V> alvo) {
+        if (no == null) {
+            return null;
+        }
+        if (no == alvo) {
+            return afundar(no);
+        }
+        if (POR_INICIO.compare(alvo, no) < 0) {
+            no.esquerda = remover(no.esquerda, alvo);
+        } else {
+            no.direita = remover(no.direita, alvo);
+        }
+        return no;
+    }
+
+    /** Desce o nó por rotações até virar folha e o retira; só o próprio intervalo morava nele. */
+    private No<V> afundar(No<V> no) {
+        if (no.esquerda == null && no.direita == null) {
+            return null;
+        }
+        if (no.direita == null
+                || (no.esquerda != null && no.esquerda.prioridade > no.direita.prioridade)) {
+            No<V> novaRaiz = rotacionarDireita(no);
+            novaRaiz.direita = afundar(no);
+            return novaRaiz;
+        }
+        No<V> novaRaiz = rotacionarEsquerda(no);
+        novaRaiz.esquerda = afundar(no);
+        return novaRaiz;
+    }
+
+    private No<V> rotacionarDireita(No<V> no) {
+        No<V> filho = no.esquerda;
+        // Guardados em "no" contêm o início dele; sobem os que começam até o início do filho
+        List<No<V>> sobem = new ArrayList<>();
+        for (No<V> guardado : no.guardadosPorInicio) {
+            if (guardado.inicio.isAfter(filho.inicio)) {
+                break;
+            }
+            sobem.add(guardado);
+        }
+        mover(sobem, filho);
+        no.esquerda = filho.direita;
+        filho.direita = no;
+        return filho;
+    }
+
+    private No<V> rotacionarEsquerda(No<V> no) {
+        No<V> filho = no.direita;
+        // Guardados em "no" contêm o início dele; sobem os que terminam a partir do início do filho
+        List<No<V>> sobem = new ArrayList<>();
+        for (No<V> guardado : no.guardadosPorFim) {
+            if (guardado.fim.isBefore(filho.inicio)) {
+                break;
+            }
+            sobem.add(guardado);
+        }
+        mover(sobem, filho);
+        no.direita = filho.esquerda;
+        filho.esquerda = no;
+        return filho;
+    }
+
+    private void mover(List<No<V>> intervalos, No<V> destino) {
+        for (No<V> intervalo : intervalos) {
+            desguardar(intervalo);
+            destino.guardar(intervalo);
+        }
+    }
+
+    private static final class No<V> {
+        final UUID id;
+        final Instant inicio;
+        final Instant fim;
+        final V valor;
+        final int prioridade;
+        final NavigableSet<No<V>> guardadosPorInicio = new TreeSet<>(POR_INICIO);
+        final NavigableSet<No<V>> guardadosPorFim = new TreeSet<>(POR_FIM_DECRESCENTE);
+        No<V> casa;
+        No<V> esquerda;
+        No<V> direita;
+
+        No(UUID id, Instant inicio, Instant fim, V valor, int prioridade) {
+            this.id = id;
+            this.inicio = inicio;
+            this.fim = fim;
+            this.valor = valor;
+            this.prioridade = prioridade;
+        }
+
+        boolean contem(Instant instante) {
+            return !inicio.isAfter(instante) && !fim.isBefore(instante);
+        }
+
+        void guardar(No<V> intervalo) {
+            guardadosPorInicio.add(intervalo);
+            guardadosPorFim.add(intervalo);
+            intervalo.casa = this;
+        }
+    }
+}
@@ -0,0 +1,48 @@
+package com.closed_sarc.app_registration_api.infrastructure.client;
+
+import java.time.Duration;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Limita o número de chamadas simultâneas a uma dependência. Quem não consegue
+ * uma vaga em {@code esperaMaxima} desiste em vez de enfileirar indefinidamente.
+ */
+public class Bulkhead {
+
+    private final int maxChamadasSimultaneas;
+    private final Semaphore vagas;
+    private final Duration esperaMaxima;
+    private final LongAdder chamadasRecusadas = new LongAdder();
+
+    public Bulkhead(int maxChamadasSimultaneas, Duration esperaMaxima) {
+        this.maxChamadasSimultaneas = maxChamadasSimultaneas;
+        this.vagas = new Semaphore(maxChamadasSimultaneas, true);
+        this.esperaMaxima = esperaMaxima;
+    }
+
+    public boolean entrar() {
+        try {
+            if (vagas.tryAcquire(esperaMaxima.toNanos(), TimeUnit.NANOSECONDS)) {
+                return true;
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        chamadasRecusadas.increment();
+        return false;
+    }
+
+    public void sair() {
+        vagas.release();
+    }
+
+    public int getChamadasEmAndamento() {
+        return maxChamadasSimultaneas - vagas.availablePermits();
+    }
+
+    public long getChamadasRecusadas() {
+        return chamadasRecusadas.sum();
+    }
+}
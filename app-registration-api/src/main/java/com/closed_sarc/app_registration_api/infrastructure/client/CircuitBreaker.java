@@ -0,0 +1,83 @@
+package com.closed_sarc.app_registration_api.infrastructure.client;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+
+/**
+ * Circuit breaker simples: abre após {@code limiteFalhas} falhas consecutivas e recusa
+ * chamadas por {@code tempoAberto}. Depois disso libera uma única chamada de teste
+ * (meio-aberto), que fecha o circuito em caso de sucesso ou o reabre em caso de falha.
+ */
+public class CircuitBreaker {
+
+    public enum Estado { FECHADO, ABERTO, MEIO_ABERTO }
+
+    private final int limiteFalhas;
+    private final Duration tempoAberto;
+    private final Clock clock;
+
+    private Estado estado = Estado.FECHADO;
+    private int falhasConsecutivas;
+    private Instant abertoAte = Instant.MIN;
+    private boolean chamadaDeTesteEmAndamento;
+    private long chamadasRecusadas;
+
+    public CircuitBreaker(int limiteFalhas, Duration tempoAberto) {
+        this(limiteFalhas, tempoAberto, Clock.systemUTC());
+    }
+
+    public CircuitBreaker(int limiteFalhas, Duration tempoAberto, Clock clock) {
+        this.limiteFalhas = limiteFalhas;
+        this.tempoAberto = tempoAberto;
+        this.clock = clock;
+    }
+
+    public synchronized boolean permitirChamada() {
+        if (estado == Estado.ABERTO && !clock.instant().isBefore(abertoAte)) {
+            estado = Estado.MEIO_ABERTO;
+        }
+        if (estado == Estado.MEIO_ABERTO && !chamadaDeTesteEmAndamento) {
+            chamadaDeTesteEmAndamento = true;
+            return true;
+        }
+        if (estado != Estado.FECHADO) {
+            chamadasRecusadas++;
+            return false;
+        }
+        return true;
+    }
+
+    public synchronized void registrarSucesso() {
+        estado = Estado.FECHADO;
+        falhasConsecutivas = 0;
+        chamadaDeTesteEmAndamento = false;
+    }
+
+    /**
+     * Devolve uma chamada liberada por {@link #permitirChamada()} que acabou não sendo feita.
+     */
+    public synchronized void cancelarChamada() {
+        chamadaDeTesteEmAndamento = false;
+    }
+
+    public synchronized void registrarFalha() {
+        falhasConsecutivas++;
+        chamadaDeTesteEmAndamento = false;
+        if (estado == Estado.MEIO_ABERTO || falhasConsecutivas >= limiteFalhas) {
+            estado = Estado.ABERTO;
+            abertoAte = clock.instant().plus(tempoAberto);
+        }
+    }
+
+    public synchronized Estado getEstado() {
+        return estado;
+    }
+
+    /**
+     * Total de chamadas recusadas com o circuito aberto ou com a chamada de teste em andamento.
+     */
+    public synchronized long getChamadasRecusadas() {
+        return chamadasRecusadas;
+    }
+}
@@ -0,0 +1,53 @@
+package com.closed_sarc.app_registration_api.infrastructure.client;
+
+import com.closed_sarc.app_registration_api.application.dto.RecursoDTO;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Cache local de recursos da reservation-api. Cada entrada expira após {@code ttl};
+ * criação e exclusão de recursos pela registration-api atualizam o cache na hora.
+ */
+public class RecursoCache {
+
+    private final Duration ttl;
+    private final Clock clock;
+    private final Map<UUID, Entrada> entradas = new ConcurrentHashMap<>();
+
+    public RecursoCache(Duration ttl) {
+        this(ttl, Clock.systemUTC());
+    }
+
+    public RecursoCache(Duration ttl, Clock clock) {
+        this.ttl = ttl;
+        this.clock = clock;
+    }
+
+    public Optional<RecursoDTO> buscar(UUID id) {
+        Entrada entrada = entradas.get(id);
+        if (entrada == null) {
+            return Optional.empty();
+        }
+        if (!clock.instant().isBefore(entrada.expiraEm())) {
+            entradas.remove(id, entrada);
+            return Optional.empty();
+        }
+        return Optional.of(entrada.recurso());
+    }
+
+    public void guardar(RecursoDTO recurso) {
+        entradas.put(recurso.getId(), new Entrada(recurso, clock.instant().plus(ttl)));
+    }
+
+    public void remover(UUID id) {
+        entradas.remove(id);
+    }
+
+    private record Entrada(RecursoDTO recurso, Instant expiraEm) {}
+}
@@ -0,0 +1,52 @@
+package com.closed_sarc.app_registration_api.infrastructure.client;
+
+import com.closed_sarc.app_registration_api.infrastructure.client.dto.ReservaResponseDTO;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Última lista de reservas recebida da reservation-api para cada par (turmaId, dataUso).
+ * Serve de fallback quando a reservation-api está indisponível. Limitado a
+ * {@code capacidade} entradas, descartando as menos usadas recentemente.
+ */
+public class ReservasConhecidasCache {
+
+    private final Map<Chave, List<ReservaResponseDTO>> entradas;
+
+    public ReservasConhecidasCache(int capacidade) {
+        this.entradas = Collections.synchronizedMap(new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Chave, List<ReservaResponseDTO>> eldest) {
+                return size() > capacidade;
+            }
+        });
+    }
+
+    public void atualizar(UUID turmaId, Instant dataUso, List<ReservaResponseDTO> reservas) {
+        entradas.put(new Chave(turmaId, dataUso), List.copyOf(reservas));
+    }
+
+    public Optional<List<ReservaResponseDTO>> buscar(UUID turmaId, Instant dataUso) {
+        return Optional.ofNullable(entradas.get(new Chave(turmaId, dataUso)));
+    }
+
+    /**
+     * Inclui uma reserva recém-criada na lista conhecida do seu par, se houver uma.
+     */
+    public void adicionar(ReservaResponseDTO reserva) {
+        entradas.computeIfPresent(new Chave(reserva.getTurmaId(), reserva.getDataUso()), (chave, reservas) -> {
+            List<ReservaResponseDTO> atualizadas = new ArrayList<>(reservas);
+            atualizadas.add(reserva);
+            return List.copyOf(atualizadas);
+        });
+    }
+
+    private record Chave(UUID turmaId, Instant dataUso) {}
+}
@@ -0,0 +1,130 @@
+package com.closed_sarc.app_registration_api.infrastructure.client;
+
+import com.closed_sarc.app_registration_api.application.dto.RecursoDTO;
+import com.closed_sarc.app_registration_api.application.dto.RecursoRequestDTO;
+import com.closed_sarc.app_registration_api.infrastructure.client.dto.ReservaLoteResponseDTO;
+import com.closed_sarc.app_registration_api.infrastructure.client.dto.ReservaResponseDTO;
+import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpMethod;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.HttpClientErrorException;
+import org.springframework.web.client.RestTemplate;
+
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.function.Supplier;
+
+/**
+ * Cliente HTTP da reservation-api, compartilhado pelos serviços da registration-api.
+ * As URIs são sempre passadas como template para que a métrica de latência fique
+ * agregada por endpoint e não por ID.
+ * Toda chamada passa pelo bulkhead e pelo circuit breaker: com a reservation-api fora
+ * do ar, as chamadas falham imediatamente com {@link ReservationApiIndisponivelException}.
+ */
+@Component
+public class ReservationApiClient {
+
+    private final RestTemplate restTemplate;
+    private final CircuitBreaker circuitBreaker;
+    private final Bulkhead bulkhead;
+
+    public ReservationApiClient(RestTemplate reservationApiRestTemplate,
+                                CircuitBreaker reservationApiCircuitBreaker,
+                                Bulkhead reservationApiBulkhead) {
+        this.restTemplate = reservationApiRestTemplate;
+        this.circuitBreaker = reservationApiCircuitBreaker;
+        this.bulkhead = reservationApiBulkhead;
+    }
+
+    public RecursoDTO createRecurso(RecursoRequestDTO recursoRequest) {
+        return executar(() -> restTemplate.postForObject("/api/recursos", recursoRequest, RecursoDTO.class));
+    }
+
+    public List<RecursoDTO> findAllRecursos() {
+        RecursoDTO[] recursos = executar(() -> restTemplate.getForObject("/api/recursos", RecursoDTO[].class));
+        return recursos != null ? Arrays.asList(recursos) : Collections.emptyList();
+    }
+
+    public RecursoDTO findRecursoById(UUID id) {
+        return executar(() -> restTemplate.getForObject("/api/recursos/{id}", RecursoDTO.class, id));
+    }
+
+    public void deleteRecurso(UUID id) {
+        executar(() -> {
+            restTemplate.delete("/api/recursos/{id}", id);
+            return null;
+        });
+    }
+
+    public ReservaResponseDTO createReservation(UUID turmaId, UUID recursoId, Integer quantidade, Instant dataUso) {
+        return executar(() -> restTemplate.postForObject("/api/reservas",
+                new ReservationRequest(turmaId, recursoId, quantidade, dataUso), ReservaResponseDTO.class));
+    }
+
+    public ReservaLoteResponseDTO createReservations(UUID turmaId, UUID recursoId, Integer quantidade, List<Instant> datasUso) {
+        return executar(() -> restTemplate.postForObject("/api/reservas/lote",
+                new ReservationBatchRequest(turmaId, recursoId, quantidade, datasUso), ReservaLoteResponseDTO.class));
+    }
+
+    public List<ReservaResponseDTO> getReservationsByTurmaAndData(UUID turmaId, Instant dataUso) {
+        List<ReservaResponseDTO> reservas = executar(() -> restTemplate.exchange("/api/reservas/turma/{turmaId}/data?dataUso={dataUso}",
+                HttpMethod.GET, null, new ParameterizedTypeReference<List<ReservaResponseDTO>>() {},
+                turmaId, dataUso).getBody());
+        return reservas != null ? reservas : Collections.emptyList();
+    }
+
+    public List<ReservaResponseDTO> getReservationsByTurma(UUID turmaId) {
+        List<ReservaResponseDTO> reservas = executar(() -> restTemplate.exchange("/api/reservas/turma/{turmaId}",
+                HttpMethod.GET, null, new ParameterizedTypeReference<List<ReservaResponseDTO>>() {},
+                turmaId).getBody());
+        return reservas != null ? reservas : Collections.emptyList();
+    }
+
+    public Map<UUID, List<ReservaResponseDTO>> getReservationsByTurmasAndDatas(Map<UUID, Instant> dataUsoPorTurma) {
+        List<TurmaDataUso> itens = dataUsoPorTurma.entrySet().stream()
+                .map(entry -> new TurmaDataUso(entry.getKey(), entry.getValue()))
+                .toList();
+
+        Map<UUID, List<ReservaResponseDTO>> reservas = executar(() -> restTemplate.exchange("/api/reservas/consulta",
+                HttpMethod.POST, new HttpEntity<>(new ReservationQueryRequest(itens)),
+                new ParameterizedTypeReference<Map<UUID, List<ReservaResponseDTO>>>() {}).getBody());
+        return reservas != null ? reservas : Collections.emptyMap();
+    }
+
+    private <T> T executar(Supplier<T> chamada) {
+        if (!circuitBreaker.permitirChamada()) {
+            throw new ReservationApiIndisponivelException("reservation-api indisponível (circuito aberto)");
+        }
+        if (!bulkhead.entrar()) {
+            circuitBreaker.cancelarChamada();
+            throw new ReservationApiIndisponivelException("reservation-api sobrecarregada (limite de chamadas simultâneas)");
+        }
+        try {
+            T resultado = chamada.get();
+            circuitBreaker.registrarSucesso();
+            return resultado;
+        } catch (HttpClientErrorException e) {
+            // Erros 4xx são respostas válidas da reservation-api, não indicam indisponibilidade
+            circuitBreaker.registrarSucesso();
+            throw e;
+        } catch (RuntimeException e) {
+            circuitBreaker.registrarFalha();
+            throw e;
+        } finally {
+            bulkhead.sair();
+        }
+    }
+
+    private record ReservationRequest(UUID turmaId, UUID recursoId, Integer quantidade, Instant dataUso) {}
+
+    private record ReservationBatchRequest(UUID turmaId, UUID recursoId, Integer quantidade, List<Instant> datasUso) {}
+
+    private record TurmaDataUso(UUID turmaId, Instant dataUso) {}
+
+    private record ReservationQueryRequest(List<TurmaDataUso> itens) {}
+}
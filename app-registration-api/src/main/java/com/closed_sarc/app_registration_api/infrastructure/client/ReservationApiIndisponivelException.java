@@ -0,0 +1,10 @@
+package com.closed_sarc.app_registration_api.infrastructure.client;
+
+/**
+ * Lançada sem chamar a reservation-api quando o circuito está aberto ou o bulkhead está cheio.
+ */
+public class ReservationApiIndisponivelException extends RuntimeException {
+    public ReservationApiIndisponivelException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,38 @@
+package com.closed_sarc.app_registration_api.infrastructure.client;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * Configuração do cliente HTTP da reservation-api (prefixo {@code reservation-api}).
+ * O bulkhead não pode liberar mais chamadas simultâneas do que há conexões por rota: a espera
+ * deve acontecer nele, com prazo curto, e não no pool HTTP.
+ */
+@ConfigurationProperties(prefix = "reservation-api")
+public record ReservationApiProperties(
+        String baseUrl,
+        String username,
+        String password,
+        @DefaultValue("2s") Duration connectTimeout,
+        @DefaultValue("5s") Duration readTimeout,
+        @DefaultValue("1s") Duration poolTimeout,
+        @DefaultValue("50") int maxConnections,
+        @DefaultValue("50") int maxConnectionsPerRoute,
+        @DefaultValue("5") int circuitFailureThreshold,
+        @DefaultValue("30s") Duration circuitOpenDuration,
+        @DefaultValue("20") int maxConcurrentCalls,
+        @DefaultValue("100ms") Duration bulkheadMaxWait,
+        @DefaultValue("10000") int staleCacheSize,
+        @DefaultValue("5m") Duration recursoCacheTtl
+) {
+
+    public ReservationApiProperties {
+        if (maxConcurrentCalls > maxConnectionsPerRoute) {
+            throw new IllegalArgumentException(String.format(
+                    "reservation-api.max-concurrent-calls (%d) maior que reservation-api.max-connections-per-route (%d)",
+                    maxConcurrentCalls, maxConnectionsPerRoute));
+        }
+    }
+}
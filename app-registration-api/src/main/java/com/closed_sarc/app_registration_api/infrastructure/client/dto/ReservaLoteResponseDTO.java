@@ -0,0 +1,43 @@
+package com.closed_sarc.app_registration_api.infrastructure.client.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "DTO de resposta de reserva em lote")
+public class ReservaLoteResponseDTO {
+    @Schema(description = "Mensagem de erro quando alguma data não tem disponibilidade",
+            example = "Recurso indisponível em 2 das datas solicitadas")
+    private String message;
+
+    @Builder.Default
+    @Schema(description = "Reservas criadas (vazio quando há conflitos)")
+    private List<ReservaResponseDTO> reservas = new ArrayList<>();
+
+    @Builder.Default
+    @Schema(description = "Datas sem disponibilidade suficiente")
+    private List<ConflitoDTO> conflitos = new ArrayList<>();
+
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Schema(description = "DTO de conflito de disponibilidade em uma data")
+    public static class ConflitoDTO {
+        @Schema(description = "Data e hora de uso sem disponibilidade", example = "2025-03-11T08:00:00Z")
+        private Instant dataUso;
+
+        @Schema(description = "Quantidade ainda disponível nessa data", example = "0")
+        private Integer quantidadeDisponivel;
+    }
+}
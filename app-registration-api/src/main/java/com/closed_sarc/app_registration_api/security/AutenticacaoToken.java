@@ -0,0 +1,42 @@
+package com.closed_sarc.app_registration_api.security;
+
+import org.springframework.security.core.AuthenticatedPrincipal;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.security.oauth2.server.resource.authentication.AbstractOAuth2TokenAuthenticationToken;
+
+import lombok.Value;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Autenticação por token bearer. O principal expõe id e email do usuário, como o
+ * {@code Usuario} da autenticação Basic, então expressões como
+ * {@code authentication.principal.id} valem nos dois modos.
+ */
+public class AutenticacaoToken extends AbstractOAuth2TokenAuthenticationToken<Jwt> {
+
+    public AutenticacaoToken(Jwt jwt, Collection<? extends GrantedAuthority> authorities) {
+        super(jwt, new UsuarioToken(UUID.fromString(jwt.getClaimAsString(TokenService.CLAIM_ID)), jwt.getSubject()),
+                jwt, authorities);
+        setAuthenticated(true);
+    }
+
+    @Override
+    public Map<String, Object> getTokenAttributes() {
+        return getToken().getClaims();
+    }
+
+    @Value
+    public static class UsuarioToken implements AuthenticatedPrincipal {
+        UUID id;
+        String email;
+
+        @Override
+        public String getName() {
+            return email;
+        }
+    }
+}
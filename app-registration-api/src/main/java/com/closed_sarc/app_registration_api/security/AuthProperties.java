@@ -0,0 +1,19 @@
+package com.closed_sarc.app_registration_api.security;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * Configuração de autenticação (prefixo {@code security.auth}): segredo e validade do
+ * token bearer emitido no login e cache opcional de credenciais Basic já verificadas.
+ */
+@ConfigurationProperties(prefix = "security.auth")
+public record AuthProperties(
+        String tokenSecret,
+        @DefaultValue("1h") Duration tokenTtl,
+        @DefaultValue("false") boolean basicCacheEnabled,
+        @DefaultValue("1000") int basicCacheSize,
+        @DefaultValue("5m") Duration basicCacheTtl
+) {}
@@ -0,0 +1,111 @@
+package com.closed_sarc.app_registration_api.security;
+
+import org.springframework.security.authentication.AuthenticationProvider;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.AuthenticationException;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.security.SecureRandom;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Guarda, por tempo limitado, o resultado de autenticações Basic bem-sucedidas para
+ * evitar BCrypt e consulta ao banco a cada requisição do mesmo cliente.
+ *
+ * <p>A senha nunca é armazenada: cada entrada guarda apenas um SHA-256 da senha com um
+ * sal aleatório do processo, comparado em tempo constante. Com capacidade zero o cache
+ * fica desligado e tudo vai direto ao provedor delegado.
+ */
+public class CachingAuthenticationProvider implements AuthenticationProvider {
+
+    private final AuthenticationProvider delegate;
+    private final int capacidade;
+    private final Duration ttl;
+    private final Clock clock;
+    private final byte[] sal = new byte[16];
+    private final Map<String, Entrada> entradas;
+
+    public CachingAuthenticationProvider(AuthenticationProvider delegate, int capacidade, Duration ttl) {
+        this(delegate, capacidade, ttl, Clock.systemUTC());
+    }
+
+    public CachingAuthenticationProvider(AuthenticationProvider delegate, int capacidade, Duration ttl, Clock clock) {
+        this.delegate = delegate;
+        this.capacidade = capacidade;
+        this.ttl = ttl;
+        this.clock = clock;
+        new SecureRandom().nextBytes(sal);
+        this.entradas = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Entrada> eldest) {
+                return size() > capacidade;
+            }
+        };
+    }
+
+    @Override
+    public Authentication authenticate(Authentication authentication) throws AuthenticationException {
+        if (capacidade <= 0 || authentication.getCredentials() == null) {
+            return delegate.authenticate(authentication);
+        }
+
+        String email = authentication.getName();
+        byte[] resumo = resumir(authentication.getCredentials().toString());
+        Entrada entrada = buscar(email);
+        if (entrada != null && MessageDigest.isEqual(entrada.resumoSenha(), resumo)) {
+            return entrada.autenticacao();
+        }
+
+        Authentication autenticado = delegate.authenticate(authentication);
+        if (autenticado != null && autenticado.isAuthenticated()) {
+            synchronized (entradas) {
+                entradas.put(email, new Entrada(resumo, autenticado, clock.instant().plus(ttl)));
+            }
+        }
+        return autenticado;
+    }
+
+    @Override
+    public boolean supports(Class<?> authentication) {
+        return UsernamePasswordAuthenticationToken.class.isAssignableFrom(authentication);
+    }
+
+    /**
+     * Descarta a credencial em cache do usuário; chamado quando senha, papel ou cadastro mudam.
+     */
+    public void invalidar(String email) {
+        synchronized (entradas) {
+            entradas.remove(email);
+        }
+    }
+
+    private Entrada buscar(String email) {
+        synchronized (entradas) {
+            Entrada entrada = entradas.get(email);
+            if (entrada != null && !clock.instant().isBefore(entrada.expiraEm())) {
+                entradas.remove(email);
+                return null;
+            }
+            return entrada;
+        }
+    }
+
+    private byte[] resumir(String senha) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            digest.update(sal);
+            return digest.digest(senha.getBytes(StandardCharsets.UTF_8));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private record Entrada(byte[] resumoSenha, Authentication autenticacao, Instant expiraEm) {}
+}
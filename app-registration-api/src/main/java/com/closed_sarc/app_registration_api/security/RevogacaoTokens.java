@@ -0,0 +1,60 @@
+package com.closed_sarc.app_registration_api.security;
+
+import org.springframework.security.oauth2.core.OAuth2Error;
+import org.springframework.security.oauth2.core.OAuth2ErrorCodes;
+import org.springframework.security.oauth2.core.OAuth2TokenValidator;
+import org.springframework.security.oauth2.core.OAuth2TokenValidatorResult;
+import org.springframework.security.oauth2.jwt.Jwt;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Revoga os tokens bearer já emitidos de um usuário quando ele é excluído ou muda senha ou
+ * cadastro: tokens emitidos até o segundo da revogação passam a ser recusados na validação.
+ * Cada revogação só é guardada pelo TTL do token; depois disso os anteriores já expiraram.
+ *
+ * <p>O registro fica em memória, na instância que atendeu a mudança, e se perde ao reiniciar.
+ * Nesses casos o token segue válido até expirar, o que o TTL curto
+ * ({@code security.auth.token-ttl}, 1h por padrão) limita.
+ */
+public class RevogacaoTokens implements OAuth2TokenValidator<Jwt> {
+
+    private static final OAuth2Error REVOGADO =
+            new OAuth2Error(OAuth2ErrorCodes.INVALID_TOKEN, "Token revogado", null);
+
+    private final Duration ttl;
+    private final Clock clock;
+    private final Map<UUID, Instant> revogadosAte = new ConcurrentHashMap<>();
+
+    public RevogacaoTokens(Duration ttl) {
+        this(ttl, Clock.systemUTC());
+    }
+
+    public RevogacaoTokens(Duration ttl, Clock clock) {
+        this.ttl = ttl;
+        this.clock = clock;
+    }
+
+    public void revogar(UUID usuarioId) {
+        Instant agora = clock.instant();
+        revogadosAte.values().removeIf(ate -> ate.plus(ttl).isBefore(agora));
+        // O claim iat tem precisão de segundos
+        revogadosAte.put(usuarioId, agora.truncatedTo(ChronoUnit.SECONDS));
+    }
+
+    @Override
+    public OAuth2TokenValidatorResult validate(Jwt jwt) {
+        String id = jwt.getClaimAsString(TokenService.CLAIM_ID);
+        Instant ate = id == null ? null : revogadosAte.get(UUID.fromString(id));
+        if (ate != null && (jwt.getIssuedAt() == null || !jwt.getIssuedAt().isAfter(ate))) {
+            return OAuth2TokenValidatorResult.failure(REVOGADO);
+        }
+        return OAuth2TokenValidatorResult.success();
+    }
+}
@@ -1,46 +1,125 @@
-package com.closed_sarc.app_registration_api.security;
-
-import org.springframework.context.annotation.Bean;
-import org.springframework.context.annotation.Configuration;
-import org.springframework.security.authentication.AuthenticationManager;
-import org.springframework.security.config.annotation.authentication.configuration.AuthenticationConfiguration;
-import org.springframework.security.config.annotation.method.configuration.EnableMethodSecurity;
-import org.springframework.security.config.annotation.web.builders.HttpSecurity;
-import org.springframework.security.config.annotation.web.configuration.EnableWebSecurity;
-import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
-import org.springframework.security.crypto.password.PasswordEncoder;
-import org.springframework.security.web.SecurityFilterChain;
-
-@Configuration
-@EnableWebSecurity
-@EnableMethodSecurity
-public class SecurityConfig {
-
-    @Bean
-    public PasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder();
-    }
-
-    @Bean
-    public AuthenticationManager authenticationManager(AuthenticationConfiguration authConfig) throws Exception {
-        return authConfig.getAuthenticationManager();
-    }
-
-    @Bean
-    public SecurityFilterChain filterChain(HttpSecurity http) throws Exception {
-        http
-                .csrf(csrf -> csrf.disable())
-                .authorizeHttpRequests(auth -> auth
-                        .requestMatchers("/api/cronograma/**").permitAll() // Permitir acesso público ao cronograma
-                        .requestMatchers("/v3/api-docs/**", "/swagger-ui/**", "/swagger-ui.html").permitAll() // Permitir
-                                                                                                              // acesso
-                                                                                                              // ao
-                                                                                                              // OpenAPI
-                        .anyRequest().authenticated())
-                .httpBasic(basic -> {
-                })
-                .formLogin(form -> form.disable());
-
-        return http.build();
-    }
-}
+package com.closed_sarc.app_registration_api.security;
+
+import java.nio.charset.StandardCharsets;
+
+import javax.crypto.SecretKey;
+import javax.crypto.spec.SecretKeySpec;
+
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.convert.converter.Converter;
+import org.springframework.security.authentication.AbstractAuthenticationToken;
+import org.springframework.security.authentication.AuthenticationManager;
+import org.springframework.security.authentication.dao.DaoAuthenticationProvider;
+import org.springframework.security.config.annotation.authentication.configuration.AuthenticationConfiguration;
+import org.springframework.security.config.annotation.method.configuration.EnableMethodSecurity;
+import org.springframework.security.config.annotation.web.builders.HttpSecurity;
+import org.springframework.security.config.annotation.web.configuration.EnableWebSecurity;
+import org.springframework.security.config.http.SessionCreationPolicy;
+import org.springframework.security.core.userdetails.UserDetailsService;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.security.oauth2.core.DelegatingOAuth2TokenValidator;
+import org.springframework.security.oauth2.jose.jws.MacAlgorithm;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.security.oauth2.jwt.JwtDecoder;
+import org.springframework.security.oauth2.jwt.JwtEncoder;
+import org.springframework.security.oauth2.jwt.JwtValidators;
+import org.springframework.security.oauth2.jwt.NimbusJwtDecoder;
+import org.springframework.security.oauth2.jwt.NimbusJwtEncoder;
+import org.springframework.security.oauth2.server.resource.authentication.JwtGrantedAuthoritiesConverter;
+import org.springframework.security.web.SecurityFilterChain;
+
+import com.nimbusds.jose.jwk.source.ImmutableSecret;
+
+@Configuration
+@EnableWebSecurity
+@EnableMethodSecurity
+@EnableConfigurationProperties(AuthProperties.class)
+public class SecurityConfig {
+
+    @Bean
+    public PasswordEncoder passwordEncoder() {
+        return new BCryptPasswordEncoder();
+    }
+
+    @Bean
+    public AuthenticationManager authenticationManager(AuthenticationConfiguration authConfig) throws Exception {
+        return authConfig.getAuthenticationManager();
+    }
+
+    @Bean
+    public CachingAuthenticationProvider cachingAuthenticationProvider(UserDetailsService userDetailsService,
+            PasswordEncoder passwordEncoder, AuthProperties properties) {
+        DaoAuthenticationProvider dao = new DaoAuthenticationProvider(userDetailsService);
+        dao.setPasswordEncoder(passwordEncoder);
+        int capacidade = properties.basicCacheEnabled() ? properties.basicCacheSize() : 0;
+        return new CachingAuthenticationProvider(dao, capacidade, properties.basicCacheTtl());
+    }
+
+    @Bean
+    public JwtEncoder jwtEncoder(AuthProperties properties) {
+        return new NimbusJwtEncoder(new ImmutableSecret<>(chaveToken(properties)));
+    }
+
+    @Bean
+    public RevogacaoTokens revogacaoTokens(AuthProperties properties) {
+        return new RevogacaoTokens(properties.tokenTtl());
+    }
+
+    // A verificação HMAC do Nimbus compara assinaturas em tempo constante
+    @Bean
+    public JwtDecoder jwtDecoder(AuthProperties properties, RevogacaoTokens revogacaoTokens) {
+        NimbusJwtDecoder decoder = NimbusJwtDecoder.withSecretKey(chaveToken(properties))
+                .macAlgorithm(MacAlgorithm.HS256)
+                .build();
+        decoder.setJwtValidator(new DelegatingOAuth2TokenValidator<>(JwtValidators.createDefault(), revogacaoTokens));
+        return decoder;
+    }
+
+    @Bean
+    public TokenService tokenService(JwtEncoder jwtEncoder, AuthProperties properties) {
+        return new TokenService(jwtEncoder, properties.tokenTtl());
+    }
+
+    private static SecretKey chaveToken(AuthProperties properties) {
+        byte[] segredo = properties.tokenSecret() == null
+                ? new byte[0]
+                : properties.tokenSecret().getBytes(StandardCharsets.UTF_8);
+        if (segredo.length < 32) {
+            throw new IllegalStateException(
+                    "security.auth.token-secret (SECURITY_AUTH_TOKEN_SECRET) deve ser definido com pelo menos 32 bytes");
+        }
+        return new SecretKeySpec(segredo, "HmacSHA256");
+    }
+
+    private static Converter<Jwt, AbstractAuthenticationToken> conversorToken() {
+        JwtGrantedAuthoritiesConverter papeis = new JwtGrantedAuthoritiesConverter();
+        papeis.setAuthoritiesClaimName(TokenService.CLAIM_PAPEIS);
+        papeis.setAuthorityPrefix("");
+        return jwt -> new AutenticacaoToken(jwt, papeis.convert(jwt));
+    }
+
+    @Bean
+    public SecurityFilterChain filterChain(HttpSecurity http) throws Exception {
+        http
+                .csrf(csrf -> csrf.disable())
+                .sessionManagement(session -> session.sessionCreationPolicy(SessionCreationPolicy.STATELESS))
+                .authorizeHttpRequests(auth -> auth
+                        .requestMatchers("/api/auth/login").permitAll()
+                        .requestMatchers("/api/cronograma/**").permitAll() // Permitir acesso público ao cronograma
+                        .requestMatchers("/v3/api-docs/**", "/swagger-ui/**", "/swagger-ui.html").permitAll() // Permitir
+                                                                                                              // acesso
+                                                                                                              // ao
+                                                                                                              // OpenAPI
+                        .anyRequest().authenticated())
+                .httpBasic(basic -> {
+                })
+                .oauth2ResourceServer(oauth2 -> oauth2
+                        .jwt(jwt -> jwt.jwtAuthenticationConverter(conversorToken())))
+                .formLogin(form -> form.disable());
+
+        return http.build();
+    }
+}
@@ -0,0 +1,59 @@
+package com.closed_sarc.app_registration_api.security;
+
+import com.closed_sarc.app_registration_api.domain.entities.Usuario;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.oauth2.jose.jws.MacAlgorithm;
+import org.springframework.security.oauth2.jwt.JwsHeader;
+import org.springframework.security.oauth2.jwt.JwtClaimsSet;
+import org.springframework.security.oauth2.jwt.JwtEncoder;
+import org.springframework.security.oauth2.jwt.JwtEncoderParameters;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+
+/**
+ * Emite tokens bearer HS256 sem estado. O token carrega email, id e papéis do usuário,
+ * de modo que as requisições seguintes são autenticadas só pela assinatura, sem BCrypt
+ * nem consulta ao banco.
+ */
+public class TokenService {
+
+    static final String CLAIM_ID = "uid";
+    static final String CLAIM_PAPEIS = "roles";
+
+    private final JwtEncoder jwtEncoder;
+    private final Duration ttl;
+    private final Clock clock;
+
+    public TokenService(JwtEncoder jwtEncoder, Duration ttl) {
+        this(jwtEncoder, ttl, Clock.systemUTC());
+    }
+
+    public TokenService(JwtEncoder jwtEncoder, Duration ttl, Clock clock) {
+        this.jwtEncoder = jwtEncoder;
+        this.ttl = ttl;
+        this.clock = clock;
+    }
+
+    public TokenEmitido emitir(Usuario usuario) {
+        // JWT guarda datas em segundos; truncar mantém expiraEm igual ao claim exp
+        Instant agora = clock.instant().truncatedTo(ChronoUnit.SECONDS);
+        Instant expiraEm = agora.plus(ttl);
+        JwtClaimsSet claims = JwtClaimsSet.builder()
+                .subject(usuario.getEmail())
+                .issuedAt(agora)
+                .expiresAt(expiraEm)
+                .claim(CLAIM_ID, usuario.getId().toString())
+                .claim(CLAIM_PAPEIS, usuario.getAuthorities().stream()
+                        .map(GrantedAuthority::getAuthority)
+                        .toList())
+                .build();
+        JwsHeader header = JwsHeader.with(MacAlgorithm.HS256).build();
+        String token = jwtEncoder.encode(JwtEncoderParameters.from(header, claims)).getTokenValue();
+        return new TokenEmitido(token, expiraEm);
+    }
+
+    public record TokenEmitido(String token, Instant expiraEm) {}
+}
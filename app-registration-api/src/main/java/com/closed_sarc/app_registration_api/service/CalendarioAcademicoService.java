@@ -0,0 +1,152 @@
+package com.closed_sarc.app_registration_api.service;
+
+import java.time.LocalDate;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Stream;
+
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.closed_sarc.app_registration_api.application.event.CalendarioAlteradoEvent;
+import com.closed_sarc.app_registration_api.config.CalendarioProperties;
+import com.closed_sarc.app_registration_api.domain.entities.CalendarioAcademico;
+import com.closed_sarc.app_registration_api.domain.entities.DiaSemana;
+import com.closed_sarc.app_registration_api.domain.entities.DiasSemanaConverter;
+import com.closed_sarc.app_registration_api.domain.entities.Reposicao;
+import com.closed_sarc.app_registration_api.domain.entities.Semestre;
+import com.closed_sarc.app_registration_api.domain.entities.Turma;
+import com.closed_sarc.app_registration_api.domain.repositories.CalendarioAcademicoRepository;
+import com.closed_sarc.app_registration_api.domain.utils.AnoLetivo;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Cadastro dos calendários acadêmicos e consulta de datas de aula. Cada ano é compilado
+ * em um {@link AnoLetivo} na primeira consulta e mantido em memória até que um calendário
+ * daquele ano seja alterado; as consultas seguintes não acessam o banco.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class CalendarioAcademicoService {
+
+    private final CalendarioAcademicoRepository calendarioAcademicoRepository;
+    private final CalendarioProperties calendarioProperties;
+    private final ApplicationEventPublisher eventPublisher;
+
+    private final Map<Integer, AnoLetivo> anos = new ConcurrentHashMap<>();
+
+    @Transactional
+    public CalendarioAcademico salvar(CalendarioAcademico calendario) {
+        validar(calendario);
+        calendarioAcademicoRepository.findByAnoAndSemestre(calendario.getAno(), calendario.getSemestre())
+                .filter(existente -> !existente.getId().equals(calendario.getId()))
+                .ifPresent(existente -> {
+                    throw new IllegalArgumentException(String.format("Já existe um calendário para o semestre %s/%d",
+                            calendario.getSemestre(), calendario.getAno()));
+                });
+
+        if (calendario.getId() != null) {
+            calendarioAcademicoRepository.findById(calendario.getId())
+                    .filter(anterior -> !anterior.getAno().equals(calendario.getAno()))
+                    .ifPresent(anterior -> eventPublisher.publishEvent(new CalendarioAlteradoEvent(anterior.getAno())));
+        }
+        CalendarioAcademico salvo = calendarioAcademicoRepository.save(calendario);
+        eventPublisher.publishEvent(new CalendarioAlteradoEvent(salvo.getAno()));
+        return salvo;
+    }
+
+    @Transactional(readOnly = true)
+    public CalendarioAcademico findById(UUID id) {
+        return calendarioAcademicoRepository.findById(id)
+                .orElseThrow(() -> new IllegalArgumentException("Calendário acadêmico não encontrado"));
+    }
+
+    @Transactional(readOnly = true)
+    public List<CalendarioAcademico> findByAno(Integer ano) {
+        return calendarioAcademicoRepository.findByAno(ano);
+    }
+
+    @Transactional
+    public void deleteById(UUID id) {
+        CalendarioAcademico calendario = findById(id);
+        calendarioAcademicoRepository.delete(calendario);
+        eventPublisher.publishEvent(new CalendarioAlteradoEvent(calendario.getAno()));
+    }
+
+    public boolean ehDataDeAula(Turma turma, LocalDate data) {
+        return anoLetivo(turma.getAno()).ehDataDeAula(turma.getSemestre(),
+                DiasSemanaConverter.paraMascara(turma.getDiasAula()), data);
+    }
+
+    /** Datas de aula da turma no seu semestre, em ordem, sem feriados e recessos e com as reposições. */
+    public Stream<LocalDate> datasAula(Turma turma) {
+        return anoLetivo(turma.getAno()).datasAula(turma.getSemestre(),
+                DiasSemanaConverter.paraMascara(turma.getDiasAula()));
+    }
+
+    /**
+     * Dia da semana cuja grade cada semestre segue em {@code data}. Semestres em feriado, recesso
+     * ou fora do período letivo ficam de fora; uma turma segue a grade do seu próprio semestre.
+     */
+    public Map<Semestre, DiaSemana> gradesDoDia(LocalDate data) {
+        AnoLetivo anoLetivo = anoLetivo(data.getYear());
+        Map<Semestre, DiaSemana> grades = new EnumMap<>(Semestre.class);
+        for (Semestre semestre : Semestre.values()) {
+            anoLetivo.gradeDoDia(semestre, data).ifPresent(grade -> grades.put(semestre, grade));
+        }
+        return grades;
+    }
+
+    AnoLetivo anoLetivo(int ano) {
+        return anos.computeIfAbsent(ano, this::compilar);
+    }
+
+    private AnoLetivo compilar(int ano) {
+        List<CalendarioAcademico> calendarios = calendarioAcademicoRepository.findByAno(ano);
+        log.debug("Compilando calendário letivo de {} ({} semestre(s) cadastrado(s))", ano, calendarios.size());
+        return AnoLetivo.compilar(ano, calendarios, calendarioProperties.feriados(),
+                calendarioProperties.recessos().stream()
+                        .map(recesso -> new AnoLetivo.Periodo(recesso.inicio(), recesso.fim()))
+                        .toList());
+    }
+
+    // Descartado só após o commit, para não recompilar o ano com dados ainda não confirmados,
+    // e antes dos demais ouvintes (cronograma), que já consultam o ano recompilado
+    @TransactionalEventListener(fallbackExecution = true)
+    @Order(Ordered.HIGHEST_PRECEDENCE)
+    public void onCalendarioAlterado(CalendarioAlteradoEvent event) {
+        anos.remove(event.ano());
+    }
+
+    private void validar(CalendarioAcademico calendario) {
+        if (calendario.getAno() == null || calendario.getSemestre() == null
+                || calendario.getDataInicio() == null || calendario.getDataFim() == null) {
+            throw new IllegalArgumentException("Ano, semestre, data de início e data de fim são obrigatórios");
+        }
+        if (calendario.getDataFim().isBefore(calendario.getDataInicio())) {
+            throw new IllegalArgumentException("A data de fim deve ser igual ou posterior à data de início");
+        }
+        int ano = calendario.getAno();
+        boolean foraDoAno = Stream.concat(
+                        Stream.of(calendario.getDataInicio(), calendario.getDataFim()),
+                        Stream.concat(calendario.getFeriados().stream(),
+                                calendario.getReposicoes().stream().map(Reposicao::getData)))
+                .anyMatch(data -> data == null || data.getYear() != ano);
+        if (foraDoAno) {
+            throw new IllegalArgumentException(String.format("Todas as datas do calendário devem estar em %d", ano));
+        }
+        if (calendario.getReposicoes().stream().anyMatch(reposicao -> reposicao.getDiaSemana() == null)) {
+            throw new IllegalArgumentException("Informe o dia da semana seguido em cada reposição");
+        }
+    }
+}
@@ -0,0 +1,158 @@
+package com.closed_sarc.app_registration_api.service;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CompletionService;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.core.env.Environment;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.stereotype.Component;
+
+import com.closed_sarc.app_registration_api.config.CronogramaProperties;
+import com.closed_sarc.app_registration_api.infrastructure.client.dto.ReservaResponseDTO;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Busca as reservas de muitas turmas dividindo-as em lotes de {@code tamanhoLote} e consultando
+ * até {@code paralelismo} lotes ao mesmo tempo, de modo que o tempo total acompanhe a chamada mais
+ * lenta e não a soma delas. Cada chamada tem {@code timeoutChamada} e a busca inteira tem
+ * {@code prazo}; o lote que não responde a tempo é abandonado e as suas turmas ficam com as
+ * reservas já conhecidas, como quando a reservation-api está indisponível.
+ */
+@Component
+@Slf4j
+public class ConsultaReservasEmLotes {
+
+    private final ReservationService reservationService;
+    private final CronogramaProperties properties;
+    private final SimpleAsyncTaskExecutor executor;
+
+    public ConsultaReservasEmLotes(ReservationService reservationService, CronogramaProperties properties,
+            Environment environment) {
+        this.reservationService = reservationService;
+        this.properties = properties;
+
+        // Uma thread por lote: virtual no perfil "virtual" (Java 21+), de plataforma no restante.
+        // A montagem do cronograma é rara (snapshot), então não há pool a manter aquecido
+        this.executor = new SimpleAsyncTaskExecutor("cronograma-reservas-");
+        this.executor.setVirtualThreads(Threading.VIRTUAL.isActive(environment));
+        this.executor.setDaemon(true);
+    }
+
+    @PreDestroy
+    public void encerrar() {
+        executor.close();
+    }
+
+    /**
+     * Reservas agrupadas por turmaId. Nunca falha: lotes com erro, fora do timeout ou do prazo
+     * entram com as reservas conhecidas de cada turma (ou sem reservas, se nunca consultadas).
+     */
+    public Map<UUID, List<ReservaResponseDTO>> buscar(Map<UUID, Instant> dataUsoPorTurma) {
+        if (dataUsoPorTurma.isEmpty()) {
+            return Map.of();
+        }
+
+        long prazo = System.nanoTime() + properties.prazo().toNanos();
+        Iterator<Map<UUID, Instant>> proximos = dividir(dataUsoPorTurma).iterator();
+        CompletionService<Map<UUID, List<ReservaResponseDTO>>> conclusoes = new ExecutorCompletionService<>(executor);
+        Map<Future<Map<UUID, List<ReservaResponseDTO>>>, Lote> emAndamento = new HashMap<>();
+        Map<UUID, List<ReservaResponseDTO>> reservas = new HashMap<>(dataUsoPorTurma.size());
+        List<Map<UUID, Instant>> semResposta = new ArrayList<>();
+
+        try {
+            while (true) {
+                while (emAndamento.size() < properties.paralelismo() && proximos.hasNext()) {
+                    Map<UUID, Instant> lote = proximos.next();
+                    emAndamento.put(conclusoes.submit(() -> reservationService.getReservationsByTurmasAndDatas(lote)),
+                            new Lote(lote, System.nanoTime() + properties.timeoutChamada().toNanos()));
+                }
+                if (emAndamento.isEmpty()) {
+                    break;
+                }
+
+                long agora = System.nanoTime();
+                if (agora - prazo >= 0) {
+                    break;
+                }
+                long limite = prazo;
+                boolean expirou = false;
+                for (Iterator<Map.Entry<Future<Map<UUID, List<ReservaResponseDTO>>>, Lote>> it =
+                        emAndamento.entrySet().iterator(); it.hasNext();) {
+                    Map.Entry<Future<Map<UUID, List<ReservaResponseDTO>>>, Lote> entrada = it.next();
+                    if (agora - entrada.getValue().expiraEm() >= 0) {
+                        entrada.getKey().cancel(true);
+                        semResposta.add(entrada.getValue().turmas());
+                        it.remove();
+                        expirou = true;
+                    } else if (entrada.getValue().expiraEm() - limite < 0) {
+                        limite = entrada.getValue().expiraEm();
+                    }
+                }
+                if (expirou) {
+                    continue;
+                }
+
+                Future<Map<UUID, List<ReservaResponseDTO>>> concluida = conclusoes.poll(limite - agora, TimeUnit.NANOSECONDS);
+                // Lotes cancelados por timeout também chegam à fila de conclusões; já foram tratados
+                Lote lote = concluida == null ? null : emAndamento.remove(concluida);
+                if (lote == null) {
+                    continue;
+                }
+                try {
+                    reservas.putAll(concluida.get());
+                } catch (ExecutionException e) {
+                    log.warn("Erro ao buscar lote de {} turmas: {}", lote.turmas().size(), e.getCause().getMessage());
+                    semResposta.add(lote.turmas());
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+
+        // Prazo esgotado (ou interrupção): abandona o que está em andamento e o que nem começou
+        emAndamento.forEach((futuro, lote) -> {
+            futuro.cancel(true);
+            semResposta.add(lote.turmas());
+        });
+        proximos.forEachRemaining(semResposta::add);
+
+        if (!semResposta.isEmpty()) {
+            log.warn("{} de {} turmas sem resposta da reservation-api a tempo; usando reservas conhecidas",
+                    semResposta.stream().mapToInt(Map::size).sum(), dataUsoPorTurma.size());
+            semResposta.forEach(lote -> reservas.putAll(reservationService.getKnownReservationsByTurmasAndDatas(lote)));
+        }
+        return reservas;
+    }
+
+    private List<Map<UUID, Instant>> dividir(Map<UUID, Instant> dataUsoPorTurma) {
+        List<Map<UUID, Instant>> lotes = new ArrayList<>();
+        Map<UUID, Instant> lote = new LinkedHashMap<>();
+        for (Map.Entry<UUID, Instant> entrada : dataUsoPorTurma.entrySet()) {
+            lote.put(entrada.getKey(), entrada.getValue());
+            if (lote.size() == properties.tamanhoLote()) {
+                lotes.add(lote);
+                lote = new LinkedHashMap<>();
+            }
+        }
+        if (!lote.isEmpty()) {
+            lotes.add(lote);
+        }
+        return lotes;
+    }
+
+    private record Lote(Map<UUID, Instant> turmas, long expiraEm) {}
+}
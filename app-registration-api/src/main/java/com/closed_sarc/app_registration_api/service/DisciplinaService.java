@@ -2,18 +2,24 @@ package com.closed_sarc.app_registration_api.service;
 
 import com.closed_sarc.app_registration_api.domain.entities.Disciplina;
 import com.closed_sarc.app_registration_api.domain.repositories.DisciplinaRepository;
+import jakarta.persistence.EntityManager;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
 import java.util.UUID;
+import java.util.function.Consumer;
 
 @Service
 @RequiredArgsConstructor
 @Transactional
 public class DisciplinaService {
     private final DisciplinaRepository disciplinaRepository;
+    private final EntityManager entityManager;
 
     public Disciplina create(Disciplina disciplina) {
         // Verificar se já existe uma disciplina com o mesmo nome
@@ -35,6 +41,21 @@ public class DisciplinaService {
         return disciplinaRepository.findAll();
     }
 
+    @Transactional(readOnly = true)
+    public Page<Disciplina> findAll(Pageable pageable) {
+        return disciplinaRepository.findAll(pageable);
+    }
+
+    @Transactional(readOnly = true)
+    public List<Disciplina> findApos(UUID apos, int limite) {
+        return disciplinaRepository.findByIdGreaterThanOrderByIdAsc(LeituraEmCursor.inicio(apos), Limit.of(limite));
+    }
+
+    @Transactional(readOnly = true)
+    public void percorrerTodos(Consumer<Disciplina> consumidor) {
+        LeituraEmCursor.percorrer(disciplinaRepository.streamAll(), entityManager, consumidor);
+    }
+
     @Transactional(readOnly = true)
     public List<Disciplina> findByNomeContaining(String nome) {
         return disciplinaRepository.findByNomeContainingIgnoreCase(nome);
@@ -1,15 +1,29 @@
 package com.closed_sarc.app_registration_api.service;
 
+import java.time.Instant;
 import java.util.List;
 import java.util.UUID;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Consumer;
 
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
+import com.closed_sarc.app_registration_api.application.dto.EventoDTO;
+import com.closed_sarc.app_registration_api.application.event.EventoAlteradoEvent;
 import com.closed_sarc.app_registration_api.domain.entities.Evento;
 import com.closed_sarc.app_registration_api.domain.entities.Usuario;
 import com.closed_sarc.app_registration_api.domain.repositories.EventoRepository;
 import com.closed_sarc.app_registration_api.domain.repositories.UsuarioRepository;
+import com.closed_sarc.app_registration_api.domain.utils.ArvoreIntervalos;
 
+import jakarta.persistence.EntityManager;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
@@ -20,6 +34,29 @@ public class EventoService {
     
     private final EventoRepository eventoRepository;
     private final UsuarioRepository usuarioRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final EntityManager entityManager;
+
+    // Agenda em memória para consultas por período; gravações e carga são serializadas
+    // em gravacaoAgenda para que banco e árvore não divirjam. É um ReentrantLock, e não um
+    // monitor, porque o trecho protegido faz JDBC: synchronized prenderia a thread virtual
+    // à thread portadora durante a espera pelo banco
+    private final ArvoreIntervalos<EventoDTO> agenda = new ArvoreIntervalos<>();
+    private final ReentrantLock gravacaoAgenda = new ReentrantLock();
+    private volatile boolean agendaCarregada;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void carregarAgenda() {
+        gravacaoAgenda.lock();
+        try {
+            agenda.limpar();
+            eventoRepository.findAll().forEach(this::indexar);
+            agendaCarregada = true;
+        } finally {
+            gravacaoAgenda.unlock();
+        }
+        log.info("Agenda de eventos carregada com {} eventos", agenda.tamanho());
+    }
 
     public Evento create(Evento evento) {
         try {
@@ -32,7 +69,15 @@ public class EventoService {
                 evento.setUsuario(usuario);
             }
             
-            Evento saved = eventoRepository.save(evento);
+            Evento saved;
+            gravacaoAgenda.lock();
+            try {
+                saved = eventoRepository.save(evento);
+                indexar(saved);
+            } finally {
+                gravacaoAgenda.unlock();
+            }
+            eventPublisher.publishEvent(new EventoAlteradoEvent(saved.getId()));
             return saved;
         } catch (Exception e) {
             throw new RuntimeException("Erro ao criar evento: " + e.getMessage());
@@ -47,6 +92,19 @@ public class EventoService {
         }
     }
 
+    public Page<Evento> findAll(Pageable pageable) {
+        return eventoRepository.findAll(pageable);
+    }
+
+    public List<Evento> findApos(UUID apos, int limite) {
+        return eventoRepository.findByIdGreaterThanOrderByIdAsc(LeituraEmCursor.inicio(apos), Limit.of(limite));
+    }
+
+    @Transactional(readOnly = true)
+    public void percorrerTodos(Consumer<Evento> consumidor) {
+        LeituraEmCursor.percorrer(eventoRepository.streamAll(), entityManager, consumidor);
+    }
+
     public Evento findById(UUID id) {
         try {
             return eventoRepository.findById(id)
@@ -61,12 +119,34 @@ public class EventoService {
             if (!eventoRepository.existsById(id)) {
                 throw new RuntimeException("Evento não encontrado");
             }
-            eventoRepository.deleteById(id);
+            gravacaoAgenda.lock();
+            try {
+                eventoRepository.deleteById(id);
+                agenda.remover(id);
+            } finally {
+                gravacaoAgenda.unlock();
+            }
+            eventPublisher.publishEvent(new EventoAlteradoEvent(id));
         } catch (Exception e) {
             throw new RuntimeException("Erro ao excluir evento: " + e.getMessage());
         }
     }
     
+    /**
+     * Eventos que se sobrepõem ao período [de, ate), ordenados pelo início.
+     */
+    public List<EventoDTO> findByPeriodo(Instant de, Instant ate) {
+        if (de == null || ate == null || !de.isBefore(ate)) {
+            throw new IllegalArgumentException("Período inválido: 'de' deve ser anterior a 'ate'");
+        }
+        if (!agendaCarregada) {
+            return eventoRepository.findByPeriodo(de, ate).stream()
+                    .map(this::toDTO)
+                    .toList();
+        }
+        return agenda.buscar(de, ate);
+    }
+
     public List<Evento> findByUsuarioId(UUID usuarioId) {
         try {
             return eventoRepository.findByUsuarioId(usuarioId);
@@ -74,4 +154,23 @@ public class EventoService {
             throw new RuntimeException("Erro ao buscar eventos por usuário");
         }
     }
+
+    private void indexar(Evento evento) {
+        // Eventos sem data de início não aparecem em consultas por período
+        if (evento.getDataInicio() == null) {
+            agenda.remover(evento.getId());
+            return;
+        }
+        agenda.inserir(evento.getId(), evento.getDataInicio(), evento.getDataFim(), toDTO(evento));
+    }
+
+    private EventoDTO toDTO(Evento evento) {
+        return EventoDTO.builder()
+                .id(evento.getId())
+                .titulo(evento.getTitulo())
+                .descricao(evento.getDescricao())
+                .dataInicio(evento.getDataInicio())
+                .dataFim(evento.getDataFim())
+                .build();
+    }
 }
\ No newline at end of file
@@ -0,0 +1,89 @@
+package com.closed_sarc.app_registration_api.service;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import org.springframework.http.MediaType;
+
+import com.fasterxml.jackson.databind.MappingIterator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.csv.CsvMapper;
+import com.fasterxml.jackson.dataformat.csv.CsvParser;
+import com.fasterxml.jackson.dataformat.csv.CsvSchema;
+
+/**
+ * Formatos aceitos pela importação em lote. Os dois são lidos registro a registro, sem
+ * carregar o arquivo inteiro, e entregam cada registro como campo → valor em texto.
+ */
+public enum FormatoImportacao {
+
+    /** CSV com cabeçalho; listas (diasAula) separadas por "|". */
+    CSV(new MediaType("text", "csv")) {
+        private static final CsvMapper CSV_MAPPER = CsvMapper.builder()
+                .enable(CsvParser.Feature.TRIM_SPACES)
+                .build();
+
+        @Override
+        Iterator<Map<String, String>> ler(InputStream entrada, ObjectMapper objectMapper) throws IOException {
+            return CSV_MAPPER.readerForMapOf(String.class)
+                    .with(CsvSchema.emptySchema().withHeader())
+                    .readValues(entrada);
+        }
+    },
+
+    /** Um objeto JSON por linha; listas podem vir como array JSON. */
+    NDJSON(MediaType.APPLICATION_NDJSON) {
+        @Override
+        Iterator<Map<String, String>> ler(InputStream entrada, ObjectMapper objectMapper) throws IOException {
+            MappingIterator<Map<String, Object>> objetos = objectMapper.readerForMapOf(Object.class).readValues(entrada);
+            return new Iterator<>() {
+                @Override
+                public boolean hasNext() {
+                    return objetos.hasNext();
+                }
+
+                @Override
+                public Map<String, String> next() {
+                    Map<String, String> campos = new LinkedHashMap<>();
+                    objetos.next().forEach((campo, valor) -> campos.put(campo, emTexto(valor)));
+                    return campos;
+                }
+            };
+        }
+
+        private static String emTexto(Object valor) {
+            if (valor instanceof List<?> lista) {
+                return lista.stream().map(String::valueOf).collect(Collectors.joining("|"));
+            }
+            return valor == null ? null : valor.toString();
+        }
+    };
+
+    public static final String TEXT_CSV_VALUE = "text/csv";
+
+    private final MediaType tipo;
+
+    FormatoImportacao(MediaType tipo) {
+        this.tipo = tipo;
+    }
+
+    public static FormatoImportacao de(MediaType contentType) {
+        for (FormatoImportacao formato : values()) {
+            if (formato.tipo.isCompatibleWith(contentType)) {
+                return formato;
+            }
+        }
+        throw new IllegalArgumentException("Formato não suportado: " + contentType);
+    }
+
+    /**
+     * Erros de sintaxe aparecem como {@link RuntimeException} (do Jackson) no
+     * {@code hasNext}/{@code next} do registro com problema.
+     */
+    abstract Iterator<Map<String, String>> ler(InputStream entrada, ObjectMapper objectMapper) throws IOException;
+}
@@ -0,0 +1,387 @@
+package com.closed_sarc.app_registration_api.service;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.core.NestedExceptionUtils;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.closed_sarc.app_registration_api.application.dto.ResultadoImportacaoDTO;
+import com.closed_sarc.app_registration_api.application.dto.ResultadoImportacaoDTO.ErroLinhaDTO;
+import com.closed_sarc.app_registration_api.application.event.TurmasImportadasEvent;
+import com.closed_sarc.app_registration_api.config.ImportacaoProperties;
+import com.closed_sarc.app_registration_api.domain.entities.DiaSemana;
+import com.closed_sarc.app_registration_api.domain.entities.DiasSemanaConverter;
+import com.closed_sarc.app_registration_api.domain.entities.Horario;
+import com.closed_sarc.app_registration_api.domain.entities.Semestre;
+import com.closed_sarc.app_registration_api.domain.entities.TipoUsuario;
+import com.closed_sarc.app_registration_api.domain.repositories.DisciplinaRepository;
+import com.closed_sarc.app_registration_api.domain.repositories.UsuarioRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Importação em lote de usuários, disciplinas e turmas a partir de CSV ou NDJSON.
+ *
+ * <p>O arquivo é lido registro a registro. Cada registro é validado em memória contra
+ * conjuntos carregados uma vez no início (emails, nomes de disciplina, ids de professores
+ * e disciplinas), e os válidos são gravados em lotes de {@code importacao.tamanho-lote}
+ * com batch JDBC, uma transação por lote. Um lote que falha no banco é descartado e suas
+ * linhas aparecem como erro; os demais seguem.
+ */
+@Service
+@Slf4j
+public class ImportacaoService {
+
+    private static final String INSERIR_USUARIO =
+            "INSERT INTO usuario (id, nome, email, senha, tipo, data_criacao) VALUES (?, ?, ?, ?, ?, ?)";
+    private static final String INSERIR_DISCIPLINA =
+            "INSERT INTO disciplina (id, nome, descricao, carga_horaria) VALUES (?, ?, ?, ?)";
+    private static final String INSERIR_TURMA =
+            "INSERT INTO turma (id, nome, semestre, ano, horario, dias_aula, professor_id, disciplina_id) "
+                    + "VALUES (?, ?, ?, ?, ?, ?, ?, ?)";
+
+    private record NovoUsuario(UUID id, String nome, String email, String senha, TipoUsuario tipo) {}
+
+    private record NovaDisciplina(UUID id, String nome, String descricao, Integer cargaHoraria) {}
+
+    private record NovaTurma(UUID id, String nome, Semestre semestre, int ano, Horario horario, short diasAula,
+            UUID professorId, UUID disciplinaId) {}
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final UsuarioRepository usuarioRepository;
+    private final DisciplinaRepository disciplinaRepository;
+    private final PasswordEncoder passwordEncoder;
+    private final ApplicationEventPublisher eventPublisher;
+    private final ObjectMapper objectMapper;
+    private final ImportacaoProperties properties;
+    private final ExecutorService hashExecutor;
+
+    public ImportacaoService(JdbcTemplate jdbcTemplate, PlatformTransactionManager transactionManager,
+            UsuarioRepository usuarioRepository, DisciplinaRepository disciplinaRepository,
+            PasswordEncoder passwordEncoder, ApplicationEventPublisher eventPublisher, ObjectMapper objectMapper,
+            ImportacaoProperties properties) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.usuarioRepository = usuarioRepository;
+        this.disciplinaRepository = disciplinaRepository;
+        this.passwordEncoder = passwordEncoder;
+        this.eventPublisher = eventPublisher;
+        this.objectMapper = objectMapper;
+        this.properties = properties;
+
+        // BCrypt domina o custo de importar usuários; a fila comporta um lote e, se encher,
+        // quem submete calcula o hash, então a memória fica limitada mesmo com importações simultâneas
+        int threads = properties.threadsHash() > 0 ? properties.threadsHash() : Runtime.getRuntime().availableProcessors();
+        this.hashExecutor = new ThreadPoolExecutor(threads, threads, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(properties.tamanhoLote()), new CustomizableThreadFactory("importacao-hash-"),
+                new ThreadPoolExecutor.CallerRunsPolicy());
+    }
+
+    @PreDestroy
+    public void encerrar() {
+        hashExecutor.shutdownNow();
+    }
+
+    /** Campos: nome, email, senha (em texto; é gravado o hash) e tipo. */
+    public ResultadoImportacaoDTO importarUsuarios(InputStream entrada, FormatoImportacao formato) throws IOException {
+        Set<String> emails = new HashSet<>(usuarioRepository.findAllEmails());
+
+        return importar("usuários", entrada, formato, campos -> {
+            NovoUsuario usuario = new NovoUsuario(UUID.randomUUID(), obrigatorio(campos, "nome"),
+                    obrigatorio(campos, "email"), obrigatorio(campos, "senha"),
+                    enumerado(campos, "tipo", TipoUsuario.class));
+            if (!emails.add(usuario.email())) {
+                throw new IllegalArgumentException("Email já cadastrado");
+            }
+            return usuario;
+        }, this::gravarUsuarios);
+    }
+
+    /** Campos: nome, descricao (opcional) e cargaHoraria (opcional). */
+    public ResultadoImportacaoDTO importarDisciplinas(InputStream entrada, FormatoImportacao formato) throws IOException {
+        Set<String> nomes = new HashSet<>(disciplinaRepository.findAllNomesMinusculos());
+
+        return importar("disciplinas", entrada, formato, campos -> {
+            NovaDisciplina disciplina = new NovaDisciplina(UUID.randomUUID(), obrigatorio(campos, "nome"),
+                    opcional(campos, "descricao"), inteiro(campos, "cargaHoraria", false));
+            if (!nomes.add(disciplina.nome().toLowerCase(Locale.ROOT))) {
+                throw new IllegalArgumentException("Já existe uma disciplina com este nome");
+            }
+            return disciplina;
+        }, this::gravarDisciplinas);
+    }
+
+    /**
+     * Campos: nome, semestre, ano, horario, diasAula (ex.: "SEGUNDA|QUARTA"), professorId e
+     * disciplinaId. Professor e disciplina são validados contra os ids carregados no início.
+     */
+    public ResultadoImportacaoDTO importarTurmas(InputStream entrada, FormatoImportacao formato) throws IOException {
+        Set<UUID> professores = usuarioRepository.findIdsByTipo(TipoUsuario.PROFESSOR);
+        Set<UUID> disciplinas = disciplinaRepository.findAllIds();
+
+        ResultadoImportacaoDTO resultado = importar("turmas", entrada, formato, campos -> {
+            NovaTurma turma = new NovaTurma(UUID.randomUUID(), obrigatorio(campos, "nome"),
+                    enumerado(campos, "semestre", Semestre.class), inteiro(campos, "ano", true),
+                    enumerado(campos, "horario", Horario.class), diasAula(campos),
+                    uuid(campos, "professorId"), uuid(campos, "disciplinaId"));
+            if (!professores.contains(turma.professorId())) {
+                throw new IllegalArgumentException("Professor não encontrado");
+            }
+            if (!disciplinas.contains(turma.disciplinaId())) {
+                throw new IllegalArgumentException("Disciplina não encontrada");
+            }
+            return turma;
+        }, this::gravarTurmas);
+
+        if (resultado.getImportadas() > 0) {
+            eventPublisher.publishEvent(new TurmasImportadasEvent(resultado.getImportadas()));
+        }
+        return resultado;
+    }
+
+    private <T> ResultadoImportacaoDTO importar(String tipo, InputStream entrada, FormatoImportacao formato,
+            Function<Map<String, String>, T> validar, Consumer<List<T>> gravar) throws IOException {
+        long inicio = System.nanoTime();
+        Contagem contagem = new Contagem(properties.maximoErros());
+        List<T> lote = new ArrayList<>(properties.tamanhoLote());
+        List<Integer> linhasDoLote = new ArrayList<>(properties.tamanhoLote());
+
+        Iterator<Map<String, String>> registros = formato.ler(entrada, objectMapper);
+        int linha = 0;
+        while (true) {
+            Map<String, String> campos;
+            try {
+                if (!registros.hasNext()) {
+                    break;
+                }
+                campos = registros.next();
+            } catch (RuntimeException e) {
+                // Após um erro de sintaxe não há como achar com segurança o início do próximo registro
+                contagem.rejeitar(++linha, "Registro malformado, importação interrompida: " + mensagem(e));
+                break;
+            }
+            linha++;
+
+            try {
+                lote.add(validar.apply(campos));
+                linhasDoLote.add(linha);
+            } catch (IllegalArgumentException e) {
+                contagem.rejeitar(linha, e.getMessage());
+            }
+            if (lote.size() == properties.tamanhoLote()) {
+                gravarLote(lote, linhasDoLote, gravar, contagem);
+            }
+        }
+        gravarLote(lote, linhasDoLote, gravar, contagem);
+
+        long duracaoMs = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - inicio);
+        double linhasPorSegundo = Math.round(linha * 10_000.0 / Math.max(duracaoMs, 1)) / 10.0;
+        log.info("Importação de {}: {} registros lidos, {} gravados, {} rejeitados em {} ms ({} registros/s)",
+                tipo, linha, contagem.importadas, contagem.rejeitadas, duracaoMs, linhasPorSegundo);
+
+        return ResultadoImportacaoDTO.builder()
+                .linhasLidas(linha)
+                .importadas(contagem.importadas)
+                .rejeitadas(contagem.rejeitadas)
+                .duracaoMs(duracaoMs)
+                .linhasPorSegundo(linhasPorSegundo)
+                .erros(contagem.erros)
+                .build();
+    }
+
+    private static <T> void gravarLote(List<T> lote, List<Integer> linhas, Consumer<List<T>> gravar,
+            Contagem contagem) {
+        if (lote.isEmpty()) {
+            return;
+        }
+        try {
+            gravar.accept(lote);
+            contagem.importadas += lote.size();
+        } catch (DataAccessException e) {
+            String mensagem = "Falha ao gravar o lote: " + mensagem(e);
+            linhas.forEach(linha -> contagem.rejeitar(linha, mensagem));
+        }
+        lote.clear();
+        linhas.clear();
+    }
+
+    private void gravarUsuarios(List<NovoUsuario> lote) {
+        List<String> hashes = gerarHashes(lote);
+        OffsetDateTime agora = OffsetDateTime.ofInstant(Instant.now(), ZoneOffset.UTC);
+
+        transactionTemplate.executeWithoutResult(status -> jdbcTemplate.batchUpdate(INSERIR_USUARIO,
+                new BatchPreparedStatementSetter() {
+                    @Override
+                    public void setValues(PreparedStatement ps, int i) throws SQLException {
+                        NovoUsuario usuario = lote.get(i);
+                        ps.setObject(1, usuario.id());
+                        ps.setString(2, usuario.nome());
+                        ps.setString(3, usuario.email());
+                        ps.setString(4, hashes.get(i));
+                        ps.setString(5, usuario.tipo().name());
+                        ps.setObject(6, agora);
+                    }
+
+                    @Override
+                    public int getBatchSize() {
+                        return lote.size();
+                    }
+                }));
+    }
+
+    private void gravarDisciplinas(List<NovaDisciplina> lote) {
+        transactionTemplate.executeWithoutResult(status -> jdbcTemplate.batchUpdate(INSERIR_DISCIPLINA, lote,
+                lote.size(), (ps, disciplina) -> {
+                    ps.setObject(1, disciplina.id());
+                    ps.setString(2, disciplina.nome());
+                    ps.setString(3, disciplina.descricao());
+                    ps.setObject(4, disciplina.cargaHoraria());
+                }));
+    }
+
+    private void gravarTurmas(List<NovaTurma> lote) {
+        transactionTemplate.executeWithoutResult(status -> jdbcTemplate.batchUpdate(INSERIR_TURMA, lote, lote.size(),
+                (ps, turma) -> {
+                    ps.setObject(1, turma.id());
+                    ps.setString(2, turma.nome());
+                    ps.setString(3, turma.semestre().name());
+                    ps.setInt(4, turma.ano());
+                    ps.setString(5, turma.horario().name());
+                    ps.setShort(6, turma.diasAula());
+                    ps.setObject(7, turma.professorId());
+                    ps.setObject(8, turma.disciplinaId());
+                }));
+    }
+
+    private List<String> gerarHashes(List<NovoUsuario> lote) {
+        List<Callable<String>> tarefas = lote.stream()
+                .map(usuario -> (Callable<String>) () -> passwordEncoder.encode(usuario.senha()))
+                .toList();
+        try {
+            List<String> hashes = new ArrayList<>(lote.size());
+            for (Future<String> hash : hashExecutor.invokeAll(tarefas)) {
+                hashes.add(hash.get());
+            }
+            return hashes;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Importação interrompida", e);
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("Erro ao gerar hash de senha", e.getCause());
+        }
+    }
+
+    private static String obrigatorio(Map<String, String> campos, String campo) {
+        String valor = opcional(campos, campo);
+        if (valor == null) {
+            throw new IllegalArgumentException("Campo obrigatório: " + campo);
+        }
+        return valor;
+    }
+
+    private static String opcional(Map<String, String> campos, String campo) {
+        String valor = campos.get(campo);
+        return valor == null || valor.isBlank() ? null : valor.trim();
+    }
+
+    private static <E extends Enum<E>> E enumerado(Map<String, String> campos, String campo, Class<E> tipo) {
+        return enumerado(obrigatorio(campos, campo), campo, tipo);
+    }
+
+    private static <E extends Enum<E>> E enumerado(String valor, String campo, Class<E> tipo) {
+        try {
+            return Enum.valueOf(tipo, valor.toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Valor inválido para " + campo + ": " + valor);
+        }
+    }
+
+    private static Integer inteiro(Map<String, String> campos, String campo, boolean obrigatorio) {
+        String valor = obrigatorio ? obrigatorio(campos, campo) : opcional(campos, campo);
+        if (valor == null) {
+            return null;
+        }
+        try {
+            return Integer.valueOf(valor);
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Valor inválido para " + campo + ": " + valor);
+        }
+    }
+
+    private static UUID uuid(Map<String, String> campos, String campo) {
+        String valor = obrigatorio(campos, campo);
+        try {
+            return UUID.fromString(valor);
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Valor inválido para " + campo + ": " + valor);
+        }
+    }
+
+    private static short diasAula(Map<String, String> campos) {
+        Set<DiaSemana> dias = EnumSet.noneOf(DiaSemana.class);
+        for (String dia : obrigatorio(campos, "diasAula").split("\\|")) {
+            if (!dia.isBlank()) {
+                dias.add(enumerado(dia.trim(), "diasAula", DiaSemana.class));
+            }
+        }
+        return DiasSemanaConverter.paraMascara(dias);
+    }
+
+    private static String mensagem(Exception e) {
+        String mensagem = NestedExceptionUtils.getMostSpecificCause(e).getMessage();
+        return mensagem == null ? e.getClass().getSimpleName() : mensagem.lines().findFirst().orElse(mensagem);
+    }
+
+    private static final class Contagem {
+        private final int maximoErros;
+        private final List<ErroLinhaDTO> erros = new ArrayList<>();
+        private int importadas;
+        private int rejeitadas;
+
+        private Contagem(int maximoErros) {
+            this.maximoErros = maximoErros;
+        }
+
+        private void rejeitar(int linha, String mensagem) {
+            rejeitadas++;
+            if (erros.size() < maximoErros) {
+                erros.add(new ErroLinhaDTO(linha, mensagem));
+            }
+        }
+    }
+}
@@ -0,0 +1,44 @@
+package com.closed_sarc.app_registration_api.service;
+
+import java.util.Iterator;
+import java.util.UUID;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+
+import jakarta.persistence.EntityManager;
+
+/**
+ * Apoio às listagens sem lista completa em memória: paginação por cursor (ids em ordem
+ * crescente) e leitura de uma consulta em {@link Stream} (cursor JDBC com fetch size).
+ */
+final class LeituraEmCursor {
+
+    static final int TAMANHO_LOTE = 500;
+
+    // Menor UUID na ordem do banco (PostgreSQL e H2 comparam sem sinal): primeira página
+    private static final UUID ANTES_DO_PRIMEIRO = new UUID(0L, 0L);
+
+    private LeituraEmCursor() {
+    }
+
+    static UUID inicio(UUID apos) {
+        return apos == null ? ANTES_DO_PRIMEIRO : apos;
+    }
+
+    /**
+     * Entrega cada linha ao consumidor, limpando o contexto de persistência a cada lote
+     * para que a memória usada não cresça com o tamanho da tabela.
+     */
+    static <T> void percorrer(Stream<T> linhas, EntityManager entityManager, Consumer<? super T> consumidor) {
+        try (linhas) {
+            Iterator<T> iterator = linhas.iterator();
+            int lidas = 0;
+            while (iterator.hasNext()) {
+                consumidor.accept(iterator.next());
+                if (++lidas % TAMANHO_LOTE == 0) {
+                    entityManager.clear();
+                }
+            }
+        }
+    }
+}
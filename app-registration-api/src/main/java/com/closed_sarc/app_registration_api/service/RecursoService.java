@@ -2,46 +2,33 @@ package com.closed_sarc.app_registration_api.service;
 
 import com.closed_sarc.app_registration_api.application.dto.RecursoDTO;
 import com.closed_sarc.app_registration_api.application.dto.RecursoRequestDTO;
+import com.closed_sarc.app_registration_api.infrastructure.client.RecursoCache;
+import com.closed_sarc.app_registration_api.infrastructure.client.ReservationApiClient;
+import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.beans.factory.annotation.Value;
-import org.springframework.http.HttpEntity;
-import org.springframework.http.HttpHeaders;
-import org.springframework.http.HttpMethod;
-import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Service;
-import org.springframework.web.client.RestTemplate;
+import org.springframework.web.client.HttpClientErrorException;
 
-import java.util.Arrays;
 import java.util.List;
 import java.util.UUID;
 
 @Service
+@RequiredArgsConstructor
 @Slf4j
 public class RecursoService {
     
-    @Value("${reservation-api.base-url}")
-    private String baseUrl;
-    
-    private final RestTemplate restTemplate = new RestTemplate();
+    private final ReservationApiClient reservationApiClient;
+    private final RecursoCache recursoCache;
 
     public RecursoDTO create(RecursoRequestDTO recursoRequest) {
         try {
-            log.info("Criando recurso: {} - URL: {}", recursoRequest.getNome(), baseUrl + "/api/recursos");
-            
-            HttpHeaders headers = new HttpHeaders();
-            headers.set("Content-Type", "application/json");
-            headers.set("Authorization", "Basic " + java.util.Base64.getEncoder().encodeToString("master@reservation.com:master123".getBytes()));
+            log.info("Criando recurso: {}", recursoRequest.getNome());
             
-            HttpEntity<RecursoRequestDTO> request = new HttpEntity<>(recursoRequest, headers);
+            RecursoDTO recurso = reservationApiClient.createRecurso(recursoRequest);
+            recursoCache.guardar(recurso);
             
-            ResponseEntity<RecursoDTO> response = restTemplate.postForEntity(
-                baseUrl + "/api/recursos", 
-                request, 
-                RecursoDTO.class
-            );
-            
-            log.info("Recurso criado com sucesso: {}", response.getBody().getId());
-            return response.getBody();
+            log.info("Recurso criado com sucesso: {}", recurso.getId());
+            return recurso;
             
         } catch (Exception e) {
             log.error("Erro ao criar recurso", e);
@@ -51,21 +38,10 @@ public class RecursoService {
 
     public List<RecursoDTO> findAll() {
         try {
-            log.info("Buscando todos os recursos - URL: {}", baseUrl + "/api/recursos");
-            
-            HttpHeaders headers = new HttpHeaders();
-            headers.set("Authorization", "Basic " + java.util.Base64.getEncoder().encodeToString("master@reservation.com:master123".getBytes()));
+            log.info("Buscando todos os recursos");
             
-            HttpEntity<String> request = new HttpEntity<>(headers);
-            
-            ResponseEntity<RecursoDTO[]> response = restTemplate.exchange(
-                baseUrl + "/api/recursos", 
-                HttpMethod.GET,
-                request,
-                RecursoDTO[].class
-            );
-            
-            List<RecursoDTO> recursos = Arrays.asList(response.getBody());
+            List<RecursoDTO> recursos = reservationApiClient.findAllRecursos();
+            recursos.forEach(recursoCache::guardar);
             log.info("Encontrados {} recursos", recursos.size());
             return recursos;
             
@@ -77,19 +53,10 @@ public class RecursoService {
 
     public void delete(UUID id) {
         try {
-            log.info("Excluindo recurso: {} - URL: {}", id, baseUrl + "/api/recursos/" + id);
-            
-            HttpHeaders headers = new HttpHeaders();
-            headers.set("Authorization", "Basic " + java.util.Base64.getEncoder().encodeToString("master@reservation.com:master123".getBytes()));
-            
-            HttpEntity<String> request = new HttpEntity<>(headers);
+            log.info("Excluindo recurso: {}", id);
             
-            restTemplate.exchange(
-                baseUrl + "/api/recursos/" + id,
-                HttpMethod.DELETE,
-                request,
-                Void.class
-            );
+            reservationApiClient.deleteRecurso(id);
+            recursoCache.remover(id);
             
             log.info("Recurso excluído com sucesso: {}", id);
             
@@ -100,21 +67,20 @@ public class RecursoService {
     }
 
     public RecursoDTO findById(UUID id) {
-        try {
-            log.info("Buscando recurso por ID: {} - URL: {}", id, baseUrl + "/api/recursos");
-            
-            // Como não temos endpoint específico por ID na reservation-api,
-            // vamos buscar todos e filtrar
-            List<RecursoDTO> recursos = findAll();
-            
-            return recursos.stream()
-                    .filter(recurso -> recurso.getId().equals(id))
-                    .findFirst()
-                    .orElseThrow(() -> new RuntimeException("Recurso não encontrado"));
-            
-        } catch (Exception e) {
-            log.error("Erro ao buscar recurso por ID: {}", id, e);
-            throw new RuntimeException("Erro ao buscar recurso por ID", e);
-        }
+        return recursoCache.buscar(id).orElseGet(() -> {
+            try {
+                log.info("Buscando recurso por ID: {}", id);
+
+                RecursoDTO recurso = reservationApiClient.findRecursoById(id);
+                recursoCache.guardar(recurso);
+                return recurso;
+
+            } catch (HttpClientErrorException.NotFound e) {
+                throw new RuntimeException("Recurso não encontrado");
+            } catch (Exception e) {
+                log.error("Erro ao buscar recurso por ID: {}", id, e);
+                throw new RuntimeException("Erro ao buscar recurso por ID", e);
+            }
+        });
     }
 }
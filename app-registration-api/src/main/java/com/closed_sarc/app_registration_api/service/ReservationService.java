@@ -1,51 +1,40 @@
 package com.closed_sarc.app_registration_api.service;
 
+import com.closed_sarc.app_registration_api.infrastructure.client.ReservasConhecidasCache;
+import com.closed_sarc.app_registration_api.infrastructure.client.ReservationApiClient;
+import com.closed_sarc.app_registration_api.infrastructure.client.ReservationApiIndisponivelException;
+import com.closed_sarc.app_registration_api.infrastructure.client.dto.ReservaLoteResponseDTO;
 import com.closed_sarc.app_registration_api.infrastructure.client.dto.ReservaResponseDTO;
+import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.beans.factory.annotation.Value;
-import org.springframework.core.ParameterizedTypeReference;
-import org.springframework.http.HttpEntity;
-import org.springframework.http.HttpHeaders;
-import org.springframework.http.HttpMethod;
-import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Service;
-import org.springframework.web.client.RestTemplate;
+import org.springframework.web.client.HttpClientErrorException;
 
 import java.time.Instant;
 import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.UUID;
 
 @Service
+@RequiredArgsConstructor
 @Slf4j
 public class ReservationService {
 
-    @Value("${reservation-api.base-url}")
-    private String baseUrl;
-
-    private final RestTemplate restTemplate = new RestTemplate();
+    private final ReservationApiClient reservationApiClient;
+    private final ReservasConhecidasCache reservasConhecidas;
 
     public ReservaResponseDTO createReservation(UUID turmaId, UUID recursoId, Integer quantidade, Instant dataUso) {
         try {
-            log.info("Criando reserva: turmaId={}, recursoId={}, quantidade={} - URL: {}",
-                    turmaId, recursoId, quantidade, baseUrl + "/api/reservas");
-
-            ReservationRequest request = new ReservationRequest(turmaId, recursoId, quantidade, dataUso);
-
-            HttpHeaders headers = new HttpHeaders();
-            headers.set("Content-Type", "application/json");
-            headers.set("Authorization", "Basic " + java.util.Base64.getEncoder().encodeToString("master@reservation.com:master123".getBytes()));
-
-            HttpEntity<ReservationRequest> httpEntity = new HttpEntity<>(request, headers);
+            log.info("Criando reserva: turmaId={}, recursoId={}, quantidade={}",
+                    turmaId, recursoId, quantidade);
 
-            ResponseEntity<ReservaResponseDTO> response = restTemplate.postForEntity(
-                    baseUrl + "/api/reservas",
-                    httpEntity,
-                    ReservaResponseDTO.class
-            );
+            ReservaResponseDTO reserva = reservationApiClient.createReservation(turmaId, recursoId, quantidade, dataUso);
+            reservasConhecidas.adicionar(reserva);
 
-            log.info("Reserva criada com sucesso: {}", response.getBody().getId());
-            return response.getBody();
+            log.info("Reserva criada com sucesso: {}", reserva.getId());
+            return reserva;
 
         } catch (Exception e) {
             log.error("Erro ao criar reserva", e);
@@ -53,89 +42,102 @@ public class ReservationService {
         }
     }
 
-    public List<ReservaResponseDTO> getReservationsByTurmaAndData(UUID turmaId, Instant dataUso) {
+    /**
+     * Reserva o recurso em todas as datas informadas com uma única chamada, tudo ou nada.
+     * Quando alguma data não tem disponibilidade, retorna os conflitos sem reservas criadas.
+     */
+    public ReservaLoteResponseDTO createReservations(UUID turmaId, UUID recursoId, Integer quantidade, List<Instant> datasUso) {
         try {
-            log.info("Buscando reservas: turmaId={}, dataUso={} - URL: {}",
-                    turmaId, dataUso, baseUrl + "/api/reservas/turma/" + turmaId + "/data");
+            log.info("Criando reservas em lote: turmaId={}, recursoId={}, quantidade={}, datas={}",
+                    turmaId, recursoId, quantidade, datasUso.size());
 
-            HttpHeaders headers = new HttpHeaders();
-            headers.set("Authorization", "Basic " + java.util.Base64.getEncoder().encodeToString("master@reservation.com:master123".getBytes()));
+            ReservaLoteResponseDTO resultado = reservationApiClient.createReservations(turmaId, recursoId, quantidade, datasUso);
+            resultado.getReservas().forEach(reservasConhecidas::adicionar);
 
-            HttpEntity<String> httpEntity = new HttpEntity<>(headers);
+            log.info("Reservas em lote criadas: {}", resultado.getReservas().size());
+            return resultado;
 
-            String url = baseUrl + "/api/reservas/turma/" + turmaId + "/data?dataUso=" + dataUso.toString();
+        } catch (HttpClientErrorException.Conflict e) {
+            ReservaLoteResponseDTO conflitos = e.getResponseBodyAs(ReservaLoteResponseDTO.class);
+            log.info("Reserva em lote recusada: {} conflitos", conflitos.getConflitos().size());
+            return conflitos;
+        } catch (Exception e) {
+            log.error("Erro ao criar reservas em lote", e);
+            throw new RuntimeException("Erro ao criar reservas em lote: " + e.getMessage(), e);
+        }
+    }
 
-            ResponseEntity<List<ReservaResponseDTO>> response = restTemplate.exchange(
-                    url,
-                    HttpMethod.GET,
-                    httpEntity,
-                    new ParameterizedTypeReference<List<ReservaResponseDTO>>() {}
-            );
+    public List<ReservaResponseDTO> getReservationsByTurmaAndData(UUID turmaId, Instant dataUso) {
+        try {
+            log.info("Buscando reservas: turmaId={}, dataUso={}", turmaId, dataUso);
 
-            List<ReservaResponseDTO> reservas = response.getBody() != null ? response.getBody() : Collections.emptyList();
+            List<ReservaResponseDTO> reservas = reservationApiClient.getReservationsByTurmaAndData(turmaId, dataUso);
+            reservasConhecidas.atualizar(turmaId, dataUso, reservas);
             log.info("Encontradas {} reservas", reservas.size());
             return reservas;
 
         } catch (Exception e) {
-            log.error("Erro ao buscar reservas por turma e data", e);
-            return Collections.emptyList();
+            registrarFalhaDeConsulta("Erro ao buscar reservas por turma e data", e);
+            return reservasConhecidas.buscar(turmaId, dataUso).orElse(Collections.emptyList());
         }
     }
 
-    public List<ReservaResponseDTO> getReservationsByTurma(UUID turmaId) {
-        try {
-            log.info("Buscando reservas por turma: turmaId={} - URL: {}",
-                    turmaId, baseUrl + "/api/reservas/turma/" + turmaId);
-
-            HttpHeaders headers = new HttpHeaders();
-            headers.set("Authorization", "Basic " + java.util.Base64.getEncoder().encodeToString("master@reservation.com:master123".getBytes()));
-
-            HttpEntity<String> httpEntity = new HttpEntity<>(headers);
+    /**
+     * Busca em uma única chamada as reservas de várias turmas, cada uma em sua dataUso.
+     * O resultado vem agrupado por turmaId. Se a reservation-api falhar, devolve a última
+     * lista conhecida de cada turma (turmas nunca consultadas ficam de fora).
+     */
+    public Map<UUID, List<ReservaResponseDTO>> getReservationsByTurmasAndDatas(Map<UUID, Instant> dataUsoPorTurma) {
+        if (dataUsoPorTurma.isEmpty()) {
+            return Collections.emptyMap();
+        }
 
-            ResponseEntity<List<ReservaResponseDTO>> response = restTemplate.exchange(
-                    baseUrl + "/api/reservas/turma/" + turmaId,
-                    HttpMethod.GET,
-                    httpEntity,
-                    new ParameterizedTypeReference<List<ReservaResponseDTO>>() {}
-            );
+        try {
+            log.info("Buscando reservas em lote: {} turmas", dataUsoPorTurma.size());
 
-            List<ReservaResponseDTO> reservas = response.getBody() != null ? response.getBody() : Collections.emptyList();
-            log.info("Encontradas {} reservas", reservas.size());
+            Map<UUID, List<ReservaResponseDTO>> reservas = reservationApiClient.getReservationsByTurmasAndDatas(dataUsoPorTurma);
+            dataUsoPorTurma.forEach((turmaId, dataUso) ->
+                    reservasConhecidas.atualizar(turmaId, dataUso, reservas.getOrDefault(turmaId, List.of())));
+            log.info("Encontradas reservas para {} turmas", reservas.size());
             return reservas;
 
         } catch (Exception e) {
-            log.error("Erro ao buscar reservas por turma", e);
-            throw new RuntimeException("Erro ao buscar reservas por turma: " + e.getMessage(), e);
+            registrarFalhaDeConsulta("Erro ao buscar reservas em lote", e);
+            return getKnownReservationsByTurmasAndDatas(dataUsoPorTurma);
         }
     }
 
-    private static class ReservationRequest {
-        private UUID turmaId;
-        private UUID recursoId;
-        private Integer quantidade;
-        private Instant dataUso;
-
-        public ReservationRequest(UUID turmaId, UUID recursoId, Integer quantidade, Instant dataUso) {
-            this.turmaId = turmaId;
-            this.recursoId = recursoId;
-            this.quantidade = quantidade;
-            this.dataUso = dataUso;
-        }
+    /**
+     * Última lista conhecida das reservas de cada turma em sua dataUso, sem chamar a
+     * reservation-api. Turmas nunca consultadas ficam de fora.
+     */
+    public Map<UUID, List<ReservaResponseDTO>> getKnownReservationsByTurmasAndDatas(Map<UUID, Instant> dataUsoPorTurma) {
+        Map<UUID, List<ReservaResponseDTO>> conhecidas = new LinkedHashMap<>();
+        dataUsoPorTurma.forEach((turmaId, dataUso) ->
+                reservasConhecidas.buscar(turmaId, dataUso).ifPresent(reservas -> conhecidas.put(turmaId, reservas)));
+        log.info("Usando reservas conhecidas de {} de {} turmas", conhecidas.size(), dataUsoPorTurma.size());
+        return conhecidas;
+    }
 
-        public UUID getTurmaId() {
-            return turmaId;
+    private void registrarFalhaDeConsulta(String mensagem, Exception e) {
+        if (e instanceof ReservationApiIndisponivelException) {
+            log.warn("{}: {}", mensagem, e.getMessage());
+        } else {
+            log.error(mensagem, e);
         }
+    }
 
-        public UUID getRecursoId() {
-            return recursoId;
-        }
+    public List<ReservaResponseDTO> getReservationsByTurma(UUID turmaId) {
+        try {
+            log.info("Buscando reservas por turma: turmaId={}", turmaId);
 
-        public Integer getQuantidade() {
-            return quantidade;
-        }
+            List<ReservaResponseDTO> reservas = reservationApiClient.getReservationsByTurma(turmaId);
+            log.info("Encontradas {} reservas", reservas.size());
+            return reservas;
 
-        public Instant getDataUso() {
-            return dataUso;
+        } catch (Exception e) {
+            log.error("Erro ao buscar reservas por turma", e);
+            throw new RuntimeException("Erro ao buscar reservas por turma: " + e.getMessage(), e);
         }
     }
 }
@@ -1,5 +1,7 @@
 package com.closed_sarc.app_registration_api.service;
 
+import com.closed_sarc.app_registration_api.application.dto.TurmaResumoDTO;
+import com.closed_sarc.app_registration_api.application.event.TurmaCriadaEvent;
 import com.closed_sarc.app_registration_api.domain.entities.Turma;
 import com.closed_sarc.app_registration_api.domain.entities.Usuario;
 import com.closed_sarc.app_registration_api.domain.entities.Disciplina;
@@ -7,12 +9,19 @@ import com.closed_sarc.app_registration_api.domain.entities.TipoUsuario;
 import com.closed_sarc.app_registration_api.domain.repositories.TurmaRepository;
 import com.closed_sarc.app_registration_api.domain.repositories.UsuarioRepository;
 import com.closed_sarc.app_registration_api.domain.repositories.DisciplinaRepository;
+import jakarta.persistence.EntityManager;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.ArrayList;
 import java.util.List;
 import java.util.UUID;
+import java.util.function.Consumer;
 
 @Service
 @RequiredArgsConstructor
@@ -21,6 +30,8 @@ public class TurmaService {
     private final TurmaRepository turmaRepository;
     private final UsuarioRepository usuarioRepository;
     private final DisciplinaRepository disciplinaRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final EntityManager entityManager;
 
     public Turma create(Turma turma, UUID professorId, UUID disciplinaId) {
         // Validar se o professor existe e é do tipo PROFESSOR
@@ -39,7 +50,9 @@ public class TurmaService {
         turma.setProfessor(professor);
         turma.setDisciplina(disciplina);
 
-        return turmaRepository.save(turma);
+        Turma saved = turmaRepository.save(turma);
+        eventPublisher.publishEvent(new TurmaCriadaEvent(saved));
+        return saved;
     }
 
     @Transactional(readOnly = true)
@@ -49,18 +62,55 @@ public class TurmaService {
     }
 
     @Transactional(readOnly = true)
-    public List<Turma> findAll() {
-        return turmaRepository.findAll();
+    public List<TurmaResumoDTO> findAll() {
+        return toResumos(turmaRepository.findAllComRelacionamentos());
     }
 
     @Transactional(readOnly = true)
-    public List<Turma> findByProfessorId(UUID professorId) {
-        return turmaRepository.findByProfessorId(professorId);
+    public Page<TurmaResumoDTO> findAll(Pageable pageable) {
+        return turmaRepository.findAllComRelacionamentos(pageable).map(this::toResumo);
     }
 
     @Transactional(readOnly = true)
-    public List<Turma> findByDisciplinaId(UUID disciplinaId) {
-        return turmaRepository.findByDisciplinaId(disciplinaId);
+    public List<TurmaResumoDTO> findApos(UUID apos, int limite) {
+        return toResumos(turmaRepository.findByIdGreaterThanOrderByIdAsc(LeituraEmCursor.inicio(apos), Limit.of(limite)));
+    }
+
+    @Transactional(readOnly = true)
+    public void percorrerTodos(Consumer<TurmaResumoDTO> consumidor) {
+        LeituraEmCursor.percorrer(turmaRepository.streamAllComRelacionamentos().map(this::toResumo), entityManager,
+                consumidor);
+    }
+
+    @Transactional(readOnly = true)
+    public List<TurmaResumoDTO> findByProfessorId(UUID professorId) {
+        return toResumos(turmaRepository.findByProfessorId(professorId));
+    }
+
+    @Transactional(readOnly = true)
+    public List<TurmaResumoDTO> findByDisciplinaId(UUID disciplinaId) {
+        return toResumos(turmaRepository.findByDisciplinaId(disciplinaId));
+    }
+
+    private List<TurmaResumoDTO> toResumos(List<Turma> turmas) {
+        return turmas.stream()
+                .map(this::toResumo)
+                .toList();
+    }
+
+    private TurmaResumoDTO toResumo(Turma turma) {
+        return TurmaResumoDTO.builder()
+                .id(turma.getId())
+                .nome(turma.getNome())
+                .semestre(turma.getSemestre())
+                .ano(turma.getAno())
+                .horario(turma.getHorario())
+                .diasAula(turma.getDiasAula() == null ? List.of() : new ArrayList<>(turma.getDiasAula()))
+                .professorId(turma.getProfessor().getId())
+                .nomeProfessor(turma.getProfessor().getNome())
+                .disciplinaId(turma.getDisciplina().getId())
+                .nomeDisciplina(turma.getDisciplina().getNome())
+                .build();
     }
 
 }
@@ -1,64 +1,102 @@
-package com.closed_sarc.app_registration_api.service;
-
-import java.time.Instant;
-import java.util.List;
-import java.util.UUID;
-
-import org.springframework.security.crypto.password.PasswordEncoder;
-import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
-
-import com.closed_sarc.app_registration_api.domain.entities.Usuario;
-import com.closed_sarc.app_registration_api.domain.repositories.UsuarioRepository;
-
-import lombok.RequiredArgsConstructor;
-
-@Service
-@RequiredArgsConstructor
-@Transactional
-public class UsuarioService {
-    private final UsuarioRepository usuarioRepository;
-    private final PasswordEncoder passwordEncoder;
-
-    public Usuario create(Usuario usuario) {
-        usuario.setDataCriacao(Instant.now());
-        usuario.setSenha(passwordEncoder.encode(usuario.getSenha()));
-        return usuarioRepository.save(usuario);
-    }
-
-    @Transactional(readOnly = true)
-    public Usuario findById(UUID id) {
-        return usuarioRepository.findById(id)
-                .orElseThrow(() -> new IllegalArgumentException("Usuário não encontrado"));
-    }
-
-    @Transactional(readOnly = true)
-    public List<Usuario> findAll() {
-        return usuarioRepository.findAll();
-    }
-
-    public void deleteById(UUID id) {
-        if (!usuarioRepository.existsById(id)) {
-            throw new IllegalArgumentException("Usuário não encontrado");
-        }
-        usuarioRepository.deleteById(id);
-    }
-
-    @Transactional(readOnly = true)
-    public boolean existsById(UUID id) {
-        return usuarioRepository.existsById(id);
-    }
-
-    public Usuario salvar(Usuario usuario) {
-        return usuarioRepository.save(usuario);
-    }
-
-    public void alterarSenha(Usuario usuario, String senhaAtual, String novaSenha) {
-        if (!passwordEncoder.matches(senhaAtual, usuario.getSenha())) {
-            throw new IllegalArgumentException("Senha atual incorreta");
-        }
-        
-        usuario.setSenha(passwordEncoder.encode(novaSenha));
-        usuarioRepository.save(usuario);
-    }
-}
+package com.closed_sarc.app_registration_api.service;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+import java.util.function.Consumer;
+
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.closed_sarc.app_registration_api.domain.entities.Usuario;
+import com.closed_sarc.app_registration_api.domain.repositories.UsuarioRepository;
+import com.closed_sarc.app_registration_api.security.CachingAuthenticationProvider;
+import com.closed_sarc.app_registration_api.security.RevogacaoTokens;
+
+import jakarta.persistence.EntityManager;
+import lombok.RequiredArgsConstructor;
+
+@Service
+@RequiredArgsConstructor
+@Transactional
+public class UsuarioService {
+    private final UsuarioRepository usuarioRepository;
+    private final PasswordEncoder passwordEncoder;
+    private final CachingAuthenticationProvider authenticationProvider;
+    private final RevogacaoTokens revogacaoTokens;
+    private final EntityManager entityManager;
+
+    public Usuario create(Usuario usuario) {
+        usuario.setDataCriacao(Instant.now());
+        usuario.setSenha(passwordEncoder.encode(usuario.getSenha()));
+        return usuarioRepository.save(usuario);
+    }
+
+    @Transactional(readOnly = true)
+    public Usuario findById(UUID id) {
+        return usuarioRepository.findById(id)
+                .orElseThrow(() -> new IllegalArgumentException("Usuário não encontrado"));
+    }
+
+    @Transactional(readOnly = true)
+    public Usuario findByEmail(String email) {
+        return usuarioRepository.findByEmail(email)
+                .orElseThrow(() -> new IllegalArgumentException("Usuário não encontrado"));
+    }
+
+    @Transactional(readOnly = true)
+    public List<Usuario> findAll() {
+        return usuarioRepository.findAll();
+    }
+
+    @Transactional(readOnly = true)
+    public Page<Usuario> findAll(Pageable pageable) {
+        return usuarioRepository.findAll(pageable);
+    }
+
+    /** Até {@code limite} usuários com id maior que {@code apos} (null = início), em ordem de id. */
+    @Transactional(readOnly = true)
+    public List<Usuario> findApos(UUID apos, int limite) {
+        return usuarioRepository.findByIdGreaterThanOrderByIdAsc(LeituraEmCursor.inicio(apos), Limit.of(limite));
+    }
+
+    @Transactional(readOnly = true)
+    public void percorrerTodos(Consumer<Usuario> consumidor) {
+        LeituraEmCursor.percorrer(usuarioRepository.streamAll(), entityManager, consumidor);
+    }
+
+    public void deleteById(UUID id) {
+        Usuario usuario = usuarioRepository.findById(id)
+                .orElseThrow(() -> new IllegalArgumentException("Usuário não encontrado"));
+        usuarioRepository.deleteById(id);
+        authenticationProvider.invalidar(usuario.getEmail());
+        revogacaoTokens.revogar(id);
+    }
+
+    @Transactional(readOnly = true)
+    public boolean existsById(UUID id) {
+        return usuarioRepository.existsById(id);
+    }
+
+    public Usuario salvar(Usuario usuario) {
+        Usuario salvo = usuarioRepository.save(usuario);
+        authenticationProvider.invalidar(salvo.getEmail());
+        revogacaoTokens.revogar(salvo.getId());
+        return salvo;
+    }
+
+    public void alterarSenha(Usuario usuario, String senhaAtual, String novaSenha) {
+        if (!passwordEncoder.matches(senhaAtual, usuario.getSenha())) {
+            throw new IllegalArgumentException("Senha atual incorreta");
+        }
+        
+        usuario.setSenha(passwordEncoder.encode(novaSenha));
+        usuarioRepository.save(usuario);
+        authenticationProvider.invalidar(usuario.getEmail());
+        revogacaoTokens.revogar(usuario.getId());
+    }
+}
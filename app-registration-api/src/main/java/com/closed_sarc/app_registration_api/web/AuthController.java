@@ -1,5 +1,7 @@
 package com.closed_sarc.app_registration_api.web;
 
+import java.time.Instant;
+
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.authentication.AuthenticationManager;
@@ -13,6 +15,7 @@ import org.springframework.web.bind.annotation.RestController;
 
 import com.closed_sarc.app_registration_api.application.dto.TrocarSenhaRequestDTO;
 import com.closed_sarc.app_registration_api.domain.entities.Usuario;
+import com.closed_sarc.app_registration_api.security.TokenService;
 import com.closed_sarc.app_registration_api.service.UsuarioService;
 
 import io.swagger.v3.oas.annotations.Operation;
@@ -29,14 +32,25 @@ public class AuthController {
 
     private final AuthenticationManager authenticationManager;
     private final UsuarioService usuarioService;
+    private final TokenService tokenService;
 
     @PostMapping("/login")
+    @Operation(summary = "Login",
+            description = "Valida email e senha e emite um token bearer assinado. Envie-o em "
+                    + "'Authorization: Bearer <token>' nas próximas requisições em vez de HTTP Basic.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Token emitido",
+                    content = @Content(mediaType = "application/json",
+                            schema = @Schema(implementation = LoginResponse.class))),
+            @ApiResponse(responseCode = "401", description = "Credenciais inválidas")
+    })
     public ResponseEntity<?> login(@RequestBody LoginRequest request) {
         try {
             Authentication authentication = authenticationManager.authenticate(
                     new UsernamePasswordAuthenticationToken(request.email(), request.senha()));
 
-            return ResponseEntity.ok("Login realizado com sucesso: " + authentication.getName());
+            TokenService.TokenEmitido token = tokenService.emitir((Usuario) authentication.getPrincipal());
+            return ResponseEntity.ok(new LoginResponse(token.token(), "Bearer", token.expiraEm()));
         } catch (Exception e) {
             return ResponseEntity.status(401).body("Credenciais inválidas");
         }
@@ -55,7 +69,8 @@ public class AuthController {
     public ResponseEntity<?> changePassword(Authentication authentication,
                                             @RequestBody TrocarSenhaRequestDTO request) {
         try {
-            Usuario usuario = (Usuario) authentication.getPrincipal();
+            // Com token bearer o principal é o JWT; a troca de senha precisa do hash atual do banco
+            Usuario usuario = usuarioService.findByEmail(authentication.getName());
             usuarioService.alterarSenha(usuario, request.getSenhaAtual(), request.getNovaSenha());
             return ResponseEntity.ok("Senha alterada com sucesso");
         } catch (IllegalArgumentException e) {
@@ -68,4 +83,7 @@ public class AuthController {
 
     public record LoginRequest(String email, String senha) {
     }
+
+    public record LoginResponse(String token, String tipo, Instant expiraEm) {
+    }
 }
@@ -0,0 +1,184 @@
+package com.closed_sarc.app_registration_api.web;
+
+import com.closed_sarc.app_registration_api.domain.entities.CalendarioAcademico;
+import com.closed_sarc.app_registration_api.domain.entities.DiaSemana;
+import com.closed_sarc.app_registration_api.domain.entities.Reposicao;
+import com.closed_sarc.app_registration_api.domain.entities.Semestre;
+import com.closed_sarc.app_registration_api.service.CalendarioAcademicoService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.*;
+
+import java.time.LocalDate;
+import java.util.HashSet;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+@RestController
+@RequestMapping("/api/calendarios")
+@RequiredArgsConstructor
+@Tag(name = "Calendário Acadêmico", description = "API para gerenciamento dos períodos letivos, feriados e reposições")
+public class CalendarioAcademicoController {
+    private final CalendarioAcademicoService calendarioAcademicoService;
+
+    @PostMapping
+    @PreAuthorize("hasRole('ADMIN')")
+    @Operation(summary = "Cadastrar calendário de um semestre",
+            description = "Define início e fim do período letivo, feriados e dias de reposição de um semestre")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "201", description = "Calendário cadastrado com sucesso",
+                    content = @Content(mediaType = "application/json", schema = @Schema(implementation = CalendarioAcademico.class))),
+            @ApiResponse(responseCode = "400", description = "Dados inválidos ou semestre já cadastrado",
+                    content = @Content(mediaType = "application/json")),
+            @ApiResponse(responseCode = "401", description = "Não autenticado"),
+            @ApiResponse(responseCode = "403", description = "Sem permissão - apenas ADMIN pode cadastrar calendários")
+    })
+    public ResponseEntity<?> create(@RequestBody CalendarioRequest calendarioRequest) {
+        try {
+            CalendarioAcademico saved = calendarioAcademicoService.salvar(toEntity(null, calendarioRequest));
+            return ResponseEntity.status(HttpStatus.CREATED).body(saved);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(new ErrorResponse(e.getMessage()));
+        } catch (Exception e) {
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                    .body(new ErrorResponse("Erro interno do servidor"));
+        }
+    }
+
+    @PutMapping("/{id}")
+    @PreAuthorize("hasRole('ADMIN')")
+    @Operation(summary = "Atualizar calendário de um semestre",
+            description = "Substitui período, feriados e reposições de um calendário cadastrado")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Calendário atualizado com sucesso",
+                    content = @Content(mediaType = "application/json", schema = @Schema(implementation = CalendarioAcademico.class))),
+            @ApiResponse(responseCode = "400", description = "Dados inválidos",
+                    content = @Content(mediaType = "application/json")),
+            @ApiResponse(responseCode = "404", description = "Calendário não encontrado"),
+            @ApiResponse(responseCode = "401", description = "Não autenticado"),
+            @ApiResponse(responseCode = "403", description = "Sem permissão - apenas ADMIN pode alterar calendários")
+    })
+    public ResponseEntity<?> update(
+            @Parameter(description = "ID do calendário", example = "550e8400-e29b-41d4-a716-446655440000")
+            @PathVariable UUID id,
+            @RequestBody CalendarioRequest calendarioRequest) {
+        try {
+            calendarioAcademicoService.findById(id);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.notFound().build();
+        }
+        try {
+            CalendarioAcademico saved = calendarioAcademicoService.salvar(toEntity(id, calendarioRequest));
+            return ResponseEntity.ok(saved);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(new ErrorResponse(e.getMessage()));
+        } catch (Exception e) {
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                    .body(new ErrorResponse("Erro interno do servidor"));
+        }
+    }
+
+    @GetMapping
+    @PreAuthorize("hasAnyRole('ADMIN', 'PROFESSOR', 'ESTUDANTE')")
+    @Operation(summary = "Listar calendários de um ano",
+            description = "Retorna os calendários cadastrados para o ano informado")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Lista de calendários retornada com sucesso",
+                    content = @Content(mediaType = "application/json", schema = @Schema(implementation = CalendarioAcademico.class))),
+            @ApiResponse(responseCode = "401", description = "Não autenticado"),
+            @ApiResponse(responseCode = "403", description = "Sem permissão")
+    })
+    public ResponseEntity<List<CalendarioAcademico>> getByAno(
+            @Parameter(description = "Ano letivo", example = "2025")
+            @RequestParam Integer ano) {
+        try {
+            return ResponseEntity.ok(calendarioAcademicoService.findByAno(ano));
+        } catch (Exception e) {
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).build();
+        }
+    }
+
+    @DeleteMapping("/{id}")
+    @PreAuthorize("hasRole('ADMIN')")
+    @Operation(summary = "Excluir calendário",
+            description = "Remove o calendário; o semestre volta ao período padrão, sem feriados próprios")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "204", description = "Calendário excluído com sucesso"),
+            @ApiResponse(responseCode = "404", description = "Calendário não encontrado"),
+            @ApiResponse(responseCode = "401", description = "Não autenticado"),
+            @ApiResponse(responseCode = "403", description = "Sem permissão - apenas ADMIN pode excluir calendários")
+    })
+    public ResponseEntity<?> delete(
+            @Parameter(description = "ID do calendário", example = "550e8400-e29b-41d4-a716-446655440000")
+            @PathVariable UUID id) {
+        try {
+            calendarioAcademicoService.deleteById(id);
+            return ResponseEntity.noContent().build();
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.notFound().build();
+        } catch (Exception e) {
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                    .body(new ErrorResponse("Erro interno do servidor"));
+        }
+    }
+
+    private CalendarioAcademico toEntity(UUID id, CalendarioRequest request) {
+        return CalendarioAcademico.builder()
+                .id(id)
+                .ano(request.ano())
+                .semestre(request.semestre())
+                .dataInicio(request.dataInicio())
+                .dataFim(request.dataFim())
+                .feriados(request.feriados() == null ? new HashSet<>() : new HashSet<>(request.feriados()))
+                .reposicoes(request.reposicoes() == null ? new HashSet<>() : request.reposicoes().stream()
+                        .map(reposicao -> new Reposicao(reposicao.data(), reposicao.diaSemana()))
+                        .collect(Collectors.toCollection(HashSet::new)))
+                .build();
+    }
+
+    @Schema(description = "DTO para requisição de cadastro de calendário acadêmico")
+    public record CalendarioRequest(
+            @Schema(description = "Ano letivo", example = "2025", required = true)
+            Integer ano,
+
+            @Schema(description = "Semestre", example = "PRIMEIRO", required = true)
+            Semestre semestre,
+
+            @Schema(description = "Primeiro dia de aula", example = "2025-02-17", required = true)
+            LocalDate dataInicio,
+
+            @Schema(description = "Último dia de aula", example = "2025-07-05", required = true)
+            LocalDate dataFim,
+
+            @Schema(description = "Datas sem aula", example = "[\"2025-04-18\", \"2025-04-21\"]")
+            List<LocalDate> feriados,
+
+            @Schema(description = "Dias de reposição")
+            List<ReposicaoRequest> reposicoes
+    ) {}
+
+    @Schema(description = "Dia de reposição: na data têm aula as turmas do dia da semana informado")
+    public record ReposicaoRequest(
+            @Schema(description = "Data da reposição", example = "2025-05-10")
+            LocalDate data,
+
+            @Schema(description = "Dia da semana cuja grade é seguida", example = "SEXTA")
+            DiaSemana diaSemana
+    ) {}
+
+    @Schema(description = "DTO de resposta de erro")
+    public record ErrorResponse(
+            @Schema(description = "Mensagem de erro", example = "Já existe um calendário para o semestre PRIMEIRO/2025")
+            String message
+    ) {}
+}
@@ -1,9 +1,12 @@
 package com.closed_sarc.app_registration_api.web;
 
+import org.springframework.http.CacheControl;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
 
 import com.closed_sarc.app_registration_api.application.dto.CronogramaDTO;
 import com.closed_sarc.app_registration_api.application.service.CronogramaService;
@@ -29,7 +32,8 @@ public class CronogramaController {
   @Operation(summary = "Consultar cronograma do dia atual", description = "Retorna todas as aulas e eventos programados para o dia atual. "
       +
       "Este endpoint é público e não requer autenticação. " +
-      "O dia da semana é detectado automaticamente com base na data atual do sistema.")
+      "O dia da semana é detectado automaticamente com base na data atual do sistema. " +
+      "A resposta inclui um ETag; requisições com If-None-Match correspondente recebem 304.")
   @ApiResponses(value = {
       @ApiResponse(responseCode = "200", description = "Cronograma consultado com sucesso", content = @Content(mediaType = "application/json", schema = @Schema(implementation = CronogramaDTO.class), examples = {
           @ExampleObject(name = "Com aulas e eventos", description = "Exemplo quando há aulas e eventos programados para hoje", value = """
@@ -69,6 +73,7 @@ public class CronogramaController {
               }
               """)
       })),
+      @ApiResponse(responseCode = "304", description = "Cronograma não mudou desde o ETag informado em If-None-Match"),
       @ApiResponse(responseCode = "500", description = "Erro interno do servidor", content = @Content(mediaType = "application/json", examples = @ExampleObject(value = """
           {
             "timestamp": "2025-10-16T10:30:00",
@@ -78,8 +83,15 @@ public class CronogramaController {
           }
           """)))
   })
-  public ResponseEntity<CronogramaDTO> consultarCronograma() {
-    CronogramaDTO cronograma = cronogramaService.consultarCronograma();
-    return ResponseEntity.ok(cronograma);
+  public ResponseEntity<byte[]> consultarCronograma(WebRequest request) {
+    CronogramaService.Snapshot snapshot = cronogramaService.obterSnapshot();
+    if (request.checkNotModified(snapshot.etag())) {
+      return null;
+    }
+    return ResponseEntity.ok()
+        .contentType(MediaType.APPLICATION_JSON)
+        .cacheControl(CacheControl.noCache())
+        .eTag(snapshot.etag())
+        .body(snapshot.json());
   }
 }
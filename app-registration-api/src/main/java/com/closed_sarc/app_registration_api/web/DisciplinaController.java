@@ -2,6 +2,7 @@ package com.closed_sarc.app_registration_api.web;
 
 import com.closed_sarc.app_registration_api.domain.entities.Disciplina;
 import com.closed_sarc.app_registration_api.service.DisciplinaService;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.media.Content;
@@ -10,10 +11,14 @@ import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
+import org.springdoc.core.annotations.ParameterObject;
+import org.springframework.data.domain.Pageable;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.util.List;
 import java.util.UUID;
@@ -24,6 +29,8 @@ import java.util.UUID;
 @Tag(name = "Disciplinas", description = "API para gerenciamento de disciplinas")
 public class DisciplinaController {
     private final DisciplinaService disciplinaService;
+    private final Listagem listagem;
+    private final ObjectMapper objectMapper;
 
     @PostMapping
     @PreAuthorize("hasRole('ADMIN')")
@@ -83,22 +90,47 @@ public class DisciplinaController {
     @GetMapping
     @PreAuthorize("hasAnyRole('ADMIN', 'PROFESSOR', 'ESTUDANTE')")
     @Operation(summary = "Listar todas as disciplinas", 
-            description = "Retorna a lista de todas as disciplinas do sistema")
+            description = "Retorna a lista de todas as disciplinas do sistema."
+                    + " Com page/size/sort ou cursor, retorna uma página (PaginaDTO).")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "Lista de disciplinas retornada com sucesso",
                     content = @Content(mediaType = "application/json", schema = @Schema(implementation = Disciplina.class))),
+            @ApiResponse(responseCode = "400", description = "Cursor ou campo de ordenação inválido",
+                    content = @Content(mediaType = "application/json")),
             @ApiResponse(responseCode = "401", description = "Não autenticado"),
             @ApiResponse(responseCode = "403", description = "Sem permissão")
     })
-    public ResponseEntity<List<Disciplina>> getAll() {
+    public ResponseEntity<?> getAll(
+            @ParameterObject Pageable pageable,
+            @Parameter(description = "Paginação por cursor: vazio na primeira página, depois o 'proximo' da resposta")
+            @RequestParam(required = false) String cursor,
+            @Parameter(hidden = true) @RequestParam(name = "size", required = false) Integer tamanho) {
         try {
-            List<Disciplina> disciplinas = disciplinaService.findAll();
-            return ResponseEntity.ok(disciplinas);
+            return ResponseEntity.ok(listagem.listar(pageable, cursor, tamanho, disciplinaService::findAll, disciplinaService::findAll,
+                    disciplinaService::findApos, Disciplina::getId));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(new ErrorResponse(e.getMessage()));
         } catch (Exception e) {
             return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).build();
         }
     }
 
+    @GetMapping(produces = MediaType.APPLICATION_NDJSON_VALUE)
+    @PreAuthorize("hasAnyRole('ADMIN', 'PROFESSOR', 'ESTUDANTE')")
+    @Operation(summary = "Exportar disciplinas",
+            description = "Com Accept: application/x-ndjson, envia um objeto JSON por linha à medida que é lido do banco")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Disciplinas em NDJSON",
+                    content = @Content(mediaType = MediaType.APPLICATION_NDJSON_VALUE, schema = @Schema(implementation = Disciplina.class))),
+            @ApiResponse(responseCode = "401", description = "Não autenticado"),
+            @ApiResponse(responseCode = "403", description = "Sem permissão")
+    })
+    public ResponseEntity<StreamingResponseBody> exportar() {
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .body(Ndjson.<Disciplina>corpo(objectMapper, disciplinaService::percorrerTodos));
+    }
+
     @GetMapping("/nome/{nome}")
     @PreAuthorize("hasAnyRole('ADMIN', 'PROFESSOR', 'ESTUDANTE')")
     @Operation(summary = "Buscar disciplinas por nome", 
@@ -1,9 +1,13 @@
 package com.closed_sarc.app_registration_api.web;
 
+import java.time.Instant;
 import java.util.List;
 import java.util.UUID;
 
+import org.springdoc.core.annotations.ParameterObject;
+import org.springframework.data.domain.Pageable;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.DeleteMapping;
@@ -12,10 +16,14 @@ import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import com.closed_sarc.app_registration_api.application.dto.EventoDTO;
 import com.closed_sarc.app_registration_api.domain.entities.Evento;
 import com.closed_sarc.app_registration_api.service.EventoService;
+import com.fasterxml.jackson.databind.ObjectMapper;
 
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
@@ -33,6 +41,8 @@ import lombok.RequiredArgsConstructor;
 public class EventoController {
     
     private final EventoService eventoService;
+    private final Listagem listagem;
+    private final ObjectMapper objectMapper;
 
     @PostMapping
     @PreAuthorize("hasRole('ADMIN') or hasRole('PROFESSOR')")
@@ -57,23 +67,57 @@ public class EventoController {
 
     @GetMapping
     @PreAuthorize("hasRole('ADMIN') or hasRole('PROFESSOR') or hasRole('ESTUDANTE')")
-    @Operation(summary = "Listar todos os eventos", 
-            description = "Retorna a lista de todos os eventos do sistema")
+    @Operation(summary = "Listar eventos", 
+            description = "Retorna todos os eventos do sistema. Com 'de' e 'ate', retorna apenas os eventos "
+                    + "que se sobrepõem ao período [de, ate), ordenados pelo início. Sem período, com "
+                    + "page/size/sort ou cursor, retorna uma página (PaginaDTO).")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "Lista de eventos retornada com sucesso",
                     content = @Content(mediaType = "application/json", schema = @Schema(implementation = Evento.class))),
+            @ApiResponse(responseCode = "400", description = "Período inválido",
+                    content = @Content(mediaType = "application/json")),
             @ApiResponse(responseCode = "401", description = "Não autenticado"),
             @ApiResponse(responseCode = "403", description = "Sem permissão")
     })
-    public ResponseEntity<List<Evento>> getAll() {
+    public ResponseEntity<?> getAll(
+            @Parameter(description = "Início do período (inclusivo)", example = "2024-10-14T00:00:00Z")
+            @RequestParam(required = false) Instant de,
+            @Parameter(description = "Fim do período (exclusivo)", example = "2024-10-21T00:00:00Z")
+            @RequestParam(required = false) Instant ate,
+            @ParameterObject Pageable pageable,
+            @Parameter(description = "Paginação por cursor: vazio na primeira página, depois o 'proximo' da resposta")
+            @RequestParam(required = false) String cursor,
+            @Parameter(hidden = true) @RequestParam(name = "size", required = false) Integer tamanho) {
         try {
-            List<Evento> eventos = eventoService.findAll();
-            return ResponseEntity.ok(eventos);
+            if (de != null || ate != null) {
+                List<EventoDTO> eventos = eventoService.findByPeriodo(de, ate);
+                return ResponseEntity.ok(eventos);
+            }
+            return ResponseEntity.ok(listagem.listar(pageable, cursor, tamanho, eventoService::findAll, eventoService::findAll,
+                    eventoService::findApos, Evento::getId));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(new ErrorResponse(e.getMessage()));
         } catch (Exception e) {
             return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).build();
         }
     }
 
+    @GetMapping(produces = MediaType.APPLICATION_NDJSON_VALUE)
+    @PreAuthorize("hasRole('ADMIN') or hasRole('PROFESSOR') or hasRole('ESTUDANTE')")
+    @Operation(summary = "Exportar eventos",
+            description = "Com Accept: application/x-ndjson, envia um objeto JSON por linha à medida que é lido do banco")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Eventos em NDJSON",
+                    content = @Content(mediaType = MediaType.APPLICATION_NDJSON_VALUE, schema = @Schema(implementation = Evento.class))),
+            @ApiResponse(responseCode = "401", description = "Não autenticado"),
+            @ApiResponse(responseCode = "403", description = "Sem permissão")
+    })
+    public ResponseEntity<StreamingResponseBody> exportar() {
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .body(Ndjson.<Evento>corpo(objectMapper, eventoService::percorrerTodos));
+    }
+
     @GetMapping("/{id}")
     @PreAuthorize("hasRole('ADMIN') or hasRole('PROFESSOR') or hasRole('ESTUDANTE')")
     @Operation(summary = "Buscar evento por ID", 
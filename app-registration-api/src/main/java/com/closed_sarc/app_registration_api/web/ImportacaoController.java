@@ -0,0 +1,102 @@
+package com.closed_sarc.app_registration_api.web;
+
+import com.closed_sarc.app_registration_api.application.dto.ResultadoImportacaoDTO;
+import com.closed_sarc.app_registration_api.service.FormatoImportacao;
+import com.closed_sarc.app_registration_api.service.ImportacaoService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.*;
+
+import java.io.InputStream;
+
+@RestController
+@RequestMapping("/api/importacoes")
+@RequiredArgsConstructor
+@Tag(name = "Importação", description = "Cadastro em lote a partir de arquivos CSV (com cabeçalho) ou NDJSON")
+public class ImportacaoController {
+    private final ImportacaoService importacaoService;
+
+    @PostMapping(value = "/usuarios", consumes = {FormatoImportacao.TEXT_CSV_VALUE, MediaType.APPLICATION_NDJSON_VALUE})
+    @PreAuthorize("hasRole('ADMIN')")
+    @Operation(summary = "Importar usuários",
+            description = "Corpo em CSV ou NDJSON com os campos nome, email, senha e tipo. "
+                    + "Registros inválidos são listados em 'erros' e não impedem a gravação dos demais.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Importação concluída",
+                    content = @Content(mediaType = "application/json", schema = @Schema(implementation = ResultadoImportacaoDTO.class))),
+            @ApiResponse(responseCode = "401", description = "Não autenticado"),
+            @ApiResponse(responseCode = "403", description = "Sem permissão - apenas ADMIN pode importar"),
+            @ApiResponse(responseCode = "415", description = "Formato não suportado")
+    })
+    public ResponseEntity<?> importarUsuarios(
+            @RequestHeader(HttpHeaders.CONTENT_TYPE) MediaType contentType,
+            InputStream corpo) {
+        try {
+            return ResponseEntity.ok(importacaoService.importarUsuarios(corpo, FormatoImportacao.de(contentType)));
+        } catch (Exception e) {
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                    .body(new ErrorResponse("Erro interno do servidor"));
+        }
+    }
+
+    @PostMapping(value = "/disciplinas", consumes = {FormatoImportacao.TEXT_CSV_VALUE, MediaType.APPLICATION_NDJSON_VALUE})
+    @PreAuthorize("hasRole('ADMIN')")
+    @Operation(summary = "Importar disciplinas",
+            description = "Corpo em CSV ou NDJSON com os campos nome, descricao e cargaHoraria")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Importação concluída",
+                    content = @Content(mediaType = "application/json", schema = @Schema(implementation = ResultadoImportacaoDTO.class))),
+            @ApiResponse(responseCode = "401", description = "Não autenticado"),
+            @ApiResponse(responseCode = "403", description = "Sem permissão - apenas ADMIN pode importar"),
+            @ApiResponse(responseCode = "415", description = "Formato não suportado")
+    })
+    public ResponseEntity<?> importarDisciplinas(
+            @RequestHeader(HttpHeaders.CONTENT_TYPE) MediaType contentType,
+            InputStream corpo) {
+        try {
+            return ResponseEntity.ok(importacaoService.importarDisciplinas(corpo, FormatoImportacao.de(contentType)));
+        } catch (Exception e) {
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                    .body(new ErrorResponse("Erro interno do servidor"));
+        }
+    }
+
+    @PostMapping(value = "/turmas", consumes = {FormatoImportacao.TEXT_CSV_VALUE, MediaType.APPLICATION_NDJSON_VALUE})
+    @PreAuthorize("hasRole('ADMIN')")
+    @Operation(summary = "Importar turmas",
+            description = "Corpo em CSV ou NDJSON com os campos nome, semestre, ano, horario, diasAula "
+                    + "(ex.: SEGUNDA|QUARTA), professorId e disciplinaId")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Importação concluída",
+                    content = @Content(mediaType = "application/json", schema = @Schema(implementation = ResultadoImportacaoDTO.class))),
+            @ApiResponse(responseCode = "401", description = "Não autenticado"),
+            @ApiResponse(responseCode = "403", description = "Sem permissão - apenas ADMIN pode importar"),
+            @ApiResponse(responseCode = "415", description = "Formato não suportado")
+    })
+    public ResponseEntity<?> importarTurmas(
+            @RequestHeader(HttpHeaders.CONTENT_TYPE) MediaType contentType,
+            InputStream corpo) {
+        try {
+            return ResponseEntity.ok(importacaoService.importarTurmas(corpo, FormatoImportacao.de(contentType)));
+        } catch (Exception e) {
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                    .body(new ErrorResponse("Erro interno do servidor"));
+        }
+    }
+
+    @Schema(description = "DTO de resposta de erro")
+    public record ErrorResponse(
+            @Schema(description = "Mensagem de erro", example = "Erro interno do servidor")
+            String message
+    ) {}
+}
@@ -0,0 +1,78 @@
+package com.closed_sarc.app_registration_api.web;
+
+import java.util.List;
+import java.util.UUID;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.mapping.PropertyReferenceException;
+import org.springframework.stereotype.Component;
+
+import com.closed_sarc.app_registration_api.application.dto.PaginaDTO;
+
+/**
+ * Resposta comum dos endpoints de listagem (ver PaginacaoConfig):
+ * <ul>
+ *   <li>com {@code cursor} (vazio na primeira página) e {@code size}: página por cursor, em ordem de id;</li>
+ *   <li>com {@code page} e {@code size}, ou só {@code sort}: página por número, com totais;</li>
+ *   <li>sem parâmetros: a lista completa, como antes da paginação.</li>
+ * </ul>
+ * Parâmetros inválidos viram {@link IllegalArgumentException}, que os controllers
+ * respondem com 400.
+ */
+@Component
+public class Listagem {
+
+    static final int TAMANHO_PADRAO = 20;
+
+    private final int tamanhoMaximo;
+
+    public Listagem(@Value("${listagem.tamanho-maximo:500}") int tamanhoMaximo) {
+        this.tamanhoMaximo = tamanhoMaximo;
+    }
+
+    /**
+     * @param pageable      chega "unpaged" sem {@code page} e {@code size} (ver PaginacaoConfig)
+     * @param tamanhoCursor o {@code size} da requisição, lido à parte porque sozinho não pagina o {@code pageable}
+     */
+    <T> Object listar(Pageable pageable, String cursor, Integer tamanhoCursor, Supplier<List<T>> todos,
+            Function<Pageable, Page<T>> paginado, BiFunction<UUID, Integer, List<T>> aposCursor,
+            Function<T, UUID> id) {
+        if (cursor != null) {
+            int tamanho = tamanhoCursor == null || tamanhoCursor < 1
+                    ? TAMANHO_PADRAO
+                    : Math.min(tamanhoCursor, tamanhoMaximo);
+            return PaginaDTO.porCursor(aposCursor.apply(lerCursor(cursor), tamanho), tamanho, id);
+        }
+        if (pageable.isPaged() || pageable.getSort().isSorted()) {
+            Pageable pagina = pageable.isPaged() ? pageable : PageRequest.of(0, TAMANHO_PADRAO, pageable.getSort());
+            try {
+                return PaginaDTO.de(paginado.apply(pagina));
+            } catch (RuntimeException e) {
+                // O repositório pode embrulhar o erro de sort em InvalidDataAccessApiUsageException
+                Throwable causa = e instanceof PropertyReferenceException ? e : e.getCause();
+                if (causa instanceof PropertyReferenceException ref) {
+                    throw new IllegalArgumentException("Campo de ordenação inválido: " + ref.getPropertyName());
+                }
+                throw e;
+            }
+        }
+        return todos.get();
+    }
+
+    private UUID lerCursor(String cursor) {
+        if (cursor.isBlank()) {
+            return null;
+        }
+        try {
+            return UUID.fromString(cursor);
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Cursor inválido");
+        }
+    }
+}
@@ -0,0 +1,46 @@
+package com.closed_sarc.app_registration_api.web;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.function.Consumer;
+
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * Corpo de resposta em NDJSON (um objeto JSON por linha) escrito à medida que as linhas
+ * são lidas do banco, sem montar a lista inteira em memória.
+ */
+final class Ndjson {
+
+    private static final int LINHAS_POR_FLUSH = 500;
+
+    private Ndjson() {
+    }
+
+    /**
+     * @param fonte recebe o consumidor de cada linha; em geral um {@code percorrerTodos}
+     *              de serviço, que lê o cursor dentro de uma transação somente leitura
+     */
+    static <T> StreamingResponseBody corpo(ObjectMapper objectMapper, Consumer<Consumer<T>> fonte) {
+        return saida -> {
+            int[] linhas = { 0 };
+            try {
+                fonte.accept(linha -> {
+                    try {
+                        saida.write(objectMapper.writeValueAsBytes(linha));
+                        saida.write('\n');
+                        if (++linhas[0] % LINHAS_POR_FLUSH == 0) {
+                            saida.flush();
+                        }
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                });
+            } catch (UncheckedIOException e) {
+                throw e.getCause();
+            }
+        };
+    }
+}
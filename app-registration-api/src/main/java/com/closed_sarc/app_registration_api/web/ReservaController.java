@@ -2,6 +2,7 @@ package com.closed_sarc.app_registration_api.web;
 
 import com.closed_sarc.app_registration_api.application.service.ReservaService;
 import com.closed_sarc.app_registration_api.domain.entities.Horario;
+import com.closed_sarc.app_registration_api.infrastructure.client.dto.ReservaLoteResponseDTO;
 import com.closed_sarc.app_registration_api.infrastructure.client.dto.ReservaResponseDTO;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
@@ -57,6 +58,36 @@ public class ReservaController {
         }
     }
 
+    @PostMapping("/semestre")
+    @Operation(summary = "Reservar recurso para todas as aulas da turma no semestre",
+            description = "Reserva o recurso em todas as datas de aula da turma (ano, semestre e dias da semana) em uma única operação. É tudo ou nada: se alguma data não tiver disponibilidade, nenhuma reserva é criada e os conflitos são listados por data.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "201", description = "Reservas criadas para todas as datas de aula",
+                    content = @Content(mediaType = "application/json", schema = @Schema(implementation = ReservaLoteResponseDTO.class))),
+            @ApiResponse(responseCode = "400", description = "Dados inválidos ou turma não encontrada",
+                    content = @Content(mediaType = "application/json", examples = @ExampleObject(value = "{\"message\": \"Turma não encontrada\"}"))),
+            @ApiResponse(responseCode = "409", description = "Recurso indisponível em uma ou mais datas; nenhuma reserva foi criada",
+                    content = @Content(mediaType = "application/json", schema = @Schema(implementation = ReservaLoteResponseDTO.class))),
+            @ApiResponse(responseCode = "401", description = "Não autenticado"),
+            @ApiResponse(responseCode = "500", description = "Erro interno do servidor")
+    })
+    public ResponseEntity<?> reservarRecursoParaSemestre(@RequestBody ReservaSemestreRequest request) {
+        try {
+            ReservaLoteResponseDTO resultado = reservaService.reservarRecursoParaTodasAsAulas(
+                    request.turmaId(),
+                    request.recursoId(),
+                    request.quantidade()
+            );
+            HttpStatus status = resultado.getConflitos().isEmpty() ? HttpStatus.CREATED : HttpStatus.CONFLICT;
+            return ResponseEntity.status(status).body(resultado);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(new ErrorResponse(e.getMessage()));
+        } catch (Exception e) {
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                    .body(new ErrorResponse("Erro interno do servidor: " + e.getMessage()));
+        }
+    }
+
     @GetMapping("/turma/{turmaId}")
     @Operation(summary = "Listar reservas de uma turma", 
             description = "Retorna todas as reservas de recursos para uma turma específica")
@@ -117,6 +148,18 @@ public class ReservaController {
             Horario horario
     ) {}
 
+    @Schema(description = "DTO para requisição de reserva para todas as aulas do semestre")
+    public record ReservaSemestreRequest(
+            @Schema(description = "ID da turma", example = "550e8400-e29b-41d4-a716-446655440000", required = true)
+            UUID turmaId,
+
+            @Schema(description = "ID do recurso a ser reservado", example = "660e8400-e29b-41d4-a716-446655440001", required = true)
+            UUID recursoId,
+
+            @Schema(description = "Quantidade a ser reservada em cada aula", example = "1", required = true)
+            Integer quantidade
+    ) {}
+
     @Schema(description = "DTO de resposta de erro")
     public record ErrorResponse(
             @Schema(description = "Mensagem de erro", example = "Turma não encontrada")
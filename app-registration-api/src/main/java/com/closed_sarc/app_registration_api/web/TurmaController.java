@@ -1,7 +1,9 @@
 package com.closed_sarc.app_registration_api.web;
 
+import com.closed_sarc.app_registration_api.application.dto.TurmaResumoDTO;
 import com.closed_sarc.app_registration_api.domain.entities.*;
 import com.closed_sarc.app_registration_api.service.TurmaService;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.media.Content;
@@ -10,11 +12,16 @@ import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
+import org.springdoc.core.annotations.ParameterObject;
+import org.springframework.data.domain.Pageable;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.util.EnumSet;
 import java.util.List;
 import java.util.UUID;
 
@@ -24,6 +31,8 @@ import java.util.UUID;
 @Tag(name = "Turmas", description = "API para gerenciamento de turmas")
 public class TurmaController {
     private final TurmaService turmaService;
+    private final Listagem listagem;
+    private final ObjectMapper objectMapper;
 
     @PostMapping
     @PreAuthorize("hasRole('ADMIN')")
@@ -39,12 +48,17 @@ public class TurmaController {
     })
     public ResponseEntity<?> create(@RequestBody TurmaRequest turmaRequest) {
         try {
+            EnumSet<DiaSemana> diasAula = EnumSet.noneOf(DiaSemana.class);
+            if (turmaRequest.diasAula() != null) {
+                diasAula.addAll(turmaRequest.diasAula());
+            }
+
             Turma turma = Turma.builder()
                     .nome(turmaRequest.nome())
                     .semestre(turmaRequest.semestre())
                     .ano(turmaRequest.ano())
                     .horario(turmaRequest.horario())
-                    .diasAula(turmaRequest.diasAula())
+                    .diasAula(diasAula)
                     .build();
 
             Turma saved = turmaService.create(turma, turmaRequest.professorId(), turmaRequest.disciplinaId());
@@ -85,37 +99,62 @@ public class TurmaController {
     @GetMapping
     @PreAuthorize("hasAnyRole('ADMIN', 'PROFESSOR')")
     @Operation(summary = "Listar todas as turmas", 
-            description = "Retorna a lista de todas as turmas do sistema")
+            description = "Retorna a lista de todas as turmas do sistema."
+                    + " Com page/size/sort ou cursor, retorna uma página (PaginaDTO).")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "Lista de turmas retornada com sucesso",
-                    content = @Content(mediaType = "application/json", schema = @Schema(implementation = Turma.class))),
+                    content = @Content(mediaType = "application/json", schema = @Schema(implementation = TurmaResumoDTO.class))),
+            @ApiResponse(responseCode = "400", description = "Cursor ou campo de ordenação inválido",
+                    content = @Content(mediaType = "application/json")),
             @ApiResponse(responseCode = "401", description = "Não autenticado"),
             @ApiResponse(responseCode = "403", description = "Sem permissão")
     })
-    public ResponseEntity<List<Turma>> getAll() {
+    public ResponseEntity<?> getAll(
+            @ParameterObject Pageable pageable,
+            @Parameter(description = "Paginação por cursor: vazio na primeira página, depois o 'proximo' da resposta")
+            @RequestParam(required = false) String cursor,
+            @Parameter(hidden = true) @RequestParam(name = "size", required = false) Integer tamanho) {
         try {
-            List<Turma> turmas = turmaService.findAll();
-            return ResponseEntity.ok(turmas);
+            return ResponseEntity.ok(listagem.listar(pageable, cursor, tamanho, turmaService::findAll, turmaService::findAll,
+                    turmaService::findApos, TurmaResumoDTO::getId));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(new ErrorResponse(e.getMessage()));
         } catch (Exception e) {
             return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).build();
         }
     }
 
+    @GetMapping(produces = MediaType.APPLICATION_NDJSON_VALUE)
+    @PreAuthorize("hasAnyRole('ADMIN', 'PROFESSOR')")
+    @Operation(summary = "Exportar turmas",
+            description = "Com Accept: application/x-ndjson, envia um objeto JSON por linha à medida que é lido do banco")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Turmas em NDJSON",
+                    content = @Content(mediaType = MediaType.APPLICATION_NDJSON_VALUE, schema = @Schema(implementation = TurmaResumoDTO.class))),
+            @ApiResponse(responseCode = "401", description = "Não autenticado"),
+            @ApiResponse(responseCode = "403", description = "Sem permissão")
+    })
+    public ResponseEntity<StreamingResponseBody> exportar() {
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .body(Ndjson.<TurmaResumoDTO>corpo(objectMapper, turmaService::percorrerTodos));
+    }
+
     @GetMapping("/professor/{professorId}")
     @PreAuthorize("hasAnyRole('ADMIN', 'PROFESSOR')")
     @Operation(summary = "Buscar turmas por professor", 
             description = "Retorna todas as turmas associadas a um professor específico")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "Lista de turmas do professor retornada com sucesso",
-                    content = @Content(mediaType = "application/json", schema = @Schema(implementation = Turma.class))),
+                    content = @Content(mediaType = "application/json", schema = @Schema(implementation = TurmaResumoDTO.class))),
             @ApiResponse(responseCode = "401", description = "Não autenticado"),
             @ApiResponse(responseCode = "403", description = "Sem permissão")
     })
-    public ResponseEntity<List<Turma>> getByProfessor(
+    public ResponseEntity<List<TurmaResumoDTO>> getByProfessor(
             @Parameter(description = "ID do professor", example = "550e8400-e29b-41d4-a716-446655440000")
             @PathVariable UUID professorId) {
         try {
-            List<Turma> turmas = turmaService.findByProfessorId(professorId);
+            List<TurmaResumoDTO> turmas = turmaService.findByProfessorId(professorId);
             return ResponseEntity.ok(turmas);
         } catch (Exception e) {
             return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).build();
@@ -128,15 +167,15 @@ public class TurmaController {
             description = "Retorna todas as turmas associadas a uma disciplina específica")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "Lista de turmas da disciplina retornada com sucesso",
-                    content = @Content(mediaType = "application/json", schema = @Schema(implementation = Turma.class))),
+                    content = @Content(mediaType = "application/json", schema = @Schema(implementation = TurmaResumoDTO.class))),
             @ApiResponse(responseCode = "401", description = "Não autenticado"),
             @ApiResponse(responseCode = "403", description = "Sem permissão")
     })
-    public ResponseEntity<List<Turma>> getByDisciplina(
+    public ResponseEntity<List<TurmaResumoDTO>> getByDisciplina(
             @Parameter(description = "ID da disciplina", example = "550e8400-e29b-41d4-a716-446655440000")
             @PathVariable UUID disciplinaId) {
         try {
-            List<Turma> turmas = turmaService.findByDisciplinaId(disciplinaId);
+            List<TurmaResumoDTO> turmas = turmaService.findByDisciplinaId(disciplinaId);
             return ResponseEntity.ok(turmas);
         } catch (Exception e) {
             return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).build();
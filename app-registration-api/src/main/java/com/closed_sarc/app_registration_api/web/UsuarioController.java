@@ -2,6 +2,7 @@ package com.closed_sarc.app_registration_api.web;
 
 import com.closed_sarc.app_registration_api.domain.entities.Usuario;
 import com.closed_sarc.app_registration_api.service.UsuarioService;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.media.Content;
@@ -11,12 +12,15 @@ import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
+import org.springdoc.core.annotations.ParameterObject;
+import org.springframework.data.domain.Pageable;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
-import java.util.List;
 import java.util.UUID;
 
 @RestController
@@ -25,6 +29,8 @@ import java.util.UUID;
 @Tag(name = "Usuários", description = "API para gerenciamento de usuários")
 public class UsuarioController {
     private final UsuarioService usuarioService;
+    private final Listagem listagem;
+    private final ObjectMapper objectMapper;
 
     @PostMapping
     @PreAuthorize("hasRole('ADMIN')")
@@ -78,22 +84,47 @@ public class UsuarioController {
     @GetMapping
     @PreAuthorize("hasRole('ADMIN')")
     @Operation(summary = "Listar todos os usuários", 
-            description = "Retorna a lista de todos os usuários do sistema. Apenas ADMIN pode acessar.")
+            description = "Retorna a lista de todos os usuários do sistema. Apenas ADMIN pode acessar."
+                    + " Com page/size/sort ou cursor, retorna uma página (PaginaDTO).")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "Lista de usuários retornada com sucesso",
                     content = @Content(mediaType = "application/json", schema = @Schema(implementation = Usuario.class))),
+            @ApiResponse(responseCode = "400", description = "Cursor ou campo de ordenação inválido",
+                    content = @Content(mediaType = "application/json")),
             @ApiResponse(responseCode = "401", description = "Não autenticado"),
             @ApiResponse(responseCode = "403", description = "Sem permissão - apenas ADMIN pode acessar")
     })
-    public ResponseEntity<List<Usuario>> getAll() {
+    public ResponseEntity<?> getAll(
+            @ParameterObject Pageable pageable,
+            @Parameter(description = "Paginação por cursor: vazio na primeira página, depois o 'proximo' da resposta")
+            @RequestParam(required = false) String cursor,
+            @Parameter(hidden = true) @RequestParam(name = "size", required = false) Integer tamanho) {
         try {
-            List<Usuario> usuarios = usuarioService.findAll();
-            return ResponseEntity.ok(usuarios);
+            return ResponseEntity.ok(listagem.listar(pageable, cursor, tamanho, usuarioService::findAll, usuarioService::findAll,
+                    usuarioService::findApos, Usuario::getId));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(new ErrorResponse(e.getMessage()));
         } catch (Exception e) {
             return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).build();
         }
     }
 
+    @GetMapping(produces = MediaType.APPLICATION_NDJSON_VALUE)
+    @PreAuthorize("hasRole('ADMIN')")
+    @Operation(summary = "Exportar usuários",
+            description = "Com Accept: application/x-ndjson, envia um objeto JSON por linha à medida que é lido do banco")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Usuários em NDJSON",
+                    content = @Content(mediaType = MediaType.APPLICATION_NDJSON_VALUE, schema = @Schema(implementation = Usuario.class))),
+            @ApiResponse(responseCode = "401", description = "Não autenticado"),
+            @ApiResponse(responseCode = "403", description = "Sem permissão")
+    })
+    public ResponseEntity<StreamingResponseBody> exportar() {
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .body(Ndjson.<Usuario>corpo(objectMapper, usuarioService::percorrerTodos));
+    }
+
     @DeleteMapping("/{id}")
     @PreAuthorize("hasRole('ADMIN')")
     @Operation(summary = "Excluir usuário", 
@@ -0,0 +1,47 @@
+-- Esquema da registration-api como era gerado pelo ddl-auto: update.
+-- IF NOT EXISTS permite aplicar sobre bancos criados antes do Flyway (baseline-version 0).
+
+CREATE TABLE IF NOT EXISTS usuario (
+    id            uuid         NOT NULL PRIMARY KEY,
+    nome          varchar(255) NOT NULL,
+    email         varchar(255) NOT NULL UNIQUE,
+    senha         varchar(255) NOT NULL,
+    tipo          varchar(20)  NOT NULL,
+    data_criacao  timestamp(6) with time zone NOT NULL
+);
+
+CREATE TABLE IF NOT EXISTS disciplina (
+    id             uuid         NOT NULL PRIMARY KEY,
+    nome           varchar(255) NOT NULL,
+    descricao      text,
+    carga_horaria  integer
+);
+
+CREATE TABLE IF NOT EXISTS turma (
+    id             uuid         NOT NULL PRIMARY KEY,
+    nome           varchar(255) NOT NULL,
+    semestre       varchar(50)  NOT NULL,
+    ano            integer      NOT NULL,
+    horario        varchar(5)   NOT NULL,
+    professor_id   uuid         NOT NULL REFERENCES usuario (id),
+    disciplina_id  uuid         NOT NULL REFERENCES disciplina (id)
+);
+
+CREATE TABLE IF NOT EXISTS turma_dias_aula (
+    turma_id    uuid        NOT NULL REFERENCES turma (id),
+    dia_semana  varchar(255) NOT NULL
+);
+
+-- evento é compartilhada com a reservation-api; aqui só garantimos as colunas desta API
+CREATE TABLE IF NOT EXISTS evento (
+    id           uuid NOT NULL PRIMARY KEY,
+    titulo       varchar(255),
+    descricao    text,
+    data_inicio  timestamp(6) with time zone,
+    data_fim     timestamp(6) with time zone
+);
+
+ALTER TABLE evento ADD COLUMN IF NOT EXISTS usuario_id uuid REFERENCES usuario (id);
+ALTER TABLE evento ADD COLUMN IF NOT EXISTS created_at timestamp(6) with time zone;
+
+CREATE INDEX IF NOT EXISTS idx_evento_periodo ON evento (data_inicio, data_fim);
@@ -0,0 +1,33 @@
+-- Dias de aula passam da tabela turma_dias_aula (uma linha por dia) para uma máscara de
+-- 7 bits na própria turma: bit 0 = SEGUNDA ... bit 6 = DOMINGO (ver DiasSemanaConverter).
+
+ALTER TABLE turma ADD COLUMN IF NOT EXISTS dias_aula smallint NOT NULL DEFAULT 0;
+
+DO $$
+BEGIN
+    IF to_regclass('turma_dias_aula') IS NOT NULL THEN
+        UPDATE turma t
+           SET dias_aula = d.mascara
+          FROM (SELECT turma_id,
+                       bit_or(CASE dia_semana
+                                  WHEN 'SEGUNDA' THEN 1
+                                  WHEN 'TERCA'   THEN 2
+                                  WHEN 'QUARTA'  THEN 4
+                                  WHEN 'QUINTA'  THEN 8
+                                  WHEN 'SEXTA'   THEN 16
+                                  WHEN 'SABADO'  THEN 32
+                                  WHEN 'DOMINGO' THEN 64
+                                  ELSE 0
+                              END)::smallint AS mascara
+                  FROM turma_dias_aula
+                 GROUP BY turma_id) d
+         WHERE t.id = d.turma_id;
+
+        DROP TABLE turma_dias_aula;
+    END IF;
+END $$;
+
+ALTER TABLE turma ALTER COLUMN dias_aula DROP DEFAULT;
+
+-- Atende "turmas com aula no dia X": o filtro é um IN sobre as 64 máscaras que contêm o dia
+CREATE INDEX IF NOT EXISTS idx_turma_dias_aula ON turma (dias_aula);
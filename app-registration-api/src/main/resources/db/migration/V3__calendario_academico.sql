@@ -0,0 +1,24 @@
+-- Calendário acadêmico por semestre: período letivo, feriados e dias de reposição
+
+CREATE TABLE calendario_academico (
+    id           uuid        NOT NULL PRIMARY KEY,
+    ano          integer     NOT NULL,
+    semestre     varchar(50) NOT NULL,
+    data_inicio  date        NOT NULL,
+    data_fim     date        NOT NULL,
+    CONSTRAINT uk_calendario_ano_semestre UNIQUE (ano, semestre)
+);
+
+CREATE TABLE calendario_feriado (
+    calendario_id  uuid NOT NULL REFERENCES calendario_academico (id) ON DELETE CASCADE,
+    data           date NOT NULL
+);
+
+CREATE TABLE calendario_reposicao (
+    calendario_id  uuid        NOT NULL REFERENCES calendario_academico (id) ON DELETE CASCADE,
+    data           date        NOT NULL,
+    dia_semana     varchar(20) NOT NULL
+);
+
+CREATE INDEX idx_calendario_feriado_calendario ON calendario_feriado (calendario_id);
+CREATE INDEX idx_calendario_reposicao_calendario ON calendario_reposicao (calendario_id);
@@ -3,7 +3,7 @@ package com.closed_sarc.app_registration_api;
 import org.junit.jupiter.api.Test;
 import org.springframework.boot.test.context.SpringBootTest;
 
-@SpringBootTest
+@SpringBootTest(properties = "security.auth.token-secret=closed-sarc-chave-de-teste-com-mais-de-32-bytes")
 class AppRegistrationApiApplicationTests {
 
 	@Test
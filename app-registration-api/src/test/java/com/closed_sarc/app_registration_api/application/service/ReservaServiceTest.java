@@ -0,0 +1,129 @@
+package com.closed_sarc.app_registration_api.application.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.Instant;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+
+import com.closed_sarc.app_registration_api.application.event.ReservaCriadaEvent;
+import com.closed_sarc.app_registration_api.config.CalendarioProperties;
+import com.closed_sarc.app_registration_api.domain.entities.DiaSemana;
+import com.closed_sarc.app_registration_api.domain.entities.Horario;
+import com.closed_sarc.app_registration_api.domain.entities.Semestre;
+import com.closed_sarc.app_registration_api.domain.entities.Turma;
+import com.closed_sarc.app_registration_api.domain.repositories.CalendarioAcademicoRepository;
+import com.closed_sarc.app_registration_api.domain.repositories.TurmaRepository;
+import com.closed_sarc.app_registration_api.infrastructure.client.dto.ReservaLoteResponseDTO;
+import com.closed_sarc.app_registration_api.infrastructure.client.dto.ReservaResponseDTO;
+import com.closed_sarc.app_registration_api.service.CalendarioAcademicoService;
+import com.closed_sarc.app_registration_api.service.ReservationService;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ReservaService - Testes Unitários")
+class ReservaServiceTest {
+
+  @Mock
+  private TurmaRepository turmaRepository;
+
+  @Mock
+  private ReservationService reservationService;
+
+  @Mock
+  private ApplicationEventPublisher eventPublisher;
+
+  @Mock
+  private CalendarioAcademicoRepository calendarioAcademicoRepository;
+
+  private ReservaService reservaService;
+
+  @BeforeEach
+  void setUp() {
+    // Sem calendário cadastrado: semestres no período padrão, sem feriados
+    CalendarioAcademicoService calendarioAcademicoService = new CalendarioAcademicoService(
+        calendarioAcademicoRepository, new CalendarioProperties(List.of(), List.of()), eventPublisher);
+    reservaService = new ReservaService(turmaRepository, reservationService, eventPublisher, calendarioAcademicoService);
+  }
+
+  @Test
+  @DisplayName("Deve reservar todas as aulas do semestre em uma única chamada à reservation-api")
+  @SuppressWarnings("unchecked")
+  void deveReservarTodasAsAulasEmUmaUnicaChamada() {
+    // Given
+    UUID turmaId = UUID.randomUUID();
+    UUID recursoId = UUID.randomUUID();
+    Turma turma = Turma.builder()
+        .id(turmaId)
+        .nome("33A")
+        .semestre(Semestre.PRIMEIRO)
+        .ano(2025)
+        .horario(Horario.A)
+        .diasAula(EnumSet.of(DiaSemana.SEGUNDA, DiaSemana.QUARTA))
+        .build();
+    when(turmaRepository.findById(turmaId)).thenReturn(Optional.of(turma));
+
+    ReservaLoteResponseDTO resultado = ReservaLoteResponseDTO.builder()
+        .reservas(List.of(ReservaResponseDTO.builder().id(UUID.randomUUID()).build(),
+            ReservaResponseDTO.builder().id(UUID.randomUUID()).build()))
+        .build();
+    when(reservationService.createReservations(eq(turmaId), eq(recursoId), eq(1), anyList())).thenReturn(resultado);
+
+    // When
+    ReservaLoteResponseDTO retorno = reservaService.reservarRecursoParaTodasAsAulas(turmaId, recursoId, 1);
+
+    // Then
+    ArgumentCaptor<List<Instant>> datasUso = ArgumentCaptor.forClass(List.class);
+    verify(reservationService, times(1)).createReservations(eq(turmaId), eq(recursoId), eq(1), datasUso.capture());
+    // 2025/1: 26 segundas e 26 quartas entre janeiro e junho
+    assertEquals(52, datasUso.getValue().size());
+    assertEquals(Instant.parse("2025-01-01T08:00:00Z"), datasUso.getValue().get(0));
+    assertEquals(resultado, retorno);
+    verify(eventPublisher, times(2)).publishEvent(any(ReservaCriadaEvent.class));
+  }
+
+  @Test
+  @DisplayName("Não deve publicar eventos quando a reserva em lote retorna conflitos")
+  void naoDevePublicarEventosQuandoLoteComConflitos() {
+    // Given
+    UUID turmaId = UUID.randomUUID();
+    Turma turma = Turma.builder()
+        .id(turmaId)
+        .nome("33A")
+        .semestre(Semestre.SEGUNDO)
+        .ano(2025)
+        .horario(Horario.A)
+        .diasAula(EnumSet.of(DiaSemana.SEXTA))
+        .build();
+    when(turmaRepository.findById(turmaId)).thenReturn(Optional.of(turma));
+    when(reservationService.createReservations(eq(turmaId), any(), eq(1), anyList())).thenReturn(
+        ReservaLoteResponseDTO.builder()
+            .message("Recurso indisponível em 1 das datas solicitadas")
+            .conflitos(List.of(new ReservaLoteResponseDTO.ConflitoDTO(Instant.parse("2025-07-04T08:00:00Z"), 0)))
+            .build());
+
+    // When
+    ReservaLoteResponseDTO retorno = reservaService.reservarRecursoParaTodasAsAulas(turmaId, UUID.randomUUID(), 1);
+
+    // Then
+    assertEquals(1, retorno.getConflitos().size());
+    verify(eventPublisher, never()).publishEvent(any(ReservaCriadaEvent.class));
+  }
+}
@@ -3,47 +3,120 @@ package com.closed_sarc.app_registration_api.application.service.impl;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
+import static org.springframework.test.web.client.ExpectedCount.once;
+import static org.springframework.test.web.client.match.MockRestRequestMatchers.method;
+import static org.springframework.test.web.client.match.MockRestRequestMatchers.requestTo;
+import static org.springframework.test.web.client.response.MockRestResponseCreators.withSuccess;
 
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.EnumSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.boot.web.client.RestTemplateBuilder;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.core.env.StandardEnvironment;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.client.MockRestServiceServer;
+import org.springframework.web.client.RestTemplate;
 
 import com.closed_sarc.app_registration_api.application.dto.AulaDTO;
 import com.closed_sarc.app_registration_api.application.dto.CronogramaDTO;
+import com.closed_sarc.app_registration_api.application.event.CalendarioAlteradoEvent;
+import com.closed_sarc.app_registration_api.application.event.ReservaCriadaEvent;
+import com.closed_sarc.app_registration_api.application.service.CronogramaService;
+import com.closed_sarc.app_registration_api.config.CalendarioProperties;
+import com.closed_sarc.app_registration_api.config.CronogramaProperties;
+import com.closed_sarc.app_registration_api.domain.entities.CalendarioAcademico;
 import com.closed_sarc.app_registration_api.domain.entities.DiaSemana;
 import com.closed_sarc.app_registration_api.domain.entities.Disciplina;
 import com.closed_sarc.app_registration_api.domain.entities.Horario;
+import com.closed_sarc.app_registration_api.domain.entities.Reposicao;
+import com.closed_sarc.app_registration_api.domain.entities.Semestre;
 import com.closed_sarc.app_registration_api.domain.entities.Turma;
 import com.closed_sarc.app_registration_api.domain.entities.Usuario;
+import com.closed_sarc.app_registration_api.domain.repositories.CalendarioAcademicoRepository;
+import com.closed_sarc.app_registration_api.domain.repositories.EventoRepository;
 import com.closed_sarc.app_registration_api.domain.repositories.TurmaRepository;
+import com.closed_sarc.app_registration_api.infrastructure.client.Bulkhead;
+import com.closed_sarc.app_registration_api.infrastructure.client.CircuitBreaker;
+import com.closed_sarc.app_registration_api.infrastructure.client.ReservasConhecidasCache;
+import com.closed_sarc.app_registration_api.infrastructure.client.ReservationApiClient;
+import com.closed_sarc.app_registration_api.infrastructure.client.dto.ReservaResponseDTO;
+import com.closed_sarc.app_registration_api.service.CalendarioAcademicoService;
+import com.closed_sarc.app_registration_api.service.ConsultaReservasEmLotes;
+import com.closed_sarc.app_registration_api.service.ReservationService;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 
 @ExtendWith(MockitoExtension.class)
 @DisplayName("CronogramaServiceImpl - Testes Unitários")
 class CronogramaServiceImplTest {
 
+  // Quarta-feira, 12/03/2025, no fuso do campus
+  private static final LocalDate HOJE = LocalDate.of(2025, 3, 12);
+  private static final Clock CLOCK = Clock.fixed(Instant.parse("2025-03-12T15:00:00Z"), ZoneId.of("America/Sao_Paulo"));
+
   @Mock
   private TurmaRepository turmaRepository;
 
-  @InjectMocks
+  @Mock
+  private EventoRepository eventoRepository;
+
+  @Mock
+  private ReservationService reservationService;
+
+  @Mock
+  private CalendarioAcademicoRepository calendarioAcademicoRepository;
+
+  @Mock
+  private ApplicationEventPublisher eventPublisher;
+
+  private CalendarioAcademicoService calendarioAcademicoService;
+
+  @Spy
+  private ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules();
+
   private CronogramaServiceImpl cronogramaService;
 
+  private SimpleMeterRegistry meterRegistry;
+
   private Usuario professor;
   private Disciplina disciplina;
   private Turma turma;
 
   @BeforeEach
   void setUp() {
+    calendarioAcademicoService = new CalendarioAcademicoService(calendarioAcademicoRepository,
+        new CalendarioProperties(List.of(), List.of()), eventPublisher);
+    meterRegistry = new SimpleMeterRegistry();
+    cronogramaService = new CronogramaServiceImpl(turmaRepository, eventoRepository, consultaReservas(reservationService),
+        objectMapper, CLOCK, calendarioAcademicoService, meterRegistry);
+
     // Criar objetos de teste
     professor = Usuario.builder()
         .nome("Prof. Maria Silva")
@@ -55,6 +128,9 @@ class CronogramaServiceImplTest {
 
     turma = Turma.builder()
         .nome("33A")
+        .semestre(Semestre.PRIMEIRO)
+        .ano(2025)
+        .diasAula(EnumSet.of(DiaSemana.QUARTA))
         .horario(Horario.A)
         .professor(professor)
         .disciplina(disciplina)
@@ -87,6 +163,23 @@ class CronogramaServiceImplTest {
     verify(turmaRepository).findByDiasAulaContaining(any(DiaSemana.class));
   }
 
+  @Test
+  @DisplayName("Deve medir cada fase da montagem do cronograma uma única vez por snapshot")
+  void deveMedirFasesDaMontagemDoCronograma() {
+    // Given
+    when(turmaRepository.findByDiasAulaContaining(any(DiaSemana.class)))
+        .thenReturn(Arrays.asList(turma));
+
+    // When
+    cronogramaService.consultarCronograma();
+    cronogramaService.consultarCronograma();
+
+    // Then
+    for (String fase : List.of("turmas", "reservas", "eventos", "serializacao")) {
+      assertEquals(1, meterRegistry.get("cronograma.montagem").tag("fase", fase).timer().count(), fase);
+    }
+  }
+
   @Test
   @DisplayName("Deve retornar cronograma vazio quando não existem turmas")
   void deveRetornarCronogramaVazioQuandoNaoExistemTurmas() {
@@ -105,6 +198,87 @@ class CronogramaServiceImplTest {
     verify(turmaRepository).findByDiasAulaContaining(any(DiaSemana.class));
   }
 
+  @Test
+  @DisplayName("Deve retornar cronograma sem aulas em feriado e ignorar turmas de outro semestre")
+  void deveRetornarCronogramaSemAulasEmFeriadoEDeOutroSemestre() {
+    // Given
+    Turma turmaDoSegundoSemestre = Turma.builder()
+        .nome("44B")
+        .semestre(Semestre.SEGUNDO)
+        .ano(2025)
+        .diasAula(EnumSet.of(DiaSemana.QUARTA))
+        .horario(Horario.B)
+        .professor(professor)
+        .disciplina(disciplina)
+        .build();
+    when(turmaRepository.findByDiasAulaContaining(DiaSemana.QUARTA))
+        .thenReturn(Arrays.asList(turma, turmaDoSegundoSemestre));
+
+    // When
+    CronogramaDTO diaLetivo = cronogramaService.consultarCronograma();
+
+    when(calendarioAcademicoRepository.findByAno(2025)).thenReturn(List.of(CalendarioAcademico.builder()
+        .ano(2025)
+        .semestre(Semestre.PRIMEIRO)
+        .dataInicio(LocalDate.of(2025, 2, 17))
+        .dataFim(LocalDate.of(2025, 7, 5))
+        .feriados(Set.of(HOJE))
+        .build()));
+    calendarioAcademicoService.onCalendarioAlterado(new CalendarioAlteradoEvent(2025));
+    cronogramaService.onCalendarioAlterado(new CalendarioAlteradoEvent(2025));
+    CronogramaDTO feriado = cronogramaService.consultarCronograma();
+
+    // Then
+    assertEquals(1, diaLetivo.getAulasDeHoje().size());
+    assertEquals("(33A)", diaLetivo.getAulasDeHoje().get(0).getTurma());
+    assertTrue(feriado.getAulasDeHoje().isEmpty());
+    verify(turmaRepository, times(1)).findByDiasAulaContaining(any(DiaSemana.class));
+  }
+
+  @Test
+  @DisplayName("Deve montar cada semestre com a sua grade no dia da virada")
+  void deveMontarCadaSemestreComASuaGradeNaVirada() {
+    // Given: sexta, 04/07/2025, último dia do primeiro semestre, com reposição da grade de
+    // segunda; o segundo semestre começou em 30/06 e segue a grade de sexta
+    LocalDate ultimoDia = LocalDate.of(2025, 7, 4);
+    when(calendarioAcademicoRepository.findByAno(2025)).thenReturn(List.of(
+        CalendarioAcademico.builder()
+            .ano(2025)
+            .semestre(Semestre.PRIMEIRO)
+            .dataInicio(LocalDate.of(2025, 2, 17))
+            .dataFim(ultimoDia)
+            .reposicoes(Set.of(new Reposicao(ultimoDia, DiaSemana.SEGUNDA)))
+            .build(),
+        CalendarioAcademico.builder()
+            .ano(2025)
+            .semestre(Semestre.SEGUNDO)
+            .dataInicio(LocalDate.of(2025, 6, 30))
+            .dataFim(LocalDate.of(2025, 12, 12))
+            .build()));
+    Turma primeiroNaSegunda = turmaDoSemestre("P-SEG", Semestre.PRIMEIRO, DiaSemana.SEGUNDA);
+    Turma primeiroNaSexta = turmaDoSemestre("P-SEX", Semestre.PRIMEIRO, DiaSemana.SEXTA);
+    Turma segundoNaSegunda = turmaDoSemestre("S-SEG", Semestre.SEGUNDO, DiaSemana.SEGUNDA);
+    Turma segundoNaSexta = turmaDoSemestre("S-SEX", Semestre.SEGUNDO, DiaSemana.SEXTA);
+    when(turmaRepository.findByDiasAulaContaining(DiaSemana.SEGUNDA))
+        .thenReturn(Arrays.asList(primeiroNaSegunda, segundoNaSegunda));
+    when(turmaRepository.findByDiasAulaContaining(DiaSemana.SEXTA))
+        .thenReturn(Arrays.asList(primeiroNaSexta, segundoNaSexta));
+
+    CronogramaServiceImpl servico = new CronogramaServiceImpl(turmaRepository, eventoRepository,
+        consultaReservas(reservationService), objectMapper,
+        Clock.fixed(Instant.parse("2025-07-04T15:00:00Z"), ZoneId.of("America/Sao_Paulo")),
+        calendarioAcademicoService, meterRegistry);
+
+    // When
+    CronogramaDTO resultado = servico.consultarCronograma();
+
+    // Then
+    assertEquals(List.of("(P-SEG)", "(S-SEX)"), resultado.getAulasDeHoje().stream()
+        .map(AulaDTO::getTurma)
+        .sorted()
+        .toList());
+  }
+
   @Test
   @DisplayName("Deve retornar múltiplas aulas quando existem várias turmas")
   void deveRetornarMultiplasAulasQuandoExistemVariasTurmas() {
@@ -119,6 +293,9 @@ class CronogramaServiceImplTest {
 
     Turma turma2 = Turma.builder()
         .nome("33C")
+        .semestre(Semestre.PRIMEIRO)
+        .ano(2025)
+        .diasAula(EnumSet.of(DiaSemana.SEGUNDA, DiaSemana.QUARTA))
         .horario(Horario.E)
         .professor(professor2)
         .disciplina(disciplina2)
@@ -148,4 +325,133 @@ class CronogramaServiceImplTest {
 
     verify(turmaRepository).findByDiasAulaContaining(any(DiaSemana.class));
   }
+
+  @Test
+  @DisplayName("Deve fazer uma única chamada à reservation-api para um dia com 500 turmas")
+  void deveFazerUmaUnicaChamadaParaQuinhentasTurmas() {
+    // Given
+    List<Turma> turmas = new ArrayList<>();
+    for (int i = 0; i < 500; i++) {
+      turmas.add(Turma.builder()
+          .id(UUID.randomUUID())
+          .nome("T" + i)
+          .semestre(Semestre.PRIMEIRO)
+          .ano(2025)
+          .diasAula(EnumSet.of(DiaSemana.QUARTA))
+          .horario(Horario.values()[i % Horario.values().length])
+          .professor(professor)
+          .disciplina(disciplina)
+          .build());
+    }
+    UUID turmaComReserva = turmas.get(0).getId();
+
+    when(turmaRepository.findByDiasAulaContaining(any(DiaSemana.class))).thenReturn(turmas);
+
+    RestTemplate restTemplate = new RestTemplateBuilder().rootUri("http://reservation-api").build();
+    ReservationApiClient client = new ReservationApiClient(restTemplate,
+        new CircuitBreaker(5, Duration.ofSeconds(30)), new Bulkhead(20, Duration.ofMillis(100)));
+    ReservationService reservationServiceReal = new ReservationService(client, new ReservasConhecidasCache(1000));
+    MockRestServiceServer server = MockRestServiceServer.bindTo(restTemplate).build();
+
+    server.expect(once(), requestTo("http://reservation-api/api/reservas/consulta"))
+        .andExpect(method(HttpMethod.POST))
+        .andRespond(withSuccess("{\"" + turmaComReserva + "\": [{\"turmaId\": \"" + turmaComReserva
+            + "\", \"quantidade\": 2, \"recurso\": {\"nome\": \"Projetor\"}}]}", MediaType.APPLICATION_JSON));
+
+    CronogramaServiceImpl servico = new CronogramaServiceImpl(turmaRepository, eventoRepository,
+        consultaReservas(reservationServiceReal), objectMapper, CLOCK, calendarioAcademicoService, new SimpleMeterRegistry());
+
+    // When
+    CronogramaDTO resultado = servico.consultarCronograma();
+
+    // Then
+    server.verify();
+    assertEquals(500, resultado.getAulasDeHoje().size());
+    assertEquals(1, resultado.getAulasDeHoje().get(0).getRecursosReservados().size());
+    assertEquals("Projetor", resultado.getAulasDeHoje().get(0).getRecursosReservados().get(0).getNomeRecurso());
+    assertTrue(resultado.getAulasDeHoje().get(1).getRecursosReservados().isEmpty());
+  }
+
+  @Test
+  @DisplayName("Deve servir o snapshot em memória e aplicar nova reserva sem reconsultar o banco")
+  void deveAplicarReservaCriadaNoSnapshotSemReconsultar() {
+    // Given
+    turma.setId(UUID.randomUUID());
+    when(turmaRepository.findByDiasAulaContaining(any(DiaSemana.class)))
+        .thenReturn(Arrays.asList(turma));
+
+    CronogramaService.Snapshot antes = cronogramaService.obterSnapshot();
+    cronogramaService.consultarCronograma();
+
+    Instant dataUso = HOJE.atTime(8, 0).toInstant(ZoneOffset.UTC);
+    ReservaResponseDTO reserva = ReservaResponseDTO.builder()
+        .turmaId(turma.getId())
+        .dataUso(dataUso)
+        .quantidade(1)
+        .recurso(ReservaResponseDTO.RecursoDTO.builder().nome("Projetor").tipo("Equipamento").build())
+        .build();
+
+    // When
+    cronogramaService.onReservaCriada(new ReservaCriadaEvent(reserva));
+    CronogramaService.Snapshot depois = cronogramaService.obterSnapshot();
+
+    // Then
+    verify(turmaRepository, times(1)).findByDiasAulaContaining(any(DiaSemana.class));
+    assertTrue(antes.cronograma().getAulasDeHoje().get(0).getRecursosReservados().isEmpty());
+    assertEquals("Projetor", depois.cronograma().getAulasDeHoje().get(0).getRecursosReservados().get(0).getNomeRecurso());
+    assertNotEquals(antes.etag(), depois.etag());
+  }
+
+  @Test
+  @DisplayName("Deve incluir na revalidação reservas feitas direto na reservation-api")
+  void deveIncluirNaRevalidacaoReservasFeitasDiretoNaReservationApi() {
+    // Given
+    turma.setId(UUID.randomUUID());
+    when(turmaRepository.findByDiasAulaContaining(any(DiaSemana.class)))
+        .thenReturn(Arrays.asList(turma));
+    CronogramaService.Snapshot antes = cronogramaService.obterSnapshot();
+
+    // Reserva criada por POST /api/reservas da reservation-api: nenhum evento chega aqui
+    ReservaResponseDTO reserva = ReservaResponseDTO.builder()
+        .turmaId(turma.getId())
+        .dataUso(HOJE.atTime(8, 0).toInstant(ZoneOffset.UTC))
+        .quantidade(1)
+        .recurso(ReservaResponseDTO.RecursoDTO.builder().nome("Projetor").tipo("Equipamento").build())
+        .build();
+    when(reservationService.getReservationsByTurmasAndDatas(any()))
+        .thenReturn(Map.of(turma.getId(), List.of(reserva)));
+    assertEquals(antes.etag(), cronogramaService.obterSnapshot().etag());
+
+    // When
+    cronogramaService.revalidarSnapshot();
+    CronogramaService.Snapshot depois = cronogramaService.obterSnapshot();
+
+    // Then
+    assertEquals("Projetor", depois.cronograma().getAulasDeHoje().get(0).getRecursosReservados().get(0).getNomeRecurso());
+    assertNotEquals(antes.etag(), depois.etag());
+
+    // When
+    cronogramaService.revalidarSnapshot();
+
+    // Then
+    assertEquals(depois.etag(), cronogramaService.obterSnapshot().etag());
+  }
+
+  private Turma turmaDoSemestre(String nome, Semestre semestre, DiaSemana dia) {
+    return Turma.builder()
+        .id(UUID.randomUUID())
+        .nome(nome)
+        .semestre(semestre)
+        .ano(2025)
+        .diasAula(EnumSet.of(dia))
+        .horario(Horario.A)
+        .professor(professor)
+        .disciplina(disciplina)
+        .build();
+  }
+
+  private static ConsultaReservasEmLotes consultaReservas(ReservationService reservationService) {
+    return new ConsultaReservasEmLotes(reservationService,
+        new CronogramaProperties(500, 4, Duration.ofSeconds(2), Duration.ofSeconds(3)), new StandardEnvironment());
+  }
 }
@@ -0,0 +1,30 @@
+package com.closed_sarc.app_registration_api.config;
+
+import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.test.context.runner.ApplicationContextRunner;
+
+@DisplayName("ThreadsVirtuaisConfig - Testes Unitários")
+class ThreadsVirtuaisConfigTest {
+
+  private final ApplicationContextRunner contexto = new ApplicationContextRunner()
+      .withUserConfiguration(ThreadsVirtuaisConfig.class);
+
+  @Test
+  @DisplayName("Deve recusar threads virtuais abaixo do Java 21")
+  void deveRecusarAbaixoDoJava21() {
+    assertThrows(IllegalStateException.class, () -> new ThreadsVirtuaisConfig(17));
+    assertDoesNotThrow(() -> new ThreadsVirtuaisConfig(21));
+  }
+
+  @Test
+  @DisplayName("Deve ficar inativa sem spring.threads.virtual.enabled")
+  void deveFicarInativaSemAPropriedade() {
+    contexto.withPropertyValues("spring.threads.virtual.enabled=false")
+        .run(ctx -> assertTrue(ctx.getBeansOfType(ThreadsVirtuaisConfig.class).isEmpty()));
+  }
+}
@@ -0,0 +1,92 @@
+package com.closed_sarc.app_registration_api.domain.repositories;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.data.domain.Limit;
+import org.springframework.test.context.TestPropertySource;
+
+import com.closed_sarc.app_registration_api.domain.entities.Evento;
+
+@DataJpaTest
+@TestPropertySource(locations = "classpath:application-test.properties")
+@DisplayName("EventoRepository - Testes de Integração")
+class EventoRepositoryTest {
+
+  private static final ZoneId CAMPUS = ZoneId.of("America/Sao_Paulo");
+
+  @Autowired
+  private EventoRepository eventoRepository;
+
+  @BeforeEach
+  void setUp() {
+    // 10/03/2025 no campus (UTC-3) vai de 2025-03-10T03:00Z até 2025-03-11T03:00Z
+    salvar("Noite anterior", "2025-03-10T01:00:00Z", "2025-03-10T02:30:00Z");
+    salvar("Palestra", "2025-03-10T13:00:00Z", "2025-03-10T15:00:00Z");
+    salvar("Semana acadêmica", "2025-03-08T12:00:00Z", "2025-03-14T21:00:00Z");
+    salvar("Exposição permanente", "2025-03-01T12:00:00Z", null);
+    salvar("Termina à meia-noite", "2025-03-09T12:00:00Z", "2025-03-10T03:00:00Z");
+    salvar("Fim da noite", "2025-03-11T01:00:00Z", "2025-03-11T02:00:00Z");
+    salvar("Dia seguinte", "2025-03-11T03:00:00Z", "2025-03-11T05:00:00Z");
+  }
+
+  @Test
+  @DisplayName("Deve retornar eventos que se sobrepõem ao dia calculado no fuso do campus")
+  void deveRetornarEventosDoDiaNoFusoDoCampus() {
+    // When
+    List<String> titulos = eventoRepository.findByData(LocalDate.of(2025, 3, 10), CAMPUS).stream()
+        .map(Evento::getTitulo)
+        .sorted()
+        .toList();
+
+    // Then
+    assertEquals(List.of("Exposição permanente", "Fim da noite", "Palestra", "Semana acadêmica",
+        "Termina à meia-noite"), titulos);
+  }
+
+  @Test
+  @DisplayName("Deve percorrer todos os eventos por cursor, sem repetir, a partir do menor UUID")
+  void devePaginarPorCursorDeId() {
+    // Given
+    Set<UUID> todos = eventoRepository.findAll().stream().map(Evento::getId).collect(Collectors.toSet());
+    List<UUID> lidos = new ArrayList<>();
+    UUID apos = new UUID(0L, 0L);
+
+    // When
+    List<Evento> pagina;
+    do {
+      pagina = eventoRepository.findByIdGreaterThanOrderByIdAsc(apos, Limit.of(3));
+      pagina.forEach(evento -> lidos.add(evento.getId()));
+      apos = pagina.isEmpty() ? apos : pagina.get(pagina.size() - 1).getId();
+    } while (pagina.size() == 3);
+
+    // Then
+    assertEquals(7, lidos.size());
+    assertEquals(todos, Set.copyOf(lidos));
+    try (Stream<Evento> eventos = eventoRepository.streamAll()) {
+      assertEquals(7, eventos.count());
+    }
+  }
+
+  private void salvar(String titulo, String inicio, String fim) {
+    eventoRepository.save(Evento.builder()
+        .titulo(titulo)
+        .dataInicio(Instant.parse(inicio))
+        .dataFim(fim == null ? null : Instant.parse(fim))
+        .build());
+  }
+}
@@ -0,0 +1,106 @@
+package com.closed_sarc.app_registration_api.domain.repositories;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.time.Instant;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.test.context.TestPropertySource;
+
+import com.closed_sarc.app_registration_api.domain.entities.DiaSemana;
+import com.closed_sarc.app_registration_api.domain.entities.Disciplina;
+import com.closed_sarc.app_registration_api.domain.entities.Horario;
+import com.closed_sarc.app_registration_api.domain.entities.Semestre;
+import com.closed_sarc.app_registration_api.domain.entities.TipoUsuario;
+import com.closed_sarc.app_registration_api.domain.entities.Turma;
+import com.closed_sarc.app_registration_api.domain.entities.Usuario;
+
+@DataJpaTest
+@TestPropertySource(locations = "classpath:application-test.properties")
+@DisplayName("TurmaRepository - Testes de Integração")
+class TurmaRepositoryTest {
+
+  @Autowired
+  private TurmaRepository turmaRepository;
+
+  @Autowired
+  private TestEntityManager entityManager;
+
+  private Usuario professor;
+  private Disciplina disciplina;
+
+  @BeforeEach
+  void setUp() {
+    professor = entityManager.persist(Usuario.builder()
+        .nome("Prof. Maria Silva")
+        .email("maria@teste.com")
+        .senha("hash")
+        .tipo(TipoUsuario.PROFESSOR)
+        .dataCriacao(Instant.now())
+        .build());
+    disciplina = entityManager.persist(Disciplina.builder()
+        .nome("Programação Java")
+        .build());
+
+    salvar("33A", EnumSet.of(DiaSemana.SEGUNDA, DiaSemana.QUARTA));
+    salvar("33B", EnumSet.of(DiaSemana.TERCA, DiaSemana.QUINTA));
+    salvar("33C", EnumSet.of(DiaSemana.QUARTA, DiaSemana.SEXTA, DiaSemana.DOMINGO));
+    salvar("33D", EnumSet.noneOf(DiaSemana.class));
+    entityManager.flush();
+    entityManager.clear();
+  }
+
+  @Test
+  @DisplayName("Deve gravar e ler os dias de aula como máscara de bits")
+  void deveGravarELerDiasDeAula() {
+    // When
+    Turma turma = turmaRepository.findAllComRelacionamentos().stream()
+        .filter(t -> t.getNome().equals("33C"))
+        .findFirst()
+        .orElseThrow();
+
+    // Then
+    assertEquals(EnumSet.of(DiaSemana.QUARTA, DiaSemana.SEXTA, DiaSemana.DOMINGO), turma.getDiasAula());
+    assertEquals(84, ((Number) entityManager.getEntityManager()
+        .createNativeQuery("SELECT dias_aula FROM turma WHERE nome = '33C'")
+        .getSingleResult()).intValue());
+  }
+
+  @Test
+  @DisplayName("Deve buscar apenas as turmas com aula no dia informado")
+  void deveBuscarTurmasComAulaNoDia() {
+    // When
+    List<String> quarta = nomes(turmaRepository.findByDiasAulaContaining(DiaSemana.QUARTA));
+    List<String> domingo = nomes(turmaRepository.findByDiasAulaContaining(DiaSemana.DOMINGO));
+    List<String> sabado = nomes(turmaRepository.findByDiasAulaContaining(DiaSemana.SABADO));
+
+    // Then
+    assertEquals(List.of("33A", "33C"), quarta);
+    assertEquals(List.of("33C"), domingo);
+    assertEquals(List.of(), sabado);
+  }
+
+  private void salvar(String nome, Set<DiaSemana> diasAula) {
+    entityManager.persist(Turma.builder()
+        .nome(nome)
+        .semestre(Semestre.PRIMEIRO)
+        .ano(2025)
+        .horario(Horario.A)
+        .diasAula(diasAula)
+        .professor(professor)
+        .disciplina(disciplina)
+        .build());
+  }
+
+  private List<String> nomes(List<Turma> turmas) {
+    return turmas.stream().map(Turma::getNome).sorted().toList();
+  }
+}
@@ -0,0 +1,146 @@
+package com.closed_sarc.app_registration_api.domain.utils;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.closed_sarc.app_registration_api.domain.entities.CalendarioAcademico;
+import com.closed_sarc.app_registration_api.domain.entities.DiaSemana;
+import com.closed_sarc.app_registration_api.domain.entities.DiasSemanaConverter;
+import com.closed_sarc.app_registration_api.domain.entities.Reposicao;
+import com.closed_sarc.app_registration_api.domain.entities.Semestre;
+
+@DisplayName("AnoLetivo - Testes Unitários")
+class AnoLetivoTest {
+
+  private static final LocalDate TIRADENTES = LocalDate.of(2025, 4, 21);
+  private static final LocalDate SEXTA_SANTA = LocalDate.of(2025, 4, 18);
+  // Sábado com a grade de sexta, repondo a Sexta-feira Santa
+  private static final LocalDate REPOSICAO = LocalDate.of(2025, 5, 10);
+  private static final AnoLetivo.Periodo RECESSO_JULHO =
+      new AnoLetivo.Periodo(LocalDate.of(2025, 7, 14), LocalDate.of(2025, 7, 25));
+
+  private static final CalendarioAcademico PRIMEIRO_2025 = CalendarioAcademico.builder()
+      .ano(2025)
+      .semestre(Semestre.PRIMEIRO)
+      .dataInicio(LocalDate.of(2025, 2, 17))
+      .dataFim(LocalDate.of(2025, 7, 5))
+      .feriados(Set.of(SEXTA_SANTA))
+      .reposicoes(Set.of(new Reposicao(REPOSICAO, DiaSemana.SEXTA)))
+      .build();
+
+  private final AnoLetivo anoLetivo = AnoLetivo.compilar(2025, List.of(PRIMEIRO_2025), List.of(TIRADENTES),
+      List.of(RECESSO_JULHO));
+
+  @Test
+  @DisplayName("Deve aceitar apenas datas do período letivo nos dias de aula, fora de feriados e recessos")
+  void deveValidarDataDeAula() {
+    // Given
+    int segundaEQuarta = mascara(DiaSemana.SEGUNDA, DiaSemana.QUARTA);
+    int segunda = mascara(DiaSemana.SEGUNDA);
+
+    // When / Then
+    assertFalse(anoLetivo.ehDataDeAula(Semestre.PRIMEIRO, segundaEQuarta, LocalDate.of(2025, 2, 12)));  // antes do início
+    assertTrue(anoLetivo.ehDataDeAula(Semestre.PRIMEIRO, segundaEQuarta, LocalDate.of(2025, 2, 17)));   // segunda, início
+    assertTrue(anoLetivo.ehDataDeAula(Semestre.PRIMEIRO, segundaEQuarta, LocalDate.of(2025, 7, 2)));    // quarta, após junho
+    assertFalse(anoLetivo.ehDataDeAula(Semestre.PRIMEIRO, segundaEQuarta, LocalDate.of(2025, 2, 20)));  // quinta
+    assertFalse(anoLetivo.ehDataDeAula(Semestre.PRIMEIRO, segundaEQuarta, TIRADENTES));                  // feriado geral
+    assertFalse(anoLetivo.ehDataDeAula(Semestre.PRIMEIRO, segundaEQuarta, LocalDate.of(2026, 2, 18)));  // outro ano
+    // Segundo semestre sem calendário cadastrado: período padrão menos o recesso
+    assertTrue(anoLetivo.ehDataDeAula(Semestre.SEGUNDO, segunda, LocalDate.of(2025, 7, 7)));
+    assertFalse(anoLetivo.ehDataDeAula(Semestre.SEGUNDO, segunda, LocalDate.of(2025, 7, 21)));
+  }
+
+  @Test
+  @DisplayName("Deve trocar a grade do feriado pela reposição")
+  void deveAplicarFeriadoEReposicao() {
+    // Given
+    int sexta = mascara(DiaSemana.SEXTA);
+    int sabado = mascara(DiaSemana.SABADO);
+
+    // When / Then
+    assertFalse(anoLetivo.ehDataDeAula(Semestre.PRIMEIRO, sexta, SEXTA_SANTA));
+    assertTrue(anoLetivo.ehDataDeAula(Semestre.PRIMEIRO, sexta, REPOSICAO));
+    assertFalse(anoLetivo.ehDataDeAula(Semestre.PRIMEIRO, sabado, REPOSICAO));
+    assertEquals(Optional.of(DiaSemana.SEXTA), anoLetivo.gradeDoDia(Semestre.PRIMEIRO, REPOSICAO));
+    assertEquals(Optional.empty(), anoLetivo.gradeDoDia(Semestre.PRIMEIRO, SEXTA_SANTA));
+    assertEquals(Optional.of(DiaSemana.QUARTA), anoLetivo.gradeDoDia(Semestre.PRIMEIRO, LocalDate.of(2025, 3, 12)));
+  }
+
+  @Test
+  @DisplayName("Deve resolver a grade de cada semestre na virada entre eles")
+  void deveResolverGradePorSemestreNaVirada() {
+    // Given: o primeiro semestre termina numa sexta com reposição da grade de segunda,
+    // quando o segundo já começou e segue a grade normal
+    LocalDate ultimoDia = LocalDate.of(2025, 7, 4);
+    AnoLetivo virada = AnoLetivo.compilar(2025, List.of(
+        CalendarioAcademico.builder()
+            .ano(2025)
+            .semestre(Semestre.PRIMEIRO)
+            .dataInicio(LocalDate.of(2025, 2, 17))
+            .dataFim(ultimoDia)
+            .reposicoes(Set.of(new Reposicao(ultimoDia, DiaSemana.SEGUNDA)))
+            .build(),
+        CalendarioAcademico.builder()
+            .ano(2025)
+            .semestre(Semestre.SEGUNDO)
+            .dataInicio(LocalDate.of(2025, 6, 30))
+            .dataFim(LocalDate.of(2025, 12, 12))
+            .build()), List.of(), List.of());
+
+    // When / Then
+    assertEquals(Optional.of(DiaSemana.SEGUNDA), virada.gradeDoDia(Semestre.PRIMEIRO, ultimoDia));
+    assertEquals(Optional.of(DiaSemana.SEXTA), virada.gradeDoDia(Semestre.SEGUNDO, ultimoDia));
+    assertEquals(Optional.empty(), virada.gradeDoDia(Semestre.PRIMEIRO, ultimoDia.plusDays(3)));
+    assertEquals(Optional.of(DiaSemana.SEGUNDA), virada.gradeDoDia(Semestre.SEGUNDO, ultimoDia.plusDays(3)));
+  }
+
+  @Test
+  @DisplayName("Deve gerar em ordem as mesmas datas aceitas pela validação")
+  void deveGerarDatasDeAulaEmOrdem() {
+    // Given
+    int mascara = mascara(DiaSemana.TERCA, DiaSemana.SEXTA, DiaSemana.DOMINGO);
+
+    for (Semestre semestre : Semestre.values()) {
+      List<LocalDate> esperadas = LocalDate.of(2025, 1, 1).datesUntil(LocalDate.of(2026, 1, 1))
+          .filter(data -> anoLetivo.ehDataDeAula(semestre, mascara, data))
+          .toList();
+
+      // When
+      List<LocalDate> datas = anoLetivo.datasAula(semestre, mascara).toList();
+
+      // Then
+      assertEquals(esperadas, datas);
+    }
+    assertTrue(anoLetivo.datasAula(Semestre.PRIMEIRO, mascara).toList().contains(REPOSICAO));
+    assertEquals(0, anoLetivo.datasAula(Semestre.PRIMEIRO, 0).count());
+  }
+
+  @Test
+  @DisplayName("Deve usar janeiro a junho e julho a dezembro quando não há calendário cadastrado")
+  void deveUsarPeriodoPadraoSemCalendario() {
+    // Given
+    AnoLetivo padrao = AnoLetivo.compilar(2025, List.of(), List.of(), List.of());
+
+    // When
+    List<LocalDate> segundasEQuartas = padrao.datasAula(Semestre.PRIMEIRO, mascara(DiaSemana.SEGUNDA, DiaSemana.QUARTA))
+        .toList();
+
+    // Then
+    assertEquals(52, segundasEQuartas.size());
+    assertEquals(LocalDate.of(2025, 1, 1), segundasEQuartas.get(0));
+    assertEquals(LocalDate.of(2025, 6, 30), segundasEQuartas.get(51));
+  }
+
+  private static int mascara(DiaSemana... dias) {
+    return DiasSemanaConverter.paraMascara(Set.of(dias));
+  }
+}
@@ -0,0 +1,151 @@
+package com.closed_sarc.app_registration_api.domain.utils;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.UUID;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("ArvoreIntervalos - Testes Unitários")
+class ArvoreIntervalosTest {
+
+  private static final Instant BASE = Instant.parse("2025-03-01T00:00:00Z");
+
+  private ArvoreIntervalos<String> arvore;
+
+  @BeforeEach
+  void setUp() {
+    arvore = new ArvoreIntervalos<>();
+  }
+
+  @Test
+  @DisplayName("Deve retornar intervalos sobrepostos ordenados pelo início, incluindo os sem fim")
+  void deveRetornarIntervalosSobrepostos() {
+    // Given
+    arvore.inserir(UUID.randomUUID(), hora(10), hora(12), "manhã");
+    arvore.inserir(UUID.randomUUID(), hora(0), null, "permanente");
+    arvore.inserir(UUID.randomUUID(), hora(12), hora(14), "tarde");
+    arvore.inserir(UUID.randomUUID(), hora(20), hora(22), "noite");
+
+    // When
+    List<String> resultado = arvore.buscar(hora(12), hora(20));
+
+    // Then
+    assertEquals(List.of("permanente", "manhã", "tarde"), resultado);
+  }
+
+  @Test
+  @DisplayName("Deve substituir o intervalo ao reinserir um id e esquecê-lo ao remover")
+  void deveSubstituirERemoverPorId() {
+    // Given
+    UUID id = UUID.randomUUID();
+    arvore.inserir(id, hora(8), hora(9), "original");
+
+    // When
+    arvore.inserir(id, hora(18), hora(19), "remarcado");
+
+    // Then
+    assertEquals(1, arvore.tamanho());
+    assertTrue(arvore.buscar(hora(8), hora(9)).isEmpty());
+    assertEquals(List.of("remarcado"), arvore.buscar(hora(18), hora(19)));
+
+    // When
+    arvore.remover(id);
+
+    // Then
+    assertEquals(0, arvore.tamanho());
+    assertTrue(arvore.buscar(hora(0), hora(24)).isEmpty());
+  }
+
+  @Test
+  @DisplayName("Deve coincidir com a varredura linear em inserções, remoções e buscas aleatórias")
+  void deveCoincidirComVarreduraLinear() {
+    // Given
+    Random random = new Random(42);
+    Map<UUID, Instant[]> intervalos = new LinkedHashMap<>();
+    for (int i = 0; i < 2000; i++) {
+      UUID id = UUID.randomUUID();
+      Instant inicio = hora(random.nextInt(24 * 60));
+      Instant fim = random.nextInt(20) == 0 ? null : inicio.plusSeconds(3600L * random.nextInt(72));
+      intervalos.put(id, new Instant[] { inicio, fim });
+      arvore.inserir(id, inicio, fim, id.toString());
+    }
+    List<UUID> ids = new ArrayList<>(intervalos.keySet());
+    for (int i = 0; i < 500; i++) {
+      UUID id = ids.get(random.nextInt(ids.size()));
+      intervalos.remove(id);
+      arvore.remover(id);
+    }
+
+    for (int i = 0; i < 200; i++) {
+      Instant de = hora(random.nextInt(24 * 60));
+      Instant ate = de.plusSeconds(3600L * (1 + random.nextInt(48)));
+
+      // When
+      List<String> resultado = arvore.buscar(de, ate);
+
+      // Then
+      List<String> esperado = intervalos.entrySet().stream()
+          .filter(e -> e.getValue()[0].isBefore(ate)
+              && (e.getValue()[1] == null || !e.getValue()[1].isBefore(de)))
+          .sorted(Comparator.comparing((Map.Entry<UUID, Instant[]> e) -> e.getValue()[0])
+              .thenComparing(Map.Entry::getKey))
+          .map(e -> e.getKey().toString())
+          .toList();
+      assertEquals(esperado, resultado);
+    }
+  }
+
+  @Test
+  @DisplayName("Deve coincidir com a varredura linear com limites repetidos e reinserções")
+  void deveCoincidirComVarreduraLinearComLimitesRepetidos() {
+    // Given
+    Random random = new Random(7);
+    Map<UUID, Instant[]> intervalos = new LinkedHashMap<>();
+    List<UUID> ids = new ArrayList<>();
+    for (int i = 0; i < 300; i++) {
+      ids.add(UUID.randomUUID());
+    }
+
+    for (int i = 0; i < 3000; i++) {
+      // When
+      UUID id = ids.get(random.nextInt(ids.size()));
+      if (random.nextInt(4) == 0) {
+        intervalos.remove(id);
+        arvore.remover(id);
+      } else {
+        Instant inicio = hora(random.nextInt(12));
+        Instant fim = random.nextInt(10) == 0 ? null : inicio.plusSeconds(3600L * random.nextInt(4));
+        intervalos.put(id, new Instant[] { inicio, fim });
+        arvore.inserir(id, inicio, fim, id.toString());
+      }
+      Instant de = hora(random.nextInt(14));
+      Instant ate = de.plusSeconds(3600L * (1 + random.nextInt(3)));
+
+      // Then
+      List<String> esperado = intervalos.entrySet().stream()
+          .filter(e -> e.getValue()[0].isBefore(ate)
+              && (e.getValue()[1] == null || !e.getValue()[1].isBefore(de)))
+          .sorted(Comparator.comparing((Map.Entry<UUID, Instant[]> e) -> e.getValue()[0])
+              .thenComparing(Map.Entry::getKey))
+          .map(e -> e.getKey().toString())
+          .toList();
+      assertEquals(esperado, arvore.buscar(de, ate));
+      assertEquals(intervalos.size(), arvore.tamanho());
+    }
+  }
+
+  private Instant hora(int horas) {
+    return BASE.plusSeconds(3600L * horas);
+  }
+}
@@ -0,0 +1,90 @@
+package com.closed_sarc.app_registration_api.infrastructure.client;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("CircuitBreaker - Testes Unitários")
+class CircuitBreakerTest {
+
+  private Instant agora;
+
+  private CircuitBreaker circuitBreaker;
+
+  @BeforeEach
+  void setUp() {
+    agora = Instant.parse("2025-01-20T08:00:00Z");
+    Clock clock = new Clock() {
+      @Override
+      public ZoneOffset getZone() {
+        return ZoneOffset.UTC;
+      }
+
+      @Override
+      public Clock withZone(ZoneId zone) {
+        return this;
+      }
+
+      @Override
+      public Instant instant() {
+        return agora;
+      }
+    };
+    circuitBreaker = new CircuitBreaker(2, Duration.ofSeconds(30), clock);
+  }
+
+  @Test
+  @DisplayName("Deve abrir após o limite de falhas e liberar uma única chamada de teste após o tempo aberto")
+  void deveAbrirEDepoisLiberarUmaChamadaDeTeste() {
+    // Given
+    circuitBreaker.registrarFalha();
+    circuitBreaker.registrarFalha();
+
+    // Then
+    assertEquals(CircuitBreaker.Estado.ABERTO, circuitBreaker.getEstado());
+    assertFalse(circuitBreaker.permitirChamada());
+
+    // When
+    agora = agora.plusSeconds(30);
+
+    // Then
+    assertTrue(circuitBreaker.permitirChamada());
+    assertEquals(CircuitBreaker.Estado.MEIO_ABERTO, circuitBreaker.getEstado());
+    assertFalse(circuitBreaker.permitirChamada());
+
+    // When
+    circuitBreaker.registrarSucesso();
+
+    // Then
+    assertEquals(CircuitBreaker.Estado.FECHADO, circuitBreaker.getEstado());
+    assertTrue(circuitBreaker.permitirChamada());
+    assertEquals(2, circuitBreaker.getChamadasRecusadas());
+  }
+
+  @Test
+  @DisplayName("Deve reabrir quando a chamada de teste falha")
+  void deveReabrirQuandoChamadaDeTesteFalha() {
+    // Given
+    circuitBreaker.registrarFalha();
+    circuitBreaker.registrarFalha();
+    agora = agora.plusSeconds(30);
+    assertTrue(circuitBreaker.permitirChamada());
+
+    // When
+    circuitBreaker.registrarFalha();
+
+    // Then
+    assertEquals(CircuitBreaker.Estado.ABERTO, circuitBreaker.getEstado());
+    assertFalse(circuitBreaker.permitirChamada());
+  }
+}
@@ -0,0 +1,122 @@
+package com.closed_sarc.app_registration_api.infrastructure.client;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.springframework.test.web.client.ExpectedCount.times;
+import static org.springframework.test.web.client.match.MockRestRequestMatchers.header;
+import static org.springframework.test.web.client.match.MockRestRequestMatchers.method;
+import static org.springframework.test.web.client.match.MockRestRequestMatchers.requestTo;
+import static org.springframework.test.web.client.response.MockRestResponseCreators.withBadRequest;
+import static org.springframework.test.web.client.response.MockRestResponseCreators.withNoContent;
+import static org.springframework.test.web.client.response.MockRestResponseCreators.withServerError;
+import static org.springframework.test.web.client.response.MockRestResponseCreators.withSuccess;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.web.client.RestTemplateBuilder;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.client.MockRestServiceServer;
+import org.springframework.web.client.HttpClientErrorException;
+import org.springframework.web.client.HttpServerErrorException;
+import org.springframework.web.client.RestTemplate;
+
+import com.closed_sarc.app_registration_api.infrastructure.client.dto.ReservaResponseDTO;
+
+@DisplayName("ReservationApiClient - Testes Unitários")
+class ReservationApiClientTest {
+
+  private static final String AUTHORIZATION = "Basic " + HttpHeaders.encodeBasicAuth("usuario@teste.com", "segredo", null);
+
+  private MockRestServiceServer server;
+
+  private ReservationApiClient client;
+
+  @BeforeEach
+  void setUp() {
+    RestTemplate restTemplate = new RestTemplateBuilder()
+        .rootUri("http://reservation-api")
+        .basicAuthentication("usuario@teste.com", "segredo")
+        .build();
+    server = MockRestServiceServer.bindTo(restTemplate).build();
+    client = new ReservationApiClient(restTemplate,
+        new CircuitBreaker(3, Duration.ofSeconds(30)), new Bulkhead(20, Duration.ofMillis(100)));
+  }
+
+  @Test
+  @DisplayName("Deve buscar reservas por turma e data com as credenciais configuradas")
+  void deveBuscarReservasPorTurmaEDataComCredenciais() {
+    // Given
+    UUID turmaId = UUID.randomUUID();
+    Instant dataUso = Instant.parse("2025-01-20T08:00:00Z");
+    server.expect(requestTo("http://reservation-api/api/reservas/turma/" + turmaId + "/data?dataUso=2025-01-20T08:00:00Z"))
+        .andExpect(method(HttpMethod.GET))
+        .andExpect(header(HttpHeaders.AUTHORIZATION, AUTHORIZATION))
+        .andRespond(withSuccess("[{\"turmaId\": \"" + turmaId + "\", \"quantidade\": 1}]", MediaType.APPLICATION_JSON));
+
+    // When
+    List<ReservaResponseDTO> reservas = client.getReservationsByTurmaAndData(turmaId, dataUso);
+
+    // Then
+    server.verify();
+    assertEquals(1, reservas.size());
+    assertEquals(turmaId, reservas.get(0).getTurmaId());
+  }
+
+  @Test
+  @DisplayName("Deve excluir recurso pelo endpoint com ID")
+  void deveExcluirRecursoPeloEndpointComId() {
+    // Given
+    UUID recursoId = UUID.randomUUID();
+    server.expect(requestTo("http://reservation-api/api/recursos/" + recursoId))
+        .andExpect(method(HttpMethod.DELETE))
+        .andExpect(header(HttpHeaders.AUTHORIZATION, AUTHORIZATION))
+        .andRespond(withNoContent());
+
+    // When
+    client.deleteRecurso(recursoId);
+
+    // Then
+    server.verify();
+  }
+
+  @Test
+  @DisplayName("Deve abrir o circuito após falhas consecutivas e recusar chamadas sem acessar a reservation-api")
+  void deveAbrirCircuitoAposFalhasConsecutivas() {
+    // Given
+    UUID turmaId = UUID.randomUUID();
+    server.expect(times(3), requestTo("http://reservation-api/api/reservas/turma/" + turmaId))
+        .andRespond(withServerError());
+
+    // When
+    for (int i = 0; i < 3; i++) {
+      assertThrows(HttpServerErrorException.class, () -> client.getReservationsByTurma(turmaId));
+    }
+
+    // Then
+    assertThrows(ReservationApiIndisponivelException.class, () -> client.getReservationsByTurma(turmaId));
+    server.verify();
+  }
+
+  @Test
+  @DisplayName("Não deve abrir o circuito com respostas 4xx da reservation-api")
+  void naoDeveAbrirCircuitoComErrosDoCliente() {
+    // Given
+    UUID recursoId = UUID.randomUUID();
+    server.expect(times(4), requestTo("http://reservation-api/api/recursos/" + recursoId))
+        .andRespond(withBadRequest());
+
+    // When & Then
+    for (int i = 0; i < 4; i++) {
+      assertThrows(HttpClientErrorException.class, () -> client.deleteRecurso(recursoId));
+    }
+    server.verify();
+  }
+}
@@ -0,0 +1,128 @@
+package com.closed_sarc.app_registration_api.security;
+
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.authentication.AuthenticationProvider;
+import org.springframework.security.authentication.BadCredentialsException;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+
+@DisplayName("CachingAuthenticationProvider - Testes Unitários")
+class CachingAuthenticationProviderTest {
+
+  private Instant agora;
+
+  private AuthenticationProvider delegate;
+
+  private CachingAuthenticationProvider provider;
+
+  private Authentication autenticado;
+
+  @BeforeEach
+  void setUp() {
+    agora = Instant.parse("2025-01-20T08:00:00Z");
+    Clock clock = new Clock() {
+      @Override
+      public ZoneOffset getZone() {
+        return ZoneOffset.UTC;
+      }
+
+      @Override
+      public Clock withZone(ZoneId zone) {
+        return this;
+      }
+
+      @Override
+      public Instant instant() {
+        return agora;
+      }
+    };
+    delegate = mock(AuthenticationProvider.class);
+    provider = new CachingAuthenticationProvider(delegate, 10, Duration.ofMinutes(5), clock);
+    autenticado = UsernamePasswordAuthenticationToken.authenticated("admin@teste.com", null,
+        List.of(new SimpleGrantedAuthority("ROLE_ADMIN")));
+  }
+
+  @Test
+  @DisplayName("Deve reutilizar a autenticação em cache sem chamar o provedor delegado")
+  void deveReutilizarAutenticacaoEmCache() {
+    // Given
+    when(delegate.authenticate(any())).thenReturn(autenticado);
+
+    // When
+    provider.authenticate(credenciais("senha123"));
+    Authentication segunda = provider.authenticate(credenciais("senha123"));
+
+    // Then
+    assertSame(autenticado, segunda);
+    verify(delegate, times(1)).authenticate(any());
+  }
+
+  @Test
+  @DisplayName("Deve consultar o provedor delegado quando a senha difere da verificada")
+  void deveConsultarDelegadoQuandoSenhaDifere() {
+    // Given
+    when(delegate.authenticate(any()))
+        .thenReturn(autenticado)
+        .thenThrow(new BadCredentialsException("Credenciais inválidas"));
+    provider.authenticate(credenciais("senha123"));
+
+    // When & Then
+    assertThrows(BadCredentialsException.class, () -> provider.authenticate(credenciais("outraSenha")));
+    verify(delegate, times(2)).authenticate(any());
+  }
+
+  @Test
+  @DisplayName("Deve verificar novamente após expirar ou ser invalidado")
+  void deveVerificarNovamenteAposExpirarOuInvalidar() {
+    // Given
+    when(delegate.authenticate(any())).thenReturn(autenticado);
+    provider.authenticate(credenciais("senha123"));
+
+    // When
+    agora = agora.plus(Duration.ofMinutes(5));
+    provider.authenticate(credenciais("senha123"));
+    provider.invalidar("admin@teste.com");
+    provider.authenticate(credenciais("senha123"));
+
+    // Then
+    verify(delegate, times(3)).authenticate(any());
+  }
+
+  @Test
+  @DisplayName("Deve delegar sempre quando o cache está desligado")
+  void deveDelegarSempreComCacheDesligado() {
+    // Given
+    CachingAuthenticationProvider desligado =
+        new CachingAuthenticationProvider(delegate, 0, Duration.ofMinutes(5));
+    when(delegate.authenticate(any())).thenReturn(autenticado);
+
+    // When
+    desligado.authenticate(credenciais("senha123"));
+    desligado.authenticate(credenciais("senha123"));
+
+    // Then
+    verify(delegate, times(2)).authenticate(any());
+  }
+
+  private Authentication credenciais(String senha) {
+    return UsernamePasswordAuthenticationToken.unauthenticated("admin@teste.com", senha);
+  }
+}
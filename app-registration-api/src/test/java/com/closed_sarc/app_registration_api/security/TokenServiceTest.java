@@ -0,0 +1,99 @@
+package com.closed_sarc.app_registration_api.security;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.UUID;
+
+import javax.crypto.SecretKey;
+import javax.crypto.spec.SecretKeySpec;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.oauth2.jose.jws.MacAlgorithm;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.security.oauth2.jwt.JwtDecoder;
+import org.springframework.security.oauth2.jwt.JwtException;
+import org.springframework.security.oauth2.jwt.NimbusJwtDecoder;
+import org.springframework.security.oauth2.jwt.NimbusJwtEncoder;
+
+import com.closed_sarc.app_registration_api.domain.entities.Usuario;
+import com.closed_sarc.app_registration_api.domain.entities.TipoUsuario;
+import com.nimbusds.jose.jwk.source.ImmutableSecret;
+
+@DisplayName("TokenService - Testes Unitários")
+class TokenServiceTest {
+
+  private final SecretKey chave = new SecretKeySpec(
+      "segredo-de-teste-com-pelo-menos-32-bytes".getBytes(StandardCharsets.UTF_8), "HmacSHA256");
+
+  private JwtDecoder jwtDecoder;
+
+  private Usuario usuario;
+
+  @BeforeEach
+  void setUp() {
+    jwtDecoder = NimbusJwtDecoder.withSecretKey(chave).macAlgorithm(MacAlgorithm.HS256).build();
+    usuario = Usuario.builder()
+        .id(UUID.randomUUID())
+        .nome("Professor Teste")
+        .email("professor@teste.com")
+        .senha("hash")
+        .tipo(TipoUsuario.PROFESSOR)
+        .build();
+  }
+
+  @Test
+  @DisplayName("Deve emitir token verificável com email, id e papéis do usuário")
+  void deveEmitirTokenVerificavel() {
+    // Given
+    TokenService tokenService = new TokenService(new NimbusJwtEncoder(new ImmutableSecret<>(chave)),
+        Duration.ofHours(1));
+
+    // When
+    TokenService.TokenEmitido emitido = tokenService.emitir(usuario);
+    Jwt jwt = jwtDecoder.decode(emitido.token());
+
+    // Then
+    assertEquals("professor@teste.com", jwt.getSubject());
+    assertEquals(usuario.getId().toString(), jwt.getClaimAsString(TokenService.CLAIM_ID));
+    assertEquals(List.of("ROLE_PROFESSOR"), jwt.getClaimAsStringList(TokenService.CLAIM_PAPEIS));
+    assertEquals(emitido.expiraEm(), jwt.getExpiresAt());
+  }
+
+  @Test
+  @DisplayName("Deve rejeitar token com assinatura adulterada")
+  void deveRejeitarTokenAdulterado() {
+    // Given
+    TokenService tokenService = new TokenService(new NimbusJwtEncoder(new ImmutableSecret<>(chave)),
+        Duration.ofHours(1));
+    String token = tokenService.emitir(usuario).token();
+    int inicioAssinatura = token.lastIndexOf('.') + 1;
+    char primeiro = token.charAt(inicioAssinatura);
+    String adulterado = token.substring(0, inicioAssinatura) + (primeiro == 'A' ? 'B' : 'A')
+        + token.substring(inicioAssinatura + 1);
+
+    // When & Then
+    assertThrows(JwtException.class, () -> jwtDecoder.decode(adulterado));
+  }
+
+  @Test
+  @DisplayName("Deve rejeitar token expirado")
+  void deveRejeitarTokenExpirado() {
+    // Given
+    Clock ontem = Clock.fixed(Instant.now().minus(Duration.ofDays(1)), ZoneOffset.UTC);
+    TokenService tokenService = new TokenService(new NimbusJwtEncoder(new ImmutableSecret<>(chave)),
+        Duration.ofHours(1), ontem);
+    String token = tokenService.emitir(usuario).token();
+
+    // When & Then
+    assertThrows(JwtException.class, () -> jwtDecoder.decode(token));
+  }
+}
@@ -0,0 +1,114 @@
+package com.closed_sarc.app_registration_api.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.LocalDate;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+
+import com.closed_sarc.app_registration_api.application.event.CalendarioAlteradoEvent;
+import com.closed_sarc.app_registration_api.config.CalendarioProperties;
+import com.closed_sarc.app_registration_api.domain.entities.CalendarioAcademico;
+import com.closed_sarc.app_registration_api.domain.entities.DiaSemana;
+import com.closed_sarc.app_registration_api.domain.entities.Semestre;
+import com.closed_sarc.app_registration_api.domain.entities.Turma;
+import com.closed_sarc.app_registration_api.domain.repositories.CalendarioAcademicoRepository;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("CalendarioAcademicoService - Testes Unitários")
+class CalendarioAcademicoServiceTest {
+
+  @Mock
+  private CalendarioAcademicoRepository calendarioAcademicoRepository;
+
+  @Mock
+  private ApplicationEventPublisher eventPublisher;
+
+  private CalendarioAcademicoService calendarioAcademicoService;
+
+  private final Turma turma = Turma.builder()
+      .nome("33A")
+      .semestre(Semestre.PRIMEIRO)
+      .ano(2025)
+      .diasAula(EnumSet.of(DiaSemana.SEGUNDA))
+      .build();
+
+  @BeforeEach
+  void setUp() {
+    calendarioAcademicoService = new CalendarioAcademicoService(calendarioAcademicoRepository,
+        new CalendarioProperties(List.of(), List.of()), eventPublisher);
+  }
+
+  @Test
+  @DisplayName("Deve consultar o banco uma única vez por ano e recompilar após alteração do calendário")
+  void deveCompilarAnoUmaVezERecompilarAposAlteracao() {
+    // Given
+    LocalDate segunda = LocalDate.of(2025, 3, 10);
+    when(calendarioAcademicoRepository.findByAno(2025))
+        .thenReturn(List.of())
+        .thenReturn(List.of(calendario(Set.of(segunda))));
+
+    // When
+    for (int i = 0; i < 100; i++) {
+      assertTrue(calendarioAcademicoService.ehDataDeAula(turma, segunda));
+    }
+    calendarioAcademicoService.onCalendarioAlterado(new CalendarioAlteradoEvent(2025));
+
+    // Then
+    assertFalse(calendarioAcademicoService.ehDataDeAula(turma, segunda));
+    verify(calendarioAcademicoRepository, times(2)).findByAno(2025);
+  }
+
+  @Test
+  @DisplayName("Deve rejeitar calendário com datas fora do ano ou semestre já cadastrado")
+  void deveRejeitarCalendarioInvalido() {
+    // Given
+    CalendarioAcademico foraDoAno = calendario(Set.of(LocalDate.of(2026, 1, 1)));
+    CalendarioAcademico duplicado = calendario(Set.of());
+    CalendarioAcademico existente = calendario(Set.of());
+    existente.setId(UUID.randomUUID());
+    when(calendarioAcademicoRepository.findByAnoAndSemestre(2025, Semestre.PRIMEIRO))
+        .thenReturn(Optional.of(existente));
+
+    // When
+    IllegalArgumentException erroData = assertThrows(IllegalArgumentException.class,
+        () -> calendarioAcademicoService.salvar(foraDoAno));
+    IllegalArgumentException erroDuplicado = assertThrows(IllegalArgumentException.class,
+        () -> calendarioAcademicoService.salvar(duplicado));
+
+    // Then
+    assertEquals("Todas as datas do calendário devem estar em 2025", erroData.getMessage());
+    assertEquals("Já existe um calendário para o semestre PRIMEIRO/2025", erroDuplicado.getMessage());
+    verify(calendarioAcademicoRepository, never()).save(any());
+    verify(eventPublisher, never()).publishEvent(any(CalendarioAlteradoEvent.class));
+  }
+
+  private static CalendarioAcademico calendario(Set<LocalDate> feriados) {
+    return CalendarioAcademico.builder()
+        .ano(2025)
+        .semestre(Semestre.PRIMEIRO)
+        .dataInicio(LocalDate.of(2025, 2, 17))
+        .dataFim(LocalDate.of(2025, 7, 5))
+        .feriados(feriados)
+        .build();
+  }
+}
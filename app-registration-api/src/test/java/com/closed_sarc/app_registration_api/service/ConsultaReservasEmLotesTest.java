@@ -0,0 +1,148 @@
+package com.closed_sarc.app_registration_api.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.when;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.core.env.StandardEnvironment;
+
+import com.closed_sarc.app_registration_api.config.CronogramaProperties;
+import com.closed_sarc.app_registration_api.infrastructure.client.ReservasConhecidasCache;
+import com.closed_sarc.app_registration_api.infrastructure.client.ReservationApiClient;
+import com.closed_sarc.app_registration_api.infrastructure.client.dto.ReservaResponseDTO;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ConsultaReservasEmLotes - Testes Unitários")
+class ConsultaReservasEmLotesTest {
+
+  private static final Instant DATA_USO = Instant.parse("2025-03-12T11:00:00Z");
+
+  @Mock
+  private ReservationApiClient reservationApiClient;
+
+  private final ReservasConhecidasCache reservasConhecidas = new ReservasConhecidasCache(100);
+
+  private ConsultaReservasEmLotes consulta;
+
+  @AfterEach
+  void tearDown() {
+    if (consulta != null) {
+      consulta.encerrar();
+    }
+  }
+
+  @Test
+  @DisplayName("Deve dividir as turmas em lotes e consultá-los em paralelo, até o limite de paralelismo")
+  void deveConsultarLotesEmParaleloRespeitandoParalelismo() {
+    // Given
+    Map<UUID, Instant> turmas = turmas(10);
+    AtomicInteger chamadas = new AtomicInteger();
+    AtomicInteger emAndamento = new AtomicInteger();
+    AtomicInteger maximoEmAndamento = new AtomicInteger();
+    when(reservationApiClient.getReservationsByTurmasAndDatas(any())).thenAnswer(invocacao -> {
+      chamadas.incrementAndGet();
+      maximoEmAndamento.accumulateAndGet(emAndamento.incrementAndGet(), Math::max);
+      Thread.sleep(100);
+      emAndamento.decrementAndGet();
+      return reservasDe(invocacao.getArgument(0));
+    });
+    consulta = consulta(3, 2, Duration.ofSeconds(2), Duration.ofSeconds(5));
+
+    // When
+    Map<UUID, List<ReservaResponseDTO>> reservas = consulta.buscar(turmas);
+
+    // Then
+    assertEquals(4, chamadas.get());
+    assertEquals(2, maximoEmAndamento.get());
+    assertEquals(turmas.keySet(), reservas.keySet());
+  }
+
+  @Test
+  @DisplayName("Deve abandonar o lote que estoura o timeout da chamada e usar as reservas conhecidas das suas turmas")
+  void deveUsarReservasConhecidasQuandoChamadaEstouraTimeout() {
+    // Given
+    Map<UUID, Instant> turmas = turmas(4);
+    UUID lenta = turmas.keySet().iterator().next();
+    ReservaResponseDTO conhecida = ReservaResponseDTO.builder().turmaId(lenta).dataUso(DATA_USO).quantidade(3).build();
+    reservasConhecidas.atualizar(lenta, DATA_USO, List.of(conhecida));
+    CountDownLatch nuncaLiberado = new CountDownLatch(1);
+    when(reservationApiClient.getReservationsByTurmasAndDatas(any())).thenAnswer(invocacao -> {
+      Map<UUID, Instant> lote = invocacao.getArgument(0);
+      if (lote.containsKey(lenta)) {
+        nuncaLiberado.await(5, TimeUnit.SECONDS);
+      }
+      return reservasDe(lote);
+    });
+    consulta = consulta(2, 2, Duration.ofMillis(200), Duration.ofSeconds(5));
+
+    // When
+    long inicio = System.nanoTime();
+    Map<UUID, List<ReservaResponseDTO>> reservas = consulta.buscar(turmas);
+
+    // Then
+    assertTrue(Duration.ofNanos(System.nanoTime() - inicio).compareTo(Duration.ofSeconds(2)) < 0);
+    assertEquals(List.of(conhecida), reservas.get(lenta));
+    assertEquals(3, reservas.size());
+  }
+
+  @Test
+  @DisplayName("Deve montar o resultado com o que respondeu até o prazo, sem iniciar os lotes restantes")
+  void deveDevolverResultadoParcialQuandoPrazoEsgota() {
+    // Given
+    Map<UUID, Instant> turmas = turmas(3);
+    AtomicInteger chamadas = new AtomicInteger();
+    when(reservationApiClient.getReservationsByTurmasAndDatas(any())).thenAnswer(invocacao -> {
+      chamadas.incrementAndGet();
+      Thread.sleep(250);
+      return reservasDe(invocacao.getArgument(0));
+    });
+    consulta = consulta(1, 1, Duration.ofSeconds(2), Duration.ofMillis(400));
+
+    // When
+    Map<UUID, List<ReservaResponseDTO>> reservas = consulta.buscar(turmas);
+
+    // Then
+    assertEquals(2, chamadas.get());
+    assertEquals(1, reservas.size());
+    assertFalse(reservas.containsKey(turmas.keySet().stream().skip(2).findFirst().orElseThrow()));
+  }
+
+  private ConsultaReservasEmLotes consulta(int tamanhoLote, int paralelismo, Duration timeoutChamada, Duration prazo) {
+    return new ConsultaReservasEmLotes(new ReservationService(reservationApiClient, reservasConhecidas),
+        new CronogramaProperties(tamanhoLote, paralelismo, timeoutChamada, prazo), new StandardEnvironment());
+  }
+
+  private static Map<UUID, Instant> turmas(int quantidade) {
+    Map<UUID, Instant> turmas = new LinkedHashMap<>();
+    for (int i = 0; i < quantidade; i++) {
+      turmas.put(new UUID(1, i), DATA_USO);
+    }
+    return turmas;
+  }
+
+  private static Map<UUID, List<ReservaResponseDTO>> reservasDe(Map<UUID, Instant> lote) {
+    Map<UUID, List<ReservaResponseDTO>> reservas = new HashMap<>();
+    lote.forEach((turmaId, dataUso) -> reservas.put(turmaId,
+        List.of(ReservaResponseDTO.builder().turmaId(turmaId).dataUso(dataUso).quantidade(1).build())));
+    return reservas;
+  }
+}
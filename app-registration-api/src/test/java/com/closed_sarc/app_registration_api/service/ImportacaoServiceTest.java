@@ -0,0 +1,161 @@
+package com.closed_sarc.app_registration_api.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.EnumSet;
+import java.util.List;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import com.closed_sarc.app_registration_api.application.dto.ResultadoImportacaoDTO;
+import com.closed_sarc.app_registration_api.application.dto.ResultadoImportacaoDTO.ErroLinhaDTO;
+import com.closed_sarc.app_registration_api.application.event.TurmasImportadasEvent;
+import com.closed_sarc.app_registration_api.config.ImportacaoProperties;
+import com.closed_sarc.app_registration_api.domain.entities.DiaSemana;
+import com.closed_sarc.app_registration_api.domain.entities.Disciplina;
+import com.closed_sarc.app_registration_api.domain.entities.TipoUsuario;
+import com.closed_sarc.app_registration_api.domain.entities.Turma;
+import com.closed_sarc.app_registration_api.domain.entities.Usuario;
+import com.closed_sarc.app_registration_api.domain.repositories.DisciplinaRepository;
+import com.closed_sarc.app_registration_api.domain.repositories.TurmaRepository;
+import com.closed_sarc.app_registration_api.domain.repositories.UsuarioRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+@DataJpaTest
+@TestPropertySource(locations = "classpath:application-test.properties")
+@DisplayName("ImportacaoService - Testes de Integração")
+class ImportacaoServiceTest {
+
+  @Autowired
+  private JdbcTemplate jdbcTemplate;
+
+  @Autowired
+  private PlatformTransactionManager transactionManager;
+
+  @Autowired
+  private UsuarioRepository usuarioRepository;
+
+  @Autowired
+  private DisciplinaRepository disciplinaRepository;
+
+  @Autowired
+  private TurmaRepository turmaRepository;
+
+  @Autowired
+  private TestEntityManager entityManager;
+
+  private final BCryptPasswordEncoder passwordEncoder = new BCryptPasswordEncoder(4);
+  private final ApplicationEventPublisher eventPublisher = mock(ApplicationEventPublisher.class);
+
+  private ImportacaoService importacaoService;
+
+  @BeforeEach
+  void setUp() {
+    // Lotes de 2 registros para exercitar a gravação em vários batches
+    importacaoService = new ImportacaoService(jdbcTemplate, transactionManager, usuarioRepository,
+        disciplinaRepository, passwordEncoder, eventPublisher, new ObjectMapper(), new ImportacaoProperties(2, 2, 1000));
+  }
+
+  @AfterEach
+  void tearDown() {
+    importacaoService.encerrar();
+  }
+
+  @Test
+  @DisplayName("Deve importar usuários de CSV com hash da senha e listar os registros inválidos")
+  void deveImportarUsuariosDeCsv() throws Exception {
+    // Given
+    String csv = """
+        nome,email,senha,tipo
+        Ana Lima,ana@teste.com,senha1,ESTUDANTE
+        Bruno Reis,bruno@teste.com,senha2,professor
+        Sem Tipo,semtipo@teste.com,senha3,
+        Ana Repetida,ana@teste.com,senha4,ESTUDANTE
+        "Silva, Carla",carla@teste.com,senha5,ADMIN
+        """;
+
+    // When
+    ResultadoImportacaoDTO resultado = importacaoService.importarUsuarios(corpo(csv), FormatoImportacao.CSV);
+
+    // Then
+    assertEquals(5, resultado.getLinhasLidas());
+    assertEquals(3, resultado.getImportadas());
+    assertEquals(List.of(new ErroLinhaDTO(3, "Campo obrigatório: tipo"), new ErroLinhaDTO(4, "Email já cadastrado")),
+        resultado.getErros());
+
+    Usuario bruno = usuarioRepository.findByEmail("bruno@teste.com").orElseThrow();
+    assertEquals(TipoUsuario.PROFESSOR, bruno.getTipo());
+    assertTrue(passwordEncoder.matches("senha2", bruno.getSenha()));
+    assertEquals("Silva, Carla", usuarioRepository.findByEmail("carla@teste.com").orElseThrow().getNome());
+  }
+
+  @Test
+  @DisplayName("Deve importar turmas de NDJSON validando professor e disciplina e parar em registro malformado")
+  void deveImportarTurmasDeNdjson() throws Exception {
+    // Given
+    Usuario professor = entityManager.persist(usuario("prof@teste.com", TipoUsuario.PROFESSOR));
+    Usuario estudante = entityManager.persist(usuario("aluno@teste.com", TipoUsuario.ESTUDANTE));
+    Disciplina disciplina = entityManager.persist(Disciplina.builder().nome("Programação Java").build());
+    entityManager.flush();
+
+    String ndjson = String.join("\n",
+        turma("33A", professor.getId(), disciplina.getId().toString()),
+        turma("33B", estudante.getId(), disciplina.getId().toString()),
+        turma("33C", professor.getId(), "550e8400-e29b-41d4-a716-446655440000"),
+        "{\"nome\": \"33D\", ",
+        turma("33E", professor.getId(), disciplina.getId().toString()));
+
+    // When
+    ResultadoImportacaoDTO resultado = importacaoService.importarTurmas(corpo(ndjson), FormatoImportacao.NDJSON);
+
+    // Then
+    assertEquals(1, resultado.getImportadas());
+    assertEquals(3, resultado.getRejeitadas());
+    assertEquals("Professor não encontrado", resultado.getErros().get(0).getMensagem());
+    assertEquals("Disciplina não encontrada", resultado.getErros().get(1).getMensagem());
+    assertTrue(resultado.getErros().get(2).getMensagem().startsWith("Registro malformado"));
+
+    Turma turma = turmaRepository.findAll().get(0);
+    assertEquals("33A", turma.getNome());
+    assertEquals(EnumSet.of(DiaSemana.SEGUNDA, DiaSemana.QUARTA), turma.getDiasAula());
+    verify(eventPublisher).publishEvent(new TurmasImportadasEvent(1));
+  }
+
+  private static InputStream corpo(String conteudo) {
+    return new ByteArrayInputStream(conteudo.getBytes(StandardCharsets.UTF_8));
+  }
+
+  private static String turma(String nome, Object professorId, String disciplinaId) {
+    return "{\"nome\": \"" + nome + "\", \"semestre\": \"PRIMEIRO\", \"ano\": 2025, \"horario\": \"A\", "
+        + "\"diasAula\": [\"SEGUNDA\", \"QUARTA\"], \"professorId\": \"" + professorId + "\", "
+        + "\"disciplinaId\": \"" + disciplinaId + "\"}";
+  }
+
+  private static Usuario usuario(String email, TipoUsuario tipo) {
+    return Usuario.builder()
+        .nome(email)
+        .email(email)
+        .senha("hash")
+        .tipo(tipo)
+        .dataCriacao(Instant.now())
+        .build();
+  }
+}
@@ -0,0 +1,73 @@
+package com.closed_sarc.app_registration_api.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.Duration;
+import java.util.UUID;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.closed_sarc.app_registration_api.application.dto.RecursoDTO;
+import com.closed_sarc.app_registration_api.application.dto.RecursoRequestDTO;
+import com.closed_sarc.app_registration_api.infrastructure.client.RecursoCache;
+import com.closed_sarc.app_registration_api.infrastructure.client.ReservationApiClient;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("RecursoService - Testes Unitários")
+class RecursoServiceTest {
+
+  @Mock
+  private ReservationApiClient reservationApiClient;
+
+  private RecursoService recursoService;
+
+  @BeforeEach
+  void setUp() {
+    recursoService = new RecursoService(reservationApiClient, new RecursoCache(Duration.ofMinutes(5)));
+  }
+
+  @Test
+  @DisplayName("Deve buscar o recurso por ID uma única vez e servir as próximas consultas do cache")
+  void deveBuscarRecursoPorIdUmaVezEUsarCache() {
+    // Given
+    UUID recursoId = UUID.randomUUID();
+    RecursoDTO recurso = RecursoDTO.builder().id(recursoId).nome("Projetor").build();
+    when(reservationApiClient.findRecursoById(recursoId)).thenReturn(recurso);
+
+    // When
+    recursoService.findById(recursoId);
+    RecursoDTO resultado = recursoService.findById(recursoId);
+
+    // Then
+    assertEquals(recurso, resultado);
+    verify(reservationApiClient, times(1)).findRecursoById(recursoId);
+  }
+
+  @Test
+  @DisplayName("Deve guardar o recurso criado e descartá-lo do cache ao excluir")
+  void deveAtualizarCacheAoCriarEExcluir() {
+    // Given
+    UUID recursoId = UUID.randomUUID();
+    RecursoRequestDTO request = RecursoRequestDTO.builder().nome("Projetor").build();
+    RecursoDTO recurso = RecursoDTO.builder().id(recursoId).nome("Projetor").build();
+    when(reservationApiClient.createRecurso(request)).thenReturn(recurso);
+    when(reservationApiClient.findRecursoById(recursoId)).thenReturn(recurso);
+
+    // When
+    recursoService.create(request);
+    recursoService.findById(recursoId);
+    recursoService.delete(recursoId);
+    recursoService.findById(recursoId);
+
+    // Then
+    verify(reservationApiClient, times(1)).findRecursoById(recursoId);
+  }
+}
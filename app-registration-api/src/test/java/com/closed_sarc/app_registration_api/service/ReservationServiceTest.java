@@ -0,0 +1,98 @@
+package com.closed_sarc.app_registration_api.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.mockito.Mockito.when;
+
+import java.time.Instant;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.closed_sarc.app_registration_api.infrastructure.client.ReservasConhecidasCache;
+import com.closed_sarc.app_registration_api.infrastructure.client.ReservationApiClient;
+import com.closed_sarc.app_registration_api.infrastructure.client.ReservationApiIndisponivelException;
+import com.closed_sarc.app_registration_api.infrastructure.client.dto.ReservaResponseDTO;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ReservationService - Testes Unitários")
+class ReservationServiceTest {
+
+  private static final Instant DATA_USO = Instant.parse("2025-01-20T08:00:00Z");
+
+  @Mock
+  private ReservationApiClient reservationApiClient;
+
+  private ReservationService reservationService;
+
+  @BeforeEach
+  void setUp() {
+    reservationService = new ReservationService(reservationApiClient, new ReservasConhecidasCache(100));
+  }
+
+  @Test
+  @DisplayName("Deve devolver as últimas reservas conhecidas quando a reservation-api está indisponível")
+  void deveDevolverUltimasReservasConhecidasQuandoIndisponivel() {
+    // Given
+    UUID turmaComReserva = UUID.randomUUID();
+    UUID turmaNuncaConsultada = UUID.randomUUID();
+    ReservaResponseDTO reserva = ReservaResponseDTO.builder()
+        .id(UUID.randomUUID())
+        .turmaId(turmaComReserva)
+        .dataUso(DATA_USO)
+        .quantidade(1)
+        .build();
+    when(reservationApiClient.getReservationsByTurmasAndDatas(Map.of(turmaComReserva, DATA_USO)))
+        .thenReturn(Map.of(turmaComReserva, List.of(reserva)));
+    reservationService.getReservationsByTurmasAndDatas(Map.of(turmaComReserva, DATA_USO));
+
+    Map<UUID, Instant> consulta = new LinkedHashMap<>();
+    consulta.put(turmaComReserva, DATA_USO);
+    consulta.put(turmaNuncaConsultada, DATA_USO);
+    when(reservationApiClient.getReservationsByTurmasAndDatas(consulta))
+        .thenThrow(new ReservationApiIndisponivelException("reservation-api indisponível (circuito aberto)"));
+
+    // When
+    Map<UUID, List<ReservaResponseDTO>> reservas = reservationService.getReservationsByTurmasAndDatas(consulta);
+
+    // Then
+    assertEquals(List.of(reserva), reservas.get(turmaComReserva));
+    assertFalse(reservas.containsKey(turmaNuncaConsultada));
+  }
+
+  @Test
+  @DisplayName("Deve incluir reserva criada na lista conhecida usada como fallback")
+  void deveIncluirReservaCriadaNaListaConhecida() {
+    // Given
+    UUID turmaId = UUID.randomUUID();
+    UUID recursoId = UUID.randomUUID();
+    when(reservationApiClient.getReservationsByTurmaAndData(turmaId, DATA_USO)).thenReturn(List.of());
+    reservationService.getReservationsByTurmaAndData(turmaId, DATA_USO);
+
+    ReservaResponseDTO criada = ReservaResponseDTO.builder()
+        .id(UUID.randomUUID())
+        .turmaId(turmaId)
+        .dataUso(DATA_USO)
+        .quantidade(1)
+        .build();
+    when(reservationApiClient.createReservation(turmaId, recursoId, 1, DATA_USO)).thenReturn(criada);
+    reservationService.createReservation(turmaId, recursoId, 1, DATA_USO);
+
+    when(reservationApiClient.getReservationsByTurmaAndData(turmaId, DATA_USO))
+        .thenThrow(new ReservationApiIndisponivelException("reservation-api indisponível (circuito aberto)"));
+
+    // When
+    List<ReservaResponseDTO> reservas = reservationService.getReservationsByTurmaAndData(turmaId, DATA_USO);
+
+    // Then
+    assertEquals(List.of(criada), reservas);
+  }
+}
@@ -0,0 +1,109 @@
+package com.closed_sarc.app_registration_api.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.List;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.TestPropertySource;
+
+import com.closed_sarc.app_registration_api.application.dto.TurmaResumoDTO;
+import com.closed_sarc.app_registration_api.domain.entities.DiaSemana;
+import com.closed_sarc.app_registration_api.domain.entities.Disciplina;
+import com.closed_sarc.app_registration_api.domain.entities.Horario;
+import com.closed_sarc.app_registration_api.domain.entities.Semestre;
+import com.closed_sarc.app_registration_api.domain.entities.TipoUsuario;
+import com.closed_sarc.app_registration_api.domain.entities.Turma;
+import com.closed_sarc.app_registration_api.domain.entities.Usuario;
+
+@DataJpaTest
+@Import(TurmaService.class)
+@TestPropertySource(locations = "classpath:application-test.properties",
+    properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@DisplayName("TurmaService - Testes de Integração")
+class TurmaServiceTest {
+
+  @Autowired
+  private TurmaService turmaService;
+
+  @Autowired
+  private TestEntityManager entityManager;
+
+  private final List<Usuario> professores = new ArrayList<>();
+  private final List<Disciplina> disciplinas = new ArrayList<>();
+
+  private Statistics estatisticas;
+
+  @BeforeEach
+  void setUp() {
+    for (int i = 0; i < 5; i++) {
+      professores.add(entityManager.persist(Usuario.builder()
+          .nome("Professor " + i)
+          .email("professor" + i + "@teste.com")
+          .senha("hash")
+          .tipo(TipoUsuario.PROFESSOR)
+          .dataCriacao(Instant.now())
+          .build()));
+      disciplinas.add(entityManager.persist(Disciplina.builder()
+          .nome("Disciplina " + i)
+          .build()));
+    }
+    for (int i = 0; i < 40; i++) {
+      entityManager.persist(Turma.builder()
+          .nome("T" + i)
+          .semestre(Semestre.PRIMEIRO)
+          .ano(2025)
+          .horario(Horario.A)
+          .diasAula(EnumSet.of(DiaSemana.SEGUNDA, DiaSemana.QUARTA))
+          .professor(professores.get(i % 5))
+          .disciplina(disciplinas.get(i % 5))
+          .build());
+    }
+    entityManager.flush();
+    entityManager.clear();
+
+    estatisticas = entityManager.getEntityManager().getEntityManagerFactory()
+        .unwrap(SessionFactory.class).getStatistics();
+    estatisticas.clear();
+  }
+
+  @Test
+  @DisplayName("Deve listar todas as turmas com professor, disciplina e dias de aula em uma única consulta")
+  void deveListarTodasAsTurmasEmUmaConsulta() {
+    // When
+    List<TurmaResumoDTO> turmas = turmaService.findAll();
+
+    // Then
+    assertEquals(40, turmas.size());
+    assertEquals(1, estatisticas.getPrepareStatementCount());
+    TurmaResumoDTO turma = turmas.stream().filter(t -> t.getNome().equals("T7")).findFirst().orElseThrow();
+    assertEquals("Professor 2", turma.getNomeProfessor());
+    assertEquals("Disciplina 2", turma.getNomeDisciplina());
+    assertEquals(List.of(DiaSemana.SEGUNDA, DiaSemana.QUARTA), turma.getDiasAula());
+  }
+
+  @Test
+  @DisplayName("Deve listar turmas por professor e por disciplina sem consultas adicionais por turma")
+  void deveListarPorProfessorEDisciplinaSemConsultasAdicionais() {
+    // When
+    List<TurmaResumoDTO> doProfessor = turmaService.findByProfessorId(professores.get(1).getId());
+    List<TurmaResumoDTO> daDisciplina = turmaService.findByDisciplinaId(disciplinas.get(3).getId());
+
+    // Then
+    assertEquals(8, doProfessor.size());
+    assertEquals(8, daDisciplina.size());
+    assertEquals(2, estatisticas.getPrepareStatementCount());
+    assertEquals("Disciplina 3", daDisciplina.get(0).getNomeDisciplina());
+  }
+}
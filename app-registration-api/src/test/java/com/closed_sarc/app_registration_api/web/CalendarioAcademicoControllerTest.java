@@ -0,0 +1,118 @@
+package com.closed_sarc.app_registration_api.web;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.web.servlet.MockMvc;
+
+import com.closed_sarc.app_registration_api.config.TestSecurityConfig;
+import com.closed_sarc.app_registration_api.domain.entities.CalendarioAcademico;
+import com.closed_sarc.app_registration_api.domain.entities.DiaSemana;
+import com.closed_sarc.app_registration_api.domain.entities.Reposicao;
+import com.closed_sarc.app_registration_api.domain.entities.Semestre;
+import com.closed_sarc.app_registration_api.service.CalendarioAcademicoService;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+@WebMvcTest(CalendarioAcademicoController.class)
+@TestPropertySource("classpath:application-test.properties")
+@Import(TestSecurityConfig.class)
+@DisplayName("CalendarioAcademicoController - Testes de Integração")
+class CalendarioAcademicoControllerTest {
+
+  @Autowired
+  private MockMvc mockMvc;
+
+  @MockBean
+  private CalendarioAcademicoService calendarioAcademicoService;
+
+  @Autowired
+  private ObjectMapper objectMapper;
+
+  @Test
+  @DisplayName("POST /api/calendarios - Deve retornar 201 com feriados e reposições")
+  void deveRetornar201AoCadastrarCalendario() throws Exception {
+    // Given
+    CalendarioAcademicoController.CalendarioRequest request = new CalendarioAcademicoController.CalendarioRequest(
+        2025, Semestre.PRIMEIRO, LocalDate.of(2025, 2, 17), LocalDate.of(2025, 7, 5),
+        List.of(LocalDate.of(2025, 4, 18)),
+        List.of(new CalendarioAcademicoController.ReposicaoRequest(LocalDate.of(2025, 5, 10), DiaSemana.SEXTA)));
+
+    when(calendarioAcademicoService.salvar(any(CalendarioAcademico.class)))
+        .thenAnswer(invocation -> {
+          CalendarioAcademico calendario = invocation.getArgument(0);
+          calendario.setId(UUID.randomUUID());
+          return calendario;
+        });
+
+    // When & Then
+    mockMvc.perform(post("/api/calendarios")
+        .contentType(MediaType.APPLICATION_JSON)
+        .content(objectMapper.writeValueAsString(request)))
+        .andExpect(status().isCreated())
+        .andExpect(jsonPath("$.semestre").value("PRIMEIRO"))
+        .andExpect(jsonPath("$.dataInicio").value("2025-02-17"))
+        .andExpect(jsonPath("$.feriados[0]").value("2025-04-18"))
+        .andExpect(jsonPath("$.reposicoes[0].diaSemana").value("SEXTA"));
+
+    verify(calendarioAcademicoService).salvar(argThat(calendario ->
+        calendario.getReposicoes().equals(Set.of(new Reposicao(LocalDate.of(2025, 5, 10), DiaSemana.SEXTA)))));
+  }
+
+  @Test
+  @DisplayName("POST /api/calendarios - Deve retornar 400 quando o semestre já tem calendário")
+  void deveRetornar400QuandoSemestreJaCadastrado() throws Exception {
+    // Given
+    CalendarioAcademicoController.CalendarioRequest request = new CalendarioAcademicoController.CalendarioRequest(
+        2025, Semestre.PRIMEIRO, LocalDate.of(2025, 2, 17), LocalDate.of(2025, 7, 5), null, null);
+
+    when(calendarioAcademicoService.salvar(any(CalendarioAcademico.class)))
+        .thenThrow(new IllegalArgumentException("Já existe um calendário para o semestre PRIMEIRO/2025"));
+
+    // When & Then
+    mockMvc.perform(post("/api/calendarios")
+        .contentType(MediaType.APPLICATION_JSON)
+        .content(objectMapper.writeValueAsString(request)))
+        .andExpect(status().isBadRequest())
+        .andExpect(jsonPath("$.message").value("Já existe um calendário para o semestre PRIMEIRO/2025"));
+  }
+
+  @Test
+  @DisplayName("GET /api/calendarios?ano= - Deve retornar os calendários do ano")
+  void deveRetornarCalendariosDoAno() throws Exception {
+    // Given
+    CalendarioAcademico calendario = CalendarioAcademico.builder()
+        .id(UUID.randomUUID())
+        .ano(2025)
+        .semestre(Semestre.SEGUNDO)
+        .dataInicio(LocalDate.of(2025, 8, 4))
+        .dataFim(LocalDate.of(2025, 12, 13))
+        .build();
+    when(calendarioAcademicoService.findByAno(2025)).thenReturn(List.of(calendario));
+
+    // When & Then
+    mockMvc.perform(get("/api/calendarios").param("ano", "2025"))
+        .andExpect(status().isOk())
+        .andExpect(jsonPath("$.length()").value(1))
+        .andExpect(jsonPath("$[0].semestre").value("SEGUNDO"))
+        .andExpect(jsonPath("$[0].dataFim").value("2025-12-13"));
+  }
+}
@@ -3,10 +3,12 @@ package com.closed_sarc.app_registration_api.web;
 import static org.mockito.Mockito.when;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 import java.time.Instant;
+import java.time.LocalDate;
 import java.util.Arrays;
 import java.util.Collections;
 
@@ -17,6 +19,7 @@ import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMock
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureWebMvc;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.test.context.TestPropertySource;
 import org.springframework.test.web.servlet.MockMvc;
@@ -26,6 +29,7 @@ import com.closed_sarc.app_registration_api.application.dto.CronogramaDTO;
 import com.closed_sarc.app_registration_api.application.dto.EventoDTO;
 import com.closed_sarc.app_registration_api.application.service.CronogramaService;
 import com.closed_sarc.app_registration_api.domain.entities.Horario;
+import com.fasterxml.jackson.databind.ObjectMapper;
 
 @SpringBootTest
 @AutoConfigureMockMvc
@@ -40,6 +44,14 @@ class CronogramaControllerTest {
   @MockBean
   private CronogramaService cronogramaService;
 
+  @Autowired
+  private ObjectMapper objectMapper;
+
+  private CronogramaService.Snapshot snapshot(CronogramaDTO cronograma) throws Exception {
+    return new CronogramaService.Snapshot(LocalDate.now(), cronograma,
+        objectMapper.writeValueAsBytes(cronograma), "\"etag-teste\"");
+  }
+
   @Test
   @DisplayName("GET /api/cronograma - Deve retornar 200 e cronograma com aulas")
   void deveRetornar200EAulasQuandoExistemTurmas() throws Exception {
@@ -63,7 +75,7 @@ class CronogramaControllerTest {
         .eventosDeHoje(Collections.emptyList())
         .build();
 
-    when(cronogramaService.consultarCronograma()).thenReturn(cronogramaEsperado);
+    when(cronogramaService.obterSnapshot()).thenReturn(snapshot(cronogramaEsperado));
 
     // When & Then
     mockMvc.perform(get("/api/cronograma")
@@ -91,7 +103,7 @@ class CronogramaControllerTest {
         .eventosDeHoje(Collections.emptyList())
         .build();
 
-    when(cronogramaService.consultarCronograma()).thenReturn(cronogramaVazio);
+    when(cronogramaService.obterSnapshot()).thenReturn(snapshot(cronogramaVazio));
 
     // When & Then
     mockMvc.perform(get("/api/cronograma")
@@ -113,7 +125,7 @@ class CronogramaControllerTest {
         .eventosDeHoje(Collections.emptyList())
         .build();
 
-    when(cronogramaService.consultarCronograma()).thenReturn(cronogramaVazio);
+    when(cronogramaService.obterSnapshot()).thenReturn(snapshot(cronogramaVazio));
 
     // When & Then
     mockMvc.perform(get("/api/cronograma"))
@@ -144,7 +156,7 @@ class CronogramaControllerTest {
         .eventosDeHoje(Arrays.asList(evento1, evento2))
         .build();
 
-    when(cronogramaService.consultarCronograma()).thenReturn(cronogramaComEventos);
+    when(cronogramaService.obterSnapshot()).thenReturn(snapshot(cronogramaComEventos));
 
     // When & Then
     mockMvc.perform(get("/api/cronograma")
@@ -158,4 +170,26 @@ class CronogramaControllerTest {
         .andExpect(jsonPath("$.eventosDeHoje[1].titulo").value("Workshop de programação"))
         .andExpect(jsonPath("$.eventosDeHoje[1].descricao").value("Workshop prático de programação"));
   }
+
+  @Test
+  @DisplayName("GET /api/cronograma - Deve retornar ETag e 304 quando If-None-Match corresponde")
+  void deveRetornar304QuandoETagCorresponde() throws Exception {
+    // Given
+    CronogramaDTO cronogramaVazio = CronogramaDTO.builder()
+        .aulasDeHoje(Collections.emptyList())
+        .eventosDeHoje(Collections.emptyList())
+        .build();
+
+    when(cronogramaService.obterSnapshot()).thenReturn(snapshot(cronogramaVazio));
+
+    // When & Then
+    mockMvc.perform(get("/api/cronograma"))
+        .andExpect(status().isOk())
+        .andExpect(header().string(HttpHeaders.ETAG, "\"etag-teste\""));
+
+    mockMvc.perform(get("/api/cronograma")
+        .header(HttpHeaders.IF_NONE_MATCH, "\"etag-teste\""))
+        .andExpect(status().isNotModified())
+        .andExpect(content().bytes(new byte[0]));
+  }
 }
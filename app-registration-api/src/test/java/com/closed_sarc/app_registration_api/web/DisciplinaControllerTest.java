@@ -22,6 +22,7 @@ import org.springframework.http.MediaType;
 import org.springframework.test.context.TestPropertySource;
 import org.springframework.test.web.servlet.MockMvc;
 
+import com.closed_sarc.app_registration_api.config.PaginacaoConfig;
 import com.closed_sarc.app_registration_api.config.TestSecurityConfig;
 import com.closed_sarc.app_registration_api.domain.entities.Disciplina;
 import com.closed_sarc.app_registration_api.service.DisciplinaService;
@@ -29,7 +30,7 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 
 @WebMvcTest(DisciplinaController.class)
 @TestPropertySource("classpath:application-test.properties")
-@Import(TestSecurityConfig.class)
+@Import({TestSecurityConfig.class, PaginacaoConfig.class, Listagem.class})
 @DisplayName("DisciplinaController - Testes de Integração")
 class DisciplinaControllerTest {
 
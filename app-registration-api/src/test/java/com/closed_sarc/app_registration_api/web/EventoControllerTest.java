@@ -1,5 +1,6 @@
 package com.closed_sarc.app_registration_api.web;
 
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.when;
 import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.doNothing;
@@ -22,19 +23,24 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
 import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.mapping.PropertyReferenceException;
+import org.springframework.data.util.TypeInformation;
 import org.springframework.http.MediaType;
 
+import com.closed_sarc.app_registration_api.config.PaginacaoConfig;
 import com.closed_sarc.app_registration_api.config.TestSecurityConfig;
 import org.springframework.test.context.TestPropertySource;
 import org.springframework.test.web.servlet.MockMvc;
 
+import com.closed_sarc.app_registration_api.application.dto.EventoDTO;
 import com.closed_sarc.app_registration_api.domain.entities.Evento;
 import com.closed_sarc.app_registration_api.service.EventoService;
 import com.fasterxml.jackson.databind.ObjectMapper;
 
 @WebMvcTest(EventoController.class)
 @TestPropertySource("classpath:application-test.properties")
-@Import(TestSecurityConfig.class)
+@Import({TestSecurityConfig.class, PaginacaoConfig.class, Listagem.class})
 @DisplayName("EventoController - Testes de Integração")
 class EventoControllerTest {
 
@@ -151,6 +157,60 @@ class EventoControllerTest {
         .andExpect(jsonPath("$.length()").value(0));
   }
 
+  @Test
+  @DisplayName("GET /api/eventos?de=&ate= - Deve retornar 200 e eventos que se sobrepõem ao período")
+  void deveRetornar200EEventosDoPeriodo() throws Exception {
+    // Given
+    Instant de = Instant.parse("2024-10-14T00:00:00Z");
+    Instant ate = Instant.parse("2024-10-21T00:00:00Z");
+    EventoDTO evento = EventoDTO.builder()
+        .id(UUID.randomUUID())
+        .titulo("Semana de tecnologia")
+        .dataInicio(Instant.parse("2024-10-13T12:00:00Z"))
+        .dataFim(Instant.parse("2024-10-15T18:00:00Z"))
+        .build();
+
+    when(eventoService.findByPeriodo(de, ate)).thenReturn(List.of(evento));
+
+    // When & Then
+    mockMvc.perform(get("/api/eventos")
+        .param("de", "2024-10-14T00:00:00Z")
+        .param("ate", "2024-10-21T00:00:00Z")
+        .accept(MediaType.APPLICATION_JSON))
+        .andExpect(status().isOk())
+        .andExpect(jsonPath("$.length()").value(1))
+        .andExpect(jsonPath("$[0].titulo").value("Semana de tecnologia"));
+  }
+
+  @Test
+  @DisplayName("GET /api/eventos?de=&ate= - Deve retornar 400 quando o período é inválido")
+  void deveRetornar400QuandoPeriodoInvalido() throws Exception {
+    // Given
+    when(eventoService.findByPeriodo(org.mockito.ArgumentMatchers.any(), org.mockito.ArgumentMatchers.any()))
+        .thenThrow(new IllegalArgumentException("Período inválido: 'de' deve ser anterior a 'ate'"));
+
+    // When & Then
+    mockMvc.perform(get("/api/eventos")
+        .param("de", "2024-10-21T00:00:00Z")
+        .param("ate", "2024-10-14T00:00:00Z")
+        .accept(MediaType.APPLICATION_JSON))
+        .andExpect(status().isBadRequest())
+        .andExpect(jsonPath("$.message").value("Período inválido: 'de' deve ser anterior a 'ate'"));
+  }
+
+  @Test
+  @DisplayName("GET /api/eventos?sort= - Deve retornar 400 quando o campo de ordenação não existe")
+  void deveRetornar400QuandoCampoDeOrdenacaoInvalido() throws Exception {
+    // Given
+    when(eventoService.findAll(any(Pageable.class)))
+        .thenThrow(new PropertyReferenceException("inexistente", TypeInformation.of(Evento.class), List.of()));
+
+    // When & Then
+    mockMvc.perform(get("/api/eventos").param("sort", "inexistente"))
+        .andExpect(status().isBadRequest())
+        .andExpect(jsonPath("$.message").value("Campo de ordenação inválido: inexistente"));
+  }
+
   @Test
   @DisplayName("GET /api/eventos/{id} - Deve retornar 200 e evento quando ID válido")
   void deveRetornar200EEventoQuandoIdValido() throws Exception {
@@ -0,0 +1,111 @@
+package com.closed_sarc.app_registration_api.web;
+
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.security.core.userdetails.UserDetailsService;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.web.servlet.MockMvc;
+
+import com.closed_sarc.app_registration_api.config.PaginacaoConfig;
+import com.closed_sarc.app_registration_api.domain.entities.Evento;
+import com.closed_sarc.app_registration_api.domain.entities.TipoUsuario;
+import com.closed_sarc.app_registration_api.domain.entities.Usuario;
+import com.closed_sarc.app_registration_api.security.RevogacaoTokens;
+import com.closed_sarc.app_registration_api.security.SecurityConfig;
+import com.closed_sarc.app_registration_api.security.TokenService;
+import com.closed_sarc.app_registration_api.service.EventoService;
+
+@WebMvcTest(EventoController.class)
+@TestPropertySource("classpath:application-test.properties")
+@Import({SecurityConfig.class, PaginacaoConfig.class, Listagem.class})
+@DisplayName("EventoController - Testes com Token Bearer")
+class EventoControllerTokenTest {
+
+  @Autowired
+  private MockMvc mockMvc;
+
+  @Autowired
+  private TokenService tokenService;
+
+  @Autowired
+  private RevogacaoTokens revogacaoTokens;
+
+  @MockBean
+  private EventoService eventoService;
+
+  @MockBean
+  private UserDetailsService userDetailsService;
+
+  private Usuario estudante;
+
+  @BeforeEach
+  void setUp() {
+    estudante = Usuario.builder()
+        .id(UUID.randomUUID())
+        .nome("Estudante Teste")
+        .email("estudante@teste.com")
+        .senha("hash")
+        .tipo(TipoUsuario.ESTUDANTE)
+        .build();
+  }
+
+  @Test
+  @DisplayName("GET /api/eventos/usuario/{usuarioId} - Estudante com token deve ver os próprios eventos")
+  void estudanteComTokenDeveVerPropriosEventos() throws Exception {
+    // Given
+    String token = tokenService.emitir(estudante).token();
+    when(eventoService.findByUsuarioId(estudante.getId())).thenReturn(List.of(Evento.builder()
+        .id(UUID.randomUUID())
+        .titulo("Monitoria")
+        .dataInicio(Instant.parse("2024-10-16T08:00:00Z"))
+        .build()));
+
+    // When & Then
+    mockMvc.perform(get("/api/eventos/usuario/" + estudante.getId())
+        .header(HttpHeaders.AUTHORIZATION, "Bearer " + token)
+        .accept(MediaType.APPLICATION_JSON))
+        .andExpect(status().isOk())
+        .andExpect(jsonPath("$[0].titulo").value("Monitoria"));
+  }
+
+  @Test
+  @DisplayName("GET /api/eventos/usuario/{usuarioId} - Estudante com token não deve ver eventos de outro usuário")
+  void estudanteComTokenNaoDeveVerEventosDeOutroUsuario() throws Exception {
+    // Given
+    String token = tokenService.emitir(estudante).token();
+
+    // When & Then
+    mockMvc.perform(get("/api/eventos/usuario/" + UUID.randomUUID())
+        .header(HttpHeaders.AUTHORIZATION, "Bearer " + token))
+        .andExpect(status().isForbidden());
+  }
+
+  @Test
+  @DisplayName("GET /api/eventos/usuario/{usuarioId} - Deve recusar token emitido antes da revogação")
+  void deveRecusarTokenRevogado() throws Exception {
+    // Given
+    String token = tokenService.emitir(estudante).token();
+    revogacaoTokens.revogar(estudante.getId());
+
+    // When & Then
+    mockMvc.perform(get("/api/eventos/usuario/" + estudante.getId())
+        .header(HttpHeaders.AUTHORIZATION, "Bearer " + token))
+        .andExpect(status().isUnauthorized());
+  }
+}
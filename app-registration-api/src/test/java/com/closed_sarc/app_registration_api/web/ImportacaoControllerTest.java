@@ -0,0 +1,76 @@
+package com.closed_sarc.app_registration_api.web;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import java.io.InputStream;
+import java.util.List;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.web.servlet.MockMvc;
+
+import com.closed_sarc.app_registration_api.application.dto.ResultadoImportacaoDTO;
+import com.closed_sarc.app_registration_api.application.dto.ResultadoImportacaoDTO.ErroLinhaDTO;
+import com.closed_sarc.app_registration_api.config.TestSecurityConfig;
+import com.closed_sarc.app_registration_api.service.FormatoImportacao;
+import com.closed_sarc.app_registration_api.service.ImportacaoService;
+
+@WebMvcTest(ImportacaoController.class)
+@TestPropertySource("classpath:application-test.properties")
+@Import(TestSecurityConfig.class)
+@DisplayName("ImportacaoController - Testes de Integração")
+class ImportacaoControllerTest {
+
+  @Autowired
+  private MockMvc mockMvc;
+
+  @MockBean
+  private ImportacaoService importacaoService;
+
+  @Test
+  @DisplayName("POST /api/importacoes/turmas - Deve ler NDJSON e retornar o resultado com os erros por registro")
+  void deveRetornar200ComResultadoDaImportacao() throws Exception {
+    // Given
+    when(importacaoService.importarTurmas(any(InputStream.class), eq(FormatoImportacao.NDJSON)))
+        .thenReturn(ResultadoImportacaoDTO.builder()
+            .linhasLidas(2)
+            .importadas(1)
+            .rejeitadas(1)
+            .linhasPorSegundo(400.0)
+            .erros(List.of(new ErroLinhaDTO(2, "Professor não encontrado")))
+            .build());
+
+    // When & Then
+    mockMvc.perform(post("/api/importacoes/turmas")
+        .contentType(MediaType.APPLICATION_NDJSON)
+        .content("{\"nome\": \"33A\"}\n{\"nome\": \"33B\"}\n"))
+        .andExpect(status().isOk())
+        .andExpect(jsonPath("$.importadas").value(1))
+        .andExpect(jsonPath("$.erros[0].linha").value(2))
+        .andExpect(jsonPath("$.erros[0].mensagem").value("Professor não encontrado"));
+  }
+
+  @Test
+  @DisplayName("POST /api/importacoes/usuarios - Deve retornar 415 para formato diferente de CSV ou NDJSON")
+  void deveRetornar415QuandoFormatoNaoSuportado() throws Exception {
+    // When & Then
+    mockMvc.perform(post("/api/importacoes/usuarios")
+        .contentType(MediaType.APPLICATION_JSON)
+        .content("[]"))
+        .andExpect(status().isUnsupportedMediaType());
+
+    verifyNoInteractions(importacaoService);
+  }
+}
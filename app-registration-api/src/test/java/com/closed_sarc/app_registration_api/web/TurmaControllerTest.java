@@ -9,6 +9,7 @@ import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.
 
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.EnumSet;
 import java.util.List;
 import java.util.UUID;
 
@@ -22,6 +23,8 @@ import org.springframework.http.MediaType;
 import org.springframework.test.context.TestPropertySource;
 import org.springframework.test.web.servlet.MockMvc;
 
+import com.closed_sarc.app_registration_api.application.dto.TurmaResumoDTO;
+import com.closed_sarc.app_registration_api.config.PaginacaoConfig;
 import com.closed_sarc.app_registration_api.config.TestSecurityConfig;
 import com.closed_sarc.app_registration_api.domain.entities.DiaSemana;
 import com.closed_sarc.app_registration_api.domain.entities.Horario;
@@ -32,7 +35,7 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 
 @WebMvcTest(TurmaController.class)
 @TestPropertySource("classpath:application-test.properties")
-@Import(TestSecurityConfig.class)
+@Import({TestSecurityConfig.class, PaginacaoConfig.class, Listagem.class})
 @DisplayName("TurmaController - Testes de Integração")
 class TurmaControllerTest {
 
@@ -67,7 +70,7 @@ class TurmaControllerTest {
         .semestre(Semestre.PRIMEIRO)
         .ano(2025)
         .horario(Horario.A)
-        .diasAula(Arrays.asList(DiaSemana.SEGUNDA, DiaSemana.QUARTA))
+        .diasAula(EnumSet.of(DiaSemana.SEGUNDA, DiaSemana.QUARTA))
         .build();
 
     when(turmaService.create(org.mockito.ArgumentMatchers.any(Turma.class),
@@ -128,7 +131,7 @@ class TurmaControllerTest {
         .semestre(Semestre.PRIMEIRO)
         .ano(2025)
         .horario(Horario.A)
-        .diasAula(Arrays.asList(DiaSemana.SEGUNDA, DiaSemana.QUARTA))
+        .diasAula(EnumSet.of(DiaSemana.SEGUNDA, DiaSemana.QUARTA))
         .build();
 
     when(turmaService.findById(turmaId)).thenReturn(turma);
@@ -163,16 +166,17 @@ class TurmaControllerTest {
   @DisplayName("GET /api/turmas - Deve retornar 200 e lista de turmas")
   void deveRetornar200EListaTurmas() throws Exception {
     // Given
-    Turma turma1 = Turma.builder()
+    TurmaResumoDTO turma1 = TurmaResumoDTO.builder()
         .id(UUID.randomUUID())
         .nome("33A")
         .semestre(Semestre.PRIMEIRO)
         .ano(2025)
         .horario(Horario.A)
         .diasAula(Arrays.asList(DiaSemana.SEGUNDA, DiaSemana.QUARTA))
+        .nomeProfessor("Prof. Maria Silva")
         .build();
 
-    Turma turma2 = Turma.builder()
+    TurmaResumoDTO turma2 = TurmaResumoDTO.builder()
         .id(UUID.randomUUID())
         .nome("33B")
         .semestre(Semestre.PRIMEIRO)
@@ -181,7 +185,7 @@ class TurmaControllerTest {
         .diasAula(Arrays.asList(DiaSemana.TERCA, DiaSemana.QUINTA))
         .build();
 
-    List<Turma> turmas = Arrays.asList(turma1, turma2);
+    List<TurmaResumoDTO> turmas = Arrays.asList(turma1, turma2);
     when(turmaService.findAll()).thenReturn(turmas);
 
     // When & Then
@@ -192,6 +196,8 @@ class TurmaControllerTest {
         .andExpect(jsonPath("$").isArray())
         .andExpect(jsonPath("$.length()").value(2))
         .andExpect(jsonPath("$[0].nome").value("33A"))
+        .andExpect(jsonPath("$[0].nomeProfessor").value("Prof. Maria Silva"))
+        .andExpect(jsonPath("$[0].diasAula[1]").value("QUARTA"))
         .andExpect(jsonPath("$[1].nome").value("33B"));
   }
 
@@ -215,7 +221,7 @@ class TurmaControllerTest {
   void deveRetornar200ETurmasDoProf() throws Exception {
     // Given
     UUID professorId = UUID.randomUUID();
-    Turma turma = Turma.builder()
+    TurmaResumoDTO turma = TurmaResumoDTO.builder()
         .id(UUID.randomUUID())
         .nome("33A")
         .semestre(Semestre.PRIMEIRO)
@@ -224,7 +230,7 @@ class TurmaControllerTest {
         .diasAula(Arrays.asList(DiaSemana.SEGUNDA, DiaSemana.QUARTA))
         .build();
 
-    List<Turma> turmas = Arrays.asList(turma);
+    List<TurmaResumoDTO> turmas = Arrays.asList(turma);
     when(turmaService.findByProfessorId(professorId)).thenReturn(turmas);
 
     // When & Then
@@ -242,7 +248,7 @@ class TurmaControllerTest {
   void deveRetornar200ETurmasDaDisciplina() throws Exception {
     // Given
     UUID disciplinaId = UUID.randomUUID();
-    Turma turma = Turma.builder()
+    TurmaResumoDTO turma = TurmaResumoDTO.builder()
         .id(UUID.randomUUID())
         .nome("33A")
         .semestre(Semestre.PRIMEIRO)
@@ -251,7 +257,7 @@ class TurmaControllerTest {
         .diasAula(Arrays.asList(DiaSemana.SEGUNDA, DiaSemana.QUARTA))
         .build();
 
-    List<Turma> turmas = Arrays.asList(turma);
+    List<TurmaResumoDTO> turmas = Arrays.asList(turma);
     when(turmaService.findByDisciplinaId(disciplinaId)).thenReturn(turmas);
 
     // When & Then
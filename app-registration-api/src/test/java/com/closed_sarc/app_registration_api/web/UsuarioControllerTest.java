@@ -1,19 +1,29 @@
 package com.closed_sarc.app_registration_api.web;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.doNothing;
 import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
 import java.util.UUID;
+import java.util.function.Consumer;
 
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -21,10 +31,16 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
 import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
 import org.springframework.http.MediaType;
 import org.springframework.test.context.TestPropertySource;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
 
+import com.closed_sarc.app_registration_api.config.PaginacaoConfig;
 import com.closed_sarc.app_registration_api.config.TestSecurityConfig;
 import com.closed_sarc.app_registration_api.domain.entities.TipoUsuario;
 import com.closed_sarc.app_registration_api.domain.entities.Usuario;
@@ -33,7 +49,7 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 
 @WebMvcTest(UsuarioController.class)
 @TestPropertySource("classpath:application-test.properties")
-@Import(TestSecurityConfig.class)
+@Import({TestSecurityConfig.class, PaginacaoConfig.class, Listagem.class})
 @DisplayName("UsuarioController - Testes de Integração")
 class UsuarioControllerTest {
 
@@ -189,6 +205,84 @@ class UsuarioControllerTest {
         .andExpect(jsonPath("$.length()").value(0));
   }
 
+  @Test
+  @DisplayName("GET /api/usuarios?page=&size=&sort= - Deve retornar a página com os totais")
+  void deveRetornarPaginaQuandoPaginacaoInformada() throws Exception {
+    // Given
+    Usuario usuario = usuario("Ana Lima");
+    when(usuarioService.findAll(any(Pageable.class)))
+        .thenAnswer(invocation -> new PageImpl<>(List.of(usuario), invocation.getArgument(0), 41));
+
+    // When & Then
+    mockMvc.perform(get("/api/usuarios")
+        .param("page", "2")
+        .param("size", "20")
+        .param("sort", "nome,desc")
+        .accept(MediaType.APPLICATION_JSON))
+        .andExpect(status().isOk())
+        .andExpect(jsonPath("$.itens[0].nome").value("Ana Lima"))
+        .andExpect(jsonPath("$.pagina").value(2))
+        .andExpect(jsonPath("$.totalItens").value(41))
+        .andExpect(jsonPath("$.totalPaginas").value(3))
+        .andExpect(jsonPath("$.proximo").doesNotExist());
+
+    verify(usuarioService).findAll(PageRequest.of(2, 20, Sort.by(Sort.Direction.DESC, "nome")));
+    verify(usuarioService, never()).findAll();
+  }
+
+  @Test
+  @DisplayName("GET /api/usuarios?cursor= - Deve paginar por id e indicar o próximo cursor")
+  void deveRetornarPaginaPorCursor() throws Exception {
+    // Given
+    Usuario primeiro = usuario("Ana Lima");
+    Usuario segundo = usuario("Bruno Reis");
+    when(usuarioService.findApos(isNull(), eq(2))).thenReturn(List.of(primeiro, segundo));
+    when(usuarioService.findApos(eq(segundo.getId()), eq(2))).thenReturn(List.of());
+
+    // When & Then
+    mockMvc.perform(get("/api/usuarios").param("cursor", "").param("size", "2"))
+        .andExpect(status().isOk())
+        .andExpect(jsonPath("$.itens.length()").value(2))
+        .andExpect(jsonPath("$.proximo").value(segundo.getId().toString()))
+        .andExpect(jsonPath("$.totalItens").doesNotExist());
+
+    mockMvc.perform(get("/api/usuarios").param("cursor", segundo.getId().toString()).param("size", "2"))
+        .andExpect(status().isOk())
+        .andExpect(jsonPath("$.itens.length()").value(0))
+        .andExpect(jsonPath("$.proximo").doesNotExist());
+
+    mockMvc.perform(get("/api/usuarios").param("cursor", "abc"))
+        .andExpect(status().isBadRequest())
+        .andExpect(jsonPath("$.message").value("Cursor inválido"));
+  }
+
+  @Test
+  @DisplayName("GET /api/usuarios (Accept: application/x-ndjson) - Deve enviar um usuário por linha")
+  void deveExportarUsuariosEmNdjson() throws Exception {
+    // Given
+    doAnswer(invocation -> {
+      Consumer<Usuario> consumidor = invocation.getArgument(0);
+      consumidor.accept(usuario("Ana Lima"));
+      consumidor.accept(usuario("Bruno Reis"));
+      return null;
+    }).when(usuarioService).percorrerTodos(any());
+
+    // When
+    MvcResult resultado = mockMvc.perform(get("/api/usuarios").accept(MediaType.APPLICATION_NDJSON))
+        .andExpect(request().asyncStarted())
+        .andReturn();
+
+    // Then
+    String corpo = mockMvc.perform(asyncDispatch(resultado))
+        .andExpect(status().isOk())
+        .andExpect(content().contentType(MediaType.APPLICATION_NDJSON))
+        .andReturn().getResponse().getContentAsString();
+    List<String> linhas = corpo.lines().toList();
+    assertEquals(2, linhas.size());
+    assertEquals("Bruno Reis", objectMapper.readValue(linhas.get(1), Usuario.class).getNome());
+    verify(usuarioService, never()).findAll();
+  }
+
   @Test
   @DisplayName("DELETE /api/usuarios/{id} - Deve retornar 204 quando usuário excluído com sucesso")
   void deveRetornar204QuandoUsuarioExcluidoComSucesso() throws Exception {
@@ -213,4 +307,13 @@ class UsuarioControllerTest {
     mockMvc.perform(delete("/api/usuarios/" + usuarioId))
         .andExpect(status().isNotFound());
   }
+
+  private static Usuario usuario(String nome) {
+    return Usuario.builder()
+        .id(UUID.randomUUID())
+        .nome(nome)
+        .email(nome.toLowerCase().replace(' ', '.') + "@email.com")
+        .tipo(TipoUsuario.ESTUDANTE)
+        .build();
+  }
 }
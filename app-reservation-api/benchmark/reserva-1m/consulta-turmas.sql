@@ -0,0 +1,7 @@
+-- ReservaRepository.findByTurmaIdInAndDataUsoIn: consulta em lote do cronograma (20 turmas, 4 horários).
+\set t random(1, 19980)
+\set dia random(0, 499)
+SELECT r.id, r.turma_id, r.data_uso, r.quantidade, rc.nome
+FROM reserva r JOIN recurso rc ON rc.id = r.recurso_id
+WHERE r.turma_id IN (SELECT md5('turma-' || n)::uuid FROM generate_series(:t, :t + 19) AS n)
+  AND r.data_uso IN (SELECT timestamptz '2024-01-01 08:00+00' + (:dia * 4 + h) * interval '6 hours' FROM generate_series(0, 3) AS h);
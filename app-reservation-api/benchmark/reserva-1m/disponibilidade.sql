@@ -0,0 +1,11 @@
+-- ReservaRepository.somarQuantidadePorDataUso: ocupação de um recurso em uma semana.
+-- Com idx_reserva_recurso_data_uso (INCLUDE quantidade) o plano é um index-only scan.
+\set r random(1, 500)
+\set dia random(0, 493)
+SELECT recurso_id, data_uso, SUM(quantidade)
+FROM reserva
+WHERE recurso_id IN (md5('recurso-' || :r)::uuid)
+  AND data_uso >= timestamptz '2024-01-01 00:00+00' + :dia * interval '1 day'
+  AND data_uso < timestamptz '2024-01-01 00:00+00' + (:dia + 7) * interval '1 day'
+GROUP BY recurso_id, data_uso
+ORDER BY data_uso;
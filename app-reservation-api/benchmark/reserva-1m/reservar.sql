@@ -0,0 +1,22 @@
+-- Caminho de ReservationService.createReservation: busca o recurso, semeia o contador do
+-- slot a partir das reservas (metade dos slots sorteados ainda não existe), incrementa
+-- condicionalmente e grava a reserva; por fim a checagem por turma e data da registration-api.
+\set r random(1, 500)
+\set slot random(0, 3999)
+\set turma random(1, 20000)
+BEGIN;
+SELECT quantidade, ativo FROM recurso WHERE id = md5('recurso-' || :r)::uuid;
+INSERT INTO recurso_ocupacao (recurso_id, data_uso, quantidade_total)
+SELECT md5('recurso-' || :r)::uuid, timestamptz '2024-01-01 08:00+00' + :slot * interval '6 hours', COALESCE(SUM(quantidade), 0)
+FROM reserva
+WHERE recurso_id = md5('recurso-' || :r)::uuid AND data_uso = timestamptz '2024-01-01 08:00+00' + :slot * interval '6 hours'
+ON CONFLICT DO NOTHING;
+UPDATE recurso_ocupacao SET quantidade_total = quantidade_total + 1
+WHERE recurso_id = md5('recurso-' || :r)::uuid AND data_uso = timestamptz '2024-01-01 08:00+00' + :slot * interval '6 hours'
+  AND quantidade_total + 1 <= 1000000;
+INSERT INTO reserva (id, usuario_id, turma_id, recurso_id, data_reserva, data_uso, quantidade)
+VALUES (gen_random_uuid(), NULL, md5('turma-' || :turma)::uuid, md5('recurso-' || :r)::uuid, now(),
+        timestamptz '2024-01-01 08:00+00' + :slot * interval '6 hours', 1);
+SELECT id FROM reserva
+WHERE turma_id = md5('turma-' || :turma)::uuid AND data_uso = timestamptz '2024-01-01 08:00+00' + :slot * interval '6 hours';
+END;
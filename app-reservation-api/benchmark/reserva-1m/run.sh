@@ -0,0 +1,34 @@
+#!/usr/bin/env bash
+# Compara a latência do caminho de reserva com 1M reservas sem e com os índices da V2.
+# Uso: PGHOST=localhost PGPORT=5433 PGUSER=closed_sarc PGDATABASE=closed_sarc_bench ./run.sh
+# Use um banco descartável: o seed apaga recurso, reserva e recurso_ocupacao.
+set -euo pipefail
+
+cd "$(dirname "$0")"
+MIGRACOES=../../src/main/resources/db/migration
+CLIENTES=${CLIENTES:-8}
+DURACAO=${DURACAO:-60}
+RESULTADOS=${RESULTADOS:-resultados}
+mkdir -p "$RESULTADOS"
+
+psql -v ON_ERROR_STOP=1 -q -f "$MIGRACOES/V1__esquema_inicial.sql"
+psql -v ON_ERROR_STOP=1 -q -f seed.sql
+
+rodar() {
+  local cenario=$1
+  psql -v ON_ERROR_STOP=1 -q -c "VACUUM ANALYZE reserva" -c "VACUUM ANALYZE recurso_ocupacao"
+  for script in reservar disponibilidade consulta-turmas; do
+    echo "== $cenario / $script"
+    pgbench -n -c "$CLIENTES" -j "$CLIENTES" -T "$DURACAO" -r -f "$script.sql" \
+      | tee "$RESULTADOS/$cenario-$script.txt" | grep -E "latency average|latency stddev|tps"
+  done
+}
+
+psql -v ON_ERROR_STOP=1 -q \
+  -c "DROP INDEX IF EXISTS idx_reserva_turma_data_uso, idx_reserva_recurso_data_uso, idx_reserva_data_uso"
+rodar sem-indices
+
+# Volta ao volume inicial antes de medir com índices
+psql -v ON_ERROR_STOP=1 -q -f seed.sql
+psql -v ON_ERROR_STOP=1 -q -f "$MIGRACOES/V2__indices_recurso_e_reserva.sql"
+rodar com-indices
@@ -0,0 +1,20 @@
+-- 1.000.000 reservas: 500 recursos × 2.000 slots de 6 horas (~500 dias), 20.000 turmas.
+-- IDs determinísticos (md5) para que os scripts do pgbench sorteiem linhas existentes.
+TRUNCATE recurso_ocupacao, reserva, recurso CASCADE;
+
+INSERT INTO recurso (id, nome, tipo, quantidade, capacidade, ativo)
+SELECT md5('recurso-' || n)::uuid, 'Recurso ' || n, 'SALA', 1000000, 40, true
+FROM generate_series(1, 500) AS n;
+
+INSERT INTO reserva (id, usuario_id, turma_id, recurso_id, data_reserva, data_uso, quantidade)
+SELECT gen_random_uuid(),
+       NULL,
+       md5('turma-' || (g % 20000 + 1))::uuid,
+       md5('recurso-' || (g % 500 + 1))::uuid,
+       now(),
+       timestamptz '2024-01-01 08:00+00' + ((g / 500) % 2000) * interval '6 hours',
+       1 + g % 3
+FROM generate_series(0, 999999) AS g;
+
+INSERT INTO recurso_ocupacao (recurso_id, data_uso, quantidade_total)
+SELECT recurso_id, data_uso, SUM(quantidade) FROM reserva GROUP BY recurso_id, data_uso;
@@ -0,0 +1,25 @@
+package com.closed_sarc.app_reservation_api.domain.entities;
+
+import lombok.*;
+import jakarta.persistence.*;
+
+/**
+ * Contador de ocupação de um recurso em um slot (recurso, dataUso).
+ * É incrementado com um UPDATE condicional, o que garante que a soma das
+ * reservas nunca ultrapasse a quantidade do recurso mesmo sob concorrência.
+ * Mantido na mesma transação da reserva; pode ser recalculado por
+ * {@code RecursoOcupacaoService#reconstruir()}.
+ */
+@Entity
+@Table(name = "recurso_ocupacao")
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class RecursoOcupacao {
+    @EmbeddedId
+    private RecursoOcupacaoId id;
+
+    @Column(name = "quantidade_total", nullable = false)
+    private Integer quantidadeTotal;
+}
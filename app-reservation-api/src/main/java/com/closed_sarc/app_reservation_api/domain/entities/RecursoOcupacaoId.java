@@ -0,0 +1,19 @@
+package com.closed_sarc.app_reservation_api.domain.entities;
+
+import lombok.*;
+import jakarta.persistence.*;
+import java.io.Serializable;
+import java.time.Instant;
+import java.util.UUID;
+
+@Embeddable
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class RecursoOcupacaoId implements Serializable {
+    @Column(name = "recurso_id")
+    private UUID recursoId;
+
+    @Column(name = "data_uso")
+    private Instant dataUso;
+}
@@ -6,7 +6,11 @@ import java.time.Instant;
 import java.util.UUID;
 
 @Entity
-@Table(name = "reserva")
+@Table(name = "reserva", indexes = {
+        @Index(name = "idx_reserva_turma_data_uso", columnList = "turma_id, data_uso"),
+        @Index(name = "idx_reserva_recurso_data_uso", columnList = "recurso_id, data_uso"),
+        @Index(name = "idx_reserva_data_uso", columnList = "data_uso")
+})
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
@@ -0,0 +1,92 @@
+package com.closed_sarc.app_reservation_api.domain.repositories;
+
+import com.closed_sarc.app_reservation_api.domain.entities.RecursoOcupacao;
+import com.closed_sarc.app_reservation_api.domain.entities.RecursoOcupacaoId;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+public interface RecursoOcupacaoRepository extends JpaRepository<RecursoOcupacao, RecursoOcupacaoId> {
+
+    /**
+     * Cria o contador do slot caso ainda não exista, partindo do total já reservado.
+     * Inserções concorrentes do mesmo slot são resolvidas pelo banco (ON CONFLICT).
+     */
+    @Modifying
+    @Query(value = "INSERT INTO recurso_ocupacao (recurso_id, data_uso, quantidade_total) " +
+                   "SELECT :recursoId, :dataUso, COALESCE(SUM(r.quantidade), 0) FROM reserva r " +
+                   "WHERE r.recurso_id = :recursoId AND r.data_uso = :dataUso " +
+                   "ON CONFLICT DO NOTHING",
+           nativeQuery = true)
+    int criarSeNaoExistir(@Param("recursoId") UUID recursoId, @Param("dataUso") Instant dataUso);
+
+    /**
+     * Datas dos slots informados que já têm contador, sem bloqueá-los.
+     */
+    @Query("SELECT o.id.dataUso FROM RecursoOcupacao o " +
+           "WHERE o.id.recursoId = :recursoId AND o.id.dataUso IN :datasUso")
+    List<Instant> findDatasUsoExistentes(@Param("recursoId") UUID recursoId,
+                                         @Param("datasUso") Collection<Instant> datasUso);
+
+    /**
+     * Bloqueia os contadores dos slots informados, sempre na ordem de dataUso
+     * para que lotes concorrentes não entrem em deadlock.
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT o FROM RecursoOcupacao o " +
+           "WHERE o.id.recursoId = :recursoId AND o.id.dataUso IN :datasUso ORDER BY o.id.dataUso")
+    List<RecursoOcupacao> findParaReserva(@Param("recursoId") UUID recursoId,
+                                          @Param("datasUso") Collection<Instant> datasUso);
+
+    @Modifying
+    @Query("UPDATE RecursoOcupacao o SET o.quantidadeTotal = o.quantidadeTotal + :quantidade " +
+           "WHERE o.id.recursoId = :recursoId AND o.id.dataUso IN :datasUso")
+    int incrementar(@Param("recursoId") UUID recursoId,
+                    @Param("datasUso") Collection<Instant> datasUso,
+                    @Param("quantidade") int quantidade);
+
+    /**
+     * Acerta os contadores existentes pela soma das reservas do slot. Retorna quantos mudaram.
+     */
+    @Modifying
+    @Query(value = "UPDATE recurso_ocupacao o SET quantidade_total = " +
+                   "(SELECT COALESCE(SUM(r.quantidade), 0) FROM reserva r " +
+                   "WHERE r.recurso_id = o.recurso_id AND r.data_uso = o.data_uso) " +
+                   "WHERE o.quantidade_total <> " +
+                   "(SELECT COALESCE(SUM(r.quantidade), 0) FROM reserva r " +
+                   "WHERE r.recurso_id = o.recurso_id AND r.data_uso = o.data_uso)",
+           nativeQuery = true)
+    int corrigirAPartirDasReservas();
+
+    /**
+     * Cria os contadores que faltam para slots com reservas. Slots criados ao mesmo tempo
+     * por uma reserva já partem da mesma soma (ON CONFLICT).
+     */
+    @Modifying
+    @Query(value = "INSERT INTO recurso_ocupacao (recurso_id, data_uso, quantidade_total) " +
+                   "SELECT r.recurso_id, r.data_uso, SUM(r.quantidade) FROM reserva r " +
+                   "GROUP BY r.recurso_id, r.data_uso " +
+                   "ON CONFLICT DO NOTHING",
+           nativeQuery = true)
+    int criarFaltantesAPartirDasReservas();
+
+    /**
+     * Incrementa a ocupação do slot somente se couber na capacidade.
+     * Retorna 0 quando a quantidade solicitada excede a disponibilidade.
+     */
+    @Modifying
+    @Query("UPDATE RecursoOcupacao o SET o.quantidadeTotal = o.quantidadeTotal + :quantidade " +
+           "WHERE o.id.recursoId = :recursoId AND o.id.dataUso = :dataUso " +
+           "AND o.quantidadeTotal + :quantidade <= :capacidade")
+    int incrementarSeDisponivel(@Param("recursoId") UUID recursoId,
+                                @Param("dataUso") Instant dataUso,
+                                @Param("quantidade") int quantidade,
+                                @Param("capacidade") int capacidade);
+}
@@ -1,11 +1,27 @@
 package com.closed_sarc.app_reservation_api.domain.repositories;
 
 import com.closed_sarc.app_reservation_api.domain.entities.Recurso;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
 public interface RecursoRepository extends JpaRepository<Recurso, UUID> {
     
     Optional<Recurso> findByNomeIgnoreCaseAndAtivoTrue(String nome);
+
+    // Consultas de recursos ativos, atendidas pelos índices parciais de schema-postgresql.sql
+    List<Recurso> findByAtivoTrueOrderByNomeAsc();
+
+    Page<Recurso> findByAtivoTrue(Pageable pageable);
+
+    List<Recurso> findByAtivoTrueOrderByIdAsc(Limit limit);
+
+    List<Recurso> findByAtivoTrueAndIdGreaterThanOrderByIdAsc(UUID cursor, Limit limit);
+
+    List<Recurso> findByIdInAndAtivoTrue(Collection<UUID> ids);
 }
@@ -5,6 +5,7 @@ import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import java.time.Instant;
+import java.util.Collection;
 import java.util.List;
 import java.util.UUID;
 
@@ -15,4 +16,26 @@ public interface ReservaRepository extends JpaRepository<Reserva, UUID> {
     
     @Query("SELECT r FROM Reserva r WHERE r.recurso.id = :recursoId AND r.dataUso = :dataUso")
     List<Reserva> findByRecursoIdAndDataUso(@Param("recursoId") UUID recursoId, @Param("dataUso") Instant dataUso);
+
+    @Query("SELECT r FROM Reserva r JOIN FETCH r.recurso " +
+           "WHERE r.turmaId IN :turmaIds AND r.dataUso IN :datasUso")
+    List<Reserva> findByTurmaIdInAndDataUsoIn(@Param("turmaIds") Collection<UUID> turmaIds,
+                                              @Param("datasUso") Collection<Instant> datasUso);
+
+    @Query("SELECT r FROM Reserva r JOIN FETCH r.recurso " +
+           "WHERE r.dataUso >= :de AND r.dataUso < :ate")
+    List<Reserva> findByDataUsoPeriodo(@Param("de") Instant de, @Param("ate") Instant ate);
+
+    @Query("SELECT r.recurso.id AS recursoId, r.dataUso AS dataUso, SUM(r.quantidade) AS quantidade " +
+           "FROM Reserva r WHERE r.recurso.id IN :recursoIds AND r.dataUso >= :de AND r.dataUso < :ate " +
+           "GROUP BY r.recurso.id, r.dataUso ORDER BY r.dataUso")
+    List<OcupacaoPorDataUso> somarQuantidadePorDataUso(@Param("recursoIds") Collection<UUID> recursoIds,
+                                                       @Param("de") Instant de,
+                                                       @Param("ate") Instant ate);
+
+    interface OcupacaoPorDataUso {
+        UUID getRecursoId();
+        Instant getDataUso();
+        Long getQuantidade();
+    }
 }
@@ -0,0 +1,19 @@
+package com.closed_sarc.app_reservation_api.service;
+
+import lombok.Getter;
+
+import java.util.List;
+
+/**
+ * Lançada quando uma reserva em lote não cabe na disponibilidade de uma ou mais datas.
+ * Nenhuma reserva do lote é gravada.
+ */
+@Getter
+public class ConflitoReservaException extends RuntimeException {
+    private final List<ReservationService.Conflito> conflitos;
+
+    public ConflitoReservaException(List<ReservationService.Conflito> conflitos) {
+        super(String.format("Recurso indisponível em %d das datas solicitadas", conflitos.size()));
+        this.conflitos = conflitos;
+    }
+}
@@ -0,0 +1,146 @@
+package com.closed_sarc.app_reservation_api.service;
+
+import com.closed_sarc.app_reservation_api.domain.entities.Recurso;
+import com.closed_sarc.app_reservation_api.domain.repositories.RecursoRepository;
+import com.closed_sarc.app_reservation_api.domain.repositories.ReservaRepository;
+import com.closed_sarc.app_reservation_api.service.event.ReservaCriadaEvent;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+@Service
+@RequiredArgsConstructor
+public class DisponibilidadeService {
+    private static final int MAX_RECURSOS = 1024;
+    private static final int MAX_PERIODOS_POR_RECURSO = 32;
+
+    private final RecursoRepository recursoRepository;
+    private final ReservaRepository reservaRepository;
+
+    /**
+     * Cache por recurso das disponibilidades já calculadas, indexadas pelo período consultado.
+     * A invalidação remove o mapa inteiro do recurso; consultas em andamento gravam no mapa
+     * que capturaram antes de ir ao banco, então um resultado antigo nunca volta ao cache.
+     * Só recursos ativos entram, e no máximo {@code MAX_RECURSOS}, descartando os menos
+     * consultados recentemente.
+     */
+    private final Map<UUID, Map<Periodo, DisponibilidadeRecurso>> cache =
+            Collections.synchronizedMap(new LinkedHashMap<>(16, 0.75f, true) {
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<UUID, Map<Periodo, DisponibilidadeRecurso>> eldest) {
+                    return size() > MAX_RECURSOS;
+                }
+            });
+
+    @Transactional(readOnly = true)
+    public DisponibilidadeRecurso consultar(UUID recursoId, Instant de, Instant ate) {
+        return consultar(List.of(recursoId), de, ate).get(0);
+    }
+
+    /**
+     * Retorna, para cada recurso, a quantidade disponível nos slots (dataUso) com reservas
+     * no intervalo [de, ate). Slots não listados estão com a quantidade total disponível.
+     * Os recursos fora do cache são resolvidos com uma única consulta agregada.
+     */
+    @Transactional(readOnly = true)
+    public List<DisponibilidadeRecurso> consultar(Collection<UUID> recursoIds, Instant de, Instant ate) {
+        if (de == null || ate == null || !de.isBefore(ate)) {
+            throw new IllegalArgumentException("Período inválido: 'de' deve ser anterior a 'ate'");
+        }
+        if (recursoIds == null || recursoIds.isEmpty()) {
+            throw new IllegalArgumentException("Informe ao menos um recurso");
+        }
+
+        Periodo periodo = new Periodo(de, ate);
+        Map<UUID, DisponibilidadeRecurso> resultado = new LinkedHashMap<>();
+        Set<UUID> ausentes = new LinkedHashSet<>();
+        for (UUID recursoId : new LinkedHashSet<>(recursoIds)) {
+            Map<Periodo, DisponibilidadeRecurso> entrada = cache.get(recursoId);
+            DisponibilidadeRecurso disponibilidade = entrada != null ? entrada.get(periodo) : null;
+            resultado.put(recursoId, disponibilidade);
+            if (disponibilidade == null) {
+                ausentes.add(recursoId);
+            }
+        }
+
+        if (!ausentes.isEmpty()) {
+            Map<UUID, Recurso> recursos = new HashMap<>();
+            for (Recurso recurso : recursoRepository.findAllById(ausentes)) {
+                if (recurso.getAtivo()) {
+                    recursos.put(recurso.getId(), recurso);
+                }
+            }
+            if (recursos.size() < ausentes.size()) {
+                throw new IllegalArgumentException("Recurso não encontrado");
+            }
+
+            // Entradas capturadas só depois da validação, mas antes de ler as reservas
+            Map<UUID, Map<Periodo, DisponibilidadeRecurso>> pendentes = new HashMap<>();
+            for (UUID recursoId : ausentes) {
+                pendentes.put(recursoId, cache.computeIfAbsent(recursoId, id -> new ConcurrentHashMap<>()));
+            }
+
+            Map<UUID, List<SlotOcupado>> slotsPorRecurso = new HashMap<>();
+            for (ReservaRepository.OcupacaoPorDataUso ocupacao :
+                    reservaRepository.somarQuantidadePorDataUso(pendentes.keySet(), de, ate)) {
+                int quantidade = capacidade(recursos.get(ocupacao.getRecursoId()));
+                int reservado = ocupacao.getQuantidade().intValue();
+                slotsPorRecurso.computeIfAbsent(ocupacao.getRecursoId(), id -> new ArrayList<>())
+                        .add(new SlotOcupado(ocupacao.getDataUso(), reservado, Math.max(quantidade - reservado, 0)));
+            }
+
+            pendentes.forEach((recursoId, entrada) -> {
+                Recurso recurso = recursos.get(recursoId);
+                DisponibilidadeRecurso disponibilidade = new DisponibilidadeRecurso(
+                        recursoId, recurso.getNome(), capacidade(recurso), de, ate,
+                        slotsPorRecurso.getOrDefault(recursoId, List.of()));
+                if (entrada.size() >= MAX_PERIODOS_POR_RECURSO) {
+                    entrada.clear();
+                }
+                entrada.put(periodo, disponibilidade);
+                resultado.put(recursoId, disponibilidade);
+            });
+        }
+        return new ArrayList<>(resultado.values());
+    }
+
+    public void invalidar(UUID recursoId) {
+        cache.remove(recursoId);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onReservaCriada(ReservaCriadaEvent event) {
+        invalidar(event.recursoId());
+    }
+
+    private int capacidade(Recurso recurso) {
+        return recurso.getQuantidade() != null ? recurso.getQuantidade() : 1;
+    }
+
+    private record Periodo(Instant de, Instant ate) {}
+
+    public record SlotOcupado(Instant dataUso, int reservado, int disponivel) {}
+
+    public record DisponibilidadeRecurso(
+            UUID recursoId,
+            String nome,
+            int quantidade,
+            Instant de,
+            Instant ate,
+            List<SlotOcupado> slotsOcupados
+    ) {}
+}
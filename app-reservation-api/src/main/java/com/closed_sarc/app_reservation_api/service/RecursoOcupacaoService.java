@@ -0,0 +1,91 @@
+package com.closed_sarc.app_reservation_api.service;
+
+import com.closed_sarc.app_reservation_api.domain.entities.RecursoOcupacao;
+import com.closed_sarc.app_reservation_api.domain.repositories.RecursoOcupacaoRepository;
+import com.closed_sarc.app_reservation_api.domain.repositories.ReservaRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeSet;
+import java.util.UUID;
+
+@Service
+@RequiredArgsConstructor
+@Transactional
+@Slf4j
+public class RecursoOcupacaoService {
+    private final RecursoOcupacaoRepository recursoOcupacaoRepository;
+    private final ReservaRepository reservaRepository;
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * Bloqueia e retorna os contadores dos slots (recurso, dataUso) informados, criando em
+     * lote os que ainda não existem a partir das reservas já gravadas.
+     *
+     * <p>Os contadores que faltam são inseridos antes de qualquer lock, em ordem de dataUso,
+     * e só depois todos são bloqueados, também em ordem de dataUso. Assim um lote nunca espera
+     * a inserção de outro segurando o lock de uma data maior: dois lotes com datas sobrepostas
+     * se enfileiram na mesma ordem, sem deadlock.
+     */
+    public List<RecursoOcupacao> bloquearSlots(UUID recursoId, Collection<Instant> datasUso) {
+        TreeSet<Instant> faltantes = new TreeSet<>(datasUso);
+        faltantes.removeAll(recursoOcupacaoRepository.findDatasUsoExistentes(recursoId, datasUso));
+        if (!faltantes.isEmpty()) {
+            criarContadores(recursoId, faltantes);
+        }
+        return recursoOcupacaoRepository.findParaReserva(recursoId, datasUso);
+    }
+
+    private void criarContadores(UUID recursoId, TreeSet<Instant> faltantes) {
+        Map<Instant, Integer> reservado = new HashMap<>();
+        Instant de = faltantes.first();
+        Instant ate = faltantes.last().plusNanos(1);
+        for (ReservaRepository.OcupacaoPorDataUso ocupacao :
+                reservaRepository.somarQuantidadePorDataUso(List.of(recursoId), de, ate)) {
+            reservado.put(ocupacao.getDataUso(), ocupacao.getQuantidade().intValue());
+        }
+
+        List<Object[]> linhas = new ArrayList<>(faltantes.size());
+        for (Instant dataUso : faltantes) {
+            linhas.add(new Object[] {recursoId, OffsetDateTime.ofInstant(dataUso, ZoneOffset.UTC),
+                    reservado.getOrDefault(dataUso, 0)});
+        }
+        jdbcTemplate.batchUpdate("INSERT INTO recurso_ocupacao (recurso_id, data_uso, quantidade_total) " +
+                "VALUES (?, ?, ?) ON CONFLICT DO NOTHING", linhas);
+    }
+
+    /**
+     * Recalcula todos os contadores de recurso_ocupacao a partir da tabela reserva.
+     * Usado para recuperação caso a projeção divirja das reservas persistidas.
+     * Pode ser agendado via reservation-api.ocupacao.reconstrucao.cron (desligado por padrão).
+     *
+     * <p>Roda junto com reservas em andamento: em vez de apagar e reinserir, bloqueia os
+     * contadores existentes em ordem de (recurso, dataUso), a mesma das reservas, e acerta
+     * cada um. Toda reserva incrementa o contador antes de gravar a linha em reserva, então
+     * com o contador bloqueado não há reserva pendente do slot fora da soma. Contadores sem
+     * reservas ficam com zero em vez de serem apagados: uma reserva esperando pelo lock
+     * da linha não a encontraria mais. Retorna quantos slots foram corrigidos ou criados.
+     */
+    @Scheduled(cron = "${reservation-api.ocupacao.reconstrucao.cron:-}")
+    public int reconstruir() {
+        jdbcTemplate.query("SELECT recurso_id FROM recurso_ocupacao ORDER BY recurso_id, data_uso FOR UPDATE",
+                (RowCallbackHandler) linha -> { });
+        int corrigidos = recursoOcupacaoRepository.corrigirAPartirDasReservas();
+        int criados = recursoOcupacaoRepository.criarFaltantesAPartirDasReservas();
+        log.info("Ocupação de recursos reconstruída: {} slots corrigidos e {} criados", corrigidos, criados);
+        return corrigidos + criados;
+    }
+}
@@ -3,9 +3,14 @@ package com.closed_sarc.app_reservation_api.service;
 import com.closed_sarc.app_reservation_api.domain.entities.Recurso;
 import com.closed_sarc.app_reservation_api.domain.repositories.RecursoRepository;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.UUID;
 
@@ -13,7 +18,10 @@ import java.util.UUID;
 @RequiredArgsConstructor
 @Transactional
 public class RecursoService {
+    private static final int TAMANHO_MAXIMO_PAGINA = 500;
+
     private final RecursoRepository recursoRepository;
+    private final DisponibilidadeService disponibilidadeService;
 
     public Recurso create(Recurso recurso) {
         // Verificar se já existe um recurso com o mesmo nome
@@ -26,9 +34,47 @@ public class RecursoService {
 
     @Transactional(readOnly = true)
     public List<Recurso> findAll() {
-        return recursoRepository.findAll().stream()
+        return recursoRepository.findByAtivoTrueOrderByNomeAsc();
+    }
+
+    @Transactional(readOnly = true)
+    public Page<Recurso> findPagina(int pagina, int tamanho) {
+        validarTamanho(tamanho);
+        if (pagina < 0) {
+            throw new IllegalArgumentException("A página deve ser maior ou igual a zero");
+        }
+        return recursoRepository.findByAtivoTrue(PageRequest.of(pagina, tamanho, Sort.by("nome", "id")));
+    }
+
+    /**
+     * Paginação por cursor (keyset) ordenada por id: cada página começa logo após o último
+     * id da anterior, então o custo não cresce com a posição como no OFFSET.
+     */
+    @Transactional(readOnly = true)
+    public PaginaRecursos findAposCursor(UUID cursor, int tamanho) {
+        validarTamanho(tamanho);
+        Limit limite = Limit.of(tamanho + 1);
+        List<Recurso> recursos = cursor == null
+                ? recursoRepository.findByAtivoTrueOrderByIdAsc(limite)
+                : recursoRepository.findByAtivoTrueAndIdGreaterThanOrderByIdAsc(cursor, limite);
+
+        if (recursos.size() <= tamanho) {
+            return new PaginaRecursos(recursos, null);
+        }
+        List<Recurso> pagina = recursos.subList(0, tamanho);
+        return new PaginaRecursos(pagina, pagina.get(tamanho - 1).getId());
+    }
+
+    @Transactional(readOnly = true)
+    public Recurso findById(UUID id) {
+        return recursoRepository.findById(id)
                 .filter(Recurso::getAtivo)
-                .toList();
+                .orElseThrow(() -> new IllegalArgumentException("Recurso não encontrado"));
+    }
+
+    @Transactional(readOnly = true)
+    public List<Recurso> findByIds(Collection<UUID> ids) {
+        return recursoRepository.findByIdInAndAtivoTrue(ids);
     }
 
     public void delete(UUID id) {
@@ -36,5 +82,15 @@ public class RecursoService {
                 .orElseThrow(() -> new IllegalArgumentException("Recurso não encontrado"));
         recurso.setAtivo(false);
         recursoRepository.save(recurso);
+        disponibilidadeService.invalidar(id);
     }
+
+    private void validarTamanho(int tamanho) {
+        if (tamanho < 1 || tamanho > TAMANHO_MAXIMO_PAGINA) {
+            throw new IllegalArgumentException(
+                    String.format("O tamanho da página deve estar entre 1 e %d", TAMANHO_MAXIMO_PAGINA));
+        }
+    }
+
+    public record PaginaRecursos(List<Recurso> itens, UUID proximoCursor) {}
 }
@@ -0,0 +1,60 @@
+package com.closed_sarc.app_reservation_api.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.stereotype.Component;
+
+/**
+ * Métricas da criação de reservas, separadas por fase: {@code disponibilidade} (recurso ativo e
+ * reserva no contador do slot, sob o lock de linha) e {@code insercao} (INSERT das reservas).
+ * As recusas por falta de capacidade são contadas à parte, por operação (unitária ou lote).
+ */
+@Component
+public class ReservaMetricas {
+
+    private final Timer disponibilidadeUnitaria;
+    private final Timer insercaoUnitaria;
+    private final Timer disponibilidadeLote;
+    private final Timer insercaoLote;
+    private final Counter recusadasUnitaria;
+    private final Counter recusadasLote;
+
+    public ReservaMetricas(MeterRegistry registry) {
+        this.disponibilidadeUnitaria = timer(registry, "disponibilidade", "unitaria");
+        this.insercaoUnitaria = timer(registry, "insercao", "unitaria");
+        this.disponibilidadeLote = timer(registry, "disponibilidade", "lote");
+        this.insercaoLote = timer(registry, "insercao", "lote");
+        this.recusadasUnitaria = recusadas(registry, "unitaria");
+        this.recusadasLote = recusadas(registry, "lote");
+    }
+
+    public void registrarDisponibilidade(Timer.Sample amostra, boolean lote) {
+        amostra.stop(lote ? disponibilidadeLote : disponibilidadeUnitaria);
+    }
+
+    public void registrarInsercao(Timer.Sample amostra, boolean lote) {
+        amostra.stop(lote ? insercaoLote : insercaoUnitaria);
+    }
+
+    public void registrarRecusaPorCapacidade(boolean lote) {
+        (lote ? recusadasLote : recusadasUnitaria).increment();
+    }
+
+    private static Timer timer(MeterRegistry registry, String fase, String operacao) {
+        return Timer.builder("reservas.criacao")
+                .description("Tempo de cada fase da criação de reservas")
+                .tag("fase", fase)
+                .tag("operacao", operacao)
+                .publishPercentileHistogram()
+                .register(registry);
+    }
+
+    private static Counter recusadas(MeterRegistry registry, String operacao) {
+        return Counter.builder("reservas.recusadas")
+                .description("Reservas recusadas por falta de disponibilidade do recurso")
+                .tag("motivo", "capacidade")
+                .tag("operacao", operacao)
+                .register(registry);
+    }
+}
@@ -1,15 +1,29 @@
 package com.closed_sarc.app_reservation_api.service;
 
 import com.closed_sarc.app_reservation_api.domain.entities.Recurso;
+import com.closed_sarc.app_reservation_api.domain.entities.RecursoOcupacao;
+import com.closed_sarc.app_reservation_api.domain.entities.RecursoOcupacaoId;
 import com.closed_sarc.app_reservation_api.domain.entities.Reserva;
+import com.closed_sarc.app_reservation_api.domain.repositories.RecursoOcupacaoRepository;
 import com.closed_sarc.app_reservation_api.domain.repositories.RecursoRepository;
 import com.closed_sarc.app_reservation_api.domain.repositories.ReservaRepository;
+import com.closed_sarc.app_reservation_api.service.event.ReservaCriadaEvent;
+import io.micrometer.core.instrument.Timer;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
 import java.util.UUID;
 
 @Service
@@ -18,8 +32,14 @@ import java.util.UUID;
 public class ReservationService {
     private final ReservaRepository reservaRepository;
     private final RecursoRepository recursoRepository;
+    private final RecursoOcupacaoRepository recursoOcupacaoRepository;
+    private final RecursoOcupacaoService recursoOcupacaoService;
+    private final ApplicationEventPublisher eventPublisher;
+    private final ReservaMetricas metricas;
 
     public Reserva createReservation(UUID turmaId, UUID recursoId, Integer quantidade, Instant dataUso) {
+        Timer.Sample disponibilidade = Timer.start();
+
         // Verificar se o recurso existe e está ativo
         Recurso recurso = recursoRepository.findById(recursoId)
                 .orElseThrow(() -> new IllegalArgumentException("Recurso não encontrado"));
@@ -28,17 +48,22 @@ public class ReservationService {
             throw new IllegalArgumentException("Recurso não está ativo");
         }
 
-        // Verificar disponibilidade do recurso na data/horário
-        int quantidadeReservada = getQuantidadeReservadaPorDataUso(recursoId, dataUso);
-        int quantidadeDisponivel = (recurso.getQuantidade() != null ? recurso.getQuantidade() : 1) - quantidadeReservada;
+        // Reservar a quantidade no contador do slot: a verificação e o incremento
+        // acontecem em um único UPDATE condicional, sob o lock de linha do banco
+        int capacidade = recurso.getQuantidade() != null ? recurso.getQuantidade() : 1;
 
-        if (quantidade > quantidadeDisponivel) {
+        boolean reservado = reservarNoSlot(recursoId, dataUso, quantidade, capacidade);
+        metricas.registrarDisponibilidade(disponibilidade, false);
+        if (!reservado) {
+            metricas.registrarRecusaPorCapacidade(false);
+            int quantidadeDisponivel = capacidade - getQuantidadeReservadaPorDataUso(recursoId, dataUso);
             throw new IllegalArgumentException(
                     String.format("Quantidade solicitada (%d) excede a disponibilidade (%d) do recurso %s",
                             quantidade, quantidadeDisponivel, recurso.getNome()));
         }
 
-        // Criar reserva
+        // Criar reserva; o flush traz o INSERT para dentro da medição, em vez de deixá-lo para o commit
+        Timer.Sample insercao = Timer.start();
         Reserva reserva = Reserva.builder()
                 .turmaId(turmaId)
                 .recurso(recurso)
@@ -47,7 +72,68 @@ public class ReservationService {
                 .dataUso(dataUso)
                 .build();
 
-        return reservaRepository.save(reserva);
+        Reserva salva = reservaRepository.saveAndFlush(reserva);
+        metricas.registrarInsercao(insercao, false);
+        eventPublisher.publishEvent(new ReservaCriadaEvent(recursoId, dataUso));
+        return salva;
+    }
+
+    /**
+     * Reserva o recurso em várias datas de uma vez, tudo ou nada.
+     * Os contadores dos slots são bloqueados e verificados em uma única consulta;
+     * se alguma data não tiver disponibilidade, lança {@link ConflitoReservaException}
+     * com os conflitos de cada data e nada é gravado.
+     */
+    public List<Reserva> createReservations(UUID turmaId, UUID recursoId, Integer quantidade, Collection<Instant> datasUso) {
+        if (datasUso == null || datasUso.isEmpty()) {
+            throw new IllegalArgumentException("Informe ao menos uma data de uso");
+        }
+
+        Timer.Sample disponibilidade = Timer.start();
+        Recurso recurso = recursoRepository.findById(recursoId)
+                .orElseThrow(() -> new IllegalArgumentException("Recurso não encontrado"));
+
+        if (!recurso.getAtivo()) {
+            throw new IllegalArgumentException("Recurso não está ativo");
+        }
+
+        int capacidade = recurso.getQuantidade() != null ? recurso.getQuantidade() : 1;
+        Set<Instant> datas = new TreeSet<>(datasUso);
+
+        List<Conflito> conflitos = new ArrayList<>();
+        for (RecursoOcupacao ocupacao : recursoOcupacaoService.bloquearSlots(recursoId, datas)) {
+            int quantidadeDisponivel = capacidade - ocupacao.getQuantidadeTotal();
+            if (quantidade > quantidadeDisponivel) {
+                conflitos.add(new Conflito(ocupacao.getId().getDataUso(), quantidadeDisponivel));
+            }
+        }
+        if (!conflitos.isEmpty()) {
+            metricas.registrarDisponibilidade(disponibilidade, true);
+            metricas.registrarRecusaPorCapacidade(true);
+            conflitos.sort(Comparator.comparing(Conflito::dataUso));
+            throw new ConflitoReservaException(conflitos);
+        }
+
+        recursoOcupacaoRepository.incrementar(recursoId, datas, quantidade);
+        metricas.registrarDisponibilidade(disponibilidade, true);
+
+        Timer.Sample insercao = Timer.start();
+        Instant agora = Instant.now();
+        List<Reserva> reservas = new ArrayList<>(datas.size());
+        for (Instant dataUso : datas) {
+            reservas.add(Reserva.builder()
+                    .turmaId(turmaId)
+                    .recurso(recurso)
+                    .quantidade(quantidade)
+                    .dataReserva(agora)
+                    .dataUso(dataUso)
+                    .build());
+        }
+
+        List<Reserva> salvas = reservaRepository.saveAllAndFlush(reservas);
+        metricas.registrarInsercao(insercao, true);
+        datas.forEach(dataUso -> eventPublisher.publishEvent(new ReservaCriadaEvent(recursoId, dataUso)));
+        return salvas;
     }
 
     @Transactional(readOnly = true)
@@ -60,12 +146,72 @@ public class ReservationService {
         return reservaRepository.findByTurmaId(turmaId);
     }
 
+    /**
+     * Busca em uma única consulta as reservas de vários pares (turma, dataUso),
+     * agrupadas por turma. Toda turma solicitada aparece no resultado, mesmo sem reservas.
+     */
     @Transactional(readOnly = true)
+    public Map<UUID, List<Reserva>> findReservationsByTurmasAndDatasUso(Collection<TurmaDataUso> itens) {
+        Map<UUID, List<Reserva>> reservasPorTurma = new LinkedHashMap<>();
+        if (itens == null || itens.isEmpty()) {
+            return reservasPorTurma;
+        }
+
+        Set<UUID> turmaIds = new HashSet<>();
+        Set<Instant> datasUso = new HashSet<>();
+        Set<TurmaDataUso> pares = new HashSet<>(itens);
+        for (TurmaDataUso item : itens) {
+            turmaIds.add(item.turmaId());
+            datasUso.add(item.dataUso());
+            reservasPorTurma.putIfAbsent(item.turmaId(), new ArrayList<>());
+        }
+
+        // O IN duplo pode trazer combinações não solicitadas; filtramos pelos pares exatos
+        for (Reserva reserva : reservaRepository.findByTurmaIdInAndDataUsoIn(turmaIds, datasUso)) {
+            if (pares.contains(new TurmaDataUso(reserva.getTurmaId(), reserva.getDataUso()))) {
+                reservasPorTurma.get(reserva.getTurmaId()).add(reserva);
+            }
+        }
+        return reservasPorTurma;
+    }
+
+    /**
+     * Busca as reservas com dataUso no intervalo [de, ate), agrupadas por turma.
+     */
+    @Transactional(readOnly = true)
+    public Map<UUID, List<Reserva>> findReservationsByPeriodo(Instant de, Instant ate) {
+        if (de == null || ate == null || !de.isBefore(ate)) {
+            throw new IllegalArgumentException("Período inválido: 'de' deve ser anterior a 'ate'");
+        }
+
+        Map<UUID, List<Reserva>> reservasPorTurma = new LinkedHashMap<>();
+        for (Reserva reserva : reservaRepository.findByDataUsoPeriodo(de, ate)) {
+            reservasPorTurma.computeIfAbsent(reserva.getTurmaId(), id -> new ArrayList<>()).add(reserva);
+        }
+        return reservasPorTurma;
+    }
+
+    private boolean reservarNoSlot(UUID recursoId, Instant dataUso, int quantidade, int capacidade) {
+        if (recursoOcupacaoRepository.incrementarSeDisponivel(recursoId, dataUso, quantidade, capacidade) > 0) {
+            return true;
+        }
+        if (recursoOcupacaoRepository.existsById(new RecursoOcupacaoId(recursoId, dataUso))) {
+            return false;
+        }
+
+        // Primeiro uso do slot: cria o contador e tenta novamente
+        recursoOcupacaoRepository.criarSeNaoExistir(recursoId, dataUso);
+        return recursoOcupacaoRepository.incrementarSeDisponivel(recursoId, dataUso, quantidade, capacidade) > 0;
+    }
+
     private int getQuantidadeReservadaPorDataUso(UUID recursoId, Instant dataUso) {
-        return reservaRepository.findByRecursoIdAndDataUso(recursoId, dataUso)
-                .stream()
-                .mapToInt(Reserva::getQuantidade)
-                .sum();
+        return recursoOcupacaoRepository.findById(new RecursoOcupacaoId(recursoId, dataUso))
+                .map(RecursoOcupacao::getQuantidadeTotal)
+                .orElse(0);
     }
+
+    public record TurmaDataUso(UUID turmaId, Instant dataUso) {}
+
+    public record Conflito(Instant dataUso, int quantidadeDisponivel) {}
 }
 
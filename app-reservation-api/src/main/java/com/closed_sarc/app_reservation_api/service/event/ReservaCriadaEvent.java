@@ -0,0 +1,6 @@
+package com.closed_sarc.app_reservation_api.service.event;
+
+import java.time.Instant;
+import java.util.UUID;
+
+public record ReservaCriadaEvent(UUID recursoId, Instant dataUso) {}
@@ -1,14 +1,18 @@
 package com.closed_sarc.app_reservation_api.web;
 
 import com.closed_sarc.app_reservation_api.domain.entities.Recurso;
+import com.closed_sarc.app_reservation_api.service.DisponibilidadeService;
+import com.closed_sarc.app_reservation_api.service.RecursoOcupacaoService;
 import com.closed_sarc.app_reservation_api.service.RecursoService;
 
 import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.web.PagedModel;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.time.Instant;
 import java.util.List;
 import java.util.UUID;
 
@@ -18,6 +22,8 @@ import java.util.UUID;
 @Tag(name = "Recursos", description = "Endpoints para gerenciamento de recursos.")
 public class RecursoController {
     private final RecursoService recursoService;
+    private final RecursoOcupacaoService recursoOcupacaoService;
+    private final DisponibilidadeService disponibilidadeService;
 
     @PostMapping
     public ResponseEntity<?> create(@RequestBody RecursoRequest recursoRequest) {
@@ -40,16 +46,77 @@ public class RecursoController {
         }
     }
 
+    /**
+     * Lista os recursos ativos. Sem parâmetros retorna todos; com {@code ids} apenas os solicitados;
+     * com {@code page} e {@code size} uma página; com {@code size} (e {@code cursor} a partir da
+     * segunda página) itera por cursor.
+     */
     @GetMapping
-    public ResponseEntity<List<Recurso>> getAll() {
+    public ResponseEntity<?> getAll(
+            @RequestParam(value = "ids", required = false) List<UUID> ids,
+            @RequestParam(value = "page", required = false) Integer page,
+            @RequestParam(value = "size", required = false) Integer size,
+            @RequestParam(value = "cursor", required = false) UUID cursor) {
         try {
-            List<Recurso> recursos = recursoService.findAll();
-            return ResponseEntity.ok(recursos);
+            if (ids != null) {
+                return ResponseEntity.ok(recursoService.findByIds(ids));
+            }
+            if (size == null) {
+                return ResponseEntity.ok(recursoService.findAll());
+            }
+            if (page != null) {
+                return ResponseEntity.ok(new PagedModel<>(recursoService.findPagina(page, size)));
+            }
+            return ResponseEntity.ok(recursoService.findAposCursor(cursor, size));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(new ErrorResponse(e.getMessage()));
         } catch (Exception e) {
             return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).build();
         }
     }
 
+    @GetMapping("/{id}")
+    public ResponseEntity<?> getById(@PathVariable UUID id) {
+        try {
+            return ResponseEntity.ok(recursoService.findById(id));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.notFound().build();
+        } catch (Exception e) {
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                    .body(new ErrorResponse("Erro interno do servidor"));
+        }
+    }
+
+    @GetMapping("/{id}/disponibilidade")
+    public ResponseEntity<?> getDisponibilidade(
+            @PathVariable UUID id,
+            @RequestParam("de") Instant de,
+            @RequestParam("ate") Instant ate) {
+        try {
+            return ResponseEntity.ok(disponibilidadeService.consultar(id, de, ate));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(new ErrorResponse(e.getMessage()));
+        } catch (Exception e) {
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                    .body(new ErrorResponse("Erro interno do servidor"));
+        }
+    }
+
+    @GetMapping("/disponibilidade")
+    public ResponseEntity<?> getDisponibilidades(
+            @RequestParam("ids") List<UUID> ids,
+            @RequestParam("de") Instant de,
+            @RequestParam("ate") Instant ate) {
+        try {
+            return ResponseEntity.ok(disponibilidadeService.consultar(ids, de, ate));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(new ErrorResponse(e.getMessage()));
+        } catch (Exception e) {
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                    .body(new ErrorResponse("Erro interno do servidor"));
+        }
+    }
+
     @DeleteMapping("/{id}")
     public ResponseEntity<?> delete(@PathVariable UUID id) {
         try {
@@ -63,6 +130,17 @@ public class RecursoController {
         }
     }
 
+    @PostMapping("/ocupacao/reconstruir")
+    public ResponseEntity<?> reconstruirOcupacao() {
+        try {
+            int slots = recursoOcupacaoService.reconstruir();
+            return ResponseEntity.ok(new ReconstrucaoOcupacaoResponse(slots));
+        } catch (Exception e) {
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                    .body(new ErrorResponse("Erro interno do servidor"));
+        }
+    }
+
     // Record para o request
     public record RecursoRequest(
             String nome,
@@ -73,4 +151,6 @@ public class RecursoController {
 
     // Record para resposta de erro
     public record ErrorResponse(String message) {}
+
+    public record ReconstrucaoOcupacaoResponse(int slots) {}
 }
@@ -1,6 +1,7 @@
 package com.closed_sarc.app_reservation_api.web;
 
 import com.closed_sarc.app_reservation_api.domain.entities.Reserva;
+import com.closed_sarc.app_reservation_api.service.ConflitoReservaException;
 import com.closed_sarc.app_reservation_api.service.ReservationService;
 
 import io.swagger.v3.oas.annotations.tags.Tag;
@@ -11,6 +12,7 @@ import org.springframework.web.bind.annotation.*;
 
 import java.time.Instant;
 import java.util.List;
+import java.util.Map;
 import java.util.UUID;
 
 @RestController
@@ -38,6 +40,28 @@ public class ReservationController {
         }
     }
 
+    @PostMapping("/lote")
+    public ResponseEntity<?> createReservations(@RequestBody ReservationBatchRequest request) {
+        try {
+            List<Reserva> reservas = reservationService.createReservations(
+                    request.turmaId(),
+                    request.recursoId(),
+                    request.quantidade(),
+                    request.datasUso()
+            );
+            return ResponseEntity.status(HttpStatus.CREATED)
+                    .body(new ReservationBatchResponse(null, reservas, List.of()));
+        } catch (ConflitoReservaException e) {
+            return ResponseEntity.status(HttpStatus.CONFLICT)
+                    .body(new ReservationBatchResponse(e.getMessage(), List.of(), e.getConflitos()));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(new ErrorResponse(e.getMessage()));
+        } catch (Exception e) {
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                    .body(new ErrorResponse("Erro interno do servidor"));
+        }
+    }
+
     @GetMapping("/turma/{turmaId}")
     public ResponseEntity<List<Reserva>> getReservationsByTurma(@PathVariable UUID turmaId) {
         try {
@@ -60,6 +84,33 @@ public class ReservationController {
         }
     }
 
+    @PostMapping("/consulta")
+    public ResponseEntity<?> getReservationsByTurmasAndDatas(@RequestBody ReservationQueryRequest request) {
+        try {
+            List<ReservationService.TurmaDataUso> itens = request.itens() == null ? List.of() : request.itens();
+            Map<UUID, List<Reserva>> reservas = reservationService.findReservationsByTurmasAndDatasUso(itens);
+            return ResponseEntity.ok(reservas);
+        } catch (Exception e) {
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                    .body(new ErrorResponse("Erro interno do servidor"));
+        }
+    }
+
+    @GetMapping("/periodo")
+    public ResponseEntity<?> getReservationsByPeriodo(
+            @RequestParam("de") Instant de,
+            @RequestParam("ate") Instant ate) {
+        try {
+            Map<UUID, List<Reserva>> reservas = reservationService.findReservationsByPeriodo(de, ate);
+            return ResponseEntity.ok(reservas);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(new ErrorResponse(e.getMessage()));
+        } catch (Exception e) {
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                    .body(new ErrorResponse("Erro interno do servidor"));
+        }
+    }
+
     // Record para o request
     public record ReservationRequest(
             UUID turmaId,
@@ -68,6 +119,26 @@ public class ReservationController {
             Instant dataUso
     ) {}
 
+    // Record para consulta em lote de pares (turmaId, dataUso)
+    public record ReservationQueryRequest(
+            List<ReservationService.TurmaDataUso> itens
+    ) {}
+
+    // Record para reserva de várias datas de uma vez
+    public record ReservationBatchRequest(
+            UUID turmaId,
+            UUID recursoId,
+            Integer quantidade,
+            List<Instant> datasUso
+    ) {}
+
+    // Record para resposta da reserva em lote: reservas criadas ou conflitos por data
+    public record ReservationBatchResponse(
+            String message,
+            List<Reserva> reservas,
+            List<ReservationService.Conflito> conflitos
+    ) {}
+
     // Record para resposta de erro
     public record ErrorResponse(String message) {}
 }
@@ -0,0 +1,39 @@
+-- Esquema da reservation-api como era gerado pelo ddl-auto: update.
+-- IF NOT EXISTS permite aplicar sobre bancos criados antes do Flyway (baseline-version 0).
+
+CREATE TABLE IF NOT EXISTS recurso (
+    id          uuid         NOT NULL PRIMARY KEY,
+    nome        varchar(255) NOT NULL,
+    tipo        varchar(100),
+    quantidade  integer,
+    capacidade  integer,
+    ativo       boolean      NOT NULL
+);
+
+CREATE TABLE IF NOT EXISTS reserva (
+    id            uuid    NOT NULL PRIMARY KEY,
+    usuario_id    uuid,
+    turma_id      uuid,
+    recurso_id    uuid REFERENCES recurso (id),
+    data_reserva  timestamp(6) with time zone,
+    data_uso      timestamp(6) with time zone,
+    quantidade    integer NOT NULL
+);
+
+CREATE TABLE IF NOT EXISTS recurso_ocupacao (
+    recurso_id        uuid                        NOT NULL,
+    data_uso          timestamp(6) with time zone NOT NULL,
+    quantidade_total  integer                     NOT NULL,
+    PRIMARY KEY (recurso_id, data_uso)
+);
+
+-- evento é compartilhada com a registration-api; aqui só garantimos as colunas desta API
+CREATE TABLE IF NOT EXISTS evento (
+    id           uuid NOT NULL PRIMARY KEY,
+    titulo       varchar(255),
+    descricao    text,
+    data_inicio  timestamp(6) with time zone,
+    data_fim     timestamp(6) with time zone
+);
+
+ALTER TABLE evento ADD COLUMN IF NOT EXISTS reserva_id uuid REFERENCES reserva (id);
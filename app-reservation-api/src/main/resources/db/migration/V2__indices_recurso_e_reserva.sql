@@ -0,0 +1,17 @@
+-- Roda fora de transação (V2__indices_recurso_e_reserva.sql.conf) para usar CONCURRENTLY
+-- e não bloquear escritas em reserva durante a criação. Se um índice falhar ele fica
+-- INVALID: remova-o com DROP INDEX CONCURRENTLY antes de repetir a migração.
+
+-- Índices parciais: listagens e paginação de recursos ativos não percorrem os excluídos (ativo = false)
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_recurso_ativo ON recurso (nome, id) WHERE ativo = true;
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_recurso_ativo_id ON recurso (id) WHERE ativo = true;
+
+-- findByTurmaId (prefixo), findByTurmaIdAndDataUso e a consulta em lote do cronograma
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_reserva_turma_data_uso ON reserva (turma_id, data_uso);
+
+-- Cobre as somas de ocupação por (recurso, dataUso): disponibilidade, semeadura e
+-- reconstrução de recurso_ocupacao leem quantidade direto do índice (index-only scan)
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_reserva_recurso_data_uso ON reserva (recurso_id, data_uso) INCLUDE (quantidade);
+
+-- findByDataUsoPeriodo: reservas de todos os recursos em um intervalo de datas
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_reserva_data_uso ON reserva (data_uso);
@@ -0,0 +1,108 @@
+package com.closed_sarc.app_reservation_api.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.TestPropertySource;
+
+import com.closed_sarc.app_reservation_api.domain.entities.Recurso;
+import com.closed_sarc.app_reservation_api.domain.repositories.RecursoOcupacaoRepository;
+import com.closed_sarc.app_reservation_api.domain.repositories.RecursoRepository;
+import com.closed_sarc.app_reservation_api.domain.repositories.ReservaRepository;
+
+@SpringBootTest
+@TestPropertySource("classpath:application-test.properties")
+@DisplayName("DisponibilidadeService - Testes de Integração")
+class DisponibilidadeServiceTest {
+
+  private static final Instant DE = Instant.parse("2025-03-01T00:00:00Z");
+  private static final Instant ATE = Instant.parse("2025-07-01T00:00:00Z");
+
+  @Autowired
+  private DisponibilidadeService disponibilidadeService;
+
+  @Autowired
+  private ReservationService reservationService;
+
+  @Autowired
+  private RecursoRepository recursoRepository;
+
+  @Autowired
+  private ReservaRepository reservaRepository;
+
+  @Autowired
+  private RecursoOcupacaoRepository recursoOcupacaoRepository;
+
+  @AfterEach
+  void limpar() {
+    reservaRepository.deleteAll();
+    recursoOcupacaoRepository.deleteAll();
+    recursoRepository.deleteAll();
+  }
+
+  @Test
+  @DisplayName("Deve calcular a quantidade disponível por slot e invalidar o cache após nova reserva")
+  void deveCalcularDisponibilidadePorSlotEInvalidarCache() {
+    // Given
+    Recurso recurso = salvarRecurso("Projetor", 3);
+    Instant segunda = Instant.parse("2025-03-10T08:00:00Z");
+    Instant terca = Instant.parse("2025-03-11T08:00:00Z");
+    reservationService.createReservation(UUID.randomUUID(), recurso.getId(), 2, segunda);
+    reservationService.createReservation(UUID.randomUUID(), recurso.getId(), 1, terca);
+
+    // When
+    DisponibilidadeService.DisponibilidadeRecurso disponibilidade =
+        disponibilidadeService.consultar(recurso.getId(), DE, ATE);
+
+    // Then
+    assertEquals(List.of(
+        new DisponibilidadeService.SlotOcupado(segunda, 2, 1),
+        new DisponibilidadeService.SlotOcupado(terca, 1, 2)), disponibilidade.slotsOcupados());
+    assertSame(disponibilidade, disponibilidadeService.consultar(recurso.getId(), DE, ATE));
+
+    // When
+    reservationService.createReservation(UUID.randomUUID(), recurso.getId(), 1, segunda);
+
+    // Then
+    assertEquals(0, disponibilidadeService.consultar(recurso.getId(), DE, ATE)
+        .slotsOcupados().get(0).disponivel());
+  }
+
+  @Test
+  @DisplayName("Deve consultar vários recursos de uma vez")
+  void deveConsultarVariosRecursos() {
+    // Given
+    Recurso projetor = salvarRecurso("Projetor", 2);
+    Recurso notebook = salvarRecurso("Notebook", 5);
+    reservationService.createReservation(UUID.randomUUID(), notebook.getId(), 4,
+        Instant.parse("2025-04-01T10:00:00Z"));
+
+    // When
+    List<DisponibilidadeService.DisponibilidadeRecurso> disponibilidades =
+        disponibilidadeService.consultar(List.of(projetor.getId(), notebook.getId()), DE, ATE);
+
+    // Then
+    assertEquals(2, disponibilidades.size());
+    assertEquals(projetor.getId(), disponibilidades.get(0).recursoId());
+    assertEquals(0, disponibilidades.get(0).slotsOcupados().size());
+    assertEquals(1, disponibilidades.get(1).slotsOcupados().get(0).disponivel());
+  }
+
+  private Recurso salvarRecurso(String nome, int quantidade) {
+    return recursoRepository.save(Recurso.builder()
+        .nome(nome)
+        .tipo("Equipamento")
+        .quantidade(quantidade)
+        .ativo(true)
+        .build());
+  }
+}
@@ -0,0 +1,93 @@
+package com.closed_sarc.app_reservation_api.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.UUID;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.Page;
+import org.springframework.test.context.TestPropertySource;
+
+import com.closed_sarc.app_reservation_api.domain.entities.Recurso;
+import com.closed_sarc.app_reservation_api.domain.repositories.RecursoRepository;
+
+@SpringBootTest
+@TestPropertySource("classpath:application-test.properties")
+@DisplayName("RecursoService - Testes de Integração")
+class RecursoServiceTest {
+
+  @Autowired
+  private RecursoService recursoService;
+
+  @Autowired
+  private RecursoRepository recursoRepository;
+
+  @AfterEach
+  void limpar() {
+    recursoRepository.deleteAll();
+  }
+
+  @Test
+  @DisplayName("Deve percorrer todos os recursos ativos por cursor, ignorando os excluídos")
+  void devePercorrerRecursosAtivosPorCursor() {
+    // Given
+    List<UUID> ativos = new ArrayList<>();
+    for (int i = 0; i < 5; i++) {
+      ativos.add(salvarRecurso("Sala " + i, true).getId());
+    }
+    salvarRecurso("Sala antiga 1", false);
+    salvarRecurso("Sala antiga 2", false);
+
+    // When
+    List<UUID> percorridos = new ArrayList<>();
+    UUID cursor = null;
+    int paginas = 0;
+    do {
+      RecursoService.PaginaRecursos pagina = recursoService.findAposCursor(cursor, 2);
+      pagina.itens().forEach(recurso -> percorridos.add(recurso.getId()));
+      cursor = pagina.proximoCursor();
+      paginas++;
+    } while (cursor != null);
+
+    // Then
+    assertEquals(3, paginas);
+    assertEquals(new HashSet<>(ativos), new HashSet<>(percorridos));
+    assertEquals(5, percorridos.size());
+  }
+
+  @Test
+  @DisplayName("Deve paginar apenas os recursos ativos ordenados por nome")
+  void devePaginarRecursosAtivosPorNome() {
+    // Given
+    salvarRecurso("Notebook", true);
+    salvarRecurso("Auditório", true);
+    salvarRecurso("Projetor", false);
+
+    // When
+    Page<Recurso> pagina = recursoService.findPagina(0, 10);
+
+    // Then
+    assertEquals(2, pagina.getTotalElements());
+    assertEquals("Auditório", pagina.getContent().get(0).getNome());
+    assertTrue(pagina.getContent().stream().allMatch(Recurso::getAtivo));
+    assertNull(recursoService.findAposCursor(null, 10).proximoCursor());
+  }
+
+  private Recurso salvarRecurso(String nome, boolean ativo) {
+    return recursoRepository.save(Recurso.builder()
+        .nome(nome)
+        .tipo("Sala de Aula")
+        .quantidade(1)
+        .ativo(ativo)
+        .build());
+  }
+}
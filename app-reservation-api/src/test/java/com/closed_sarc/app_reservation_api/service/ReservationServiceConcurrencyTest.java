@@ -0,0 +1,316 @@
+package com.closed_sarc.app_reservation_api.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.TestPropertySource;
+
+import com.closed_sarc.app_reservation_api.domain.entities.Recurso;
+import com.closed_sarc.app_reservation_api.domain.entities.RecursoOcupacaoId;
+import com.closed_sarc.app_reservation_api.domain.entities.Reserva;
+import com.closed_sarc.app_reservation_api.domain.repositories.RecursoOcupacaoRepository;
+import com.closed_sarc.app_reservation_api.domain.repositories.RecursoRepository;
+import com.closed_sarc.app_reservation_api.domain.repositories.ReservaRepository;
+
+import io.micrometer.core.instrument.MeterRegistry;
+
+@SpringBootTest
+@TestPropertySource("classpath:application-test.properties")
+@DisplayName("ReservationService - Testes de Concorrência")
+class ReservationServiceConcurrencyTest {
+
+  private static final int REQUISICOES = 200;
+
+  @Autowired
+  private ReservationService reservationService;
+
+  @Autowired
+  private RecursoRepository recursoRepository;
+
+  @Autowired
+  private ReservaRepository reservaRepository;
+
+  @Autowired
+  private RecursoOcupacaoRepository recursoOcupacaoRepository;
+
+  @Autowired
+  private RecursoOcupacaoService recursoOcupacaoService;
+
+  @Autowired
+  private MeterRegistry meterRegistry;
+
+  @AfterEach
+  void limpar() {
+    reservaRepository.deleteAll();
+    recursoOcupacaoRepository.deleteAll();
+    recursoRepository.deleteAll();
+  }
+
+  @Test
+  @DisplayName("Não deve ultrapassar a quantidade do recurso com 200 reservas simultâneas no mesmo slot")
+  void naoDeveUltrapassarQuantidadeComReservasSimultaneasNoMesmoSlot() throws Exception {
+    // Given
+    Recurso recurso = recursoRepository.save(Recurso.builder()
+        .nome("Projetor")
+        .tipo("Equipamento")
+        .quantidade(10)
+        .ativo(true)
+        .build());
+    Instant dataUso = Instant.parse("2025-03-10T08:00:00Z");
+    double recusadasAntes = recusadasPorCapacidade("unitaria");
+
+    // When
+    int sucessos = reservarEmParalelo(i -> reservationService.createReservation(
+        UUID.randomUUID(), recurso.getId(), 1, dataUso));
+
+    // Then
+    assertEquals(10, sucessos);
+    assertEquals(10, somarQuantidade(recurso.getId(), dataUso));
+    assertEquals(REQUISICOES - 10, recusadasPorCapacidade("unitaria") - recusadasAntes);
+  }
+
+  @Test
+  @DisplayName("Deve aceitar reservas simultâneas em slots distintos até a capacidade de cada um")
+  void deveAceitarReservasSimultaneasEmSlotsDistintos() throws Exception {
+    // Given
+    Recurso recurso = recursoRepository.save(Recurso.builder()
+        .nome("Notebook")
+        .tipo("Equipamento")
+        .quantidade(3)
+        .ativo(true)
+        .build());
+    List<Instant> datasUso = new ArrayList<>();
+    for (int i = 0; i < 20; i++) {
+      datasUso.add(Instant.parse("2025-03-10T08:00:00Z").plusSeconds(i * 3600L));
+    }
+
+    // When
+    int sucessos = reservarEmParalelo(i -> reservationService.createReservation(
+        UUID.randomUUID(), recurso.getId(), 1, datasUso.get(i % datasUso.size())));
+
+    // Then
+    assertEquals(3 * datasUso.size(), sucessos);
+    for (Instant dataUso : datasUso) {
+      assertEquals(3, somarQuantidade(recurso.getId(), dataUso));
+    }
+  }
+
+  @Test
+  @DisplayName("Deve reconstruir a ocupação a partir das reservas persistidas")
+  void deveReconstruirOcupacaoAPartirDasReservas() throws Exception {
+    // Given
+    Recurso recurso = recursoRepository.save(Recurso.builder()
+        .nome("Sala 101")
+        .tipo("Sala de Aula")
+        .quantidade(5)
+        .ativo(true)
+        .build());
+    Instant dataUso = Instant.parse("2025-03-10T08:00:00Z");
+    reservationService.createReservation(UUID.randomUUID(), recurso.getId(), 2, dataUso);
+    reservationService.createReservation(UUID.randomUUID(), recurso.getId(), 1, dataUso);
+    recursoOcupacaoRepository.deleteAll();
+
+    // When
+    int slots = recursoOcupacaoService.reconstruir();
+
+    // Then
+    assertEquals(1, slots);
+    assertEquals(3, recursoOcupacaoRepository.findById(new RecursoOcupacaoId(recurso.getId(), dataUso))
+        .orElseThrow()
+        .getQuantidadeTotal());
+  }
+
+  @Test
+  @DisplayName("Deve reconstruir a ocupação enquanto reservas simultâneas são criadas, sem ultrapassar a quantidade")
+  void deveReconstruirOcupacaoDuranteReservasSimultaneas() throws Exception {
+    // Given
+    Recurso recurso = recursoRepository.save(Recurso.builder()
+        .nome("Auditório")
+        .tipo("Sala de Aula")
+        .quantidade(3)
+        .ativo(true)
+        .build());
+    List<Instant> datasUso = new ArrayList<>();
+    for (int i = 0; i < 10; i++) {
+      datasUso.add(Instant.parse("2025-03-10T08:00:00Z").plusSeconds(i * 3600L));
+    }
+    AtomicBoolean reservando = new AtomicBoolean(true);
+    AtomicInteger reconstrucoes = new AtomicInteger();
+    ExecutorService reconstrucao = Executors.newSingleThreadExecutor();
+    Future<?> reconstruindo = reconstrucao.submit(() -> {
+      while (reservando.get()) {
+        recursoOcupacaoService.reconstruir();
+        reconstrucoes.incrementAndGet();
+      }
+      return null;
+    });
+
+    // When
+    int sucessos;
+    try {
+      sucessos = reservarEmParalelo(i -> reservationService.createReservation(
+          UUID.randomUUID(), recurso.getId(), 1, datasUso.get(i % datasUso.size())));
+    } finally {
+      reservando.set(false);
+      reconstrucao.shutdown();
+    }
+    reconstruindo.get(30, TimeUnit.SECONDS);
+
+    // Then
+    assertTrue(reconstrucoes.get() > 0);
+    assertEquals(3 * datasUso.size(), sucessos);
+    for (Instant dataUso : datasUso) {
+      assertEquals(3, somarQuantidade(recurso.getId(), dataUso));
+      assertEquals(3, recursoOcupacaoRepository.findById(new RecursoOcupacaoId(recurso.getId(), dataUso))
+          .orElseThrow()
+          .getQuantidadeTotal());
+    }
+  }
+
+  @Test
+  @DisplayName("Deve reservar todas as datas do lote ou nenhuma, informando os conflitos")
+  void deveReservarLoteTudoOuNada() {
+    // Given
+    Recurso recurso = recursoRepository.save(Recurso.builder()
+        .nome("Projetor")
+        .tipo("Equipamento")
+        .quantidade(1)
+        .ativo(true)
+        .build());
+    List<Instant> datasUso = new ArrayList<>();
+    for (int i = 0; i < 40; i++) {
+      datasUso.add(Instant.parse("2025-03-03T08:00:00Z").plusSeconds(i * 86400L));
+    }
+    reservationService.createReservation(UUID.randomUUID(), recurso.getId(), 1, datasUso.get(7));
+    double recusadasAntes = recusadasPorCapacidade("lote");
+
+    // When
+    ConflitoReservaException conflito = assertThrows(ConflitoReservaException.class,
+        () -> reservationService.createReservations(UUID.randomUUID(), recurso.getId(), 1, datasUso));
+
+    // Then
+    assertEquals(List.of(new ReservationService.Conflito(datasUso.get(7), 0)), conflito.getConflitos());
+    assertEquals(1, reservaRepository.count());
+    assertEquals(0, somarQuantidade(recurso.getId(), datasUso.get(8)));
+    assertEquals(1, recusadasPorCapacidade("lote") - recusadasAntes);
+
+    // When
+    List<Instant> datasLivres = new ArrayList<>(datasUso);
+    datasLivres.remove(7);
+    List<Reserva> reservas = reservationService.createReservations(UUID.randomUUID(), recurso.getId(), 1, datasLivres);
+
+    // Then
+    assertEquals(39, reservas.size());
+    assertEquals(40, reservaRepository.count());
+    assertThrows(IllegalArgumentException.class,
+        () -> reservationService.createReservation(UUID.randomUUID(), recurso.getId(), 1, datasUso.get(8)));
+  }
+
+  @Test
+  @DisplayName("Deve criar lotes simultâneos com datas sobrepostas, em ordens diferentes, sem deadlock")
+  void deveCriarLotesSimultaneosComDatasSobrepostas() throws Exception {
+    // Given
+    Recurso recurso = recursoRepository.save(Recurso.builder()
+        .nome("Laboratório")
+        .tipo("Sala de Aula")
+        .quantidade(100)
+        .ativo(true)
+        .build());
+    Instant inicio = Instant.parse("2025-03-03T08:00:00Z");
+    int lotes = 40;
+    int[] reservasPorDia = new int[7 + 25];
+    List<List<Instant>> datasPorLote = new ArrayList<>();
+    for (int i = 0; i < lotes; i++) {
+      // Cada lote cobre 25 dias a partir de um deslocamento, em ordem embaralhada
+      List<Instant> datasUso = new ArrayList<>();
+      for (int dia = i % 8; dia < i % 8 + 25; dia++) {
+        datasUso.add(inicio.plusSeconds(dia * 86400L));
+        reservasPorDia[dia]++;
+      }
+      Collections.shuffle(datasUso, new Random(i));
+      datasPorLote.add(datasUso);
+    }
+
+    // When
+    int sucessos = reservarEmParalelo(lotes, i -> reservationService.createReservations(
+        UUID.randomUUID(), recurso.getId(), 1, datasPorLote.get(i)));
+
+    // Then
+    assertEquals(lotes, sucessos);
+    for (int dia = 0; dia < reservasPorDia.length; dia++) {
+      Instant dataUso = inicio.plusSeconds(dia * 86400L);
+      assertEquals(reservasPorDia[dia], somarQuantidade(recurso.getId(), dataUso));
+      assertEquals(reservasPorDia[dia], recursoOcupacaoRepository.findById(new RecursoOcupacaoId(recurso.getId(), dataUso))
+          .orElseThrow()
+          .getQuantidadeTotal());
+    }
+  }
+
+  private int reservarEmParalelo(Requisicao requisicao) throws Exception {
+    return reservarEmParalelo(REQUISICOES, requisicao);
+  }
+
+  private int reservarEmParalelo(int requisicoes, Requisicao requisicao) throws Exception {
+    ExecutorService executor = Executors.newFixedThreadPool(32);
+    CountDownLatch largada = new CountDownLatch(1);
+    AtomicInteger sucessos = new AtomicInteger();
+    List<Future<?>> futuros = new ArrayList<>();
+    try {
+      for (int i = 0; i < requisicoes; i++) {
+        int indice = i;
+        futuros.add(executor.submit(() -> {
+          largada.await();
+          try {
+            requisicao.executar(indice);
+            sucessos.incrementAndGet();
+          } catch (IllegalArgumentException e) {
+            // Reserva recusada por falta de disponibilidade
+          }
+          return null;
+        }));
+      }
+      largada.countDown();
+      for (Future<?> futuro : futuros) {
+        futuro.get(30, TimeUnit.SECONDS);
+      }
+    } finally {
+      executor.shutdownNow();
+    }
+    return sucessos.get();
+  }
+
+  private int somarQuantidade(UUID recursoId, Instant dataUso) {
+    return reservaRepository.findByRecursoIdAndDataUso(recursoId, dataUso).stream()
+        .mapToInt(Reserva::getQuantidade)
+        .sum();
+  }
+
+  private double recusadasPorCapacidade(String operacao) {
+    return meterRegistry.get("reservas.recusadas").tag("operacao", operacao).counter().count();
+  }
+
+  @FunctionalInterface
+  private interface Requisicao {
+    void executar(int indice);
+  }
+}
@@ -10,6 +10,7 @@ import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
+import java.time.Instant;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
@@ -21,12 +22,16 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
 import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.http.MediaType;
 import org.springframework.test.context.TestPropertySource;
 import org.springframework.test.web.servlet.MockMvc;
 
 import com.closed_sarc.app_reservation_api.config.TestSecurityConfig;
 import com.closed_sarc.app_reservation_api.domain.entities.Recurso;
+import com.closed_sarc.app_reservation_api.service.DisponibilidadeService;
+import com.closed_sarc.app_reservation_api.service.RecursoOcupacaoService;
 import com.closed_sarc.app_reservation_api.service.RecursoService;
 import com.fasterxml.jackson.databind.ObjectMapper;
 
@@ -42,6 +47,12 @@ class RecursoControllerTest {
   @MockBean
   private RecursoService recursoService;
 
+  @MockBean
+  private RecursoOcupacaoService recursoOcupacaoService;
+
+  @MockBean
+  private DisponibilidadeService disponibilidadeService;
+
   @Autowired
   private ObjectMapper objectMapper;
 
@@ -177,4 +188,156 @@ class RecursoControllerTest {
     mockMvc.perform(delete("/api/recursos/" + recursoId))
         .andExpect(status().isNotFound());
   }
+
+  @Test
+  @DisplayName("GET /api/recursos/{id} - Deve retornar 200 com o recurso quando encontrado")
+  void deveRetornar200ComRecursoQuandoEncontrado() throws Exception {
+    // Given
+    UUID recursoId = UUID.randomUUID();
+    Recurso recurso = Recurso.builder()
+        .id(recursoId)
+        .nome("Projetor")
+        .tipo("Equipamento")
+        .quantidade(3)
+        .ativo(true)
+        .build();
+    when(recursoService.findById(recursoId)).thenReturn(recurso);
+
+    // When & Then
+    mockMvc.perform(get("/api/recursos/" + recursoId))
+        .andExpect(status().isOk())
+        .andExpect(jsonPath("$.id").value(recursoId.toString()))
+        .andExpect(jsonPath("$.nome").value("Projetor"));
+  }
+
+  @Test
+  @DisplayName("GET /api/recursos/{id} - Deve retornar 404 quando recurso não encontrado")
+  void deveRetornar404QuandoRecursoNaoEncontrado() throws Exception {
+    // Given
+    UUID recursoId = UUID.randomUUID();
+    when(recursoService.findById(recursoId)).thenThrow(new IllegalArgumentException("Recurso não encontrado"));
+
+    // When & Then
+    mockMvc.perform(get("/api/recursos/" + recursoId))
+        .andExpect(status().isNotFound());
+  }
+
+  @Test
+  @DisplayName("GET /api/recursos?ids= - Deve retornar apenas os recursos solicitados")
+  void deveRetornarApenasRecursosSolicitados() throws Exception {
+    // Given
+    UUID primeiro = UUID.randomUUID();
+    UUID segundo = UUID.randomUUID();
+    Recurso recurso = Recurso.builder()
+        .id(primeiro)
+        .nome("Projetor")
+        .ativo(true)
+        .build();
+    when(recursoService.findByIds(List.of(primeiro, segundo))).thenReturn(List.of(recurso));
+
+    // When & Then
+    mockMvc.perform(get("/api/recursos")
+        .param("ids", primeiro.toString(), segundo.toString()))
+        .andExpect(status().isOk())
+        .andExpect(jsonPath("$.length()").value(1))
+        .andExpect(jsonPath("$[0].id").value(primeiro.toString()));
+  }
+
+  @Test
+  @DisplayName("GET /api/recursos?size= - Deve retornar a página por cursor com o próximo cursor")
+  void deveRetornarPaginaPorCursor() throws Exception {
+    // Given
+    UUID cursor = UUID.randomUUID();
+    UUID proximoCursor = UUID.randomUUID();
+    Recurso recurso = Recurso.builder()
+        .id(proximoCursor)
+        .nome("Projetor")
+        .ativo(true)
+        .build();
+    when(recursoService.findAposCursor(cursor, 1))
+        .thenReturn(new RecursoService.PaginaRecursos(List.of(recurso), proximoCursor));
+
+    // When & Then
+    mockMvc.perform(get("/api/recursos")
+        .param("size", "1")
+        .param("cursor", cursor.toString()))
+        .andExpect(status().isOk())
+        .andExpect(jsonPath("$.itens.length()").value(1))
+        .andExpect(jsonPath("$.proximoCursor").value(proximoCursor.toString()));
+  }
+
+  @Test
+  @DisplayName("GET /api/recursos?page=&size= - Deve retornar a página solicitada com os metadados")
+  void deveRetornarPaginaComMetadados() throws Exception {
+    // Given
+    Recurso recurso = Recurso.builder()
+        .id(UUID.randomUUID())
+        .nome("Projetor")
+        .ativo(true)
+        .build();
+    when(recursoService.findPagina(1, 1))
+        .thenReturn(new PageImpl<>(List.of(recurso), PageRequest.of(1, 1), 3));
+
+    // When & Then
+    mockMvc.perform(get("/api/recursos")
+        .param("page", "1")
+        .param("size", "1"))
+        .andExpect(status().isOk())
+        .andExpect(jsonPath("$.content.length()").value(1))
+        .andExpect(jsonPath("$.page.totalElements").value(3))
+        .andExpect(jsonPath("$.page.number").value(1));
+  }
+
+  @Test
+  @DisplayName("GET /api/recursos/{id}/disponibilidade - Deve retornar 200 com os slots ocupados do período")
+  void deveRetornar200ComDisponibilidadeDoRecurso() throws Exception {
+    // Given
+    UUID recursoId = UUID.randomUUID();
+    Instant de = Instant.parse("2025-03-01T00:00:00Z");
+    Instant ate = Instant.parse("2025-07-01T00:00:00Z");
+    Instant dataUso = Instant.parse("2025-03-10T08:00:00Z");
+    when(disponibilidadeService.consultar(recursoId, de, ate)).thenReturn(
+        new DisponibilidadeService.DisponibilidadeRecurso(recursoId, "Projetor", 3, de, ate,
+            List.of(new DisponibilidadeService.SlotOcupado(dataUso, 2, 1))));
+
+    // When & Then
+    mockMvc.perform(get("/api/recursos/" + recursoId + "/disponibilidade")
+        .param("de", de.toString())
+        .param("ate", ate.toString()))
+        .andExpect(status().isOk())
+        .andExpect(jsonPath("$.quantidade").value(3))
+        .andExpect(jsonPath("$.slotsOcupados.length()").value(1))
+        .andExpect(jsonPath("$.slotsOcupados[0].disponivel").value(1));
+  }
+
+  @Test
+  @DisplayName("GET /api/recursos/disponibilidade - Deve retornar 400 quando o período é inválido")
+  void deveRetornar400QuandoPeriodoDeDisponibilidadeInvalido() throws Exception {
+    // Given
+    UUID recursoId = UUID.randomUUID();
+    Instant de = Instant.parse("2025-07-01T00:00:00Z");
+    Instant ate = Instant.parse("2025-03-01T00:00:00Z");
+    when(disponibilidadeService.consultar(List.of(recursoId), de, ate))
+        .thenThrow(new IllegalArgumentException("Período inválido: 'de' deve ser anterior a 'ate'"));
+
+    // When & Then
+    mockMvc.perform(get("/api/recursos/disponibilidade")
+        .param("ids", recursoId.toString())
+        .param("de", de.toString())
+        .param("ate", ate.toString()))
+        .andExpect(status().isBadRequest())
+        .andExpect(jsonPath("$.message").value("Período inválido: 'de' deve ser anterior a 'ate'"));
+  }
+
+  @Test
+  @DisplayName("POST /api/recursos/ocupacao/reconstruir - Deve retornar 200 com a quantidade de slots reconstruídos")
+  void deveRetornar200AoReconstruirOcupacao() throws Exception {
+    // Given
+    when(recursoOcupacaoService.reconstruir()).thenReturn(12);
+
+    // When & Then
+    mockMvc.perform(post("/api/recursos/ocupacao/reconstruir"))
+        .andExpect(status().isOk())
+        .andExpect(jsonPath("$.slots").value(12));
+  }
 }
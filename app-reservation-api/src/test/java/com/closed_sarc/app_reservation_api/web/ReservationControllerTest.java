@@ -1,5 +1,6 @@
 package com.closed_sarc.app_reservation_api.web;
 
+import static org.mockito.ArgumentMatchers.anyCollection;
 import static org.mockito.Mockito.when;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
@@ -10,7 +11,9 @@ import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.
 import java.time.Instant;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.UUID;
 
 import org.junit.jupiter.api.DisplayName;
@@ -26,6 +29,7 @@ import org.springframework.test.web.servlet.MockMvc;
 import com.closed_sarc.app_reservation_api.config.TestSecurityConfig;
 import com.closed_sarc.app_reservation_api.domain.entities.Recurso;
 import com.closed_sarc.app_reservation_api.domain.entities.Reserva;
+import com.closed_sarc.app_reservation_api.service.ConflitoReservaException;
 import com.closed_sarc.app_reservation_api.service.ReservationService;
 import com.fasterxml.jackson.databind.ObjectMapper;
 
@@ -214,4 +218,95 @@ class ReservationControllerTest {
         .andExpect(jsonPath("$[0].turmaId").value(turmaId.toString()))
         .andExpect(jsonPath("$[0].recurso.nome").value("Sala 401"));
   }
+
+  @Test
+  @DisplayName("POST /api/reservas/consulta - Deve retornar 200 e reservas agrupadas por turma")
+  void deveRetornar200EReservasAgrupadasPorTurma() throws Exception {
+    // Given
+    UUID turmaComReserva = UUID.randomUUID();
+    UUID turmaSemReserva = UUID.randomUUID();
+    Instant dataUso = Instant.parse("2025-01-20T08:00:00Z");
+
+    Recurso recurso = Recurso.builder()
+        .id(UUID.randomUUID())
+        .nome("Projetor")
+        .tipo("Equipamento")
+        .quantidade(5)
+        .ativo(true)
+        .build();
+
+    Reserva reserva = Reserva.builder()
+        .id(UUID.randomUUID())
+        .turmaId(turmaComReserva)
+        .recurso(recurso)
+        .dataReserva(Instant.now())
+        .dataUso(dataUso)
+        .quantidade(2)
+        .build();
+
+    Map<UUID, List<Reserva>> reservasPorTurma = new LinkedHashMap<>();
+    reservasPorTurma.put(turmaComReserva, List.of(reserva));
+    reservasPorTurma.put(turmaSemReserva, List.of());
+
+    when(reservationService.findReservationsByTurmasAndDatasUso(anyCollection())).thenReturn(reservasPorTurma);
+
+    ReservationController.ReservationQueryRequest request = new ReservationController.ReservationQueryRequest(
+        List.of(
+            new ReservationService.TurmaDataUso(turmaComReserva, dataUso),
+            new ReservationService.TurmaDataUso(turmaSemReserva, Instant.parse("2025-01-20T10:00:00Z"))));
+
+    // When & Then
+    mockMvc.perform(post("/api/reservas/consulta")
+        .contentType(MediaType.APPLICATION_JSON)
+        .content(objectMapper.writeValueAsString(request)))
+        .andExpect(status().isOk())
+        .andExpect(content().contentType(MediaType.APPLICATION_JSON))
+        .andExpect(jsonPath("$['" + turmaComReserva + "'].length()").value(1))
+        .andExpect(jsonPath("$['" + turmaComReserva + "'][0].recurso.nome").value("Projetor"))
+        .andExpect(jsonPath("$['" + turmaSemReserva + "'].length()").value(0));
+  }
+
+  @Test
+  @DisplayName("GET /api/reservas/periodo - Deve retornar 400 quando período inválido")
+  void deveRetornar400QuandoPeriodoInvalido() throws Exception {
+    // Given
+    Instant de = Instant.parse("2025-01-21T00:00:00Z");
+    Instant ate = Instant.parse("2025-01-20T00:00:00Z");
+    when(reservationService.findReservationsByPeriodo(de, ate))
+        .thenThrow(new IllegalArgumentException("Período inválido: 'de' deve ser anterior a 'ate'"));
+
+    // When & Then
+    mockMvc.perform(get("/api/reservas/periodo")
+        .param("de", "2025-01-21T00:00:00Z")
+        .param("ate", "2025-01-20T00:00:00Z")
+        .accept(MediaType.APPLICATION_JSON))
+        .andExpect(status().isBadRequest())
+        .andExpect(jsonPath("$.message").value("Período inválido: 'de' deve ser anterior a 'ate'"));
+  }
+
+  @Test
+  @DisplayName("POST /api/reservas/lote - Deve retornar 409 com os conflitos por data quando falta disponibilidade")
+  void deveRetornar409ComConflitosQuandoLoteSemDisponibilidade() throws Exception {
+    // Given
+    UUID turmaId = UUID.randomUUID();
+    UUID recursoId = UUID.randomUUID();
+    Instant segunda = Instant.parse("2025-03-10T08:00:00Z");
+    Instant terca = Instant.parse("2025-03-11T08:00:00Z");
+
+    when(reservationService.createReservations(turmaId, recursoId, 1, List.of(segunda, terca)))
+        .thenThrow(new ConflitoReservaException(List.of(new ReservationService.Conflito(terca, 0))));
+
+    ReservationController.ReservationBatchRequest request = new ReservationController.ReservationBatchRequest(
+        turmaId, recursoId, 1, List.of(segunda, terca));
+
+    // When & Then
+    mockMvc.perform(post("/api/reservas/lote")
+        .contentType(MediaType.APPLICATION_JSON)
+        .content(objectMapper.writeValueAsString(request)))
+        .andExpect(status().isConflict())
+        .andExpect(jsonPath("$.reservas.length()").value(0))
+        .andExpect(jsonPath("$.conflitos.length()").value(1))
+        .andExpect(jsonPath("$.conflitos[0].dataUso").value("2025-03-11T08:00:00Z"))
+        .andExpect(jsonPath("$.conflitos[0].quantidadeDisponivel").value(0));
+  }
 }
@@ -0,0 +1,17 @@
+#!/usr/bin/env bash
+# Roda os benchmarks JMH com o profiler de GC e compara com a linha de base.
+# Uso: ./run.sh [argumentos do JMH, ex.: CronogramaBenchmark -p turmas=1000]
+# Sai com 1 quando algum benchmark piora além de TOLERANCIA (%, padrão 10).
+set -euo pipefail
+
+cd "$(dirname "$0")"
+TOLERANCIA=${TOLERANCIA:-10}
+BASE=${BASE:-baseline/resultados.json}
+
+# O reator da raiz compila também os dois serviços, dos quais o módulo depende
+(cd .. && mvn -B -q package -pl benchmarks -am -DskipTests)
+
+java -jar target/benchmarks.jar -prof gc -rf json -rff target/resultados.json "$@"
+
+java -cp target/benchmarks.jar com.closed_sarc.benchmarks.ComparacaoResultados \
+  "$BASE" target/resultados.json "$TOLERANCIA" | tee target/comparacao.md
@@ -0,0 +1,116 @@
+package com.closed_sarc.benchmarks;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import com.closed_sarc.app_registration_api.domain.entities.CalendarioAcademico;
+import com.closed_sarc.app_registration_api.domain.entities.DiaSemana;
+import com.closed_sarc.app_registration_api.domain.entities.DiasSemanaConverter;
+import com.closed_sarc.app_registration_api.domain.entities.Semestre;
+import com.closed_sarc.app_registration_api.domain.entities.Turma;
+import com.closed_sarc.app_registration_api.domain.utils.AnoLetivo;
+
+/**
+ * Validação de data de aula: a geração da lista do semestre seguida de {@code contains}
+ * (como o ReservaService fazia) contra o {@link AnoLetivo} compilado.
+ *
+ * <p>Execução isolada: {@code java -jar benchmarks/target/benchmarks.jar AnoLetivoBenchmark} (ver README).
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class AnoLetivoBenchmark {
+
+    private Turma turma;
+    private AnoLetivo anoLetivo;
+    private int mascaraTurma;
+    private LocalDate[] datas;
+    private int proxima;
+
+    @Setup
+    public void setUp() {
+        turma = Turma.builder()
+                .nome("33A")
+                .semestre(Semestre.PRIMEIRO)
+                .ano(2025)
+                .diasAula(EnumSet.of(DiaSemana.SEGUNDA, DiaSemana.QUARTA, DiaSemana.SEXTA))
+                .build();
+        mascaraTurma = DiasSemanaConverter.paraMascara(turma.getDiasAula());
+        CalendarioAcademico primeiroSemestre = CalendarioAcademico.builder()
+                .ano(2025)
+                .semestre(Semestre.PRIMEIRO)
+                .dataInicio(LocalDate.of(2025, 2, 17))
+                .dataFim(LocalDate.of(2025, 7, 5))
+                .feriados(Set.of(LocalDate.of(2025, 3, 3), LocalDate.of(2025, 3, 4), LocalDate.of(2025, 4, 18),
+                        LocalDate.of(2025, 4, 21), LocalDate.of(2025, 5, 1), LocalDate.of(2025, 6, 19)))
+                .build();
+        anoLetivo = AnoLetivo.compilar(2025, List.of(primeiroSemestre), List.of(), List.of());
+        // Datas consultadas percorrem o semestre inteiro, com e sem aula
+        datas = LocalDate.of(2025, 1, 1).datesUntil(LocalDate.of(2025, 7, 1)).toArray(LocalDate[]::new);
+    }
+
+    @Benchmark
+    public boolean listaDoSemestre() {
+        return gerarDatasAulaTurma(turma).contains(proximaData());
+    }
+
+    @Benchmark
+    public boolean anoLetivo() {
+        return anoLetivo.ehDataDeAula(turma.getSemestre(), mascaraTurma, proximaData());
+    }
+
+    @Benchmark
+    public void datasDoSemestreLista(Blackhole blackhole) {
+        gerarDatasAulaTurma(turma).forEach(blackhole::consume);
+    }
+
+    @Benchmark
+    public void datasDoSemestreStream(Blackhole blackhole) {
+        anoLetivo.datasAula(turma.getSemestre(), mascaraTurma).forEach(blackhole::consume);
+    }
+
+    private LocalDate proximaData() {
+        LocalDate data = datas[proxima];
+        proxima = (proxima + 1) % datas.length;
+        return data;
+    }
+
+    /** Algoritmo anterior do ReservaService, mantido aqui como referência. */
+    private static List<LocalDate> gerarDatasAulaTurma(Turma turma) {
+        List<LocalDate> datasAula = new ArrayList<>();
+        int ano = turma.getAno();
+        LocalDate dataInicio = turma.getSemestre() == Semestre.PRIMEIRO ? LocalDate.of(ano, 1, 1) : LocalDate.of(ano, 7, 1);
+        LocalDate dataFim = turma.getSemestre() == Semestre.PRIMEIRO ? LocalDate.of(ano, 6, 30) : LocalDate.of(ano, 12, 31);
+        List<DayOfWeek> diasSemanaJava = turma.getDiasAula().stream()
+                .map(dia -> DayOfWeek.of(dia.ordinal() + 1))
+                .toList();
+        LocalDate dataAtual = dataInicio;
+        while (!dataAtual.isAfter(dataFim)) {
+            if (diasSemanaJava.contains(dataAtual.getDayOfWeek())) {
+                datasAula.add(dataAtual);
+            }
+            dataAtual = dataAtual.plusDays(1);
+        }
+        return datasAula;
+    }
+}
@@ -0,0 +1,186 @@
+package com.closed_sarc.benchmarks;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.stream.Collectors;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * Compara dois resultados do JMH em JSON ({@code -rf json}), normalmente a linha de base
+ * versionada em {@code baseline/resultados.json} e a execução atual, e imprime o relatório
+ * em Markdown. Um benchmark regride quando piora mais que a tolerância no score (e a diferença
+ * é maior que a soma das margens de erro) ou na alocação por operação ({@code gc.alloc.rate.norm},
+ * exige {@code -prof gc}).
+ *
+ * <p>Uso: {@code java -cp benchmarks.jar com.closed_sarc.benchmarks.ComparacaoResultados
+ * <linha-de-base.json> <atual.json> [tolerancia-%]}. Sai com 1 se houver regressão.
+ */
+public final class ComparacaoResultados {
+
+    static final double TOLERANCIA_PADRAO = 10.0;
+
+    /** Diferenças de alocação menores que isso (B/op) são ruído do profiler, não código novo. */
+    static final double ALOCACAO_MINIMA = 16.0;
+
+    private static final String PACOTE = ComparacaoResultados.class.getPackageName() + ".";
+
+    enum Situacao {
+        OK("ok"), MELHORA("melhora"), REGRESSAO("**regressão**"), NOVO("novo"), REMOVIDO("removido");
+
+        private final String descricao;
+
+        Situacao(String descricao) {
+            this.descricao = descricao;
+        }
+    }
+
+    record Resultado(String benchmark, String parametros, String modo, String unidade,
+            double score, double erro, double alocacao) {
+
+        String chave() {
+            return benchmark + " " + parametros;
+        }
+    }
+
+    record Linha(Resultado base, Resultado atual, Situacao situacao) {
+
+        Resultado referencia() {
+            return atual != null ? atual : base;
+        }
+    }
+
+    private ComparacaoResultados() {
+    }
+
+    public static void main(String[] args) throws IOException {
+        if (args.length < 2) {
+            System.err.println("Uso: ComparacaoResultados <linha-de-base.json> <atual.json> [tolerancia-%]");
+            System.exit(2);
+        }
+        double tolerancia = args.length > 2 ? Double.parseDouble(args[2]) : TOLERANCIA_PADRAO;
+        List<Linha> linhas = comparar(ler(Path.of(args[0])), ler(Path.of(args[1])), tolerancia);
+        // UTF-8 independente do locale do terminal: o relatório vai para comparacao.md
+        new PrintStream(System.out, true, StandardCharsets.UTF_8).print(paraMarkdown(linhas, tolerancia));
+        System.exit(linhas.stream().anyMatch(linha -> linha.situacao() == Situacao.REGRESSAO) ? 1 : 0);
+    }
+
+    static List<Resultado> ler(Path arquivo) throws IOException {
+        List<Resultado> resultados = new ArrayList<>();
+        for (JsonNode no : new ObjectMapper().readTree(arquivo.toFile())) {
+            Map<String, String> parametros = new TreeMap<>();
+            no.path("params").fields().forEachRemaining(campo -> parametros.put(campo.getKey(), campo.getValue().asText()));
+            JsonNode metrica = no.path("primaryMetric");
+            resultados.add(new Resultado(
+                    no.path("benchmark").asText().replace(PACOTE, ""),
+                    parametros.entrySet().stream().map(p -> p.getKey() + "=" + p.getValue()).collect(Collectors.joining(", ")),
+                    no.path("mode").asText(),
+                    metrica.path("scoreUnit").asText(),
+                    numero(metrica.path("score")),
+                    numero(metrica.path("scoreError")),
+                    numero(no.path("secondaryMetrics").path("gc.alloc.rate.norm").path("score"))));
+        }
+        return resultados;
+    }
+
+    static List<Linha> comparar(List<Resultado> base, List<Resultado> atual, double tolerancia) {
+        Map<String, Resultado> basePorChave = new LinkedHashMap<>();
+        base.forEach(resultado -> basePorChave.put(resultado.chave(), resultado));
+
+        List<Linha> linhas = new ArrayList<>();
+        for (Resultado resultado : atual) {
+            Resultado anterior = basePorChave.remove(resultado.chave());
+            linhas.add(new Linha(anterior, resultado,
+                    anterior == null ? Situacao.NOVO : situacao(anterior, resultado, tolerancia)));
+        }
+        basePorChave.values().forEach(anterior -> linhas.add(new Linha(anterior, null, Situacao.REMOVIDO)));
+        return linhas;
+    }
+
+    static String paraMarkdown(List<Linha> linhas, double tolerancia) {
+        StringBuilder relatorio = new StringBuilder();
+        long regressoes = linhas.stream().filter(linha -> linha.situacao() == Situacao.REGRESSAO).count();
+        relatorio.append("## Comparação com a linha de base\n\n")
+                .append(String.format(Locale.ROOT, "Tolerância: %.1f%%. Regressões: %d.%n%n", tolerancia, regressoes))
+                .append("| Benchmark | Parâmetros | Unidade | Base | Atual | Δ score | Base (B/op) | Atual (B/op) | Δ alocação | Situação |\n")
+                .append("|---|---|---|---:|---:|---:|---:|---:|---:|---|\n");
+        for (Linha linha : linhas) {
+            Resultado referencia = linha.referencia();
+            Resultado base = linha.base();
+            Resultado atual = linha.atual();
+            relatorio.append("| ").append(referencia.benchmark())
+                    .append(" | ").append(referencia.parametros())
+                    .append(" | ").append(referencia.unidade())
+                    .append(" | ").append(base == null ? "-" : valor(base.score(), base.erro()))
+                    .append(" | ").append(atual == null ? "-" : valor(atual.score(), atual.erro()))
+                    .append(" | ").append(base == null || atual == null ? "-" : variacao(base.score(), atual.score()))
+                    .append(" | ").append(base == null ? "-" : bytes(base.alocacao()))
+                    .append(" | ").append(atual == null ? "-" : bytes(atual.alocacao()))
+                    .append(" | ").append(base == null || atual == null ? "-" : variacaoAlocacao(base.alocacao(), atual.alocacao()))
+                    .append(" | ").append(linha.situacao().descricao)
+                    .append(" |\n");
+        }
+        return relatorio.toString();
+    }
+
+    private static Situacao situacao(Resultado base, Resultado atual, double tolerancia) {
+        // Em throughput (thrpt) maior é melhor; nos demais modos o score é tempo por operação
+        double piora = (atual.score() - base.score()) / base.score() * 100;
+        if ("thrpt".equals(atual.modo())) {
+            piora = -piora;
+        }
+        boolean significativa = Math.abs(atual.score() - base.score()) > margem(base.erro()) + margem(atual.erro());
+        boolean regrediu = significativa && piora > tolerancia;
+        boolean melhorou = significativa && piora < -tolerancia;
+
+        if (!Double.isNaN(base.alocacao()) && !Double.isNaN(atual.alocacao())) {
+            double diferenca = atual.alocacao() - base.alocacao();
+            double aumento = diferenca / Math.max(base.alocacao(), 1) * 100;
+            regrediu |= diferenca > ALOCACAO_MINIMA && aumento > tolerancia;
+            melhorou |= -diferenca > ALOCACAO_MINIMA && aumento < -tolerancia;
+        }
+        return regrediu ? Situacao.REGRESSAO : melhorou ? Situacao.MELHORA : Situacao.OK;
+    }
+
+    private static double margem(double erro) {
+        return Double.isNaN(erro) ? 0 : erro;
+    }
+
+    /** O JMH grava "NaN" como texto quando não há iterações suficientes para a margem de erro. */
+    private static double numero(JsonNode no) {
+        return no.isNumber() ? no.asDouble() : Double.NaN;
+    }
+
+    private static String valor(double score, double erro) {
+        return Double.isNaN(erro)
+                ? String.format(Locale.ROOT, "%.3f", score)
+                : String.format(Locale.ROOT, "%.3f ± %.3f", score, erro);
+    }
+
+    private static String bytes(double alocacao) {
+        return Double.isNaN(alocacao) ? "-" : String.format(Locale.ROOT, "%.0f", alocacao);
+    }
+
+    private static String variacaoAlocacao(double base, double atual) {
+        return Math.abs(atual - base) <= ALOCACAO_MINIMA ? "~0" : variacao(base, atual);
+    }
+
+    private static String variacao(double base, double atual) {
+        if (Double.isNaN(base) || Double.isNaN(atual)) {
+            return "-";
+        }
+        if (base == 0) {
+            return atual == 0 ? "0.0%" : "novo";
+        }
+        return String.format(Locale.ROOT, "%+.1f%%", (atual - base) / base * 100);
+    }
+}
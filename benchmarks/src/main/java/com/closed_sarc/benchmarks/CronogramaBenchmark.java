@@ -0,0 +1,93 @@
+package com.closed_sarc.benchmarks;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.core.env.StandardEnvironment;
+
+import com.closed_sarc.app_registration_api.application.service.CronogramaService.Snapshot;
+import com.closed_sarc.app_registration_api.application.service.impl.CronogramaServiceImpl;
+import com.closed_sarc.app_registration_api.config.CronogramaProperties;
+import com.closed_sarc.app_registration_api.domain.entities.Evento;
+import com.closed_sarc.app_registration_api.domain.entities.Turma;
+import com.closed_sarc.app_registration_api.domain.repositories.EventoRepository;
+import com.closed_sarc.app_registration_api.domain.repositories.TurmaRepository;
+import com.closed_sarc.app_registration_api.infrastructure.client.dto.ReservaResponseDTO;
+import com.closed_sarc.app_registration_api.service.ConsultaReservasEmLotes;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * Reconstrução do snapshot do cronograma do dia: filtro das turmas pelo calendário, mapeamento
+ * para AulaDTO/RecursoReservadoDTO com as reservas já agrupadas por turma, serialização do
+ * JSON e cálculo do ETag. Repositórios e reservation-api respondem em memória.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CronogramaBenchmark {
+
+    @Param({ "100", "1000" })
+    private int turmas;
+
+    @Param({ "2" })
+    private int reservasPorTurma;
+
+    private CronogramaServiceImpl cronogramaService;
+
+    @Setup
+    public void setUp() {
+        List<Turma> turmasDoDia = MassaDeDados.turmas(turmas);
+        Map<UUID, List<ReservaResponseDTO>> reservas = new HashMap<>();
+        for (Turma turma : turmasDoDia) {
+            reservas.put(turma.getId(), MassaDeDados.reservas(turma, Instant.EPOCH, reservasPorTurma));
+        }
+        List<Evento> eventos = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            eventos.add(Evento.builder()
+                    .id(new UUID(5, i))
+                    .titulo("Evento " + i)
+                    .descricao("Descrição do evento " + i)
+                    .dataInicio(MassaDeDados.RELOGIO.instant().plusSeconds(3_600L * i))
+                    .dataFim(MassaDeDados.RELOGIO.instant().plusSeconds(3_600L * (i + 1)))
+                    .build());
+        }
+
+        TurmaRepository turmaRepository = Stubs.repositorio(TurmaRepository.class, Map.of(
+                "findByDiasAulaMascaraIn", argumentos -> turmasDoDia));
+        EventoRepository eventoRepository = Stubs.repositorio(EventoRepository.class, Map.of(
+                "findByPeriodo", argumentos -> eventos));
+        cronogramaService = new CronogramaServiceImpl(turmaRepository, eventoRepository,
+                new ConsultaReservasEmLotes(new ReservationServiceStub(reservas, null),
+                        new CronogramaProperties(500, 4, Duration.ofSeconds(2), Duration.ofSeconds(3)),
+                        new StandardEnvironment()),
+                MassaDeDados.objectMapper(), MassaDeDados.RELOGIO, MassaDeDados.calendarioAcademicoService(),
+                new SimpleMeterRegistry());
+    }
+
+    @Benchmark
+    public Snapshot reconstruirSnapshot() {
+        cronogramaService.reconstruirSnapshot();
+        return cronogramaService.obterSnapshot();
+    }
+}
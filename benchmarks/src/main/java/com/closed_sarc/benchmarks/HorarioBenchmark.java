@@ -0,0 +1,40 @@
+package com.closed_sarc.benchmarks;
+
+import java.time.LocalTime;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.closed_sarc.app_registration_api.domain.entities.Horario;
+import com.closed_sarc.app_registration_api.domain.utils.HorarioUtils;
+
+/**
+ * Conversão de {@link Horario} em hora de início, chamada por aula no cronograma e por data
+ * em cada reserva. Deve continuar sem alocar: as horas cheias vêm do cache de {@link LocalTime}.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class HorarioBenchmark {
+
+    private final Horario[] horarios = Horario.values();
+    private int proximo;
+
+    @Benchmark
+    public LocalTime horaInicio() {
+        Horario horario = horarios[proximo];
+        proximo = (proximo + 1) % horarios.length;
+        return HorarioUtils.obterHoraInicioPorHorario(horario);
+    }
+}
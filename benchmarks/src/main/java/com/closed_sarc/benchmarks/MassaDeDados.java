@@ -0,0 +1,138 @@
+package com.closed_sarc.benchmarks;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import com.closed_sarc.app_registration_api.config.CalendarioProperties;
+import com.closed_sarc.app_registration_api.domain.entities.CalendarioAcademico;
+import com.closed_sarc.app_registration_api.domain.entities.DiaSemana;
+import com.closed_sarc.app_registration_api.domain.entities.Disciplina;
+import com.closed_sarc.app_registration_api.domain.entities.Horario;
+import com.closed_sarc.app_registration_api.domain.entities.Semestre;
+import com.closed_sarc.app_registration_api.domain.entities.TipoUsuario;
+import com.closed_sarc.app_registration_api.domain.entities.Turma;
+import com.closed_sarc.app_registration_api.domain.entities.Usuario;
+import com.closed_sarc.app_registration_api.domain.repositories.CalendarioAcademicoRepository;
+import com.closed_sarc.app_registration_api.infrastructure.client.dto.ReservaResponseDTO;
+import com.closed_sarc.app_registration_api.service.CalendarioAcademicoService;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+
+/**
+ * Dados comuns aos benchmarks: o primeiro semestre de 2025 e turmas com aula às quartas.
+ * Os ids são derivados do índice, para que duas execuções meçam exatamente a mesma massa.
+ */
+final class MassaDeDados {
+
+    static final ZoneId ZONA = ZoneId.of("America/Sao_Paulo");
+
+    /** Uma quarta-feira dentro do primeiro semestre de 2025. */
+    static final LocalDate HOJE = LocalDate.of(2025, 3, 12);
+
+    static final Clock RELOGIO = Clock.fixed(HOJE.atTime(10, 0).atZone(ZONA).toInstant(), ZONA);
+
+    private static final List<Set<DiaSemana>> DIAS_AULA = List.of(
+            EnumSet.of(DiaSemana.SEGUNDA, DiaSemana.QUARTA),
+            EnumSet.of(DiaSemana.QUARTA, DiaSemana.SEXTA),
+            EnumSet.of(DiaSemana.SEGUNDA, DiaSemana.QUARTA, DiaSemana.SEXTA));
+
+    private MassaDeDados() {
+    }
+
+    /** Equivalente ao ObjectMapper configurado pelo Spring Boot nos dois serviços: java.time em ISO-8601. */
+    static ObjectMapper objectMapper() {
+        return Jackson2ObjectMapperBuilder.json()
+                .featuresToDisable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+                .build();
+    }
+
+    static CalendarioAcademico primeiroSemestre2025() {
+        return CalendarioAcademico.builder()
+                .ano(2025)
+                .semestre(Semestre.PRIMEIRO)
+                .dataInicio(LocalDate.of(2025, 2, 17))
+                .dataFim(LocalDate.of(2025, 7, 5))
+                .feriados(Set.of(LocalDate.of(2025, 3, 3), LocalDate.of(2025, 3, 4), LocalDate.of(2025, 4, 18),
+                        LocalDate.of(2025, 4, 21), LocalDate.of(2025, 5, 1), LocalDate.of(2025, 6, 19)))
+                .build();
+    }
+
+    /** Serviço real, com o repositório em memória; o ano é compilado na primeira consulta. */
+    static CalendarioAcademicoService calendarioAcademicoService() {
+        CalendarioAcademicoRepository repositorio = Stubs.repositorio(CalendarioAcademicoRepository.class, Map.of(
+                "findByAno", argumentos -> argumentos[0].equals(2025) ? List.of(primeiroSemestre2025()) : List.of()));
+        return new CalendarioAcademicoService(repositorio, new CalendarioProperties(List.of(), List.of()), evento -> {
+        });
+    }
+
+    static List<Turma> turmas(int quantidade) {
+        Horario[] horarios = Horario.values();
+        List<Turma> turmas = new ArrayList<>(quantidade);
+        for (int i = 0; i < quantidade; i++) {
+            turmas.add(Turma.builder()
+                    .id(new UUID(1, i))
+                    .nome(String.format("%02d%c", 10 + i % 90, 'A' + i % 26))
+                    .semestre(Semestre.PRIMEIRO)
+                    .ano(2025)
+                    .horario(horarios[i % horarios.length])
+                    .diasAula(DIAS_AULA.get(i % DIAS_AULA.size()))
+                    .professor(professor(i % 40))
+                    .disciplina(disciplina(i % 60))
+                    .build());
+        }
+        return turmas;
+    }
+
+    static List<ReservaResponseDTO> reservas(Turma turma, Instant dataUso, int quantidade) {
+        List<ReservaResponseDTO> reservas = new ArrayList<>(quantidade);
+        for (int i = 0; i < quantidade; i++) {
+            reservas.add(ReservaResponseDTO.builder()
+                    .id(new UUID(turma.getId().getLeastSignificantBits(), i))
+                    .usuarioId(turma.getProfessor().getId())
+                    .turmaId(turma.getId())
+                    .recurso(ReservaResponseDTO.RecursoDTO.builder()
+                            .id(new UUID(3, i))
+                            .nome("Recurso " + i)
+                            .tipo(i % 2 == 0 ? "Sala de Aula" : "Equipamento")
+                            .quantidade(10)
+                            .capacidade(40)
+                            .ativo(true)
+                            .build())
+                    .dataReserva(dataUso.minusSeconds(86_400))
+                    .dataUso(dataUso)
+                    .quantidade(1)
+                    .build());
+        }
+        return reservas;
+    }
+
+    private static Usuario professor(int i) {
+        return Usuario.builder()
+                .id(new UUID(2, i))
+                .nome("Professor " + i)
+                .email("professor" + i + "@closed-sarc.com")
+                .senha("$2a$10$7EqJtq98hPqEX7fNZaFWoO5rIhYlHh2jJxYxrVnh0Yq7lVbCk7yG6")
+                .tipo(TipoUsuario.PROFESSOR)
+                .dataCriacao(Instant.parse("2025-01-06T12:00:00Z"))
+                .build();
+    }
+
+    private static Disciplina disciplina(int i) {
+        return Disciplina.builder()
+                .id(new UUID(4, i))
+                .nome("Disciplina " + i)
+                .descricao("Ementa da disciplina " + i)
+                .cargaHoraria(60)
+                .build();
+    }
+}
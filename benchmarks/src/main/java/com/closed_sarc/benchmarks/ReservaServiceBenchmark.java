@@ -0,0 +1,87 @@
+package com.closed_sarc.benchmarks;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.closed_sarc.app_registration_api.application.service.ReservaService;
+import com.closed_sarc.app_registration_api.domain.entities.Turma;
+import com.closed_sarc.app_registration_api.domain.repositories.TurmaRepository;
+import com.closed_sarc.app_registration_api.infrastructure.client.dto.ReservaLoteResponseDTO;
+import com.closed_sarc.app_registration_api.infrastructure.client.dto.ReservaResponseDTO;
+import com.closed_sarc.app_registration_api.service.CalendarioAcademicoService;
+
+/**
+ * Lado da registration-api na criação de reservas: validação da data de aula, conversão de
+ * data e horário em {@link Instant} e, na reserva do semestre, a geração de todas as datas
+ * de aula da turma (antigo {@code gerarDatasAulaTurma}, hoje {@link CalendarioAcademicoService#datasAula}).
+ * A reservation-api é substituída por {@link ReservationServiceStub}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ReservaServiceBenchmark {
+
+    private static final UUID RECURSO_ID = new UUID(3, 0);
+
+    private ReservaService reservaService;
+    private ReservationServiceStub reservationService;
+    private Turma turma;
+    private LocalDate[] datasAula;
+    private int proxima;
+
+    @Setup
+    public void setUp() {
+        turma = MassaDeDados.turmas(1).get(0);
+        TurmaRepository turmaRepository = Stubs.repositorio(TurmaRepository.class, Map.of(
+                "findById", argumentos -> Optional.of(turma)));
+        CalendarioAcademicoService calendarioAcademicoService = MassaDeDados.calendarioAcademicoService();
+        Instant dataUso = MassaDeDados.HOJE.atStartOfDay(MassaDeDados.ZONA).toInstant();
+        ReservaResponseDTO reserva = MassaDeDados.reservas(turma, dataUso, 1).get(0);
+        reservationService = new ReservationServiceStub(Map.of(turma.getId(), List.of(reserva)), reserva);
+        reservaService = new ReservaService(turmaRepository, reservationService, evento -> {
+        }, calendarioAcademicoService);
+        datasAula = calendarioAcademicoService.datasAula(turma).toArray(LocalDate[]::new);
+    }
+
+    @Benchmark
+    public ReservaResponseDTO reservarUmaAula() {
+        return reservaService.reservarRecursoParaTurma(turma.getId(), RECURSO_ID, 1, proximaData(), turma.getHorario());
+    }
+
+    @Benchmark
+    public List<Instant> reservarTodasAsAulas() {
+        ReservaLoteResponseDTO resultado = reservaService.reservarRecursoParaTodasAsAulas(turma.getId(), RECURSO_ID, 1);
+        return resultado.getConflitos().isEmpty() ? reservationService.ultimasDatasUso : null;
+    }
+
+    @Benchmark
+    public Instant buscarReservasDaAula() {
+        reservaService.buscarReservasPorTurmaEData(turma.getId(), proximaData(), turma.getHorario());
+        return reservationService.ultimaDataUso;
+    }
+
+    private LocalDate proximaData() {
+        LocalDate data = datasAula[proxima];
+        proxima = (proxima + 1) % datasAula.length;
+        return data;
+    }
+}
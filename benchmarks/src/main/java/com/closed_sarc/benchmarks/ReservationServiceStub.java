@@ -0,0 +1,54 @@
+package com.closed_sarc.benchmarks;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import com.closed_sarc.app_registration_api.infrastructure.client.dto.ReservaLoteResponseDTO;
+import com.closed_sarc.app_registration_api.infrastructure.client.dto.ReservaResponseDTO;
+import com.closed_sarc.app_registration_api.service.ReservationService;
+
+/**
+ * Responde no lugar da reservation-api com dados fixos, para que os benchmarks meçam só o
+ * lado da registration-api. Os argumentos recebidos ficam guardados, o que impede a JIT de
+ * descartar o cálculo de datas e horários como código morto.
+ */
+class ReservationServiceStub extends ReservationService {
+
+    private final Map<UUID, List<ReservaResponseDTO>> reservasPorTurma;
+    private final ReservaResponseDTO reserva;
+
+    Instant ultimaDataUso;
+    List<Instant> ultimasDatasUso;
+
+    ReservationServiceStub(Map<UUID, List<ReservaResponseDTO>> reservasPorTurma, ReservaResponseDTO reserva) {
+        super(null, null);
+        this.reservasPorTurma = reservasPorTurma;
+        this.reserva = reserva;
+    }
+
+    @Override
+    public ReservaResponseDTO createReservation(UUID turmaId, UUID recursoId, Integer quantidade, Instant dataUso) {
+        ultimaDataUso = dataUso;
+        return reserva;
+    }
+
+    @Override
+    public ReservaLoteResponseDTO createReservations(UUID turmaId, UUID recursoId, Integer quantidade,
+            List<Instant> datasUso) {
+        ultimasDatasUso = datasUso;
+        return ReservaLoteResponseDTO.builder().build();
+    }
+
+    @Override
+    public List<ReservaResponseDTO> getReservationsByTurmaAndData(UUID turmaId, Instant dataUso) {
+        ultimaDataUso = dataUso;
+        return reservasPorTurma.getOrDefault(turmaId, List.of());
+    }
+
+    @Override
+    public Map<UUID, List<ReservaResponseDTO>> getReservationsByTurmasAndDatas(Map<UUID, Instant> dataUsoPorTurma) {
+        return reservasPorTurma;
+    }
+}
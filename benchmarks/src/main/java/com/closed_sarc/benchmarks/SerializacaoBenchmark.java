@@ -0,0 +1,107 @@
+package com.closed_sarc.benchmarks;
+
+import java.io.IOException;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.closed_sarc.app_registration_api.domain.entities.Turma;
+import com.closed_sarc.app_registration_api.domain.repositories.TurmaRepository;
+import com.closed_sarc.app_registration_api.infrastructure.client.dto.ReservaResponseDTO;
+import com.closed_sarc.app_registration_api.service.TurmaService;
+import com.closed_sarc.app_reservation_api.domain.entities.Recurso;
+import com.closed_sarc.app_reservation_api.domain.entities.Reserva;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+
+/**
+ * Jackson nos dois lados: a registration-api serializando turmas (entidade e listagem
+ * resumida, com o mapeamento do TurmaService) e lendo as reservas recebidas da
+ * reservation-api; a reservation-api serializando as entidades {@link Reserva}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SerializacaoBenchmark {
+
+    @Param({ "100" })
+    private int itens;
+
+    private ObjectMapper objectMapper;
+    private ObjectReader leitorReservas;
+    private Turma turma;
+    private TurmaService turmaService;
+    private List<Reserva> reservas;
+    private byte[] reservasJson;
+
+    @Setup
+    public void setUp() throws IOException {
+        objectMapper = MassaDeDados.objectMapper();
+        leitorReservas = objectMapper.readerForListOf(ReservaResponseDTO.class);
+
+        List<Turma> turmas = MassaDeDados.turmas(itens);
+        turma = turmas.get(0);
+        TurmaRepository turmaRepository = Stubs.repositorio(TurmaRepository.class, Map.of(
+                "findAllComRelacionamentos", argumentos -> turmas));
+        turmaService = new TurmaService(turmaRepository, null, null, null, null);
+
+        Instant dataUso = MassaDeDados.HOJE.atTime(8, 0).atZone(MassaDeDados.ZONA).toInstant();
+        reservas = new ArrayList<>(itens);
+        for (int i = 0; i < itens; i++) {
+            reservas.add(Reserva.builder()
+                    .id(new UUID(6, i))
+                    .usuarioId(new UUID(2, i % 40))
+                    .turmaId(new UUID(1, i))
+                    .recurso(Recurso.builder()
+                            .id(new UUID(3, i % 20))
+                            .nome("Recurso " + i % 20)
+                            .tipo("Sala de Aula")
+                            .quantidade(10)
+                            .capacidade(40)
+                            .build())
+                    .dataReserva(dataUso.minusSeconds(86_400))
+                    .dataUso(dataUso)
+                    .quantidade(1)
+                    .build());
+        }
+        reservasJson = objectMapper.writeValueAsBytes(reservas);
+    }
+
+    @Benchmark
+    public byte[] turma() throws IOException {
+        return objectMapper.writeValueAsBytes(turma);
+    }
+
+    @Benchmark
+    public byte[] listagemDeTurmas() throws IOException {
+        return objectMapper.writeValueAsBytes(turmaService.findAll());
+    }
+
+    @Benchmark
+    public byte[] reservas() throws IOException {
+        return objectMapper.writeValueAsBytes(reservas);
+    }
+
+    @Benchmark
+    public List<ReservaResponseDTO> lerReservas() throws IOException {
+        return leitorReservas.readValue(reservasJson);
+    }
+}
@@ -0,0 +1,37 @@
+package com.closed_sarc.benchmarks;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Proxy;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * Repositórios em memória para os benchmarks, sem Spring nem banco. Cada método atendido é
+ * informado pelo nome; os métodos default da interface (como
+ * {@code TurmaRepository.findByDiasAulaContaining}) executam o código real e caem nos
+ * métodos atendidos. Qualquer outro método lança {@link UnsupportedOperationException}.
+ */
+final class Stubs {
+
+    private Stubs() {
+    }
+
+    static <T> T repositorio(Class<T> tipo, Map<String, Function<Object[], Object>> respostas) {
+        InvocationHandler handler = (proxy, metodo, argumentos) -> {
+            Function<Object[], Object> resposta = respostas.get(metodo.getName());
+            if (resposta != null) {
+                return resposta.apply(argumentos);
+            }
+            if (metodo.isDefault()) {
+                return InvocationHandler.invokeDefault(proxy, metodo, argumentos);
+            }
+            return switch (metodo.getName()) {
+                case "toString" -> tipo.getSimpleName() + " (stub)";
+                case "hashCode" -> System.identityHashCode(proxy);
+                case "equals" -> proxy == argumentos[0];
+                default -> throw new UnsupportedOperationException(tipo.getSimpleName() + "." + metodo.getName());
+            };
+        };
+        return tipo.cast(Proxy.newProxyInstance(tipo.getClassLoader(), new Class<?>[] { tipo }, handler));
+    }
+}
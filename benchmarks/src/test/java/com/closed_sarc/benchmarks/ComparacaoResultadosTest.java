@@ -0,0 +1,99 @@
+package com.closed_sarc.benchmarks;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import com.closed_sarc.benchmarks.ComparacaoResultados.Linha;
+import com.closed_sarc.benchmarks.ComparacaoResultados.Resultado;
+import com.closed_sarc.benchmarks.ComparacaoResultados.Situacao;
+
+@DisplayName("ComparacaoResultados - Testes Unitários")
+class ComparacaoResultadosTest {
+
+  @TempDir
+  private Path diretorio;
+
+  @Test
+  @DisplayName("Deve ler benchmark, parâmetros, score e alocação por operação do JSON do JMH")
+  void deveLerResultadoDoJmh() throws Exception {
+    // Given
+    Path arquivo = diretorio.resolve("resultados.json");
+    Files.writeString(arquivo, """
+        [{"benchmark": "com.closed_sarc.benchmarks.CronogramaBenchmark.reconstruirSnapshot", "mode": "thrpt",
+          "params": {"turmas": "1000", "reservasPorTurma": "2"},
+          "primaryMetric": {"score": 41.5, "scoreError": "NaN", "scoreUnit": "ops/s"},
+          "secondaryMetrics": {"gc.alloc.rate.norm": {"score": 1988143.4, "scoreError": 12.0, "scoreUnit": "B/op"}}}]
+        """);
+
+    // When
+    List<Resultado> resultados = ComparacaoResultados.ler(arquivo);
+
+    // Then
+    Resultado resultado = resultados.get(0);
+    assertEquals("CronogramaBenchmark.reconstruirSnapshot", resultado.benchmark());
+    assertEquals("reservasPorTurma=2, turmas=1000", resultado.parametros());
+    assertEquals(41.5, resultado.score());
+    assertTrue(Double.isNaN(resultado.erro()));
+    assertEquals(1988143.4, resultado.alocacao());
+  }
+
+  @Test
+  @DisplayName("Deve apontar regressão de score conforme o modo e ignorar diferenças dentro da margem de erro")
+  void deveCompararScoreConformeModo() {
+    // Given
+    List<Resultado> base = List.of(
+        resultado("Vazao.queda", "thrpt", 100, 1, 64),
+        resultado("Tempo.aumento", "avgt", 100, 1, 64),
+        resultado("Tempo.ruido", "avgt", 100, 15, 64),
+        resultado("Tempo.ganho", "avgt", 100, 1, 64));
+    List<Resultado> atual = List.of(
+        resultado("Vazao.queda", "thrpt", 80, 1, 64),
+        resultado("Tempo.aumento", "avgt", 120, 1, 64),
+        resultado("Tempo.ruido", "avgt", 120, 15, 64),
+        resultado("Tempo.ganho", "avgt", 50, 1, 64));
+
+    // When
+    List<Linha> linhas = ComparacaoResultados.comparar(base, atual, 10);
+
+    // Then
+    assertEquals(List.of(Situacao.REGRESSAO, Situacao.REGRESSAO, Situacao.OK, Situacao.MELHORA),
+        linhas.stream().map(Linha::situacao).toList());
+  }
+
+  @Test
+  @DisplayName("Deve apontar regressão de alocação e listar benchmarks novos e removidos no relatório")
+  void deveCompararAlocacaoENovosERemovidos() {
+    // Given
+    List<Resultado> base = List.of(
+        resultado("Serializacao.turma", "thrpt", 100, 1, 1000),
+        resultado("Horario.horaInicio", "thrpt", 100, 1, 0),
+        resultado("Antigo.removido", "thrpt", 100, 1, 0));
+    List<Resultado> atual = List.of(
+        resultado("Serializacao.turma", "thrpt", 100, 1, 1500),
+        resultado("Horario.horaInicio", "thrpt", 100, 1, 8),
+        resultado("Novo.incluido", "thrpt", 100, 1, 0));
+
+    // When
+    List<Linha> linhas = ComparacaoResultados.comparar(base, atual, 10);
+    String relatorio = ComparacaoResultados.paraMarkdown(linhas, 10);
+
+    // Then
+    assertEquals(List.of(Situacao.REGRESSAO, Situacao.OK, Situacao.NOVO, Situacao.REMOVIDO),
+        linhas.stream().map(Linha::situacao).toList());
+    assertTrue(relatorio.contains("Regressões: 1."));
+    assertTrue(relatorio.contains("| Serializacao.turma |  | ops/ms | 100.000 ± 1.000 | 100.000 ± 1.000 | +0.0% | 1000 | 1500 | +50.0% | **regressão** |"));
+    assertTrue(relatorio.contains("| Antigo.removido |  | ops/ms | 100.000 ± 1.000 | - | - | 0 | - | - | removido |"));
+  }
+
+  private static Resultado resultado(String benchmark, String modo, double score, double erro, double alocacao) {
+    return new Resultado(benchmark, "", modo, "thrpt".equals(modo) ? "ops/ms" : "ns/op", score, erro, alocacao);
+  }
+}
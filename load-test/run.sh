@@ -0,0 +1,12 @@
+#!/usr/bin/env bash
+# Sobe os dois serviços sobre H2 (modo PostgreSQL), grava a massa e roda o teste de carga.
+# Uso: ./run.sh [--chave=valor ...], ex.: ./run.sh --duracao=2m --taxa=200 --turmas=10000
+# Relatório em target/carga (resumo.md, um .hgrm por endpoint e servicos.log).
+set -euo pipefail
+
+cd "$(dirname "$0")"
+
+# O reator da raiz compila também os dois serviços, dos quais o módulo depende
+(cd .. && mvn -B -q package -pl load-test -am -DskipTests)
+
+java -jar target/load-test.jar "$@"
@@ -0,0 +1,83 @@
+package com.closed_sarc.loadtest;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+import org.HdrHistogram.Histogram;
+
+import com.closed_sarc.loadtest.Carga.Endpoint;
+import com.closed_sarc.loadtest.Carga.Resultado;
+import com.closed_sarc.loadtest.ConfiguracaoCarga.ModoThreads;
+
+/**
+ * Avaliação de cada degrau da escada de taxas e comparação entre os modos de thread. Um degrau
+ * é sustentável quando o p99 do fluxo contínuo fica dentro do SLO e no máximo 1% das chegadas
+ * termina em erro ou é descartada pelo gerador. As rajadas ficam de fora: as recusas delas são
+ * esperadas. A concorrência sustentada vem da lei de Little: vazão × latência média.
+ */
+final class Capacidade {
+
+    static final double FALHAS_MAXIMAS = 0.01;
+
+    /** Resultado agregado de um degrau; latências em milissegundos. */
+    record Degrau(double taxa, double vazao, double p99, double concorrencia, double falhas, boolean sustentavel) {
+    }
+
+    private Capacidade() {
+    }
+
+    static Degrau avaliar(double taxa, Collection<Resultado> resultados, Duration duracao, Duration sloP99) {
+        Histogram latencias = new Histogram(3);
+        long concluidas = 0;
+        long falhas = 0;
+        long chegadas = 0;
+        for (Resultado resultado : resultados) {
+            if (resultado.endpoint() == Endpoint.RAJADA) {
+                continue;
+            }
+            latencias.add(resultado.latencias());
+            concluidas += resultado.concluidas();
+            falhas += resultado.erros() + resultado.descartadas();
+            chegadas += resultado.concluidas() + resultado.descartadas();
+        }
+        double vazao = concluidas / (duracao.toNanos() / 1e9);
+        double p99 = latencias.getTotalCount() == 0 ? 0 : latencias.getValueAtPercentile(99) / 1000.0;
+        double media = latencias.getTotalCount() == 0 ? 0 : latencias.getMean() / 1000.0;
+        double fracaoFalhas = chegadas == 0 ? 0 : (double) falhas / chegadas;
+        boolean sustentavel = chegadas > 0 && p99 <= sloP99.toNanos() / 1e6 && fracaoFalhas <= FALHAS_MAXIMAS;
+        return new Degrau(taxa, vazao, p99, vazao * media / 1000.0, fracaoFalhas, sustentavel);
+    }
+
+    static String tabela(List<Degrau> degraus) {
+        StringBuilder tabela = new StringBuilder()
+                .append("| Taxa (req/s) | Vazão (req/s) | p99 (ms) | Concorrência | Falhas | Sustentável |\n")
+                .append("|---:|---:|---:|---:|---:|---|\n");
+        for (Degrau degrau : degraus) {
+            tabela.append(String.format(Locale.ROOT, "| %.0f | %.1f | %.2f | %.1f | %.2f%% | %s |%n",
+                    degrau.taxa(), degrau.vazao(), degrau.p99(), degrau.concorrencia(), degrau.falhas() * 100,
+                    degrau.sustentavel() ? "sim" : "não"));
+        }
+        return tabela.toString();
+    }
+
+    /** Por modo, o degrau sustentável de maior taxa. */
+    static String comparacao(Map<ModoThreads, List<Degrau>> degrausPorModo) {
+        StringBuilder tabela = new StringBuilder()
+                .append("| Threads | Maior taxa sustentável (req/s) | Vazão (req/s) | p99 (ms) | Concorrência |\n")
+                .append("|---|---:|---:|---:|---:|\n");
+        degrausPorModo.forEach((modo, degraus) -> {
+            Degrau maior = degraus.stream()
+                    .filter(Degrau::sustentavel)
+                    .reduce((anterior, proximo) -> proximo.taxa() > anterior.taxa() ? proximo : anterior)
+                    .orElse(null);
+            tabela.append(maior == null
+                    ? String.format("| %s | nenhuma | - | - | - |%n", modo.nome())
+                    : String.format(Locale.ROOT, "| %s | %.0f | %.1f | %.2f | %.1f |%n", modo.nome(), maior.taxa(),
+                            maior.vazao(), maior.p99(), maior.concorrencia()));
+        });
+        return tabela.toString();
+    }
+}
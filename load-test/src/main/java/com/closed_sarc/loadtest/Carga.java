@@ -0,0 +1,260 @@
+package com.closed_sarc.loadtest;
+
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.DayOfWeek;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.UUID;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+
+import org.HdrHistogram.Histogram;
+import org.HdrHistogram.Recorder;
+
+import com.closed_sarc.loadtest.MassaDeDados.Massa;
+import com.closed_sarc.loadtest.MassaDeDados.Turma;
+
+/**
+ * Gerador de carga em modelo aberto: as chegadas seguem um processo de Poisson na taxa
+ * configurada e não esperam as respostas anteriores, como usuários independentes. A latência
+ * é medida a partir do instante em que a requisição deveria ter saído, de modo que atrasos do
+ * próprio gerador entram na conta em vez de esconder a fila (omissão coordenada).
+ *
+ * <p>Além do fluxo contínuo, a cada {@code intervaloRajada} saem {@code rajada} reservas no
+ * mesmo instante para o mesmo recurso, data e horário, disputando as poucas unidades do
+ * recurso disputado — é o cenário de abertura de reservas que gera recusas por capacidade.
+ */
+final class Carga {
+
+    /** Latência máxima registrável nos histogramas, em microssegundos. */
+    private static final long LATENCIA_MAXIMA_US = TimeUnit.MINUTES.toMicros(1);
+    private static final int TAMANHO_PAGINA = 50;
+
+    enum Endpoint {
+        CRONOGRAMA("GET /api/cronograma", 60),
+        TURMAS("GET /api/turmas", 20),
+        RECURSOS("GET /api/recursos", 10),
+        RESERVA("POST /api/reservas", 10),
+        RAJADA("POST /api/reservas (rajada)", 0);
+
+        private final String descricao;
+        private final int peso;
+
+        Endpoint(String descricao, int peso) {
+            this.descricao = descricao;
+            this.peso = peso;
+        }
+
+        String descricao() {
+            return descricao;
+        }
+    }
+
+    /** Contagens e histograma de latência (µs) de um endpoint no período medido. */
+    record Resultado(Endpoint endpoint, Histogram latencias, long ok, long recusadas, long erros, long descartadas) {
+
+        long concluidas() {
+            return ok + recusadas + erros;
+        }
+    }
+
+    private static final class Estatisticas {
+        final Recorder latencias = new Recorder(LATENCIA_MAXIMA_US, 3);
+        final LongAdder ok = new LongAdder();
+        final LongAdder recusadas = new LongAdder();
+        final LongAdder erros = new LongAdder();
+        final LongAdder descartadas = new LongAdder();
+
+        void zerar() {
+            latencias.reset();
+            ok.reset();
+            recusadas.reset();
+            erros.reset();
+            descartadas.reset();
+        }
+    }
+
+    private final ConfiguracaoCarga configuracao;
+    private final ClienteApi publico;
+    private final ClienteApi autenticado;
+    private final Massa massa;
+    private final LocalDate hoje;
+    private final Random aleatorio;
+    private final Semaphore emVoo;
+    private final Map<Endpoint, Estatisticas> estatisticas = new EnumMap<>(Endpoint.class);
+    /** Turmas por dia da semana e por dia da semana + horário, para montar reservas válidas. */
+    private final Map<DayOfWeek, List<Turma>> turmasPorDia = new EnumMap<>(DayOfWeek.class);
+    private final Map<DayOfWeek, Map<String, List<Turma>>> turmasPorDiaEHorario = new EnumMap<>(DayOfWeek.class);
+    private final int pesoTotal;
+
+    Carga(ConfiguracaoCarga configuracao, ClienteApi publico, ClienteApi autenticado, Massa massa, LocalDate hoje) {
+        this.configuracao = configuracao;
+        this.publico = publico;
+        this.autenticado = autenticado;
+        this.massa = massa;
+        this.hoje = hoje;
+        this.aleatorio = new Random(configuracao.semente());
+        this.emVoo = new Semaphore(configuracao.emVoo());
+        for (Endpoint endpoint : Endpoint.values()) {
+            estatisticas.put(endpoint, new Estatisticas());
+        }
+        for (DayOfWeek dia : DayOfWeek.values()) {
+            List<Turma> doDia = massa.turmas().stream().filter(turma -> turma.temAula(dia)).toList();
+            turmasPorDia.put(dia, doDia);
+            Map<String, List<Turma>> porHorario = new HashMap<>();
+            doDia.forEach(turma -> porHorario.computeIfAbsent(turma.horario(), h -> new ArrayList<>()).add(turma));
+            turmasPorDiaEHorario.put(dia, porHorario);
+        }
+        int soma = 0;
+        for (Endpoint endpoint : Endpoint.values()) {
+            soma += endpoint.peso;
+        }
+        this.pesoTotal = soma;
+    }
+
+    /**
+     * Roda o aquecimento (descartado) e depois o período medido, aguardando as requisições em
+     * voo terminarem antes de fechar os histogramas.
+     */
+    Map<Endpoint, Resultado> executar() throws InterruptedException {
+        ScheduledExecutorService rajadas = Executors.newSingleThreadScheduledExecutor(tarefa -> {
+            Thread thread = new Thread(tarefa, "carga-rajadas");
+            thread.setDaemon(true);
+            return thread;
+        });
+        long intervalo = configuracao.intervaloRajada().toNanos();
+        if (configuracao.rajada() > 0) {
+            rajadas.scheduleAtFixedRate(this::dispararRajada, intervalo, intervalo, TimeUnit.NANOSECONDS);
+        }
+        try {
+            long inicio = System.nanoTime();
+            disparar(inicio, inicio + configuracao.aquecimento().toNanos());
+            estatisticas.values().forEach(Estatisticas::zerar);
+            long medicao = System.nanoTime();
+            disparar(medicao, medicao + configuracao.duracao().toNanos());
+        } finally {
+            rajadas.shutdownNow();
+        }
+        if (!emVoo.tryAcquire(configuracao.emVoo(), 1, TimeUnit.MINUTES)) {
+            System.err.println("Requisições ainda em voo após 1 minuto; o relatório não as inclui.");
+        }
+
+        Map<Endpoint, Resultado> resultados = new EnumMap<>(Endpoint.class);
+        estatisticas.forEach((endpoint, e) -> resultados.put(endpoint, new Resultado(endpoint,
+                e.latencias.getIntervalHistogram(), e.ok.sum(), e.recusadas.sum(), e.erros.sum(), e.descartadas.sum())));
+        return resultados;
+    }
+
+    /** Chegadas de Poisson entre {@code inicio} e {@code fim}; cada uma tem o seu instante previsto. */
+    private void disparar(long inicio, long fim) {
+        double intervaloMedio = TimeUnit.SECONDS.toNanos(1) / configuracao.taxa();
+        long previsto = inicio;
+        while (true) {
+            previsto += (long) (-Math.log(1 - aleatorio.nextDouble()) * intervaloMedio);
+            if (previsto >= fim) {
+                return;
+            }
+            for (long espera = previsto - System.nanoTime(); espera > 0; espera = previsto - System.nanoTime()) {
+                LockSupport.parkNanos(espera);
+            }
+            Endpoint endpoint = sortear();
+            enviar(endpoint, requisicao(endpoint), previsto);
+        }
+    }
+
+    private Endpoint sortear() {
+        int sorteio = aleatorio.nextInt(pesoTotal);
+        for (Endpoint endpoint : Endpoint.values()) {
+            sorteio -= endpoint.peso;
+            if (sorteio < 0) {
+                return endpoint;
+            }
+        }
+        throw new IllegalStateException("Pesos dos endpoints inconsistentes");
+    }
+
+    private HttpRequest requisicao(Endpoint endpoint) {
+        return switch (endpoint) {
+            case CRONOGRAMA -> publico.get("/api/cronograma");
+            case TURMAS -> autenticado.get("/api/turmas?page=" + aleatorio.nextInt(paginasDeTurmas()) + "&size=" + TAMANHO_PAGINA);
+            case RECURSOS -> autenticado.get("/api/recursos");
+            case RESERVA -> reservaAvulsa();
+            case RAJADA -> throw new IllegalArgumentException("Rajadas são disparadas por dispararRajada");
+        };
+    }
+
+    private int paginasDeTurmas() {
+        return Math.max(1, (massa.turmas().size() + TAMANHO_PAGINA - 1) / TAMANHO_PAGINA);
+    }
+
+    /** Reserva de uma turma qualquer em um dia de aula dela, em um dos recursos comuns. */
+    private HttpRequest reservaAvulsa() {
+        LocalDate data = dataLetiva();
+        List<Turma> turmas = turmasPorDia.get(data.getDayOfWeek());
+        Turma turma = turmas.get(aleatorio.nextInt(turmas.size()));
+        UUID recurso = massa.recursos().get(aleatorio.nextInt(massa.recursos().size()));
+        return reserva(turma, recurso, data);
+    }
+
+    /**
+     * Todas as reservas da rajada saem com o mesmo instante previsto, para o recurso disputado,
+     * em uma data e horário sorteados; as turmas são as que têm aula nesse dia e horário.
+     */
+    private void dispararRajada() {
+        long previsto = System.nanoTime();
+        LocalDate data = dataLetiva();
+        List<List<Turma>> grupos = new ArrayList<>(turmasPorDiaEHorario.get(data.getDayOfWeek()).values());
+        List<Turma> turmas = grupos.get(aleatorio.nextInt(grupos.size()));
+        for (int i = 0; i < configuracao.rajada(); i++) {
+            enviar(Endpoint.RAJADA, reserva(turmas.get(i % turmas.size()), massa.recursoDisputado(), data), previsto);
+        }
+    }
+
+    private HttpRequest reserva(Turma turma, UUID recurso, LocalDate data) {
+        return autenticado.post("/api/reservas", Map.of("turmaId", turma.id(), "recursoId", recurso,
+                "quantidade", 1, "data", data, "horario", turma.horario()));
+    }
+
+    /** Data sorteada entre hoje e o fim do semestre, em um dia da semana que tenha turmas. */
+    private LocalDate dataLetiva() {
+        LocalDate inicio = hoje.isAfter(massa.inicioSemestre()) ? hoje : massa.inicioSemestre();
+        long dias = Duration.between(inicio.atStartOfDay(), massa.fimSemestre().atStartOfDay()).toDays() + 1;
+        LocalDate data;
+        do {
+            data = inicio.plusDays(aleatorio.nextLong(dias));
+        } while (turmasPorDia.get(data.getDayOfWeek()).isEmpty());
+        return data;
+    }
+
+    private void enviar(Endpoint endpoint, HttpRequest requisicao, long previsto) {
+        Estatisticas e = estatisticas.get(endpoint);
+        if (!emVoo.tryAcquire()) {
+            e.descartadas.increment();
+            return;
+        }
+        publico.http().sendAsync(requisicao, HttpResponse.BodyHandlers.discarding())
+                .whenComplete((resposta, falha) -> {
+                    e.latencias.recordValue(Math.min(LATENCIA_MAXIMA_US,
+                            TimeUnit.NANOSECONDS.toMicros(System.nanoTime() - previsto)));
+                    if (falha != null || resposta.statusCode() >= 500) {
+                        e.erros.increment();
+                    } else if (resposta.statusCode() >= 400) {
+                        e.recusadas.increment();
+                    } else {
+                        e.ok.increment();
+                    }
+                    emVoo.release();
+                });
+    }
+}
@@ -0,0 +1,97 @@
+package com.closed_sarc.loadtest;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Base64;
+import java.util.Map;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+
+/**
+ * Cliente HTTP de um dos serviços, com o cabeçalho de autenticação já definido. O mesmo
+ * {@link HttpClient} é usado na massa inicial e na carga.
+ */
+final class ClienteApi {
+
+    static final ObjectMapper JSON = new ObjectMapper()
+            .registerModule(new JavaTimeModule())
+            .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+
+    private final HttpClient http;
+    private final String base;
+    private final String autorizacao;
+
+    private ClienteApi(HttpClient http, String base, String autorizacao) {
+        this.http = http;
+        this.base = base;
+        this.autorizacao = autorizacao;
+    }
+
+    static ClienteApi anonimo(HttpClient http, String base) {
+        return new ClienteApi(http, base, null);
+    }
+
+    static ClienteApi basic(HttpClient http, String base, String usuario, String senha) {
+        String credenciais = Base64.getEncoder().encodeToString((usuario + ":" + senha).getBytes(StandardCharsets.UTF_8));
+        return new ClienteApi(http, base, "Basic " + credenciais);
+    }
+
+    /** Troca email e senha pelo token bearer da registration-api. */
+    ClienteApi autenticar(String email, String senha) throws IOException, InterruptedException {
+        JsonNode login = postar("/api/auth/login", Map.of("email", email, "senha", senha));
+        return new ClienteApi(http, base, "Bearer " + login.path("token").asText());
+    }
+
+    HttpClient http() {
+        return http;
+    }
+
+    HttpRequest get(String caminho) {
+        return requisicao(caminho).GET().build();
+    }
+
+    HttpRequest post(String caminho, Object corpo) {
+        try {
+            return requisicao(caminho)
+                    .header("Content-Type", "application/json")
+                    .POST(HttpRequest.BodyPublishers.ofByteArray(JSON.writeValueAsBytes(corpo)))
+                    .build();
+        } catch (IOException e) {
+            throw new IllegalArgumentException("Corpo não serializável: " + corpo, e);
+        }
+    }
+
+    JsonNode postar(String caminho, Object corpo) throws IOException, InterruptedException {
+        return enviar(post(caminho, corpo));
+    }
+
+    JsonNode postar(String caminho, String tipoConteudo, String corpo) throws IOException, InterruptedException {
+        return enviar(requisicao(caminho)
+                .header("Content-Type", tipoConteudo)
+                .POST(HttpRequest.BodyPublishers.ofString(corpo))
+                .build());
+    }
+
+    private JsonNode enviar(HttpRequest requisicao) throws IOException, InterruptedException {
+        HttpResponse<byte[]> resposta = http.send(requisicao, HttpResponse.BodyHandlers.ofByteArray());
+        if (resposta.statusCode() >= 300) {
+            throw new IllegalStateException(String.format("%s %s respondeu %d: %s", requisicao.method(), requisicao.uri(),
+                    resposta.statusCode(), new String(resposta.body(), StandardCharsets.UTF_8)));
+        }
+        return JSON.readTree(resposta.body());
+    }
+
+    private HttpRequest.Builder requisicao(String caminho) {
+        HttpRequest.Builder requisicao = HttpRequest.newBuilder(URI.create(base + caminho))
+                .timeout(Duration.ofSeconds(30));
+        return autorizacao == null ? requisicao : requisicao.header("Authorization", autorizacao);
+    }
+}
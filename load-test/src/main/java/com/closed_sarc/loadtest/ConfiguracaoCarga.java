@@ -0,0 +1,132 @@
+package com.closed_sarc.loadtest;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+
+import org.springframework.boot.convert.DurationStyle;
+
+/**
+ * Parâmetros do teste de carga, lidos de argumentos {@code --chave=valor}.
+ *
+ * @param taxa             chegadas por segundo do modelo aberto (cronograma, listagens e reservas avulsas)
+ * @param rajada           reservas disparadas no mesmo instante, a cada {@code intervaloRajada}
+ * @param emVoo            limite de requisições simultâneas; acima dele a chegada é descartada e contada
+ * @param turmasReservadas turmas que recebem reservas para o semestre inteiro na massa inicial
+ * @param threads          modos de thread dos serviços a medir, um após o outro
+ * @param taxas            degraus de taxa para achar a maior taxa sustentável; vazio mede só {@code taxa}
+ * @param sloP99           p99 máximo para um degrau ser considerado sustentável
+ * @param latenciaReservation atraso artificial em cada requisição da reservation-api, simulando rede
+ */
+record ConfiguracaoCarga(
+        Duration duracao,
+        Duration aquecimento,
+        double taxa,
+        int rajada,
+        Duration intervaloRajada,
+        int emVoo,
+        int professores,
+        int disciplinas,
+        int turmas,
+        int recursos,
+        int turmasReservadas,
+        long semente,
+        Path saida,
+        List<ModoThreads> threads,
+        List<Double> taxas,
+        Duration sloP99,
+        Duration latenciaReservation) {
+
+    /** Threads que atendem as requisições nos dois serviços. */
+    enum ModoThreads {
+        /** Pool de threads de plataforma do Tomcat (200 por padrão). */
+        PLATAFORMA,
+        /** Uma thread virtual por requisição: perfil {@code virtual} dos serviços, Java 21+. */
+        VIRTUAL;
+
+        String nome() {
+            return name().toLowerCase(Locale.ROOT);
+        }
+    }
+
+    private static final Map<String, String> PADRAO = Map.ofEntries(
+            Map.entry("duracao", "60s"),
+            Map.entry("aquecimento", "15s"),
+            Map.entry("taxa", "100"),
+            Map.entry("rajada", "30"),
+            Map.entry("intervalo-rajada", "5s"),
+            Map.entry("em-voo", "256"),
+            Map.entry("professores", "100"),
+            Map.entry("disciplinas", "300"),
+            Map.entry("turmas", "5000"),
+            Map.entry("recursos", "500"),
+            Map.entry("turmas-reservadas", "400"),
+            Map.entry("semente", "42"),
+            Map.entry("saida", "target/carga"),
+            Map.entry("threads", "plataforma"),
+            Map.entry("taxas", ""),
+            Map.entry("slo-p99", "500ms"),
+            Map.entry("latencia-reservation", "0ms"));
+
+    static Set<String> parametros() {
+        return PADRAO.keySet();
+    }
+
+    static ConfiguracaoCarga de(String... argumentos) {
+        Map<String, String> valores = new HashMap<>(PADRAO);
+        for (String argumento : argumentos) {
+            int igual = argumento.indexOf('=');
+            if (!argumento.startsWith("--") || igual < 0) {
+                throw new IllegalArgumentException("Use --chave=valor: " + argumento);
+            }
+            String chave = argumento.substring(2, igual);
+            if (!PADRAO.containsKey(chave)) {
+                throw new IllegalArgumentException("Parâmetro desconhecido: " + chave);
+            }
+            valores.put(chave, argumento.substring(igual + 1));
+        }
+        return new ConfiguracaoCarga(
+                DurationStyle.detectAndParse(valores.get("duracao")),
+                DurationStyle.detectAndParse(valores.get("aquecimento")),
+                Double.parseDouble(valores.get("taxa")),
+                Integer.parseInt(valores.get("rajada")),
+                DurationStyle.detectAndParse(valores.get("intervalo-rajada")),
+                Integer.parseInt(valores.get("em-voo")),
+                Integer.parseInt(valores.get("professores")),
+                Integer.parseInt(valores.get("disciplinas")),
+                Integer.parseInt(valores.get("turmas")),
+                Integer.parseInt(valores.get("recursos")),
+                Integer.parseInt(valores.get("turmas-reservadas")),
+                Long.parseLong(valores.get("semente")),
+                Path.of(valores.get("saida")),
+                modos(valores.get("threads")),
+                Arrays.stream(valores.get("taxas").split(","))
+                        .map(String::trim)
+                        .filter(taxa -> !taxa.isEmpty())
+                        .map(Double::valueOf)
+                        .toList(),
+                DurationStyle.detectAndParse(valores.get("slo-p99")),
+                DurationStyle.detectAndParse(valores.get("latencia-reservation")));
+    }
+
+    /** A mesma configuração com outra taxa de chegada, para um degrau da escada. */
+    ConfiguracaoCarga comTaxa(double novaTaxa) {
+        return new ConfiguracaoCarga(duracao, aquecimento, novaTaxa, rajada, intervaloRajada, emVoo, professores,
+                disciplinas, turmas, recursos, turmasReservadas, semente, saida, threads, taxas, sloP99,
+                latenciaReservation);
+    }
+
+    private static List<ModoThreads> modos(String threads) {
+        return switch (threads) {
+            case "plataforma" -> List.of(ModoThreads.PLATAFORMA);
+            case "virtual" -> List.of(ModoThreads.VIRTUAL);
+            case "ambos" -> List.of(ModoThreads.PLATAFORMA, ModoThreads.VIRTUAL);
+            default -> throw new IllegalArgumentException("Use --threads=plataforma, virtual ou ambos: " + threads);
+        };
+    }
+}
@@ -0,0 +1,147 @@
+package com.closed_sarc.loadtest;
+
+import java.io.IOException;
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import com.fasterxml.jackson.databind.JsonNode;
+
+/**
+ * Massa inicial gravada pelas próprias APIs: calendário do semestre corrente, professores,
+ * disciplinas e turmas pela importação em lote, recursos na reservation-api e reservas do
+ * semestre inteiro para parte das turmas. Os ids gerados são lidos de volta do banco.
+ *
+ * <p>As turmas têm dois dias de aula sorteados entre os sete da semana, para que qualquer dia
+ * da execução tenha cronograma. Além dos recursos comuns há um recurso disputado, com poucas
+ * unidades, alvo das rajadas de reserva. Com a mesma semente a massa é a mesma.
+ */
+final class MassaDeDados {
+
+    static final ZoneId ZONA_CAMPUS = ZoneId.of("America/Sao_Paulo");
+    static final int UNIDADES_DISPUTADAS = 10;
+
+    private static final String[] HORARIOS = { "A", "B", "C", "D", "E", "F", "G", "H", "I", "J", "K", "L", "M", "N" };
+    private static final String[] DIAS = { "SEGUNDA", "TERCA", "QUARTA", "QUINTA", "SEXTA", "SABADO", "DOMINGO" };
+
+    /** Turma como o gerador de carga precisa dela: horário e dias de aula (bit 0 = segunda). */
+    record Turma(UUID id, String horario, int diasAula) {
+
+        boolean temAula(DayOfWeek dia) {
+            return (diasAula & (1 << dia.ordinal())) != 0;
+        }
+    }
+
+    record Massa(LocalDate inicioSemestre, LocalDate fimSemestre, List<Turma> turmas, List<UUID> recursos,
+            UUID recursoDisputado, long reservas) {
+    }
+
+    private MassaDeDados() {
+    }
+
+    static Massa gravar(ConfiguracaoCarga configuracao, ClienteApi registration, ClienteApi reservation,
+            JdbcTemplate jdbc) throws Exception {
+        Random aleatorio = new Random(configuracao.semente());
+        LocalDate hoje = LocalDate.now(ZONA_CAMPUS);
+        boolean primeiro = hoje.getMonthValue() <= 6;
+        String semestre = primeiro ? "PRIMEIRO" : "SEGUNDO";
+        LocalDate inicio = LocalDate.of(hoje.getYear(), primeiro ? 1 : 7, 1);
+        LocalDate fim = primeiro ? LocalDate.of(hoje.getYear(), 6, 30) : LocalDate.of(hoje.getYear(), 12, 31);
+
+        registration.postar("/api/calendarios", Map.of("ano", hoje.getYear(), "semestre", semestre,
+                "dataInicio", inicio, "dataFim", fim));
+
+        StringBuilder usuarios = new StringBuilder("nome,email,senha,tipo\n");
+        for (int i = 0; i < configuracao.professores(); i++) {
+            usuarios.append("Professor ").append(i).append(",professor").append(i).append("@carga.closed-sarc.com,senha")
+                    .append(i).append(",PROFESSOR\n");
+        }
+        importar(registration, "usuarios", "text/csv", usuarios.toString());
+
+        StringBuilder disciplinas = new StringBuilder("nome,descricao,cargaHoraria\n");
+        for (int i = 0; i < configuracao.disciplinas(); i++) {
+            disciplinas.append("Disciplina ").append(i).append(",Ementa da disciplina ").append(i).append(",60\n");
+        }
+        importar(registration, "disciplinas", "text/csv", disciplinas.toString());
+
+        List<String> professores = jdbc.queryForList("SELECT CAST(id AS VARCHAR) FROM usuario WHERE tipo = 'PROFESSOR'", String.class);
+        List<String> idsDisciplinas = jdbc.queryForList("SELECT CAST(id AS VARCHAR) FROM disciplina", String.class);
+        StringBuilder turmas = new StringBuilder();
+        for (int i = 0; i < configuracao.turmas(); i++) {
+            int primeiroDia = aleatorio.nextInt(DIAS.length);
+            int segundoDia = (primeiroDia + 1 + aleatorio.nextInt(DIAS.length - 1)) % DIAS.length;
+            turmas.append(ClienteApi.JSON.writeValueAsString(Map.of(
+                    "nome", String.format("T%05d", i),
+                    "semestre", semestre,
+                    "ano", hoje.getYear(),
+                    "horario", HORARIOS[aleatorio.nextInt(HORARIOS.length)],
+                    "diasAula", List.of(DIAS[primeiroDia], DIAS[segundoDia]),
+                    "professorId", professores.get(aleatorio.nextInt(professores.size())),
+                    "disciplinaId", idsDisciplinas.get(aleatorio.nextInt(idsDisciplinas.size())))))
+                    .append('\n');
+        }
+        importar(registration, "turmas", "application/x-ndjson", turmas.toString());
+
+        List<Turma> turmasGravadas = jdbc.query("SELECT id, horario, dias_aula FROM turma ORDER BY nome",
+                (linha, indice) -> new Turma(linha.getObject("id", UUID.class), linha.getString("horario"),
+                        linha.getInt("dias_aula")));
+
+        List<UUID> recursos = new ArrayList<>(configuracao.recursos());
+        for (int i = 0; i < configuracao.recursos(); i++) {
+            JsonNode recurso = reservation.postar("/api/recursos", Map.of(
+                    "nome", "Recurso " + i,
+                    "tipo", i % 4 == 0 ? "Laboratório" : "Sala de Aula",
+                    "quantidade", 30,
+                    "capacidade", 40));
+            recursos.add(UUID.fromString(recurso.path("id").asText()));
+        }
+        JsonNode disputado = reservation.postar("/api/recursos", Map.of(
+                "nome", "Auditório",
+                "tipo", "Auditório",
+                "quantidade", UNIDADES_DISPUTADAS,
+                "capacidade", 200));
+
+        reservarSemestres(registration, turmasGravadas.subList(0, Math.min(configuracao.turmasReservadas(),
+                turmasGravadas.size())), recursos);
+        Long reservas = jdbc.queryForObject("SELECT COUNT(*) FROM reserva", Long.class);
+        return new Massa(inicio, fim, turmasGravadas, recursos, UUID.fromString(disputado.path("id").asText()),
+                reservas == null ? 0 : reservas);
+    }
+
+    private static void importar(ClienteApi registration, String cadastro, String tipoConteudo, String corpo)
+            throws IOException, InterruptedException {
+        JsonNode resultado = registration.postar("/api/importacoes/" + cadastro, tipoConteudo, corpo);
+        if (resultado.path("rejeitadas").asInt() > 0) {
+            throw new IllegalStateException("Importação de " + cadastro + " rejeitou registros: " + resultado.path("erros"));
+        }
+    }
+
+    /** Reserva do semestre inteiro, uma turma por chamada; os recursos são distribuídos em rodízio. */
+    private static void reservarSemestres(ClienteApi registration, List<Turma> turmas, List<UUID> recursos)
+            throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            List<Future<JsonNode>> reservas = new ArrayList<>(turmas.size());
+            for (int i = 0; i < turmas.size(); i++) {
+                Map<String, Object> corpo = Map.of("turmaId", turmas.get(i).id(),
+                        "recursoId", recursos.get(i % recursos.size()), "quantidade", 1);
+                reservas.add(executor.submit(() -> registration.postar("/api/reservas/semestre", corpo)));
+            }
+            for (Future<JsonNode> reserva : reservas) {
+                reserva.get();
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+}
@@ -0,0 +1,62 @@
+package com.closed_sarc.loadtest;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Collection;
+import java.util.Locale;
+
+import com.closed_sarc.loadtest.Carga.Resultado;
+
+/**
+ * Tabela de latência e vazão por endpoint, em markdown, e a distribuição completa de cada
+ * histograma no formato {@code .hgrm} do HdrHistogram (em milissegundos), que pode ser aberta
+ * no HistogramLogAnalyzer ou comparada entre execuções.
+ */
+final class Relatorio {
+
+    private Relatorio() {
+    }
+
+    static String tabela(Collection<Resultado> resultados, Duration duracao) {
+        double segundos = duracao.toNanos() / 1e9;
+        StringBuilder tabela = new StringBuilder()
+                .append("| Endpoint | Requisições | OK | Recusadas | Erros | Descartadas | Vazão (req/s) | p50 (ms) | p99 (ms) | p99.9 (ms) | máx (ms) |\n")
+                .append("|---|---:|---:|---:|---:|---:|---:|---:|---:|---:|---:|\n");
+        for (Resultado resultado : resultados) {
+            var latencias = resultado.latencias();
+            boolean vazio = latencias.getTotalCount() == 0;
+            tabela.append(String.format(Locale.ROOT, "| %s | %d | %d | %d | %d | %d | %.1f | %s | %s | %s | %s |%n",
+                    resultado.endpoint().descricao(), resultado.concluidas(), resultado.ok(), resultado.recusadas(),
+                    resultado.erros(), resultado.descartadas(), resultado.concluidas() / segundos,
+                    vazio ? "-" : ms(latencias.getValueAtPercentile(50)),
+                    vazio ? "-" : ms(latencias.getValueAtPercentile(99)),
+                    vazio ? "-" : ms(latencias.getValueAtPercentile(99.9)),
+                    vazio ? "-" : ms(latencias.getMaxValue())));
+        }
+        return tabela.toString();
+    }
+
+    /** Grava {@code resumo.md} e um {@code <endpoint>.hgrm} por endpoint com requisições. */
+    static void gravar(Path saida, String cabecalho, Collection<Resultado> resultados, Duration duracao)
+            throws IOException {
+        Files.createDirectories(saida);
+        Files.writeString(saida.resolve("resumo.md"), cabecalho + "\n" + tabela(resultados, duracao));
+        for (Resultado resultado : resultados) {
+            if (resultado.latencias().getTotalCount() == 0) {
+                continue;
+            }
+            Path arquivo = saida.resolve(resultado.endpoint().name().toLowerCase(Locale.ROOT) + ".hgrm");
+            try (PrintStream distribuicao = new PrintStream(Files.newOutputStream(arquivo), false, StandardCharsets.UTF_8)) {
+                resultado.latencias().outputPercentileDistribution(distribuicao, 1000.0);
+            }
+        }
+    }
+
+    private static String ms(long microssegundos) {
+        return String.format(Locale.ROOT, "%.2f", microssegundos / 1000.0);
+    }
+}
@@ -0,0 +1,148 @@
+package com.closed_sarc.loadtest;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.security.SecureRandom;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.List;
+
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import com.closed_sarc.app_registration_api.AppRegistrationApiApplication;
+import com.closed_sarc.app_reservation_api.AppReservationApiApplication;
+import com.closed_sarc.loadtest.ConfiguracaoCarga.ModoThreads;
+
+import jakarta.servlet.Filter;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.ServletRequest;
+import jakarta.servlet.ServletResponse;
+
+/**
+ * Sobe a reservation-api e a registration-api na mesma JVM, em portas livres, sobre um único
+ * H2 em memória no modo PostgreSQL (o banco é compartilhado, como em produção).
+ *
+ * <p>As migrações do Flyway usam recursos exclusivos do PostgreSQL ({@code DO $$},
+ * {@code CREATE INDEX CONCURRENTLY}), por isso o esquema vem do {@code ddl-auto=update},
+ * que também cria os índices declarados nas entidades. Cada serviço lê o próprio
+ * {@code application.yml}: os dois jars têm um arquivo com o mesmo nome no classpath. O log
+ * dos serviços vai para um arquivo, e não para o console do relatório.
+ *
+ * <p>No modo {@link ModoThreads#VIRTUAL} os dois serviços sobem com o perfil {@code virtual};
+ * cada modo usa o seu próprio banco, para que as medições não herdem a massa um do outro. A
+ * latência artificial da reservation-api aproxima a espera de rede de produção, que é o que
+ * prende as threads da registration-api.
+ */
+final class Servicos implements AutoCloseable {
+
+    private static final String BANCO =
+            "jdbc:h2:mem:carga-%s;MODE=PostgreSQL;DATABASE_TO_LOWER=TRUE;DEFAULT_NULL_ORDERING=HIGH;DB_CLOSE_DELAY=-1";
+
+    private final ConfigurableApplicationContext reservation;
+    private final ConfigurableApplicationContext registration;
+
+    private Servicos(ConfigurableApplicationContext reservation, ConfigurableApplicationContext registration) {
+        this.reservation = reservation;
+        this.registration = registration;
+    }
+
+    static Servicos iniciar(Path log, ModoThreads modo, Duration latenciaReservation) {
+        ConfigurableApplicationContext reservation = iniciar(AppReservationApiApplication.class, modo, log,
+                latenciaReservation);
+        try {
+            ConfigurableApplicationContext registration = iniciar(AppRegistrationApiApplication.class, modo, log,
+                    Duration.ZERO, "--reservation-api.base-url=http://localhost:" + porta(reservation),
+                    "--security.auth.token-secret=" + segredoToken());
+            return new Servicos(reservation, registration);
+        } catch (RuntimeException e) {
+            reservation.close();
+            throw e;
+        }
+    }
+
+    String urlRegistration() {
+        return "http://localhost:" + porta(registration);
+    }
+
+    String urlReservation() {
+        return "http://localhost:" + porta(reservation);
+    }
+
+    JdbcTemplate jdbc() {
+        return registration.getBean(JdbcTemplate.class);
+    }
+
+    @Override
+    public void close() {
+        registration.close();
+        reservation.close();
+    }
+
+    private static ConfigurableApplicationContext iniciar(Class<?> aplicacao, ModoThreads modo, Path log,
+            Duration latencia, String... extras) {
+        List<String> argumentos = new ArrayList<>(List.of(
+                "--spring.config.location=" + configuracao(aplicacao),
+                "--server.port=0",
+                "--spring.datasource.url=" + String.format(BANCO, modo.nome()),
+                "--spring.datasource.driver-class-name=org.h2.Driver",
+                "--spring.datasource.username=sa",
+                "--spring.datasource.password=",
+                "--spring.flyway.enabled=false",
+                "--spring.jpa.hibernate.ddl-auto=update",
+                "--spring.main.banner-mode=off",
+                // O log por requisição (INFO) pesaria na própria medição
+                "--logging.level.root=WARN",
+                "--logging.file.name=" + log.toAbsolutePath(),
+                "--logging.threshold.console=OFF"));
+        if (modo == ModoThreads.VIRTUAL) {
+            argumentos.add("--spring.profiles.active=virtual");
+        }
+        argumentos.addAll(List.of(extras));
+        SpringApplicationBuilder builder = new SpringApplicationBuilder(aplicacao);
+        if (!latencia.isZero() && !latencia.isNegative()) {
+            // Registrado antes do refresh, o filtro entra na cadeia do Tomcat como qualquer bean Filter
+            builder.initializers(contexto -> contexto.getBeanFactory()
+                    .registerSingleton("latenciaArtificial", new LatenciaArtificial(latencia)));
+        }
+        return builder.run(argumentos.toArray(String[]::new));
+    }
+
+    /** application.properties e application.yml do jar (ou diretório de classes) do próprio serviço. */
+    private static String configuracao(Class<?> aplicacao) {
+        String local = aplicacao.getProtectionDomain().getCodeSource().getLocation().toString();
+        String base = local.endsWith(".jar") ? "jar:" + local + "!/" : local;
+        return base + "application.properties," + base + "application.yml";
+    }
+
+    /** Chave dos tokens bearer, nova a cada execução: o serviço não tem chave padrão. */
+    private static String segredoToken() {
+        byte[] segredo = new byte[48];
+        new SecureRandom().nextBytes(segredo);
+        return Base64.getEncoder().encodeToString(segredo);
+    }
+
+    private static int porta(ConfigurableApplicationContext contexto) {
+        return ((WebServerApplicationContext) contexto).getWebServer().getPort();
+    }
+
+    /** Segura cada requisição pelo tempo configurado antes de repassá-la, como uma rede lenta. */
+    private record LatenciaArtificial(Duration latencia) implements Filter {
+
+        @Override
+        public void doFilter(ServletRequest request, ServletResponse response, FilterChain chain)
+                throws IOException, ServletException {
+            try {
+                Thread.sleep(latencia.toMillis());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new ServletException("Interrompido durante a latência artificial", e);
+            }
+            chain.doFilter(request, response);
+        }
+    }
+}
@@ -0,0 +1,147 @@
+package com.closed_sarc.loadtest;
+
+import java.io.PrintStream;
+import java.net.http.HttpClient;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.TreeSet;
+
+import com.closed_sarc.loadtest.Capacidade.Degrau;
+import com.closed_sarc.loadtest.Carga.Endpoint;
+import com.closed_sarc.loadtest.Carga.Resultado;
+import com.closed_sarc.loadtest.ConfiguracaoCarga.ModoThreads;
+import com.closed_sarc.loadtest.MassaDeDados.Massa;
+
+/**
+ * Teste de carga de ponta a ponta: sobe a reservation-api e a registration-api sobre um H2 em
+ * modo PostgreSQL, grava a massa pelas próprias APIs, aplica a carga em modelo aberto e
+ * imprime latência (p50/p99/p99.9) e vazão por endpoint.
+ *
+ * <p>Com {@code --taxas} a carga sobe em degraus até o primeiro que estoura o SLO, e com
+ * {@code --threads=ambos} a escada roda com os serviços em threads de plataforma e depois em
+ * threads virtuais, terminando com a maior taxa sustentável de cada modo.
+ *
+ * <pre>
+ * java -jar load-test/target/load-test.jar --duracao=2m --taxa=200 --turmas=10000
+ * java -jar load-test/target/load-test.jar --threads=ambos --taxas=100,200,400,800 --latencia-reservation=50ms
+ * </pre>
+ */
+public final class TesteDeCarga {
+
+    private static final String ADMIN_EMAIL = "admin@closed-sarc.com";
+    private static final String ADMIN_SENHA = "admin123";
+    private static final String MASTER_USUARIO = "master@reservation.com";
+    private static final String MASTER_SENHA = "master123";
+
+    private TesteDeCarga() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        PrintStream saida = new PrintStream(System.out, true, StandardCharsets.UTF_8);
+        ConfiguracaoCarga configuracao;
+        try {
+            configuracao = ConfiguracaoCarga.de(args);
+        } catch (IllegalArgumentException e) {
+            saida.println(e.getMessage());
+            saida.println("Parâmetros (--chave=valor): " + String.join(", ", new TreeSet<>(ConfiguracaoCarga.parametros())));
+            System.exit(2);
+            return;
+        }
+        if (configuracao.threads().contains(ModoThreads.VIRTUAL) && Runtime.version().feature() < 21) {
+            // Os serviços também recusam o perfil virtual nesta JVM; falha antes de subir qualquer um
+            saida.printf("Threads virtuais exigem Java 21; esta JVM é Java %d. Use --threads=plataforma%n",
+                    Runtime.version().feature());
+            System.exit(2);
+            return;
+        }
+
+        Files.createDirectories(configuracao.saida());
+        HttpClient http = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(Duration.ofSeconds(5))
+                .build();
+        List<Double> taxas = configuracao.taxas().isEmpty() ? List.of(configuracao.taxa()) : configuracao.taxas();
+        Map<ModoThreads, List<Degrau>> degrausPorModo = new EnumMap<>(ModoThreads.class);
+        for (ModoThreads modo : configuracao.threads()) {
+            degrausPorModo.put(modo, medir(configuracao, modo, taxas, http, saida));
+        }
+
+        if (taxas.size() > 1 || degrausPorModo.size() > 1) {
+            StringBuilder resumo = new StringBuilder(String.format(Locale.ROOT,
+                    "Capacidade: SLO p99 %s, falhas até %.0f%%, latência artificial da reservation-api %s.%n%n",
+                    configuracao.sloP99(), Capacidade.FALHAS_MAXIMAS * 100, configuracao.latenciaReservation()));
+            degrausPorModo.forEach((modo, degraus) -> resumo.append("Threads ").append(modo.nome()).append(":\n\n")
+                    .append(Capacidade.tabela(degraus)).append('\n'));
+            resumo.append(Capacidade.comparacao(degrausPorModo));
+            saida.println();
+            saida.print(resumo);
+            Files.writeString(configuracao.saida().resolve("capacidade.md"), resumo);
+        }
+        saida.println();
+        saida.println("Resumo, histogramas (.hgrm) e log dos serviços em " + configuracao.saida().toAbsolutePath());
+        // As threads do HttpClient e dos pools dos serviços não devem segurar a JVM
+        System.exit(0);
+    }
+
+    /**
+     * Sobe os serviços no modo dado, grava a massa e roda a carga em cada taxa, parando no primeiro
+     * degrau não sustentável. Com um só modo e uma só taxa o relatório vai direto para a saída.
+     */
+    private static List<Degrau> medir(ConfiguracaoCarga configuracao, ModoThreads modo, List<Double> taxas,
+            HttpClient http, PrintStream saida) throws Exception {
+        boolean unico = taxas.size() == 1 && configuracao.threads().size() == 1;
+        long inicio = System.nanoTime();
+        try (Servicos servicos = Servicos.iniciar(configuracao.saida().resolve("servicos-" + modo.nome() + ".log"), modo,
+                configuracao.latenciaReservation())) {
+            saida.printf("%nServiços no ar (threads %s) em %d ms: registration %s, reservation %s%n", modo.nome(),
+                    Duration.ofNanos(System.nanoTime() - inicio).toMillis(), servicos.urlRegistration(),
+                    servicos.urlReservation());
+
+            ClienteApi publico = ClienteApi.anonimo(http, servicos.urlRegistration());
+            ClienteApi admin = publico.autenticar(ADMIN_EMAIL, ADMIN_SENHA);
+            ClienteApi reservation = ClienteApi.basic(http, servicos.urlReservation(), MASTER_USUARIO, MASTER_SENHA);
+
+            inicio = System.nanoTime();
+            Massa massa = MassaDeDados.gravar(configuracao, admin, reservation, servicos.jdbc());
+            saida.printf("Massa gravada em %d s: %d turmas, %d recursos, %d reservas%n",
+                    Duration.ofNanos(System.nanoTime() - inicio).toSeconds(), massa.turmas().size(),
+                    massa.recursos().size() + 1, massa.reservas());
+
+            List<Degrau> degraus = new ArrayList<>();
+            for (double taxa : taxas) {
+                ConfiguracaoCarga degrau = configuracao.comTaxa(taxa);
+                saida.printf("%nCarga: %.0f req/s + rajadas de %d a cada %s, aquecimento %s, medição %s%n",
+                        degrau.taxa(), degrau.rajada(), degrau.intervaloRajada(), degrau.aquecimento(),
+                        degrau.duracao());
+                Map<Endpoint, Resultado> resultados = new Carga(degrau, publico, admin, massa,
+                        LocalDate.now(MassaDeDados.ZONA_CAMPUS)).executar();
+
+                String cabecalho = String.format(
+                        "Teste de carga (threads %s): %d turmas, %d reservas na massa; %.0f req/s por %s.%n", modo.nome(), massa.turmas().size(), massa.reservas(), degrau.taxa(), degrau.duracao());
+                Path destino = unico ? configuracao.saida()
+                        : configuracao.saida().resolve(String.format(Locale.ROOT, "%s-%.0f", modo.nome(), taxa));
+                saida.println();
+                saida.print(Relatorio.tabela(resultados.values(), degrau.duracao()));
+                Relatorio.gravar(destino, cabecalho, resultados.values(), degrau.duracao());
+
+                Degrau avaliado = Capacidade.avaliar(taxa, resultados.values(), degrau.duracao(), configuracao.sloP99());
+                degraus.add(avaliado);
+                if (!avaliado.sustentavel()) {
+                    if (!unico) {
+                        saida.printf("Degrau de %.0f req/s fora do SLO; a escada para aqui%n", taxa);
+                    }
+                    break;
+                }
+            }
+            return degraus;
+        }
+    }
+}
@@ -0,0 +1,75 @@
+package com.closed_sarc.loadtest;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.closed_sarc.loadtest.ConfiguracaoCarga.ModoThreads;
+
+@DisplayName("ConfiguracaoCarga - Testes Unitários")
+class ConfiguracaoCargaTest {
+
+  @Test
+  @DisplayName("Deve usar os valores padrão quando nenhum parâmetro é informado")
+  void deveUsarValoresPadrao() {
+    // When
+    ConfiguracaoCarga configuracao = ConfiguracaoCarga.de();
+
+    // Then
+    assertEquals(Duration.ofSeconds(60), configuracao.duracao());
+    assertEquals(Duration.ofSeconds(15), configuracao.aquecimento());
+    assertEquals(100, configuracao.taxa());
+    assertEquals(5000, configuracao.turmas());
+    assertEquals(Path.of("target/carga"), configuracao.saida());
+    assertEquals(List.of(ModoThreads.PLATAFORMA), configuracao.threads());
+    assertEquals(List.of(), configuracao.taxas());
+  }
+
+  @Test
+  @DisplayName("Deve sobrescrever os parâmetros informados como --chave=valor, aceitando durações do Spring")
+  void deveSobrescreverParametrosInformados() {
+    // When
+    ConfiguracaoCarga configuracao = ConfiguracaoCarga.de("--duracao=2m", "--intervalo-rajada=500ms", "--taxa=250.5",
+        "--turmas-reservadas=10");
+
+    // Then
+    assertEquals(Duration.ofMinutes(2), configuracao.duracao());
+    assertEquals(Duration.ofMillis(500), configuracao.intervaloRajada());
+    assertEquals(250.5, configuracao.taxa());
+    assertEquals(10, configuracao.turmasReservadas());
+    assertEquals(30, configuracao.rajada());
+  }
+
+  @Test
+  @DisplayName("Deve ler a escada de taxas e os dois modos de thread para a comparação de capacidade")
+  void deveLerEscadaDeTaxasEModosDeThread() {
+    // When
+    ConfiguracaoCarga configuracao = ConfiguracaoCarga.de("--threads=ambos", "--taxas=100, 200,400",
+        "--slo-p99=250ms", "--latencia-reservation=50ms");
+
+    // Then
+    assertEquals(List.of(ModoThreads.PLATAFORMA, ModoThreads.VIRTUAL), configuracao.threads());
+    assertEquals(List.of(100.0, 200.0, 400.0), configuracao.taxas());
+    assertEquals(Duration.ofMillis(250), configuracao.sloP99());
+    assertEquals(Duration.ofMillis(50), configuracao.latenciaReservation());
+    assertEquals(400.0, configuracao.comTaxa(400).taxa());
+    assertThrows(IllegalArgumentException.class, () -> ConfiguracaoCarga.de("--threads=todas"));
+  }
+
+  @Test
+  @DisplayName("Deve recusar parâmetro desconhecido ou fora do formato --chave=valor")
+  void deveRecusarParametroInvalido() {
+    // When / Then
+    IllegalArgumentException desconhecido = assertThrows(IllegalArgumentException.class,
+        () -> ConfiguracaoCarga.de("--usuarios=10"));
+    assertEquals("Parâmetro desconhecido: usuarios", desconhecido.getMessage());
+    assertThrows(IllegalArgumentException.class, () -> ConfiguracaoCarga.de("--duracao"));
+    assertThrows(IllegalArgumentException.class, () -> ConfiguracaoCarga.de("taxa=10"));
+  }
+}